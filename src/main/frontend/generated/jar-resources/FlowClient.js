@@ -0,0 +1,1059 @@
+export function init() {
+function client(){var Jb='',Kb=0,Lb='gwt.codesvr=',Mb='gwt.hosted=',Nb='gwt.hybrid',Ob='client',Pb='#',Qb='?',Rb='/',Sb=1,Tb='img',Ub='clear.cache.gif',Vb='baseUrl',Wb='script',Xb='client.nocache.js',Yb='base',Zb='//',$b='meta',_b='name',ac='gwt:property',bc='content',cc='=',dc='gwt:onPropertyErrorFn',ec='Bad handler "',fc='" for "gwt:onPropertyErrorFn"',gc='gwt:onLoadErrorFn',hc='" for "gwt:onLoadErrorFn"',ic='user.agent',jc='webkit',kc='safari',lc='msie',mc=10,nc=11,oc='ie10',pc=9,qc='ie9',rc=8,sc='ie8',tc='gecko',uc='gecko1_8',vc=2,wc=3,xc=4,yc='Single-script hosted mode not yet implemented. See issue ',zc='http://code.google.com/p/google-web-toolkit/issues/detail?id=2079',Ac='E16BDCA66EC45D05922E44FFCB4D9DD4',Bc=':1',Cc=':',Dc='DOMContentLoaded',Ec=50;var l=Jb,m=Kb,n=Lb,o=Mb,p=Nb,q=Ob,r=Pb,s=Qb,t=Rb,u=Sb,v=Tb,w=Ub,A=Vb,B=Wb,C=Xb,D=Yb,F=Zb,G=$b,H=_b,I=ac,J=bc,K=cc,L=dc,M=ec,N=fc,O=gc,P=hc,Q=ic,R=jc,S=kc,T=lc,U=mc,V=nc,W=oc,X=pc,Y=qc,Z=rc,$=sc,_=tc,ab=uc,bb=vc,cb=wc,db=xc,eb=yc,fb=zc,gb=Ac,hb=Bc,ib=Cc,jb=Dc,kb=Ec;var lb=window,mb=document,nb,ob,pb=l,qb={},rb=[],sb=[],tb=[],ub=m,vb,wb;if(!lb.__gwt_stylesLoaded){lb.__gwt_stylesLoaded={}}if(!lb.__gwt_scriptsLoaded){lb.__gwt_scriptsLoaded={}}function xb(){var b=false;try{var c=lb.location.search;return (c.indexOf(n)!=-1||(c.indexOf(o)!=-1||lb.external&&lb.external.gwtOnLoad))&&c.indexOf(p)==-1}catch(a){}xb=function(){return b};return b}
+function yb(){if(nb&&ob){nb(vb,q,pb,ub)}}
+function zb(){function e(a){var b=a.lastIndexOf(r);if(b==-1){b=a.length}var c=a.indexOf(s);if(c==-1){c=a.length}var d=a.lastIndexOf(t,Math.min(c,b));return d>=m?a.substring(m,d+u):l}
+function f(a){if(a.match(/^\w+:\/\//)){}else{var b=mb.createElement(v);b.src=a+w;a=e(b.src)}return a}
+function g(){var a=Cb(A);if(a!=null){return a}return l}
+function h(){var a=mb.getElementsByTagName(B);for(var b=m;b<a.length;++b){if(a[b].src.indexOf(C)!=-1){return e(a[b].src)}}return l}
+function i(){var a=mb.getElementsByTagName(D);if(a.length>m){return a[a.length-u].href}return l}
+function j(){var a=mb.location;return a.href==a.protocol+F+a.host+a.pathname+a.search+a.hash}
+var k=g();if(k==l){k=h()}if(k==l){k=i()}if(k==l&&j()){k=e(mb.location.href)}k=f(k);return k}
+function Ab(){var b=document.getElementsByTagName(G);for(var c=m,d=b.length;c<d;++c){var e=b[c],f=e.getAttribute(H),g;if(f){if(f==I){g=e.getAttribute(J);if(g){var h,i=g.indexOf(K);if(i>=m){f=g.substring(m,i);h=g.substring(i+u)}else{f=g;h=l}qb[f]=h}}else if(f==L){g=e.getAttribute(J);if(g){try{wb=eval(g)}catch(a){alert(M+g+N)}}}else if(f==O){g=e.getAttribute(J);if(g){try{vb=eval(g)}catch(a){alert(M+g+P)}}}}}}
+var Bb=function(a,b){return b in rb[a]};var Cb=function(a){var b=qb[a];return b==null?null:b};function Db(a,b){var c=tb;for(var d=m,e=a.length-u;d<e;++d){c=c[a[d]]||(c[a[d]]=[])}c[a[e]]=b}
+function Eb(a){var b=sb[a](),c=rb[a];if(b in c){return b}var d=[];for(var e in c){d[c[e]]=e}if(wb){wb(a,d,b)}throw null}
+sb[Q]=function(){var a=navigator.userAgent.toLowerCase();var b=mb.documentMode;if(function(){return a.indexOf(R)!=-1}())return S;if(function(){return a.indexOf(T)!=-1&&(b>=U&&b<V)}())return W;if(function(){return a.indexOf(T)!=-1&&(b>=X&&b<V)}())return Y;if(function(){return a.indexOf(T)!=-1&&(b>=Z&&b<V)}())return $;if(function(){return a.indexOf(_)!=-1||b>=V}())return ab;return S};rb[Q]={'gecko1_8':m,'ie10':u,'ie8':bb,'ie9':cb,'safari':db};client.onScriptLoad=function(a){client=null;nb=a;yb()};if(xb()){alert(eb+fb);return}zb();Ab();try{var Fb;Db([ab],gb);Db([S],gb+hb);Fb=tb[Eb(Q)];var Gb=Fb.indexOf(ib);if(Gb!=-1){ub=Number(Fb.substring(Gb+u))}}catch(a){return}var Hb;function Ib(){if(!ob){ob=true;yb();if(mb.removeEventListener){mb.removeEventListener(jb,Ib,false)}if(Hb){clearInterval(Hb)}}}
+if(mb.addEventListener){mb.addEventListener(jb,function(){Ib()},false)}var Hb=setInterval(function(){if(/loaded|complete/.test(mb.readyState)){Ib()}},kb)}
+client();(function () {var $gwt_version = "2.9.0";var $wnd = window;var $doc = $wnd.document;var $moduleName, $moduleBase;var $stats = $wnd.__gwtStatsEvent ? function(a) {$wnd.__gwtStatsEvent(a)} : null;var $strongName = 'E16BDCA66EC45D05922E44FFCB4D9DD4';function I(){}
+function Vi(){}
+function Ri(){}
+function _i(){}
+function nc(){}
+function uc(){}
+function yj(){}
+function Lj(){}
+function Pj(){}
+function wk(){}
+function yk(){}
+function Ak(){}
+function Vk(){}
+function $k(){}
+function $m(){}
+function ym(){}
+function Am(){}
+function Cm(){}
+function dl(){}
+function fl(){}
+function pl(){}
+function an(){}
+function co(){}
+function mo(){}
+function Xp(){}
+function br(){}
+function dr(){}
+function fr(){}
+function hr(){}
+function Gr(){}
+function Kr(){}
+function Vs(){}
+function Zs(){}
+function Zu(){}
+function eu(){}
+function at(){}
+function vt(){}
+function bv(){}
+function qv(){}
+function zv(){}
+function gx(){}
+function Gx(){}
+function Ix(){}
+function yy(){}
+function Ey(){}
+function Hz(){}
+function pA(){}
+function wB(){}
+function YB(){}
+function YF(){}
+function nD(){}
+function TE(){}
+function hG(){}
+function jG(){}
+function lG(){}
+function CG(){}
+function nz(){kz()}
+function T(a){S=a;Jb()}
+function bk(a){throw a}
+function oj(a,b){a.c=b}
+function pj(a,b){a.d=b}
+function qj(a,b){a.e=b}
+function sj(a,b){a.g=b}
+function tj(a,b){a.h=b}
+function uj(a,b){a.i=b}
+function vj(a,b){a.j=b}
+function wj(a,b){a.k=b}
+function xj(a,b){a.l=b}
+function Ft(a,b){a.b=b}
+function BG(a,b){a.a=b}
+function bc(a){this.a=a}
+function dc(a){this.a=a}
+function Nj(a){this.a=a}
+function gk(a){this.a=a}
+function ik(a){this.a=a}
+function Tk(a){this.a=a}
+function Yk(a){this.a=a}
+function Yl(a){this.a=a}
+function bl(a){this.a=a}
+function jl(a){this.a=a}
+function ll(a){this.a=a}
+function nl(a){this.a=a}
+function rl(a){this.a=a}
+function tl(a){this.a=a}
+function Em(a){this.a=a}
+function Im(a){this.a=a}
+function Um(a){this.a=a}
+function dn(a){this.a=a}
+function Dn(a){this.a=a}
+function Gn(a){this.a=a}
+function Hn(a){this.a=a}
+function Nn(a){this.a=a}
+function Zn(a){this.a=a}
+function _n(a){this.a=a}
+function fo(a){this.a=a}
+function ho(a){this.a=a}
+function jo(a){this.a=a}
+function no(a){this.a=a}
+function to(a){this.a=a}
+function No(a){this.a=a}
+function cp(a){this.a=a}
+function Gp(a){this.a=a}
+function Vp(a){this.a=a}
+function Zp(a){this.a=a}
+function _p(a){this.a=a}
+function Np(a){this.b=a}
+function Iq(a){this.a=a}
+function Kq(a){this.a=a}
+function Mq(a){this.a=a}
+function Vq(a){this.a=a}
+function Yq(a){this.a=a}
+function Mr(a){this.a=a}
+function Tr(a){this.a=a}
+function Vr(a){this.a=a}
+function hs(a){this.a=a}
+function ls(a){this.a=a}
+function us(a){this.a=a}
+function Cs(a){this.a=a}
+function Es(a){this.a=a}
+function Gs(a){this.a=a}
+function Is(a){this.a=a}
+function Ks(a){this.a=a}
+function Ls(a){this.a=a}
+function Ts(a){this.a=a}
+function fs(a){this.c=a}
+function Gt(a){this.c=a}
+function kt(a){this.a=a}
+function tt(a){this.a=a}
+function xt(a){this.a=a}
+function Jt(a){this.a=a}
+function Lt(a){this.a=a}
+function Yt(a){this.a=a}
+function cu(a){this.a=a}
+function xu(a){this.a=a}
+function Bu(a){this.a=a}
+function _u(a){this.a=a}
+function Fv(a){this.a=a}
+function Jv(a){this.a=a}
+function Nv(a){this.a=a}
+function Pv(a){this.a=a}
+function Rv(a){this.a=a}
+function Wv(a){this.a=a}
+function Mx(a){this.a=a}
+function Ox(a){this.a=a}
+function Lx(a){this.b=a}
+function ay(a){this.a=a}
+function ey(a){this.a=a}
+function iy(a){this.a=a}
+function Ay(a){this.a=a}
+function Gy(a){this.a=a}
+function Iy(a){this.a=a}
+function My(a){this.a=a}
+function Sy(a){this.a=a}
+function Uy(a){this.a=a}
+function Wy(a){this.a=a}
+function Yy(a){this.a=a}
+function $y(a){this.a=a}
+function fz(a){this.a=a}
+function hz(a){this.a=a}
+function yz(a){this.a=a}
+function Bz(a){this.a=a}
+function Jz(a){this.a=a}
+function Lz(a){this.e=a}
+function nA(a){this.a=a}
+function rA(a){this.a=a}
+function tA(a){this.a=a}
+function PA(a){this.a=a}
+function dB(a){this.a=a}
+function fB(a){this.a=a}
+function hB(a){this.a=a}
+function sB(a){this.a=a}
+function uB(a){this.a=a}
+function KB(a){this.a=a}
+function cC(a){this.a=a}
+function jD(a){this.a=a}
+function lD(a){this.a=a}
+function oD(a){this.a=a}
+function dE(a){this.a=a}
+function BF(a){this.a=a}
+function bF(a){this.b=a}
+function oF(a){this.c=a}
+function FG(a){this.a=a}
+function R(){this.a=xb()}
+function kj(){this.a=++jj}
+function Wi(){Vo();Zo()}
+function Vo(){Vo=Ri;Uo=[]}
+function Vw(a,b){Hw(b,a)}
+function Lw(a,b){cx(b,a)}
+function Rw(a,b){bx(b,a)}
+function Zz(a,b){Su(b,a)}
+function uu(a,b){b.hb(a)}
+function XC(b,a){b.log(a)}
+function YC(b,a){b.warn(a)}
+function RC(b,a){b.data=a}
+function Ps(a,b){TB(a.a,b)}
+function HB(a){gA(a.a,a.b)}
+function Ii(a){return a.e}
+function Yb(a){return a.B()}
+function xm(a){return cm(a)}
+function hc(a){gc();fc.D(a)}
+function _r(a){$r(a)&&bs(a)}
+function lr(a){a.i||mr(a.a)}
+function lp(a,b){a.push(b)}
+function Z(a,b){a.e=b;W(a,b)}
+function rj(a,b){a.f=b;Zj=!b}
+function VC(b,a){b.debug(a)}
+function WC(b,a){b.error(a)}
+function Pl(a,b,c){Kl(a,c,b)}
+function hA(a,b,c){a.Pb(c,b)}
+function kb(){ab.call(this)}
+function uD(){ab.call(this)}
+function sD(){kb.call(this)}
+function kE(){kb.call(this)}
+function vF(){kb.call(this)}
+function kz(){kz=Ri;jz=wz()}
+function pb(){pb=Ri;ob=new I}
+function Qb(){Qb=Ri;Pb=new mo}
+function Qz(){Qz=Ri;Pz=new pA}
+function ot(){ot=Ri;nt=new vt}
+function RE(){RE=Ri;QE=new nD}
+function dk(a){S=a;!!a&&Jb()}
+function Pk(a){Gk();this.a=a}
+function kA(a){jA.call(this,a)}
+function MA(a){jA.call(this,a)}
+function aB(a){jA.call(this,a)}
+function qD(a){lb.call(this,a)}
+function rD(a){qD.call(this,a)}
+function bE(a){lb.call(this,a)}
+function cE(a){lb.call(this,a)}
+function lE(a){nb.call(this,a)}
+function mE(a){lb.call(this,a)}
+function oE(a){bE.call(this,a)}
+function ME(){oD.call(this,'')}
+function NE(){oD.call(this,'')}
+function PE(a){qD.call(this,a)}
+function VE(a){lb.call(this,a)}
+function xx(a,b){b.forEach(a)}
+function wG(a,b,c){b.fb(SE(c))}
+function vm(a,b,c){a.set(b,c)}
+function Ql(a,b){a.a.add(b.d)}
+function az(a){Xw(a.b,a.a,a.c)}
+function ED(a){DD(a);return a.i}
+function hD(b,a){return a in b}
+function zD(a){return OG(a),a}
+function $D(a){return OG(a),a}
+function Q(a){return xb()-a.a}
+function gD(a){return Object(a)}
+function Wc(a,b){return $c(a,b)}
+function xc(a,b){return MD(a,b)}
+function Fq(a,b){return a.a>b.a}
+function SE(a){return Ic(a,5).e}
+function qm(a,b){CB(new Sm(b,a))}
+function Ow(a,b){CB(new cy(b,a))}
+function Pw(a,b){CB(new gy(b,a))}
+function Nk(a,b){++Fk;b.bb(a,Ck)}
+function qn(a,b){a.d?sn(b):Qk()}
+function hu(a,b){a.c.forEach(b)}
+function oB(a,b){a.e||a.c.add(b)}
+function qG(a,b){mG(a);a.a.gc(b)}
+function gG(a,b){Ic(a,103).$b(b)}
+function GF(a,b){while(a.hc(b));}
+function sx(a,b,c){qB(ix(a,c,b))}
+function RF(a,b,c){b.fb(a.a[c])}
+function LC(b,a){b.display=a}
+function gw(b,a){_v();delete b[a]}
+function Xi(b,a){return b.exec(a)}
+function Tw(a,b){return tw(b.a,a)}
+function Rz(a,b){return dA(a.a,b)}
+function DA(a,b){return dA(a.a,b)}
+function RA(a,b){return dA(a.a,b)}
+function ux(a,b){return wl(a.b,b)}
+function wx(a,b){return vl(a.b,b)}
+function Ub(a){return !!a.b||!!a.g}
+function Uz(a){iA(a.a);return a.g}
+function Yz(a){iA(a.a);return a.c}
+function Qt(){this.a=new $wnd.Map}
+function XB(){this.c=new $wnd.Map}
+function Rj(a,b){this.b=a;this.a=b}
+function hl(a,b){this.a=a;this.b=b}
+function Dl(a,b){this.a=a;this.b=b}
+function Fl(a,b){this.a=a;this.b=b}
+function Ul(a,b){this.a=a;this.b=b}
+function Wl(a,b){this.a=a;this.b=b}
+function Km(a,b){this.a=a;this.b=b}
+function Mm(a,b){this.a=a;this.b=b}
+function Om(a,b){this.a=a;this.b=b}
+function Qm(a,b){this.a=a;this.b=b}
+function Sm(a,b){this.a=a;this.b=b}
+function Kn(a,b){this.a=a;this.b=b}
+function Pn(a,b){this.b=a;this.a=b}
+function Rn(a,b){this.b=a;this.a=b}
+function Gm(a,b){this.b=a;this.a=b}
+function jr(a,b){this.b=a;this.a=b}
+function xo(a,b){this.b=a;this.c=b}
+function Pr(a,b){this.a=a;this.b=b}
+function Rr(a,b){this.a=a;this.b=b}
+function Mt(a,b){this.b=a;this.a=b}
+function $t(a,b){this.a=a;this.b=b}
+function au(a,b){this.a=a;this.b=b}
+function vu(a,b){this.a=a;this.b=b}
+function zu(a,b){this.a=a;this.b=b}
+function Du(a,b){this.a=a;this.b=b}
+function Hv(a,b){this.a=a;this.b=b}
+function Ho(a,b){xo.call(this,a,b)}
+function Tp(a,b){xo.call(this,a,b)}
+function WD(){lb.call(this,null)}
+function Db(){Db=Ri;!!(gc(),fc)}
+function Li(){Ji==null&&(Ji=[])}
+function Ob(){yb!=0&&(yb=0);Cb=-1}
+function Nw(a,b,c){_w(a,b);Cw(c.e)}
+function et(a,b,c,d){dt(a,b.d,c,d)}
+function nq(a,b){fq(a,(Eq(),Cq),b)}
+function Hl(a,b){return Nc(a.b[b])}
+function qy(a,b){this.a=a;this.b=b}
+function uy(a,b){this.a=a;this.b=b}
+function wy(a,b){this.a=a;this.b=b}
+function Oy(a,b){this.a=a;this.b=b}
+function dz(a,b){this.a=a;this.b=b}
+function rz(a,b){this.a=a;this.b=b}
+function vA(a,b){this.a=a;this.b=b}
+function jB(a,b){this.a=a;this.b=b}
+function IB(a,b){this.a=a;this.b=b}
+function LB(a,b){this.a=a;this.b=b}
+function Qx(a,b){this.b=a;this.a=b}
+function Sx(a,b){this.b=a;this.a=b}
+function Yx(a,b){this.b=a;this.a=b}
+function cy(a,b){this.b=a;this.a=b}
+function gy(a,b){this.b=a;this.a=b}
+function tz(a,b){this.b=a;this.a=b}
+function GG(a,b){this.b=a;this.a=b}
+function fG(a,b){this.a=a;this.b=b}
+function zG(a,b){this.a=a;this.b=b}
+function CA(a,b){this.d=a;this.e=b}
+function CC(a,b){xo.call(this,a,b)}
+function uC(a,b){xo.call(this,a,b)}
+function dG(a,b){xo.call(this,a,b)}
+function IG(a,b,c){a.splice(b,0,c)}
+function Mo(a,b){return Ko(b,Lo(a))}
+function Yc(a){return typeof a===dH}
+function _D(a){return ad((OG(a),a))}
+function DE(a,b){return a.substr(b)}
+function mz(a,b){rB(b);jz.delete(a)}
+function $C(b,a){b.clearTimeout(a)}
+function Nb(a){$wnd.clearTimeout(a)}
+function bj(a){$wnd.clearTimeout(a)}
+function ZC(b,a){b.clearInterval(a)}
+function vz(a){a.length=0;return a}
+function JE(a,b){a.a+=''+b;return a}
+function KE(a,b){a.a+=''+b;return a}
+function LE(a,b){a.a+=''+b;return a}
+function bd(a){RG(a==null);return a}
+function uG(a,b,c){gG(b,c);return b}
+function uq(a,b){fq(a,(Eq(),Dq),b.a)}
+function Ol(a,b){return a.a.has(b.d)}
+function H(a,b){return _c(a)===_c(b)}
+function wE(a,b){return a.indexOf(b)}
+function eD(a){return a&&a.valueOf()}
+function fD(a){return a&&a.valueOf()}
+function xF(a){return a!=null?O(a):0}
+function _c(a){return a==null?null:a}
+function zF(){zF=Ri;yF=new BF(null)}
+function sv(){sv=Ri;rv=new $wnd.Map}
+function _v(){_v=Ri;$v=new $wnd.Map}
+function yD(){yD=Ri;wD=false;xD=true}
+function aj(a){$wnd.clearInterval(a)}
+function $j(a){Zj&&VC($wnd.console,a)}
+function ak(a){Zj&&WC($wnd.console,a)}
+function ek(a){Zj&&XC($wnd.console,a)}
+function fk(a){Zj&&YC($wnd.console,a)}
+function Tn(a){Zj&&WC($wnd.console,a)}
+function Tq(a){this.a=a;_i.call(this)}
+function Ir(a){this.a=a;_i.call(this)}
+function ss(a){this.a=a;_i.call(this)}
+function Ss(a){this.a=new XB;this.c=a}
+function wz(){return new $wnd.WeakMap}
+function mu(a,b){return a.h.delete(b)}
+function ou(a,b){return a.b.delete(b)}
+function gA(a,b){return a.a.delete(b)}
+function tx(a,b,c){return ix(a,c.a,b)}
+function EG(a,b,c){return uG(a.a,b,c)}
+function vG(a,b,c){BG(a,EG(b,a.a,c))}
+function U(a){a.h=zc(ai,gH,29,0,0,1)}
+function jq(a){!!a.b&&sq(a,(Eq(),Bq))}
+function oq(a){!!a.b&&sq(a,(Eq(),Cq))}
+function xq(a){!!a.b&&sq(a,(Eq(),Dq))}
+function Kk(a){lo((Qb(),Pb),new nl(a))}
+function bp(a){lo((Qb(),Pb),new cp(a))}
+function qp(a){lo((Qb(),Pb),new Gp(a))}
+function wr(a){lo((Qb(),Pb),new Vr(a))}
+function zx(a){lo((Qb(),Pb),new $y(a))}
+function OE(a){oD.call(this,(OG(a),a))}
+function ab(){U(this);V(this);this.w()}
+function iF(){this.a=zc($h,gH,1,0,5,1)}
+function IE(a){return a==null?jH:Ui(a)}
+function AF(a,b){return a.a!=null?a.a:b}
+function vx(a,b){return im(a.b.root,b)}
+function NC(a,b,c,d){return FC(a,b,c,d)}
+function Sc(a,b){return a!=null&&Hc(a,b)}
+function UG(a){return a.$H||(a.$H=++TG)}
+function or(a){return bI in a?a[bI]:-1}
+function Ym(a){return ''+Zm(Wm.kb()-a,3)}
+function iA(a){var b;b=yB;!!b&&lB(b,a.b)}
+function Sw(a,b){var c;c=tw(b,a);qB(c)}
+function SA(a,b){iA(a.a);a.b.forEach(b)}
+function FA(a,b){iA(a.a);a.c.forEach(b)}
+function pB(a){if(a.d||a.e){return}nB(a)}
+function ps(a){if(a.a){Yi(a.a);a.a=null}}
+function LG(a){if(!a){throw Ii(new sD)}}
+function RG(a){if(!a){throw Ii(new WD)}}
+function MG(a){if(!a){throw Ii(new vF)}}
+function YG(){YG=Ri;VG=new I;XG=new I}
+function Uc(a){return typeof a==='number'}
+function Xc(a){return typeof a==='string'}
+function tb(a){return a==null?null:a.name}
+function OC(a,b){return a.appendChild(b)}
+function PC(b,a){return b.appendChild(a)}
+function yE(a,b){return a.lastIndexOf(b)}
+function xE(a,b,c){return a.indexOf(b,c)}
+function EE(a,b,c){return a.substr(b,c-b)}
+function Rk(a,b,c){Gk();return a.set(c,b)}
+function MC(d,a,b,c){d.setProperty(a,b,c)}
+function ns(a,b){b.a.b==(Go(),Fo)&&ps(a)}
+function xA(a,b){Lz.call(this,a);this.a=b}
+function tG(a,b){oG.call(this,a);this.a=b}
+function Jc(a){RG(a==null||Tc(a));return a}
+function Kc(a){RG(a==null||Uc(a));return a}
+function Lc(a){RG(a==null||Yc(a));return a}
+function Pc(a){RG(a==null||Xc(a));return a}
+function DD(a){if(a.i!=null){return}QD(a)}
+function Sk(a){Gk();Fk==0?a.C():Ek.push(a)}
+function CB(a){zB==null&&(zB=[]);zB.push(a)}
+function DB(a){BB==null&&(BB=[]);BB.push(a)}
+function wo(a){return a.b!=null?a.b:''+a.c}
+function Tc(a){return typeof a==='boolean'}
+function $c(a,b){return a&&b&&a instanceof b}
+function AD(a,b){return OG(a),_c(a)===_c(b)}
+function uE(a,b){return OG(a),_c(a)===_c(b)}
+function SC(b,a){return b.createElement(a)}
+function fj(a,b){return $wnd.setTimeout(a,b)}
+function Eb(a,b,c){return a.apply(b,c);var d}
+function kc(a){gc();return parseInt(a)||-1}
+function sb(a){return a==null?null:a.message}
+function zE(a,b,c){return a.lastIndexOf(b,c)}
+function ej(a,b){return $wnd.setInterval(a,b)}
+function jA(a){this.a=new $wnd.Set;this.b=a}
+function Jl(){this.a=new $wnd.Map;this.b=[]}
+function Ip(a,b,c){this.a=a;this.c=b;this.b=c}
+function Gq(a,b,c){xo.call(this,a,b);this.a=c}
+function Bs(a,b,c){a.set(c,(iA(b.a),Pc(b.g)))}
+function _q(a,b,c){a.fb(hE(Vz(Ic(c.e,14),b)))}
+function Vn(a,b){Wn(a,b,Ic(kk(a.a,td),8).j)}
+function vr(a,b){Rt(Ic(kk(a.i,Sf),84),b[dI])}
+function Xb(a,b){a.b=Zb(a.b,[b,false]);Vb(a)}
+function Oq(a,b){b.a.b==(Go(),Fo)&&Rq(a,-1)}
+function ro(){this.b=(Go(),Do);this.a=new XB}
+function Wx(a,b,c){this.b=a;this.c=b;this.a=c}
+function Ux(a,b,c){this.c=a;this.b=b;this.a=c}
+function Cy(a,b,c){this.c=a;this.b=b;this.a=c}
+function ky(a,b,c){this.a=a;this.b=b;this.c=c}
+function my(a,b,c){this.a=a;this.b=b;this.c=c}
+function oy(a,b,c){this.a=a;this.b=b;this.c=c}
+function $x(a,b,c){this.a=a;this.b=b;this.c=c}
+function Yv(a,b,c){this.b=a;this.a=b;this.c=c}
+function Ky(a,b,c){this.b=a;this.a=b;this.c=c}
+function bz(a,b,c){this.b=a;this.a=b;this.c=c}
+function Qy(a,b,c){this.b=a;this.c=b;this.a=c}
+function vv(a,b,c){this.c=a;this.d=b;this.j=c}
+function ok(a,b,c){nk(a,b,c.ab());a.b.set(b,c)}
+function QC(c,a,b){return c.insertBefore(a,b)}
+function KC(b,a){return b.getPropertyValue(a)}
+function cj(a,b){return aH(function(){a.H(b)})}
+function EF(a){zF();return !a?yF:new BF(OG(a))}
+function fu(a,b){a.b.add(b);return new Du(a,b)}
+function gu(a,b){a.h.add(b);return new zu(a,b)}
+function gs(a,b){$wnd.navigator.sendBeacon(a,b)}
+function _z(a,b){a.d=true;Sz(a,b);DB(new rA(a))}
+function rB(a){a.e=true;nB(a);a.c.clear();mB(a)}
+function Bv(a){a.c?ZC($wnd,a.d):$C($wnd,a.d)}
+function jE(){jE=Ri;iE=zc(Vh,gH,25,256,0,1)}
+function Gk(){Gk=Ri;Ek=[];Ck=new Vk;Dk=new $k}
+function Ok(a){++Fk;qn(Ic(kk(a.a,se),56),new fl)}
+function Oc(a,b){RG(a==null||$c(a,b));return a}
+function Ic(a,b){RG(a==null||Hc(a,b));return a}
+function bD(a){if(a==null){return 0}return +a}
+function eF(a,b){a.a[a.a.length]=b;return true}
+function fF(a,b){NG(b,a.a.length);return a.a[b]}
+function KD(a,b){var c;c=HD(a,b);c.e=2;return c}
+function js(a,b){var c;c=ad($D(Kc(b.a)));os(a,c)}
+function SB(a,b,c,d){var e;e=UB(a,b,c);e.push(d)}
+function QB(a,b){a.a==null&&(a.a=[]);a.a.push(b)}
+function zq(a,b){this.a=a;this.b=b;_i.call(this)}
+function Dt(a,b){this.a=a;this.b=b;_i.call(this)}
+function lb(a){U(this);this.g=a;V(this);this.w()}
+function st(a){ot();this.c=[];this.a=nt;this.d=a}
+function gj(a){a.onreadystatechange=function(){}}
+function Yo(a){return $wnd.Vaadin.Flow.getApp(a)}
+function tF(a){return new tG(null,sF(a,a.length))}
+function Tv(a,b){return Uv(new Wv(a),b,19,true)}
+function Tl(a,b,c){return a.set(c,(iA(b.a),b.g))}
+function lk(a,b,c){a.a.delete(c);a.a.set(c,b.ab())}
+function IC(a,b,c,d){a.removeEventListener(b,c,d)}
+function Hu(a,b){var c;c=b;return Ic(a.a.get(c),6)}
+function ID(a,b,c){var d;d=HD(a,b);UD(c,d);return d}
+function Zb(a,b){!a&&(a=[]);a[a.length]=b;return a}
+function sF(a,b){return HF(b,a.length),new SF(a,b)}
+function sm(a,b,c){return a.push(Rz(c,new Qm(c,b)))}
+function JC(b,a){return b.getPropertyPriority(a)}
+function Bc(a){return Array.isArray(a)&&a.kc===Vi}
+function Rc(a){return !Array.isArray(a)&&a.kc===Vi}
+function Vc(a){return a!=null&&Zc(a)&&!(a.kc===Vi)}
+function Zc(a){return typeof a===bH||typeof a===dH}
+function _j(a){$wnd.setTimeout(function(){a.I()},0)}
+function Cw(a){var b;b=a.a;pu(a,null);pu(a,b);pv(a)}
+function MF(a,b){OG(b);while(a.c<a.d){RF(a,b,a.c++)}}
+function LF(a,b){this.d=a;this.c=(b&64)!=0?b|16384:b}
+function zA(a,b,c){Lz.call(this,a);this.b=b;this.a=c}
+function Sl(a){this.a=new $wnd.Set;this.b=[];this.c=a}
+function HD(a,b){var c;c=new FD;c.f=a;c.d=b;return c}
+function Cc(a,b,c){LG(c==null||wc(a,c));return a[b]=c}
+function Mc(a){RG(a==null||Array.isArray(a));return a}
+function OG(a){if(a==null){throw Ii(new kE)}return a}
+function _G(){if(WG==256){VG=XG;XG=new I;WG=0}++WG}
+function mG(a){if(!a.b){nG(a);a.c=true}else{mG(a.b)}}
+function rG(a,b){nG(a);return new tG(a,new xG(b,a.a))}
+function $q(a,b,c,d){var e;e=TA(a,b);Rz(e,new jr(c,d))}
+function lB(a,b){var c;if(!a.e){c=b.Ob(a);a.b.push(c)}}
+function Aw(a){var b;b=new $wnd.Map;a.push(b);return b}
+function V(a){if(a.j){a.e!==hH&&a.w();a.h=null}return a}
+function wF(a,b){return _c(a)===_c(b)||a!=null&&K(a,b)}
+function po(a,b){return RB(a.a,(!so&&(so=new kj),so),b)}
+function Ns(a,b){return RB(a.a,(!Ys&&(Ys=new kj),Ys),b)}
+function Zm(a,b){return +(Math.round(a+'e+'+b)+'e-'+b)}
+function $B(a,b){return aC(new $wnd.XMLHttpRequest,a,b)}
+function Bx(a){return AD((yD(),wD),Uz(TA(ku(a,0),pI)))}
+function mk(a){a.b.forEach(Si(dn.prototype.bb,dn,[a]))}
+function Jb(){Db();if(zb){return}zb=true;Kb(false)}
+function os(a,b){ps(a);if(b>=0){a.a=new ss(a);$i(a.a,b)}}
+function oG(a){if(!a){this.b=null;new iF}else{this.b=a}}
+function TC(a,b,c,d){this.b=a;this.c=b;this.a=c;this.d=d}
+function Nr(a,b,c,d){this.a=a;this.d=b;this.b=c;this.c=d}
+function SF(a,b){this.c=0;this.d=b;this.b=17488;this.a=a}
+function qs(a){this.b=a;po(Ic(kk(a,De),12),new us(this))}
+function eq(a,b){Xn(Ic(kk(a.c,ye),22),'',b,'',null,null)}
+function Wn(a,b,c){Xn(a,c.caption,c.message,b,c.url,null)}
+function Pu(a,b,c,d){Ku(a,b)&&et(Ic(kk(a.c,Df),32),b,c,d)}
+function ht(a,b){var c;c=Ic(kk(a.a,Hf),34);pt(c,b);rt(c)}
+function FB(a,b){var c;c=yB;yB=a;try{b.C()}finally{yB=c}}
+function $(a,b){var c;c=ED(a.ic);return b==null?c:c+': '+b}
+function tE(a,b){QG(b,a.length);return a.charCodeAt(b)}
+function Lb(a){$wnd.setTimeout(function(){throw a},0)}
+function Nc(a){RG(a==null||Zc(a)&&!(a.kc===Vi));return a}
+function jm(a){var b;b=a.f;while(!!b&&!b.a){b=b.f}return b}
+function xn(a,b,c){this.b=a;this.d=b;this.c=c;this.a=new R}
+function ZB(a,b,c){this.a=a;this.d=b;this.c=null;this.b=c}
+function wm(a,b,c,d,e){a.splice.apply(a,[b,c,d].concat(e))}
+function ar(a){Xj('applyDefaultTheme',(yD(),a?true:false))}
+function HC(a,b){Rc(a)?a.T(b):(a.handleEvent(b),undefined)}
+function nu(a,b){_c(b.U(a))===_c((yD(),xD))&&a.b.delete(b)}
+function Lv(a,b){Az(b).forEach(Si(Pv.prototype.fb,Pv,[a]))}
+function pG(a,b){var c;return sG(a,new iF,(c=new FG(b),c))}
+function PG(a,b){if(a<0||a>b){throw Ii(new qD(aJ+a+bJ+b))}}
+function gc(){gc=Ri;var a,b;b=!mc();a=new uc;fc=b?new nc:a}
+function eG(){cG();return Dc(xc(ui,1),gH,47,0,[_F,aG,bG])}
+function DC(){BC();return Dc(xc(yh,1),gH,42,0,[zC,yC,AC])}
+function Hq(){Eq();return Dc(xc(Qe,1),gH,62,0,[Bq,Cq,Dq])}
+function Io(){Go();return Dc(xc(Ce,1),gH,59,0,[Do,Eo,Fo])}
+function aD(c,a,b){return c.setTimeout(aH(a.Tb).bind(a),b)}
+function _C(c,a,b){return c.setInterval(aH(a.Tb).bind(a),b)}
+function Qc(a){return a.ic||Array.isArray(a)&&xc(ed,1)||ed}
+function vp(a){$wnd.vaadinPush.atmosphere.unsubscribeUrl(a)}
+function Gz(a){if(!Ez){return a}return $wnd.Polymer.dom(a)}
+function OD(a){if(a.Zb()){return null}var b=a.h;return Oi[b]}
+function qt(a){a.a=nt;if(!a.b){return}bs(Ic(kk(a.d,nf),19))}
+function NG(a,b){if(a<0||a>=b){throw Ii(new qD(aJ+a+bJ+b))}}
+function QG(a,b){if(a<0||a>=b){throw Ii(new PE(aJ+a+bJ+b))}}
+function Iv(a,b){Az(b).forEach(Si(Nv.prototype.fb,Nv,[a.a]))}
+function Ti(a){function b(){}
+;b.prototype=a||{};return new b}
+function tD(a,b){U(this);this.f=b;this.g=a;V(this);this.w()}
+function zn(a,b,c){this.a=a;this.c=b;this.b=c;_i.call(this)}
+function Bn(a,b,c){this.a=a;this.c=b;this.b=c;_i.call(this)}
+function GB(a){this.a=a;this.b=[];this.c=new $wnd.Set;nB(this)}
+function Qo(a){a?($wnd.location=a):$wnd.location.reload(false)}
+function mr(a){a&&a.afterServerUpdate&&a.afterServerUpdate()}
+function _l(a,b){a.updateComplete.then(aH(function(){b.I()}))}
+function Ww(a,b,c){return a.set(c,Tz(TA(ku(b.e,1),c),b.b[c]))}
+function Dz(a,b,c,d){return a.splice.apply(a,[b,c].concat(d))}
+function Lp(a,b,c){return EE(a.b,b,$wnd.Math.min(a.b.length,c))}
+function _B(a,b,c,d){return bC(new $wnd.XMLHttpRequest,a,b,c,d)}
+function vC(){tC();return Dc(xc(xh,1),gH,43,0,[sC,qC,rC,pC])}
+function Up(){Sp();return Dc(xc(Je,1),gH,51,0,[Pp,Op,Rp,Qp])}
+function gC(a){if(a.length>2){kC(a[0],'OS major');kC(a[1],QI)}}
+function $z(a){if(a.c){a.d=true;aA(a,null,false);DB(new tA(a))}}
+function Sz(a,b){if(!a.b&&a.c&&wF(b,a.g)){return}aA(a,b,true)}
+function nF(a){MG(a.a<a.c.a.length);a.b=a.a++;return a.c.a[a.b]}
+function rb(a){pb();nb.call(this,a);this.a='';this.b=a;this.a=''}
+function IA(a,b){CA.call(this,a,b);this.c=[];this.a=new MA(this)}
+function aA(a,b,c){var d;d=a.g;a.c=c;a.g=b;fA(a.a,new zA(a,d,b))}
+function lm(a,b,c){var d;d=[];c!=null&&d.push(c);return dm(a,b,d)}
+function JD(a,b,c,d){var e;e=HD(a,b);UD(c,e);e.e=d?8:0;return e}
+function MD(a,b){var c=a.a=a.a||[];return c[b]||(c[b]=a.Ub(b))}
+function Rt(a,b){var c,d;for(c=0;c<b.length;c++){d=b[c];Tt(a,d)}}
+function Cl(a,b){var c;if(b.length!=0){c=new Iz(b);a.e.set(Qg,c)}}
+function as(a,b){!!a.b&&np(a.b)?sp(a.b,b):At(Ic(kk(a.c,Nf),71),b)}
+function lo(a,b){++a.a;a.b=Zb(a.b,[b,false]);Vb(a);Xb(a,new no(a))}
+function WA(a,b,c){iA(b.a);b.c&&(a[c]=BA((iA(b.a),b.g)),undefined)}
+function Jk(a,b,c,d){Hk(a,d,c).forEach(Si(jl.prototype.bb,jl,[b]))}
+function UA(a){var b;b=[];SA(a,Si(fB.prototype.bb,fB,[b]));return b}
+function cb(b){if(!('stack' in b)){try{throw b}catch(a){}}return b}
+function hw(a){_v();var b;b=a[wI];if(!b){b={};ew(b);a[wI]=b}return b}
+function Il(a,b){var c;c=Nc(a.b[b]);if(c){a.b[b]=null;a.a.delete(c)}}
+function hj(c,a){var b=c;c.onreadystatechange=aH(function(){a.J(b)})}
+function sn(a){$wnd.HTMLImports.whenReady(aH(function(){a.I()}))}
+function qB(a){if(a.d&&!a.e){try{FB(a,new uB(a))}finally{a.d=false}}}
+function Yi(a){if(!a.f){return}++a.d;a.e?aj(a.f.a):bj(a.f.a);a.f=null}
+function vD(a){tD.call(this,a==null?jH:Ui(a),Sc(a,5)?Ic(a,5):null)}
+function mB(a){while(a.b.length!=0){Ic(a.b.splice(0,1)[0],44).Eb()}}
+function ap(a){var b=aH(bp);$wnd.Vaadin.Flow.registerWidgetset(a,b)}
+function Ju(a,b){var c;c=Lu(b);if(!c||!b.f){return c}return Ju(a,b.f)}
+function Nl(a,b){if(Ol(a,b.e.e)){a.b.push(b);return true}return false}
+function $F(a,b,c,d){OG(a);OG(b);OG(c);OG(d);return new fG(b,new YF)}
+function eA(a,b){if(!b){debugger;throw Ii(new uD)}return dA(a,a.Qb(b))}
+function $n(a,b){var c;c=b.keyCode;if(c==27){b.preventDefault();Qo(a)}}
+function BE(a,b,c){var d;c=HE(c);d=new RegExp(b);return a.replace(d,c)}
+function BA(a){var b;if(Sc(a,6)){b=Ic(a,6);return iu(b)}else{return a}}
+function Po(a){var b;b=$doc.createElement('a');b.href=a;return b.href}
+function tm(a){return $wnd.customElements&&a.localName.indexOf('-')>-1}
+function xp(){return $wnd.vaadinPush&&$wnd.vaadinPush.atmosphere}
+function ad(a){return Math.max(Math.min(a,2147483647),-2147483648)|0}
+function sy(a,b,c,d,e){this.b=a;this.e=b;this.c=c;this.d=d;this.a=e}
+function bA(a,b,c){Qz();this.a=new kA(this);this.f=a;this.e=b;this.b=c}
+function xG(a,b){LF.call(this,b.fc(),b.ec()&-6);OG(a);this.a=a;this.b=b}
+function VF(a,b){!a.a?(a.a=new OE(a.d)):LE(a.a,a.b);JE(a.a,b);return a}
+function GA(a,b){var c;c=a.c.splice(0,b);fA(a.a,new Nz(a,0,c,[],false))}
+function rm(a,b,c){var d;d=c.a;a.push(Rz(d,new Mm(d,b)));CB(new Gm(d,b))}
+function _A(a,b,c,d){var e;iA(c.a);if(c.c){e=xm((iA(c.a),c.g));b[d]=e}}
+function Xt(a){Ic(kk(a.a,De),12).b==(Go(),Fo)||qo(Ic(kk(a.a,De),12),Fo)}
+function hq(a,b){ak('Heartbeat exception: '+b.v());fq(a,(Eq(),Bq),null)}
+function AE(a,b){b=HE(b);return a.replace(new RegExp('[^0-9].*','g'),b)}
+function Nt(a,b){if(b==null){debugger;throw Ii(new uD)}return a.a.get(b)}
+function Ot(a,b){if(b==null){debugger;throw Ii(new uD)}return a.a.has(b)}
+function NF(a,b){OG(b);if(a.c<a.d){RF(a,b,a.c++);return true}return false}
+function xb(){if(Date.now){return Date.now()}return (new Date).getTime()}
+function VA(a,b){if(!a.b.has(b)){return false}return Yz(Ic(a.b.get(b),14))}
+function Gb(b){Db();return function(){return Hb(b,this,arguments);var a}}
+function mb(a){U(this);this.g=!a?null:$(a,a.v());this.f=a;V(this);this.w()}
+function nb(a){U(this);V(this);this.e=a;W(this,a);this.g=a==null?jH:Ui(a)}
+function WF(){this.b=', ';this.d='[';this.e=']';this.c=this.d+(''+this.e)}
+function Br(a){this.j=new $wnd.Set;this.g=[];this.c=new Ir(this);this.i=a}
+function XA(a,b){CA.call(this,a,b);this.b=new $wnd.Map;this.a=new aB(this)}
+function ks(a,b){var c,d;c=ku(a,8);d=TA(c,'pollInterval');Rz(d,new ls(b))}
+function Mw(a,b){var c;c=b.f;Fx(Ic(kk(b.e.e.g.c,td),8),a,c,(iA(b.a),b.g))}
+function lq(a){Rq(Ic(kk(a.c,Ye),55),Ic(kk(a.c,td),8).d);fq(a,(Eq(),Bq),null)}
+function xC(){xC=Ri;wC=yo((tC(),Dc(xc(xh,1),gH,43,0,[sC,qC,rC,pC])))}
+function Az(a){var b;b=[];a.forEach(Si(Bz.prototype.bb,Bz,[b]));return b}
+function sG(a,b,c){var d;mG(a);d=new CG;d.a=b;a.a.gc(new GG(d,c));return d.a}
+function zc(a,b,c,d,e,f){var g;g=Ac(e,d);e!=10&&Dc(xc(a,f),b,c,e,g);return g}
+function cn(a,b,c){a.addReadyCallback&&a.addReadyCallback(b,aH(c.I.bind(c)))}
+function So(a,b,c){c==null?Gz(a).removeAttribute(b):Gz(a).setAttribute(b,c)}
+function nm(a,b){$wnd.customElements.whenDefined(a).then(function(){b.I()})}
+function $o(a){Vo();!$wnd.WebComponents||$wnd.WebComponents.ready?Xo(a):Wo(a)}
+function JG(a,b){return yc(b)!=10&&Dc(M(b),b.jc,b.__elementTypeId$,yc(b),a),a}
+function M(a){return Xc(a)?di:Uc(a)?Oh:Tc(a)?Lh:Rc(a)?a.ic:Bc(a)?a.ic:Qc(a)}
+function As(a){var b;if(a==null){return false}b=Pc(a);return !uE('DISABLED',b)}
+function Zw(a){var b;b=Gz(a);while(b.firstChild){b.removeChild(b.firstChild)}}
+function Iz(a){this.a=new $wnd.Set;a.forEach(Si(Jz.prototype.fb,Jz,[this.a]))}
+function es(a,b){b&&!a.b?(a.b=new up(a.c)):!b&&!!a.b&&mp(a.b)&&jp(a.b,new hs(a))}
+function Ax(a){var b;b=Ic(a.e.get(eg),76);!!b&&(!!b.a&&az(b.a),b.b.e.delete(eg))}
+function lu(a,b,c,d){var e;e=c.Sb();!!e&&(b[Gu(a.g,ad((OG(d),d)))]=e,undefined)}
+function HA(a,b,c,d){var e,f;e=d;f=Dz(a.c,b,c,e);fA(a.a,new Nz(a,b,f,d,false))}
+function dv(a,b){var c,d,e;e=ad(fD(a[xI]));d=ku(b,e);c=a['key'];return TA(d,c)}
+function Co(a,b){var c;OG(b);c=a[':'+b];KG(!!c,Dc(xc($h,1),gH,1,5,[b]));return c}
+function Jo(a,b,c){uE(c.substr(0,a.length),a)&&(c=b+(''+DE(c,a.length)));return c}
+function gF(a,b,c){for(;c<a.a.length;++c){if(wF(b,a.a[c])){return c}}return -1}
+function ur(a){var b;b=a['meta'];if(!b||!('async' in b)){return true}return false}
+function mp(a){switch(a.f.c){case 0:case 1:return true;default:return false;}}
+function ep(){if(xp()){return $wnd.vaadinPush.atmosphere.version}else{return null}}
+function xz(a){var b;b=new $wnd.Set;a.forEach(Si(yz.prototype.fb,yz,[b]));return b}
+function Vu(a){this.a=new $wnd.Map;this.e=new ru(1,this);this.c=a;Ou(this,this.e)}
+function zs(a){this.a=a;Rz(TA(ku(Ic(kk(this.a,Xf),10).e,5),'pushMode'),new Cs(this))}
+function KG(a,b){if(!a){throw Ii(new bE(SG('Enum constant undefined: %s',b)))}}
+function Yj(a){$wnd.Vaadin.connectionState&&($wnd.Vaadin.connectionState.state=a)}
+function yc(a){return a.__elementTypeCategory$==null?10:a.__elementTypeCategory$}
+function mv(){var a;mv=Ri;lv=(a=[],a.push(new gx),a.push(new nz),a);kv=new qv}
+function Uw(a,b,c){var d,e;e=(iA(a.a),a.c);d=b.d.has(c);e!=d&&(e?mw(c,b):$w(c,b))}
+function nC(a,b){var c,d;d=a.substr(b);c=d.indexOf(' ');c==-1&&(c=d.length);return c}
+function dA(a,b){var c,d;a.a.add(b);d=new IB(a,b);c=yB;!!c&&oB(c,new KB(d));return d}
+function ys(a,b){var c,d;d=As(b.b);c=As(b.a);!d&&c?CB(new Es(a)):d&&!c&&CB(new Gs(a))}
+function Rb(a){var b,c;if(a.c){c=null;do{b=a.c;a.c=null;c=$b(b,c)}while(a.c);a.c=c}}
+function Sb(a){var b,c;if(a.d){c=null;do{b=a.d;a.d=null;c=$b(b,c)}while(a.d);a.d=c}}
+function UD(a,b){var c;if(!a){return}b.h=a;var d=OD(b);if(!d){Oi[a]=[b];return}d.ic=b}
+function Si(a,b,c){var d=function(){return a.apply(d,arguments)};b.apply(d,c);return d}
+function jc(a){var b=/function(?:\s+([\w$]+))?\s*\(/;var c=b.exec(a);return c&&c[1]||nH}
+function ck(a){var b;b=S;T(new ik(b));if(Sc(a,31)){bk(Ic(a,31).A())}else{throw Ii(a)}}
+function EA(a){var b;a.b=true;b=a.c.splice(0,a.c.length);fA(a.a,new Nz(a,0,b,[],true))}
+function Ki(){Li();var a=Ji;for(var b=0;b<arguments.length;b++){a.push(arguments[b])}}
+function Wo(a){var b=function(){Xo(a)};$wnd.addEventListener('WebComponentsReady',aH(b))}
+function Xj(a,b){$wnd.Vaadin.connectionIndicator&&($wnd.Vaadin.connectionIndicator[a]=b)}
+function Ni(a,b){typeof window===bH&&typeof window['$gwt']===bH&&(window['$gwt'][a]=b)}
+function zl(a,b){return !!(a[CH]&&a[CH][DH]&&a[CH][DH][b])&&typeof a[CH][DH][b][EH]!=lH}
+function zt(a){return EC(EC(Ic(kk(a.a,td),8).h,'v-r=uidl'),TH+(''+Ic(kk(a.a,td),8).k))}
+function Iw(a,b,c,d){var e,f,g;g=c[qI];e="id='"+g+"'";f=new wy(a,g);Bw(a,b,d,f,g,e)}
+function Xw(a,b,c){var d,e,f,g;for(e=a,f=0,g=e.length;f<g;++f){d=e[f];Jw(d,new dz(b,d),c)}}
+function Qw(a,b){var c,d;c=a.a;if(c.length!=0){for(d=0;d<c.length;d++){nw(b,Ic(c[d],6))}}}
+function Kx(a,b,c){this.c=new $wnd.Map;this.d=new $wnd.Map;this.e=a;this.b=b;this.a=c}
+function BC(){BC=Ri;zC=new CC('INLINE',0);yC=new CC('EAGER',1);AC=new CC('LAZY',2)}
+function Eq(){Eq=Ri;Bq=new Gq('HEARTBEAT',0,0);Cq=new Gq('PUSH',1,1);Dq=new Gq('XHR',2,2)}
+function FC(e,a,b,c){var d=!b?null:GC(b);e.addEventListener(a,d,c);return new TC(e,a,d,c)}
+function op(a,b){if(b.a.b==(Go(),Fo)){if(a.f==(Sp(),Rp)||a.f==Qp){return}jp(a,new Xp)}}
+function Zi(a,b){if(b<0){throw Ii(new bE(qH))}!!a.f&&Yi(a);a.e=false;a.f=hE(fj(cj(a,a.d),b))}
+function $i(a,b){if(b<=0){throw Ii(new bE(rH))}!!a.f&&Yi(a);a.e=true;a.f=hE(ej(cj(a,a.d),b))}
+function HF(a,b){if(0>a||a>b){throw Ii(new rD('fromIndex: 0, toIndex: '+a+', length: '+b))}}
+function pE(a,b,c){if(a==null){debugger;throw Ii(new uD)}this.a=pH;this.d=a;this.b=b;this.c=c}
+function Ru(a,b,c,d,e){if(!Fu(a,b)){debugger;throw Ii(new uD)}gt(Ic(kk(a.c,Df),32),b,c,d,e)}
+function Kw(a,b,c,d){var e,f,g;g=c[qI];e="path='"+wb(g)+"'";f=new uy(a,g);Bw(a,b,d,f,null,e)}
+function Mu(a,b){var c;if(b!=a.e){c=b.a;!!c&&(_v(),!!c[wI])&&fw((_v(),c[wI]));Uu(a,b);b.f=null}}
+function jx(a,b){var c;c=a;while(true){c=c.f;if(!c){return false}if(K(b,c.a)){return true}}}
+function Uj(){try{document.createEvent('TouchEvent');return true}catch(a){return false}}
+function Ct(b){if(b.readyState!=1){return false}try{b.send();return true}catch(a){return false}}
+function hp(c,a){var b=c.getConfig(a);if(b===null||b===undefined){return null}else{return b+''}}
+function gp(c,a){var b=c.getConfig(a);if(b===null||b===undefined){return null}else{return hE(b)}}
+function iu(a){var b;b=$wnd.Object.create(null);hu(a,Si(vu.prototype.bb,vu,[a,b]));return b}
+function uw(a,b,c,d){var e;e=ku(d,a);SA(e,Si(Qx.prototype.bb,Qx,[b,c]));return RA(e,new Sx(b,c))}
+function $w(a,b){var c;c=Ic(b.d.get(a),44);b.d.delete(a);if(!c){debugger;throw Ii(new uD)}c.Eb()}
+function Xu(a,b){var c;if(Sc(a,28)){c=Ic(a,28);ad((OG(b),b))==2?GA(c,(iA(c.a),c.c.length)):EA(c)}}
+function Tb(a){var b;if(a.b){b=a.b;a.b=null;!a.g&&(a.g=[]);$b(b,a.g)}!!a.g&&(a.g=Wb(a.g))}
+function Vb(a){if(!a.i){a.i=true;!a.f&&(a.f=new bc(a));_b(a.f,1);!a.h&&(a.h=new dc(a));_b(a.h,50)}}
+function rt(a){if(nt!=a.a||a.c.length==0){return}a.b=true;a.a=new tt(a);lo((Qb(),Pb),new xt(a))}
+function nn(a,b){var c,d;c=new Gn(a);d=new $wnd.Function(a);wn(a,new Nn(d),new Pn(b,c),new Rn(b,c))}
+function GC(b){var c=b.handler;if(!c){c=aH(function(a){HC(b,a)});c.listener=b;b.handler=c}return c}
+function Ko(a,b){var c;if(a==null){return null}c=Jo('context://',b,a);c=Jo('base://','',c);return c}
+function Hi(a){var b;if(Sc(a,5)){return a}b=a&&a.__java$exception;if(!b){b=new rb(a);hc(b)}return b}
+function dD(c){return $wnd.JSON.stringify(c,function(a,b){if(a=='$H'){return undefined}return b},0)}
+function Rq(a,b){Zj&&XC($wnd.console,'Setting heartbeat interval to '+b+'sec.');a.a=b;Pq(a)}
+function mq(a,b,c){np(b)&&Os(Ic(kk(a.c,zf),16));rq(c)||gq(a,'Invalid JSON from server: '+c,null)}
+function qq(a,b){Xn(Ic(kk(a.c,ye),22),'',b+' could not be loaded. Push will not work.','',null,null)}
+function xv(a,b,c){sv();b==(Qz(),Pz)&&a!=null&&c!=null&&a.has(c)?Ic(a.get(c),13).I():b.I()}
+function Qu(a,b,c,d,e,f){if(!Fu(a,b)){debugger;throw Ii(new uD)}ft(Ic(kk(a.c,Df),32),b,c,d,e,f)}
+function Bt(a){this.a=a;FC($wnd,'beforeunload',new Jt(this),false);Ns(Ic(kk(a,zf),16),new Lt(this))}
+function ac(b,c){Qb();var d=$wnd.setInterval(function(){var a=aH(Yb)(b);!a&&$wnd.clearInterval(d)},c)}
+function _b(b,c){Qb();function d(){var a=aH(Yb)(b);a&&$wnd.setTimeout(d,c)}
+$wnd.setTimeout(d,c)}
+function NB(b,c,d){return aH(function(){var a=Array.prototype.slice.call(arguments);d.Ab(b,c,a)})}
+function Mk(a,b){var c;c=new $wnd.Map;b.forEach(Si(hl.prototype.bb,hl,[a,c]));c.size==0||Sk(new ll(c))}
+function nj(a,b){var c;c='/'.length;if(!uE(b.substr(b.length-c,c),'/')){debugger;throw Ii(new uD)}a.b=b}
+function oC(a,b,c){var d,e;b<0?(e=0):(e=b);c<0||c>a.length?(d=a.length):(d=c);return a.substr(e,d-e)}
+function pp(a,b,c){vE(b,'true')||vE(b,'false')?(a.a[c]=vE(b,'true'),undefined):(a.a[c]=b,undefined)}
+function dt(a,b,c,d){var e;e={};e[wH]=kI;e[lI]=Object(b);e[kI]=c;!!d&&(e['data']=d,undefined);ht(a,e)}
+function Dc(a,b,c,d,e){e.ic=a;e.jc=b;e.kc=Vi;e.__elementTypeId$=c;e.__elementTypeCategory$=d;return e}
+function tr(a,b){if(b==-1){return true}if(b==a.f+1){return true}if(a.f==-1){return true}return false}
+function Vt(a,b){var c;c=!!b.a&&!AD((yD(),wD),Uz(TA(ku(b,0),pI)));if(!c||!b.f){return c}return Vt(a,b.f)}
+function Vz(a,b){var c;iA(a.a);if(a.c){c=(iA(a.a),a.g);if(c==null){return b}return _D(Kc(c))}else{return b}}
+function mw(a,b){var c;if(b.d.has(a)){debugger;throw Ii(new uD)}c=NC(b.b,a,new My(b),false);b.d.set(a,c)}
+function Lu(a){var b,c;if(!a.c.has(0)){return true}c=ku(a,0);b=Jc(Uz(TA(c,'visible')));return !AD((yD(),wD),b)}
+function cs(a){var b,c,d;b=[];c={};c['UNLOAD']=Object(true);d=Zr(a,b,c);gs(zt(Ic(kk(a.c,Nf),71)),dD(d))}
+function Qs(a){var b,c;c=Ic(kk(a.c,De),12).b==(Go(),Fo);b=a.b||Ic(kk(a.c,Hf),34).b;(c||!b)&&Yj('connected')}
+function Y(a){var b,c,d,e;for(b=(a.h==null&&(a.h=(gc(),e=fc.F(a),ic(e))),a.h),c=0,d=b.length;c<d;++c);}
+function rF(a){var b,c,d,e,f;f=1;for(c=a,d=0,e=c.length;d<e;++d){b=c[d];f=31*f+(b!=null?O(b):0);f=f|0}return f}
+function uF(a){var b,c,d;d=1;for(c=new oF(a);c.a<c.c.a.length;){b=nF(c);d=31*d+(b!=null?O(b):0);d=d|0}return d}
+function iD(c){var a=[];for(var b in c){Object.prototype.hasOwnProperty.call(c,b)&&b!='$H'&&a.push(b)}return a}
+function Xz(a){var b;iA(a.a);if(a.c){b=(iA(a.a),a.g);if(b==null){return true}return zD(Jc(b))}else{return true}}
+function fp(c,a){var b=c.getConfig(a);if(b===null||b===undefined){return false}else{return yD(),b?true:false}}
+function ib(a){var b;if(a!=null){b=a.__java$exception;if(b){return b}}return Wc(a,TypeError)?new lE(a):new nb(a)}
+function Ex(a,b,c,d){if(d==null){!!c&&(delete c['for'],undefined)}else{!c&&(c={});c['for']=d}Pu(a.g,a,b,c)}
+function pq(a,b){Zj&&($wnd.console.log('Reopening push connection'),undefined);np(b)&&fq(a,(Eq(),Cq),null)}
+function Go(){Go=Ri;Do=new Ho('INITIALIZING',0);Eo=new Ho('RUNNING',1);Fo=new Ho('TERMINATED',2)}
+function cG(){cG=Ri;_F=new dG('CONCURRENT',0);aG=new dG('IDENTITY_FINISH',1);bG=new dG('UNORDERED',2)}
+function FD(){++CD;this.i=null;this.g=null;this.f=null;this.d=null;this.b=null;this.h=null;this.a=null}
+function ru(a,b){this.c=new $wnd.Map;this.h=new $wnd.Set;this.b=new $wnd.Set;this.e=new $wnd.Map;this.d=a;this.g=b}
+function bm(a,b){var c;am==null&&(am=wz());c=Oc(am.get(a),$wnd.Set);if(c==null){c=new $wnd.Set;am.set(a,c)}c.add(b)}
+function Dv(a,b){if(b<=0){throw Ii(new bE(rH))}a.c?ZC($wnd,a.d):$C($wnd,a.d);a.c=true;a.d=_C($wnd,new lD(a),b)}
+function Cv(a,b){if(b<0){throw Ii(new bE(qH))}a.c?ZC($wnd,a.d):$C($wnd,a.d);a.c=false;a.d=aD($wnd,new jD(a),b)}
+function xw(a){var b,c;b=ju(a.e,24);for(c=0;c<(iA(b.a),b.c.length);c++){nw(a,Ic(b.c[c],6))}return DA(b,new ey(a))}
+function Iu(a,b){var c,d,e;e=Az(a.a);for(c=0;c<e.length;c++){d=Ic(e[c],6);if(b.isSameNode(d.a)){return d}}return null}
+function yo(a){var b,c,d,e,f;b={};for(d=a,e=0,f=d.length;e<f;++e){c=d[e];b[':'+(c.b!=null?c.b:''+c.c)]=c}return b}
+function pv(a){var b,c;c=ov(a);b=a.a;if(!a.a){b=c.Ib(a);if(!b){debugger;throw Ii(new uD)}pu(a,b)}nv(a,b);return b}
+function tw(a,b){var c,d;d=a.f;if(b.c.has(d)){debugger;throw Ii(new uD)}c=new GB(new Ky(a,b,d));b.c.set(d,c);return c}
+function fA(a,b){var c;if(b.Nb()!=a.b){debugger;throw Ii(new uD)}c=xz(a.a);c.forEach(Si(LB.prototype.fb,LB,[a,b]))}
+function sw(a){if(!a.b){debugger;throw Ii(new vD('Cannot bind client delegate methods to a Node'))}return Tv(a.b,a.e)}
+function nG(a){if(a.b){nG(a.b)}else if(a.c){throw Ii(new cE("Stream already terminated, can't be modified or used"))}}
+function Wz(a){var b;iA(a.a);if(a.c){b=(iA(a.a),a.g);if(b==null){return null}return iA(a.a),Pc(a.g)}else{return null}}
+function xs(a){if(VA(ku(Ic(kk(a.a,Xf),10).e,5),jI)){return Pc(Uz(TA(ku(Ic(kk(a.a,Xf),10).e,5),jI)))}return null}
+function Ml(a){var b;if(!Ic(kk(a.c,Xf),10).f){b=new $wnd.Map;a.a.forEach(Si(Ul.prototype.fb,Ul,[a,b]));DB(new Wl(a,b))}}
+function vq(a,b){var c;Os(Ic(kk(a.c,zf),16));c=b.b.responseText;rq(c)||gq(a,'Invalid JSON response from server: '+c,b)}
+function dq(a){a.b=null;Ic(kk(a.c,zf),16).b&&Os(Ic(kk(a.c,zf),16));Yj('connection-lost');Rq(Ic(kk(a.c,Ye),55),0)}
+function kq(a,b){var c;if(b.a.b==(Go(),Fo)){if(a.b){dq(a);c=Ic(kk(a.c,De),12);c.b!=Fo&&qo(c,Fo)}!!a.d&&!!a.d.f&&Yi(a.d)}}
+function Ll(a,b){var c;a.a.clear();while(a.b.length>0){c=Ic(a.b.splice(0,1)[0],14);Rl(c,b)||Su(Ic(kk(a.c,Xf),10),c);EB()}}
+function tn(a,b,c){var d;d=Mc(c.get(a));if(d==null){d=[];d.push(b);c.set(a,d);return true}else{d.push(b);return false}}
+function iw(a){var b;b=Lc($v.get(a));if(b==null){b=Lc(new $wnd.Function(kI,DI,'return ('+a+')'));$v.set(a,b)}return b}
+function VB(a,b){var c,d;d=Oc(a.c.get(b),$wnd.Map);if(d==null){return []}c=Mc(d.get(null));if(c==null){return []}return c}
+function rq(a){var b;b=Xi(new RegExp('Vaadin-Refresh(:\\s*(.*?))?(\\s|$)'),a);if(b){Qo(b[2]);return true}return false}
+function om(a){while(a.parentNode&&(a=a.parentNode)){if(a.toString()==='[object ShadowRoot]'){return true}}return false}
+function hE(a){var b,c;if(a>-129&&a<128){b=a+128;c=(jE(),iE)[b];!c&&(c=iE[b]=new dE(a));return c}return new dE(a)}
+function Xo(a){var b,c,d,e;b=(e=new yj,e.a=a,_o(e,Yo(a)),e);c=new Dj(b);Uo.push(c);d=Yo(a).getConfig('uidl');Cj(c,d)}
+function gq(a,b,c){var d,e;c&&(e=c.b);Xn(Ic(kk(a.c,ye),22),'',b,'',null,null);d=Ic(kk(a.c,De),12);d.b!=(Go(),Fo)&&qo(d,Fo)}
+function Rl(a,b){var c,d;c=Oc(b.get(a.e.e.d),$wnd.Map);if(c!=null&&c.has(a.f)){d=c.get(a.f);_z(a,d);return true}return false}
+function dw(a,b){if(typeof a.get===dH){var c=a.get(b);if(typeof c===bH&&typeof c[HH]!==lH){return {nodeId:c[HH]}}}return null}
+function wl(b,c){return Array.from(b.querySelectorAll('[name]')).find(function(a){return a.getAttribute('name')==c})}
+function fw(c){_v();var b=c['}p'].promises;b!==undefined&&b.forEach(function(a){a[1](Error('Client is resynchronizing'))})}
+function Qk(){Gk();var a,b;--Fk;if(Fk==0&&Ek.length!=0){try{for(b=0;b<Ek.length;b++){a=Ic(Ek[b],26);a.C()}}finally{vz(Ek)}}}
+function WB(a){var b,c;if(a.a!=null){try{for(c=0;c<a.a.length;c++){b=Ic(a.a[c],330);SB(b.a,b.d,b.c,b.b)}}finally{a.a=null}}}
+function rw(a,b){var c,d;c=ju(b,11);for(d=0;d<(iA(c.a),c.c.length);d++){Gz(a).classList.add(Pc(c.c[d]))}return DA(c,new Sy(a))}
+function Ui(a){var b;if(Array.isArray(a)&&a.kc===Vi){return ED(M(a))+'@'+(b=O(a)>>>0,b.toString(16))}return a.toString()}
+function Mb(a,b){Db();var c;c=S;if(c){if(c==Ab){return}c.q(a);return}if(b){Lb(Sc(a,31)?Ic(a,31).A():a)}else{RE();X(a,QE,'')}}
+function gm(a){var b;if(am==null){return}b=Oc(am.get(a),$wnd.Set);if(b!=null){am.delete(a);b.forEach(Si(Cm.prototype.fb,Cm,[]))}}
+function Kj(a,b,c){var d;if(a==c.d){d=new $wnd.Function('callback','callback();');d.call(null,b);return yD(),true}return yD(),false}
+function Rs(a){if(a.b){throw Ii(new cE('Trying to start a new request while another is active'))}a.b=true;Ps(a,new Vs)}
+function Gv(a){if(a.a.b){yv(BI,a.a.b,a.a.a,null);if(a.b.has(AI)){a.a.g=a.a.b;a.a.h=a.a.a}a.a.b=null;a.a.a=null}else{uv(a.a)}}
+function Ev(a){if(a.a.b){yv(AI,a.a.b,a.a.a,a.a.i);a.a.b=null;a.a.a=null;a.a.i=null}else !!a.a.g&&yv(AI,a.a.g,a.a.h,null);uv(a.a)}
+function Wj(){return /iPad|iPhone|iPod/.test(navigator.platform)||navigator.platform==='MacIntel'&&navigator.maxTouchPoints>1}
+function Vj(){this.a=new mC($wnd.navigator.userAgent);this.a.b?'ontouchstart' in window:this.a.f?!!navigator.msMaxTouchPoints:Uj()}
+function rn(a){this.b=new $wnd.Set;this.a=new $wnd.Map;this.d=!!($wnd.HTMLImports&&$wnd.HTMLImports.whenReady);this.c=a;kn(this)}
+function yq(a){this.c=a;po(Ic(kk(a,De),12),new Iq(this));FC($wnd,'offline',new Kq(this),false);FC($wnd,'online',new Mq(this),false)}
+function tC(){tC=Ri;sC=new uC('STYLESHEET',0);qC=new uC('JAVASCRIPT',1);rC=new uC('JS_MODULE',2);pC=new uC('DYNAMIC_IMPORT',3)}
+function Lo(a){var b,c;b=Ic(kk(a.a,td),8).b;c='/'.length;if(!uE(b.substr(b.length-c,c),'/')){debugger;throw Ii(new uD)}return b}
+function TA(a,b){var c;c=Ic(a.b.get(b),14);if(!c){c=new bA(b,a,uE('innerHTML',b)&&a.d==1);a.b.set(b,c);fA(a.a,new xA(a,c))}return c}
+function TD(a,b){var c=0;while(!b[c]||b[c]==''){c++}var d=b[c++];for(;c<b.length;c++){if(!b[c]||b[c]==''){continue}d+=a+b[c]}return d}
+function it(a,b,c,d,e){var f;f={};f[wH]='mSync';f[lI]=gD(b.d);f['feature']=Object(c);f['property']=d;f[EH]=e==null?null:e;ht(a,f)}
+function yv(a,b,c,d){sv();uE(AI,a)?c.forEach(Si(Rv.prototype.bb,Rv,[d])):Az(c).forEach(Si(zv.prototype.fb,zv,[]));Ex(b.b,b.c,b.a,a)}
+function nB(a){var b;a.d=true;mB(a);a.e||CB(new sB(a));if(a.c.size!=0){b=a.c;a.c=new $wnd.Set;b.forEach(Si(wB.prototype.fb,wB,[]))}}
+function ww(a){var b;if(!a.b){debugger;throw Ii(new vD('Cannot bind shadow root to a Node'))}b=ku(a.e,20);ow(a);return RA(b,new fz(a))}
+function zw(a){var b;b=Pc(Uz(TA(ku(a,0),'tag')));if(b==null){debugger;throw Ii(new vD('New child must have a tag'))}return SC($doc,b)}
+function $l(a){return typeof a.update==dH&&a.updateComplete instanceof Promise&&typeof a.shouldUpdate==dH&&typeof a.firstUpdated==dH}
+function aE(a){var b;b=YD(a);if(b>3.4028234663852886E38){return Infinity}else if(b<-3.4028234663852886E38){return -Infinity}return b}
+function BD(a){if(a>=48&&a<48+$wnd.Math.min(10,10)){return a-48}if(a>=97&&a<97){return a-97+10}if(a>=65&&a<65){return a-65+10}return -1}
+function mc(){if(Error.stackTraceLimit>0){$wnd.Error.stackTraceLimit=Error.stackTraceLimit=64;return true}return 'stack' in new Error}
+function Al(a,b){var c,d;d=ku(a,1);if(!a.a){nm(Pc(Uz(TA(ku(a,0),'tag'))),new Dl(a,b));return}for(c=0;c<b.length;c++){Bl(a,d,Pc(b[c]))}}
+function hF(a,b){var c,d;d=a.a.length;b.length<d&&(b=JG(new Array(d),b));for(c=0;c<d;++c){Cc(b,c,a.a[c])}b.length>d&&Cc(b,d,null);return b}
+function ju(a,b){var c,d;d=b;c=Ic(a.c.get(d),33);if(!c){c=new IA(b,a);a.c.set(d,c)}if(!Sc(c,28)){debugger;throw Ii(new uD)}return Ic(c,28)}
+function ku(a,b){var c,d;d=b;c=Ic(a.c.get(d),33);if(!c){c=new XA(b,a);a.c.set(d,c)}if(!Sc(c,41)){debugger;throw Ii(new uD)}return Ic(c,41)}
+function vE(a,b){OG(a);if(b==null){return false}if(uE(a,b)){return true}return a.length==b.length&&uE(a.toLowerCase(),b.toLowerCase())}
+function Sp(){Sp=Ri;Pp=new Tp('CONNECT_PENDING',0);Op=new Tp('CONNECTED',1);Rp=new Tp('DISCONNECT_PENDING',2);Qp=new Tp('DISCONNECTED',3)}
+function sq(a,b){if(a.b!=b){return}a.b=null;a.a=0;Yj('connected');Zj&&($wnd.console.log('Re-established connection to server'),undefined)}
+function gt(a,b,c,d,e){var f;f={};f[wH]='attachExistingElementById';f[lI]=gD(b.d);f[mI]=Object(c);f[nI]=Object(d);f['attachId']=e;ht(a,f)}
+function Lk(a){Zj&&($wnd.console.log('Finished loading eager dependencies, loading lazy.'),undefined);a.forEach(Si(pl.prototype.bb,pl,[]))}
+function Qq(a){Yi(a.c);Zj&&($wnd.console.debug('Sending heartbeat request...'),undefined);_B(a.d,null,'text/plain; charset=utf-8',new Vq(a))}
+function Nu(a){FA(ju(a.e,24),Si(Zu.prototype.fb,Zu,[]));hu(a.e,Si(bv.prototype.bb,bv,[]));a.a.forEach(Si(_u.prototype.bb,_u,[a]));a.d=true}
+function Mv(a,b){if(b.e){!!b.b&&yv(AI,b.b,b.a,null)}else{yv(BI,b.b,b.a,null);Dv(b.f,ad(b.j))}if(b.b){eF(a,b.b);b.b=null;b.a=null;b.i=null}}
+function $G(a){YG();var b,c,d;c=':'+a;d=XG[c];if(d!=null){return ad((OG(d),d))}d=VG[c];b=d==null?ZG(a):ad((OG(d),d));_G();XG[c]=b;return b}
+function O(a){return Xc(a)?$G(a):Uc(a)?ad((OG(a),a)):Tc(a)?(OG(a),a)?1231:1237:Rc(a)?a.o():Bc(a)?UG(a):!!a&&!!a.hashCode?a.hashCode():UG(a)}
+function nk(a,b,c){if(a.a.has(b)){debugger;throw Ii(new vD((DD(b),'Registry already has a class of type '+b.i+' registered')))}a.a.set(b,c)}
+function nv(a,b){mv();var c;if(a.g.f){debugger;throw Ii(new vD('Binding state node while processing state tree changes'))}c=ov(a);c.Hb(a,b,kv)}
+function Nz(a,b,c,d,e){this.e=a;if(c==null){debugger;throw Ii(new uD)}if(d==null){debugger;throw Ii(new uD)}this.c=b;this.d=c;this.a=d;this.b=e}
+function ax(a,b){var c,d;d=TA(b,HI);iA(d.a);d.c||_z(d,a.getAttribute(HI));c=TA(b,II);om(a)&&(iA(c.a),!c.c)&&!!a.style&&_z(c,a.style.display)}
+function yl(a,b,c,d){var e,f;if(!d){f=Ic(kk(a.g.c,Vd),58);e=Ic(f.a.get(c),25);if(!e){f.b[b]=c;f.a.set(c,hE(b));return hE(b)}return e}return d}
+function nx(a,b){var c,d;while(b!=null){for(c=a.length-1;c>-1;c--){d=Ic(a[c],6);if(b.isSameNode(d.a)){return d.d}}b=Gz(b.parentNode)}return -1}
+function Bl(a,b,c){var d;if(zl(a.a,c)){d=Ic(a.e.get(Qg),77);if(!d||!d.a.has(c)){return}Tz(TA(b,c),a.a[c]).I()}else{VA(b,c)||_z(TA(b,c),null)}}
+function Kl(a,b,c){var d,e;e=Hu(Ic(kk(a.c,Xf),10),ad((OG(b),b)));if(e.c.has(1)){d=new $wnd.Map;SA(ku(e,1),Si(Yl.prototype.bb,Yl,[d]));c.set(b,d)}}
+function UB(a,b,c){var d,e;e=Oc(a.c.get(b),$wnd.Map);if(e==null){e=new $wnd.Map;a.c.set(b,e)}d=Mc(e.get(c));if(d==null){d=[];e.set(c,d)}return d}
+function mx(a){var b;kw==null&&(kw=new $wnd.Map);b=Lc(kw.get(a));if(b==null){b=Lc(new $wnd.Function(kI,DI,'return ('+a+')'));kw.set(a,b)}return b}
+function Cr(){if($wnd.performance&&$wnd.performance.timing){return (new Date).getTime()-$wnd.performance.timing.responseStart}else{return -1}}
+function Vv(a,b,c,d){var e,f,g,h,i;i=Nc(a.ab());h=d.d;for(g=0;g<h.length;g++){gw(i,Pc(h[g]))}e=d.a;for(f=0;f<e.length;f++){aw(i,Pc(e[f]),b,c)}}
+function yx(a,b){var c,d,e,f,g;d=Gz(a).classList;g=b.d;for(f=0;f<g.length;f++){d.remove(Pc(g[f]))}c=b.a;for(e=0;e<c.length;e++){d.add(Pc(c[e]))}}
+function Fw(a,b){var c,d,e,f,g;g=ju(b.e,2);d=0;f=null;for(e=0;e<(iA(g.a),g.c.length);e++){if(d==a){return f}c=Ic(g.c[e],6);if(c.a){f=c;++d}}return f}
+function km(a){var b,c,d,e;d=-1;b=ju(a.f,16);for(c=0;c<(iA(b.a),b.c.length);c++){e=b.c[c];if(K(a,e)){d=c;break}}if(d<0){return null}return ''+d}
+function eC(a){var b,c;if(a.indexOf('android')==-1){return}b=oC(a,a.indexOf('android ')+8,a.length);b=oC(b,0,b.indexOf(';'));c=CE(b,'\\.');jC(c)}
+function iC(a){var b,c;if(a.indexOf('os ')==-1||a.indexOf(' like mac')==-1){return}b=oC(a,a.indexOf('os ')+3,a.indexOf(' like mac'));c=CE(b,'_');jC(c)}
+function Hc(a,b){if(Xc(a)){return !!Gc[b]}else if(a.jc){return !!a.jc[b]}else if(Uc(a)){return !!Fc[b]}else if(Tc(a)){return !!Ec[b]}return false}
+function K(a,b){return Xc(a)?uE(a,b):Uc(a)?(OG(a),_c(a)===_c(b)):Tc(a)?AD(a,b):Rc(a)?a.m(b):Bc(a)?H(a,b):!!a&&!!a.equals?a.equals(b):_c(a)===_c(b)}
+function jC(a){var b,c;a.length>=1&&kC(a[0],'OS major');if(a.length>=2){b=wE(a[1],GE(45));if(b>-1){c=a[1].substr(0,b-0);kC(c,QI)}else{kC(a[1],QI)}}}
+function X(a,b,c){var d,e,f,g,h;Y(a);for(e=(a.i==null&&(a.i=zc(fi,gH,5,0,0,1)),a.i),f=0,g=e.length;f<g;++f){d=e[f];X(d,b,'\t'+c)}h=a.f;!!h&&X(h,b,c)}
+function Uu(a,b){if(!Fu(a,b)){debugger;throw Ii(new uD)}if(b==a.e){debugger;throw Ii(new vD("Root node can't be unregistered"))}a.a.delete(b.d);qu(b)}
+function Fu(a,b){if(!b){debugger;throw Ii(new vD(tI))}if(b.g!=a){debugger;throw Ii(new vD(uI))}if(b!=Hu(a,b.d)){debugger;throw Ii(new vD(vI))}return true}
+function kk(a,b){if(!a.a.has(b)){debugger;throw Ii(new vD((DD(b),'Tried to lookup type '+b.i+' but no instance has been registered')))}return a.a.get(b)}
+function ix(a,b,c){var d,e;e=b.f;if(c.has(e)){debugger;throw Ii(new vD("There's already a binding for "+e))}d=new GB(new Yx(a,b));c.set(e,d);return d}
+function pu(a,b){var c;if(!(!a.a||!b)){debugger;throw Ii(new vD('StateNode already has a DOM node'))}a.a=b;c=xz(a.b);c.forEach(Si(Bu.prototype.fb,Bu,[a]))}
+function kC(b,c){var d;try{return ZD(b)}catch(a){a=Hi(a);if(Sc(a,7)){d=a;RE();c+' version parsing failed for: '+b+' '+d.v()}else throw Ii(a)}return -1}
+function tq(a,b){var c;if(a.a==1){cq(a,b)}else{a.d=new zq(a,b);Zi(a.d,Vz((c=ku(Ic(kk(Ic(kk(a.c,xf),35).a,Xf),10).e,9),TA(c,'reconnectInterval')),5000))}}
+function Dr(){if($wnd.performance&&$wnd.performance.timing&&$wnd.performance.timing.fetchStart){return $wnd.performance.timing.fetchStart}else{return 0}}
+function Ac(a,b){var c=new Array(b);var d;switch(a){case 14:case 15:d=0;break;case 16:d=false;break;default:return c;}for(var e=0;e<b;++e){c[e]=d}return c}
+function mm(a){var b,c,d,e,f;e=null;c=ku(a.f,1);f=UA(c);for(b=0;b<f.length;b++){d=Pc(f[b]);if(K(a,Uz(TA(c,d)))){e=d;break}}if(e==null){return null}return e}
+function lc(a){gc();var b=a.e;if(b&&b.stack){var c=b.stack;var d=b+'\n';c.substring(0,d.length)==d&&(c=c.substring(d.length));return c.split('\n')}return []}
+function Yr(a){a.b=null;As(Uz(TA(ku(Ic(kk(Ic(kk(a.c,vf),48).a,Xf),10).e,5),'pushMode')))&&!a.b&&(a.b=new up(a.c));Ic(kk(a.c,Hf),34).b&&rt(Ic(kk(a.c,Hf),34))}
+function RB(a,b,c){var d;if(!b){throw Ii(new mE('Cannot add a handler with a null type'))}a.b>0?QB(a,new ZB(a,b,c)):(d=UB(a,b,null),d.push(c));return new YB}
+function fm(a,b){var c,d,e,f,g;f=a.f;d=a.e.e;g=jm(d);if(!g){fk(IH+d.d+JH);return}c=cm((iA(a.a),a.g));if(pm(g.a)){e=lm(g,d,f);e!=null&&vm(g.a,e,c);return}b[f]=c}
+function Pq(a){if(a.a>0){$j('Scheduling heartbeat in '+a.a+' seconds');Zi(a.c,a.a*1000)}else{Zj&&($wnd.console.debug('Disabling heartbeat'),undefined);Yi(a.c)}}
+function Bw(a,b,c,d,e,f){var g,h;if(!ex(a.e,b,e,f)){return}g=Nc(d.ab());if(fx(g,b,e,f,a)){if(!c){h=Ic(kk(b.g.c,Xd),50);h.a.add(b.d);Ml(h)}pu(b,g);pv(b)}c||EB()}
+function ws(a){var b,c,d,e;b=TA(ku(Ic(kk(a.a,Xf),10).e,5),'parameters');e=(iA(b.a),Ic(b.g,6));d=ku(e,6);c=new $wnd.Map;SA(d,Si(Is.prototype.bb,Is,[c]));return c}
+function Su(a,b){var c,d;if(!b){debugger;throw Ii(new uD)}d=b.e;c=d.e;if(Nl(Ic(kk(a.c,Xd),50),b)||!Ku(a,c)){return}it(Ic(kk(a.c,Df),32),c,d.d,b.f,(iA(b.a),b.g))}
+function gn(){var a,b,c,d;b=$doc.head.childNodes;c=b.length;for(d=0;d<c;d++){a=b.item(d);if(a.nodeType==8&&uE('Stylesheet end',a.nodeValue)){return a}}return null}
+function _w(a,b){var c,d,e;ax(a,b);e=TA(b,HI);iA(e.a);e.c&&Fx(Ic(kk(b.e.g.c,td),8),a,HI,(iA(e.a),e.g));c=TA(b,II);iA(c.a);if(c.c){d=(iA(c.a),Ui(c.g));LC(a.style,d)}}
+function Cj(a,b){if(!b){_r(Ic(kk(a.a,nf),19))}else{Rs(Ic(kk(a.a,zf),16));rr(Ic(kk(a.a,lf),21),b)}FC($wnd,'pagehide',new Nj(a),false);FC($wnd,'pageshow',new Pj,false)}
+function qo(a,b){if(b.c!=a.b.c+1){throw Ii(new bE('Tried to move from state '+wo(a.b)+' to '+(b.b!=null?b.b:''+b.c)+' which is not allowed'))}a.b=b;TB(a.a,new to(a))}
+function Fr(a){var b;if(a==null){return null}if(!uE(a.substr(0,9),'for(;;);[')||(b=']'.length,!uE(a.substr(a.length-b,b),']'))){return null}return EE(a,9,a.length-1)}
+function Mi(b,c,d,e){Li();var f=Ji;$moduleName=c;$moduleBase=d;Gi=e;function g(){for(var a=0;a<f.length;a++){f[a]()}}
+if(b){try{aH(g)()}catch(a){b(c,a)}}else{aH(g)()}}
+function ic(a){var b,c,d,e;b='hc';c='hb';e=$wnd.Math.min(a.length,5);for(d=e-1;d>=0;d--){if(uE(a[d].d,b)||uE(a[d].d,c)){a.length>=d+1&&a.splice(0,d+1);break}}return a}
+function ft(a,b,c,d,e,f){var g;g={};g[wH]='attachExistingElement';g[lI]=gD(b.d);g[mI]=Object(c);g[nI]=Object(d);g['attachTagName']=e;g['attachIndex']=Object(f);ht(a,g)}
+function pm(a){var b=typeof $wnd.Polymer===dH&&$wnd.Polymer.Element&&a instanceof $wnd.Polymer.Element;var c=a.constructor.polymerElementVersion!==undefined;return b||c}
+function Uv(a,b,c,d){var e,f,g,h;h=ju(b,c);iA(h.a);if(h.c.length>0){f=Nc(a.ab());for(e=0;e<(iA(h.a),h.c.length);e++){g=Pc(h.c[e]);aw(f,g,b,d)}}return DA(h,new Yv(a,b,d))}
+function lx(a,b){var c,d,e,f,g;c=Gz(b).childNodes;for(e=0;e<c.length;e++){d=Nc(c[e]);for(f=0;f<(iA(a.a),a.c.length);f++){g=Ic(a.c[f],6);if(K(d,g.a)){return d}}}return null}
+function HE(a){var b;b=0;while(0<=(b=a.indexOf('\\',b))){QG(b+1,a.length);a.charCodeAt(b+1)==36?(a=a.substr(0,b)+'$'+DE(a,++b)):(a=a.substr(0,b)+(''+DE(a,++b)))}return a}
+function Wt(a){var b,c,d;if(!!a.a||!Hu(a.g,a.d)){return false}if(VA(ku(a,0),qI)){d=Uz(TA(ku(a,0),qI));if(Vc(d)){b=Nc(d);c=b[wH];return uE('@id',c)||uE(rI,c)}}return false}
+function jn(a,b){var c,d,e,f;ek('Loaded '+b.a);f=b.a;e=Mc(a.a.get(f));a.b.add(f);a.a.delete(f);if(e!=null&&e.length!=0){for(c=0;c<e.length;c++){d=Ic(e[c],24);!!d&&d.db(b)}}}
+function $r(a){switch(a.d){case 0:Zj&&($wnd.console.log('Resynchronize from server requested'),undefined);a.d=1;return true;case 1:return true;case 2:default:return false;}}
+function Tu(a,b){if(a.f==b){debugger;throw Ii(new vD('Inconsistent state tree updating status, expected '+(b?'no ':'')+' updates in progress.'))}a.f=b;Ml(Ic(kk(a.c,Xd),50))}
+function qb(a){var b;if(a.c==null){b=_c(a.b)===_c(ob)?null:a.b;a.d=b==null?jH:Vc(b)?tb(Nc(b)):Xc(b)?'String':ED(M(b));a.a=a.a+': '+(Vc(b)?sb(Nc(b)):b+'');a.c='('+a.d+') '+a.a}}
+function ln(a,b,c){var d,e;d=new Gn(b);if(a.b.has(b)){!!c&&c.db(d);return}if(tn(b,c,a.a)){e=$doc.createElement(OH);e.textContent=b;e.type=BH;un(e,new Hn(a),d);PC($doc.head,e)}}
+function zr(a){var b,c,d;for(b=0;b<a.g.length;b++){c=Ic(a.g[b],60);d=or(c.a);if(d!=-1&&d<a.f+1){Zj&&XC($wnd.console,'Removing old message with id '+d);a.g.splice(b,1)[0];--b}}}
+function Pi(){Oi={};!Array.isArray&&(Array.isArray=function(a){return Object.prototype.toString.call(a)===cH});function b(){return (new Date).getTime()}
+!Date.now&&(Date.now=b)}
+function Ar(a,b){a.j.delete(b);if(a.j.size==0){Yi(a.c);if(a.g.length!=0){Zj&&($wnd.console.log('No more response handling locks, handling pending requests.'),undefined);sr(a)}}}
+function fv(a,b){var c,d,e,f,g,h;h=new $wnd.Set;e=b.length;for(d=0;d<e;d++){c=b[d];if(uE('attach',c[wH])){g=ad(fD(c[lI]));if(g!=a.e.d){f=new ru(g,a);Ou(a,f);h.add(f)}}}return h}
+function lz(a,b){var c,d,e;if(!a.c.has(7)){debugger;throw Ii(new uD)}if(jz.has(a)){return}jz.set(a,(yD(),true));d=ku(a,7);e=TA(d,'text');c=new GB(new rz(b,e));gu(a,new tz(a,c))}
+function hC(a){var b,c;b=a.indexOf(' crios/');if(b==-1){b=a.indexOf(' chrome/');b==-1?(b=a.indexOf(RI)+16):(b+=8);c=nC(a,b);lC(oC(a,b,b+c))}else{b+=7;c=nC(a,b);lC(oC(a,b,b+c))}}
+function Yn(a){var b=document.getElementsByTagName(a);for(var c=0;c<b.length;++c){var d=b[c];d.$server.disconnected=function(){};d.parentNode.replaceChild(d.cloneNode(false),d)}}
+function pt(a,b){if(Ic(kk(a.d,De),12).b!=(Go(),Eo)){Zj&&($wnd.console.warn('Trying to invoke method on not yet started or stopped application'),undefined);return}a.c[a.c.length]=b}
+function Xm(){if(typeof $wnd.Vaadin.Flow.gwtStatsEvents==bH){delete $wnd.Vaadin.Flow.gwtStatsEvents;typeof $wnd.__gwtStatsEvent==dH&&($wnd.__gwtStatsEvent=function(){return true})}}
+function np(a){if(a.g==null){return false}if(!uE(a.g,UH)){return false}if(VA(ku(Ic(kk(Ic(kk(a.d,vf),48).a,Xf),10).e,5),'alwaysXhrToServer')){return false}a.f==(Sp(),Pp);return true}
+function Hb(b,c,d){var e,f;e=Fb();try{if(S){try{return Eb(b,c,d)}catch(a){a=Hi(a);if(Sc(a,5)){f=a;Mb(f,true);return undefined}else throw Ii(a)}}else{return Eb(b,c,d)}}finally{Ib(e)}}
+function EC(a,b){var c,d;if(b.length==0){return a}c=null;d=wE(a,GE(35));if(d!=-1){c=a.substr(d);a=a.substr(0,d)}a.indexOf('?')!=-1?(a+='&'):(a+='?');a+=b;c!=null&&(a+=''+c);return a}
+function yw(a,b,c){var d;if(!b.b){debugger;throw Ii(new vD(FI+b.e.d+KH))}d=ku(b.e,0);_z(TA(d,pI),(yD(),Lu(b.e)?true:false));dx(a,b,c);return Rz(TA(ku(b.e,0),'visible'),new Ux(a,b,c))}
+function aC(b,c,d){var e,f;try{hj(b,new cC(d));b.open('GET',c,true);b.send(null)}catch(a){a=Hi(a);if(Sc(a,31)){e=a;Zj&&WC($wnd.console,e);f=e;Tn(f.v());gj(b)}else throw Ii(a)}return b}
+function fn(a){var b;b=gn();!b&&Zj&&($wnd.console.error("Expected to find a 'Stylesheet end' comment inside <head> but none was found. Appending instead."),undefined);QC($doc.head,a,b)}
+function YD(a){XD==null&&(XD=new RegExp('^\\s*[+-]?(NaN|Infinity|((\\d+\\.?\\d*)|(\\.\\d+))([eE][+-]?\\d+)?[dDfF]?)\\s*$'));if(!XD.test(a)){throw Ii(new oE(ZI+a+'"'))}return parseFloat(a)}
+function FE(a){var b,c,d;c=a.length;d=0;while(d<c&&(QG(d,a.length),a.charCodeAt(d)<=32)){++d}b=c;while(b>d&&(QG(b-1,a.length),a.charCodeAt(b-1)<=32)){--b}return d>0||b<c?a.substr(d,b-d):a}
+function hn(a,b){var c,d,e,f;Tn((Ic(kk(a.c,ye),22),'Error loading '+b.a));f=b.a;e=Mc(a.a.get(f));a.a.delete(f);if(e!=null&&e.length!=0){for(c=0;c<e.length;c++){d=Ic(e[c],24);!!d&&d.cb(b)}}}
+function jt(a,b,c,d,e){var f;f={};f[wH]='publishedEventHandler';f[lI]=gD(b.d);f['templateEventMethodName']=c;f['templateEventMethodArgs']=d;e!=-1&&(f['promise']=Object(e),undefined);ht(a,f)}
+function bw(a,b,c,d){var e,f,g,h,i,j;if(VA(ku(d,18),c)){f=[];e=Ic(kk(d.g.c,Of),57);i=Pc(Uz(TA(ku(d,18),c)));g=Mc(Nt(e,i));for(j=0;j<g.length;j++){h=Pc(g[j]);f[j]=cw(a,b,d,h)}return f}return null}
+function ev(a,b){var c;if(!('featType' in a)){debugger;throw Ii(new vD("Change doesn't contain feature type. Don't know how to populate feature"))}c=ad(fD(a[xI]));eD(a['featType'])?ju(b,c):ku(b,c)}
+function GE(a){var b,c;if(a>=65536){b=55296+(a-65536>>10&1023)&65535;c=56320+(a-65536&1023)&65535;return String.fromCharCode(b)+(''+String.fromCharCode(c))}else{return String.fromCharCode(a&65535)}}
+function Ib(a){a&&Sb((Qb(),Pb));--yb;if(yb<0){debugger;throw Ii(new vD('Negative entryDepth value at exit '+yb))}if(a){if(yb!=0){debugger;throw Ii(new vD('Depth not 0'+yb))}if(Cb!=-1){Nb(Cb);Cb=-1}}}
+function OB(a,b){var c,d,e,f;if(cD(b)==1){c=b;f=ad(fD(c[0]));switch(f){case 0:{e=ad(fD(c[1]));return d=e,Ic(a.a.get(d),6)}case 1:case 2:return null;default:throw Ii(new bE(NI+dD(c)));}}else{return null}}
+function Sq(a){this.c=new Tq(this);this.b=a;Rq(this,Ic(kk(a,td),8).d);this.d=Ic(kk(a,td),8).h;this.d=EC(this.d,'v-r=heartbeat');this.d=EC(this.d,TH+(''+Ic(kk(a,td),8).k));po(Ic(kk(a,De),12),new Yq(this))}
+function Cx(a,b,c,d,e){var f,g,h,i,j,k,l;f=false;for(i=0;i<c.length;i++){g=c[i];l=fD(g[0]);if(l==0){f=true;continue}k=new $wnd.Set;for(j=1;j<g.length;j++){k.add(g[j])}h=tv(wv(a,b,l),k,d,e);f=f|h}return f}
+function on(a,b,c,d,e){var f,g,h;h=Po(b);f=new Gn(h);if(a.b.has(h)){!!c&&c.db(f);return}if(tn(h,c,a.a)){g=$doc.createElement(OH);g.src=h;g.type=e;g.async=false;g.defer=d;un(g,new Hn(a),f);PC($doc.head,g)}}
+function cw(a,b,c,d){var e,f,g,h,i;if(!uE(d.substr(0,5),kI)||uE('event.model.item',d)){return uE(d.substr(0,kI.length),kI)?(g=iw(d),h=g(b,a),i={},i[HH]=gD(fD(h[HH])),i):dw(c.a,d)}e=iw(d);f=e(b,a);return f}
+function lC(a){var b,c,d,e;b=wE(a,GE(46));b<0&&(b=a.length);d=oC(a,0,b);kC(d,'Browser major');c=xE(a,GE(46),b+1);if(c<0){if(a.substr(b).length==0){return}c=a.length}e=AE(oC(a,b+1,c),'');kC(e,'Browser minor')}
+function bs(a){if(Ic(kk(a.c,De),12).b!=(Go(),Eo)){Zj&&($wnd.console.warn('Trying to send RPC from not yet started or stopped application'),undefined);return}if(Ic(kk(a.c,zf),16).b||!!a.b&&!mp(a.b));else{Xr(a)}}
+function Fb(){var a;if(yb<0){debugger;throw Ii(new vD('Negative entryDepth value at entry '+yb))}if(yb!=0){a=xb();if(a-Bb>2000){Bb=a;Cb=$wnd.setTimeout(Ob,10)}}if(yb++==0){Rb((Qb(),Pb));return true}return false}
+function Mp(a){var b,c,d;if(a.a>=a.b.length){debugger;throw Ii(new uD)}if(a.a==0){c=''+a.b.length+'|';b=4095-c.length;d=c+EE(a.b,0,$wnd.Math.min(a.b.length,b));a.a+=b}else{d=Lp(a,a.a,a.a+4095);a.a+=4095}return d}
+function sr(a){var b,c,d,e;if(a.g.length==0){return false}e=-1;for(b=0;b<a.g.length;b++){c=Ic(a.g[b],60);if(tr(a,or(c.a))){e=b;break}}if(e!=-1){d=Ic(a.g.splice(e,1)[0],60);qr(a,d.a);return true}else{return false}}
+function iq(a,b){var c,d;c=b.status;Zj&&YC($wnd.console,'Heartbeat request returned '+c);if(c==403){Vn(Ic(kk(a.c,ye),22),null);d=Ic(kk(a.c,De),12);d.b!=(Go(),Fo)&&qo(d,Fo)}else if(c==404);else{fq(a,(Eq(),Bq),null)}}
+function wq(a,b){var c,d;c=b.b.status;Zj&&YC($wnd.console,'Server returned '+c+' for xhr');if(c==401){Os(Ic(kk(a.c,zf),16));Vn(Ic(kk(a.c,ye),22),'');d=Ic(kk(a.c,De),12);d.b!=(Go(),Fo)&&qo(d,Fo);return}else{fq(a,(Eq(),Dq),b.a)}}
+function Ro(c){return JSON.stringify(c,function(a,b){if(b instanceof Node){throw 'Message JsonObject contained a dom node reference which should not be sent to the server and can cause a cyclic dependecy.'}return b})}
+function wv(a,b,c){sv();var d,e,f;e=Oc(rv.get(a),$wnd.Map);if(e==null){e=new $wnd.Map;rv.set(a,e)}f=Oc(e.get(b),$wnd.Map);if(f==null){f=new $wnd.Map;e.set(b,f)}d=Ic(f.get(c),79);if(!d){d=new vv(a,b,c);f.set(c,d)}return d}
+function fC(a){var b,c,d,e,f;f=a.indexOf('; cros ');if(f==-1){return}c=xE(a,GE(41),f);if(c==-1){return}b=c;while(b>=f&&(QG(b,a.length),a.charCodeAt(b)!=32)){--b}if(b==f){return}d=a.substr(b+1,c-(b+1));e=CE(d,'\\.');gC(e)}
+function Pt(a,b){var c,d,e,f,g,h;if(!b){debugger;throw Ii(new uD)}for(d=(g=iD(b),g),e=0,f=d.length;e<f;++e){c=d[e];if(a.a.has(c)){debugger;throw Ii(new uD)}h=b[c];if(!(!!h&&cD(h)!=5)){debugger;throw Ii(new uD)}a.a.set(c,h)}}
+function Ku(a,b){var c;c=true;if(!b){Zj&&($wnd.console.warn(tI),undefined);c=false}else if(K(b.g,a)){if(!K(b,Hu(a,b.d))){Zj&&($wnd.console.warn(vI),undefined);c=false}}else{Zj&&($wnd.console.warn(uI),undefined);c=false}return c}
+function qw(a){var b,c,d,e,f;d=ju(a.e,2);d.b&&Zw(a.b);for(f=0;f<(iA(d.a),d.c.length);f++){c=Ic(d.c[f],6);e=Ic(kk(c.g.c,Vd),58);b=Hl(e,c.d);if(b){Il(e,c.d);pu(c,b);pv(c)}else{b=pv(c);Gz(a.b).appendChild(b)}}return DA(d,new ay(a))}
+function vn(b){for(var c=0;c<$doc.styleSheets.length;c++){if($doc.styleSheets[c].href===b){var d=$doc.styleSheets[c];try{var e=d.cssRules;e===undefined&&(e=d.rules);if(e===null){return 1}return e.length}catch(a){return 1}}}return -1}
+function uv(a){var b,c;if(a.f){Bv(a.f);a.f=null}if(a.e){Bv(a.e);a.e=null}b=Oc(rv.get(a.c),$wnd.Map);if(b==null){return}c=Oc(b.get(a.d),$wnd.Map);if(c==null){return}c.delete(a.j);if(c.size==0){b.delete(a.d);b.size==0&&rv.delete(a.c)}}
+function wn(b,c,d,e){try{var f=c.ab();if(!(f instanceof $wnd.Promise)){throw new Error('The expression "'+b+'" result is not a Promise.')}f.then(function(a){d.I()},function(a){console.error(a);e.I()})}catch(a){console.error(a);e.I()}}
+function vw(g,b,c){if(pm(c)){g.Lb(b,c)}else if(tm(c)){var d=g;try{var e=$wnd.customElements.whenDefined(c.localName);var f=new Promise(function(a){setTimeout(a,1000)});Promise.race([e,f]).then(function(){pm(c)&&d.Lb(b,c)})}catch(a){}}}
+function Os(a){if(!a.b){throw Ii(new cE('endRequest called when no request is active'))}a.b=false;(Ic(kk(a.c,De),12).b==(Go(),Eo)&&Ic(kk(a.c,Hf),34).b||Ic(kk(a.c,nf),19).d==1)&&bs(Ic(kk(a.c,nf),19));lo((Qb(),Pb),new Ts(a));Ps(a,new Zs)}
+function Yw(a,b,c){var d;d=Si(yy.prototype.bb,yy,[]);c.forEach(Si(Ay.prototype.fb,Ay,[d]));b.c.forEach(d);b.d.forEach(Si(Ey.prototype.bb,Ey,[]));a.forEach(Si(Gx.prototype.fb,Gx,[]));if(jw==null){debugger;throw Ii(new uD)}jw.delete(b.e)}
+function Dx(a,b,c,d,e,f){var g,h,i,j,k,l,m,n,o,p,q;o=true;g=false;for(j=(q=iD(c),q),k=0,l=j.length;k<l;++k){i=j[k];p=c[i];n=cD(p)==1;if(!n&&!p){continue}o=false;m=!!d&&eD(d[i]);if(n&&m){h='on-'+b+':'+i;m=Cx(a,h,p,e,f)}g=g|m}return o||g}
+function Qi(a,b,c){var d=Oi,h;var e=d[a];var f=e instanceof Array?e[0]:null;if(e&&!f){_=e}else{_=(h=b&&b.prototype,!h&&(h=Oi[b]),Ti(h));_.jc=c;!b&&(_.kc=Vi);d[a]=_}for(var g=3;g<arguments.length;++g){arguments[g].prototype=_}f&&(_.ic=f)}
+function em(a,b){var c,d,e,f,g,h,i,j;c=a.a;e=a.c;i=a.d.length;f=Ic(a.e,28).e;j=jm(f);if(!j){fk(IH+f.d+JH);return}d=[];c.forEach(Si(Um.prototype.fb,Um,[d]));if(pm(j.a)){g=lm(j,f,null);if(g!=null){wm(j.a,g,e,i,d);return}}h=Mc(b);Dz(h,e,i,d)}
+function bC(b,c,d,e,f){var g;try{hj(b,new cC(f));b.open('POST',c,true);b.setRequestHeader('Content-type',e);b.withCredentials=true;b.send(d)}catch(a){a=Hi(a);if(Sc(a,31)){g=a;Zj&&WC($wnd.console,g);f.lb(b,g);gj(b)}else throw Ii(a)}return b}
+function im(a,b){var c,d,e;c=a;for(d=0;d<b.length;d++){e=b[d];c=hm(c,ad(bD(e)))}if(c){return c}else !c?Zj&&YC($wnd.console,"There is no element addressed by the path '"+b+"'"):Zj&&YC($wnd.console,'The node addressed by path '+b+KH);return null}
+function Er(b){var c,d;if(b==null){return null}d=Wm.kb();try{c=JSON.parse(b);ek('JSON parsing took '+(''+Zm(Wm.kb()-d,3))+'ms');return c}catch(a){a=Hi(a);if(Sc(a,7)){Zj&&WC($wnd.console,'Unable to parse JSON: '+b);return null}else throw Ii(a)}}
+function Zr(a,b,c){var d,e,f,g,h,i,j,k;i={};d=Ic(kk(a.c,lf),21).b;uE(d,'init')||(i['csrfToken']=d,undefined);i['rpc']=b;i[bI]=gD(Ic(kk(a.c,lf),21).f);i[fI]=gD(a.a++);if(c){for(f=(j=iD(c),j),g=0,h=f.length;g<h;++g){e=f[g];k=c[e];i[e]=k}}return i}
+function EB(){var a;if(AB){return}try{AB=true;while(zB!=null&&zB.length!=0||BB!=null&&BB.length!=0){while(zB!=null&&zB.length!=0){a=Ic(zB.splice(0,1)[0],15);a.eb()}if(BB!=null&&BB.length!=0){a=Ic(BB.splice(0,1)[0],15);a.eb()}}}finally{AB=false}}
+function Gw(a,b){var c,d,e,f,g,h;f=b.b;if(a.b){Zw(f)}else{h=a.d;for(g=0;g<h.length;g++){e=Ic(h[g],6);d=e.a;if(!d){debugger;throw Ii(new vD("Can't find element to remove"))}Gz(d).parentNode==f&&Gz(f).removeChild(d)}}c=a.a;c.length==0||lw(a.c,b,c)}
+function bx(a,b){var c,d,e;d=a.f;iA(a.a);if(a.c){e=(iA(a.a),a.g);c=b[d];(c===undefined||!(_c(c)===_c(e)||c!=null&&K(c,e)||c==e))&&FB(null,new $x(b,d,e))}else Object.prototype.hasOwnProperty.call(b,d)?(delete b[d],undefined):(b[d]=null,undefined)}
+function ip(a){var b,c;c=Mo(Ic(kk(a.d,Ee),49),a.h);c=EC(c,'v-r=push');c=EC(c,TH+(''+Ic(kk(a.d,td),8).k));b=Ic(kk(a.d,lf),21).h;b!=null&&(c=EC(c,'v-pushId='+b));Zj&&($wnd.console.log('Establishing push connection'),undefined);a.c=c;a.e=kp(a,c,a.a)}
+function Ou(a,b){var c;if(b.g!=a){debugger;throw Ii(new uD)}if(b.i){debugger;throw Ii(new vD("Can't re-register a node"))}c=b.d;if(a.a.has(c)){debugger;throw Ii(new vD('Node '+c+' is already registered'))}a.a.set(c,b);a.f&&Ql(Ic(kk(a.c,Xd),50),b)}
+function QD(a){if(a.Yb()){var b=a.c;b.Zb()?(a.i='['+b.h):!b.Yb()?(a.i='[L'+b.Wb()+';'):(a.i='['+b.Wb());a.b=b.Vb()+'[]';a.g=b.Xb()+'[]';return}var c=a.f;var d=a.d;d=d.split('/');a.i=TD('.',[c,TD('$',d)]);a.b=TD('.',[c,TD('.',d)]);a.g=d[d.length-1]}
+function At(a,b){var c,d,e;d=new Gt(a);d.a=b;Ft(d,Wm.kb());c=Ro(b);e=_B(EC(EC(Ic(kk(a.a,td),8).h,'v-r=uidl'),TH+(''+Ic(kk(a.a,td),8).k)),c,WH,d);Zj&&XC($wnd.console,'Sending xhr message to server: '+c);a.b&&(!Tj&&(Tj=new Vj),Tj).a.l&&Zi(new Dt(a,e),250)}
+function Dw(b,c,d){var e,f,g;if(!c){return -1}try{g=Gz(Nc(c));while(g!=null){f=Iu(b,g);if(f){return f.d}g=Gz(g.parentNode)}}catch(a){a=Hi(a);if(Sc(a,7)){e=a;$j(GI+c+', returned by an event data expression '+d+'. Error: '+e.v())}else throw Ii(a)}return -1}
+function ew(f){var e='}p';Object.defineProperty(f,e,{value:function(a,b,c){var d=this[e].promises[a];if(d!==undefined){delete this[e].promises[a];b?d[0](c):d[1](Error('Something went wrong. Check server-side logs for more information.'))}}});f[e].promises=[]}
+function qu(a){var b,c;if(Hu(a.g,a.d)){debugger;throw Ii(new vD('Node should no longer be findable from the tree'))}if(a.i){debugger;throw Ii(new vD('Node is already unregistered'))}a.i=true;c=new eu;b=xz(a.h);b.forEach(Si(xu.prototype.fb,xu,[c]));a.h.clear()}
+function mn(a,b,c){var d,e;d=new Gn(b);if(a.b.has(b)){!!c&&c.db(d);return}if(tn(b,c,a.a)){e=$doc.createElement('style');e.textContent=b;e.type='text/css';(!Tj&&(Tj=new Vj),Tj).a.j||Wj()||(!Tj&&(Tj=new Vj),Tj).a.i?Zi(new Bn(a,b,d),5000):un(e,new Dn(a),d);fn(e)}}
+function ov(a){mv();var b,c,d;b=null;for(c=0;c<lv.length;c++){d=Ic(lv[c],305);if(d.Jb(a)){if(b){debugger;throw Ii(new vD('Found two strategies for the node : '+M(b)+', '+M(d)))}b=d}}if(!b){throw Ii(new bE('State node has no suitable binder strategy'))}return b}
+function SG(a,b){var c,d,e,f;a=a;c=new NE;f=0;d=0;while(d<b.length){e=a.indexOf('%s',f);if(e==-1){break}LE(c,a.substr(f,e-f));KE(c,b[d++]);f=e+2}LE(c,a.substr(f));if(d<b.length){c.a+=' [';KE(c,b[d++]);while(d<b.length){c.a+=', ';KE(c,b[d++])}c.a+=']'}return c.a}
+function TB(b,c){var d,e,f,g,h,i;try{++b.b;h=(e=VB(b,c.L()),e);d=null;for(i=0;i<h.length;i++){g=h[i];try{c.K(g)}catch(a){a=Hi(a);if(Sc(a,7)){f=a;d==null&&(d=[]);d[d.length]=f}else throw Ii(a)}}if(d!=null){throw Ii(new mb(Ic(d[0],5)))}}finally{--b.b;b.b==0&&WB(b)}}
+function Kb(g){Db();function h(a,b,c,d,e){if(!e){e=a+' ('+b+':'+c;d&&(e+=':'+d);e+=')'}var f=ib(e);Mb(f,false)}
+;function i(a){var b=a.onerror;if(b&&!g){return}a.onerror=function(){h.apply(this,arguments);b&&b.apply(this,arguments);return false}}
+i($wnd);i(window)}
+function Tz(a,b){var c,d,e;c=(iA(a.a),a.c?(iA(a.a),a.g):null);(_c(b)===_c(c)||b!=null&&K(b,c))&&(a.d=false);if(!((_c(b)===_c(c)||b!=null&&K(b,c))&&(iA(a.a),a.c))&&!a.d){d=a.e.e;e=d.g;if(Ju(e,d)){Sz(a,b);return new vA(a,e)}else{fA(a.a,new zA(a,c,c));EB()}}return Pz}
+function cD(a){var b;if(a===null){return 5}b=typeof a;if(uE('string',b)){return 2}else if(uE('number',b)){return 3}else if(uE('boolean',b)){return 4}else if(uE(bH,b)){return Object.prototype.toString.apply(a)===cH?1:0}debugger;throw Ii(new vD('Unknown Json Type'))}
+function hv(a,b){var c,d,e,f,g;if(a.f){debugger;throw Ii(new vD('Previous tree change processing has not completed'))}try{Tu(a,true);f=fv(a,b);e=b.length;for(d=0;d<e;d++){c=b[d];if(!uE('attach',c[wH])){g=gv(a,c);!!g&&f.add(g)}}return f}finally{Tu(a,false);a.d=false}}
+function jp(a,b){if(!b){debugger;throw Ii(new uD)}switch(a.f.c){case 0:a.f=(Sp(),Rp);a.b=b;break;case 1:Zj&&($wnd.console.log('Closing push connection'),undefined);vp(a.c);a.f=(Sp(),Qp);b.C();break;case 2:case 3:throw Ii(new cE('Can not disconnect more than once'));}}
+function ow(a){var b,c,d,e,f;c=ku(a.e,20);f=Ic(Uz(TA(c,EI)),6);if(f){b=new $wnd.Function(DI,"if ( element.shadowRoot ) { return element.shadowRoot; } else { return element.attachShadow({'mode' : 'open'});}");e=Nc(b.call(null,a.b));!f.a&&pu(f,e);d=new Kx(f,e,a.a);qw(d)}}
+function dm(a,b,c){var d,e,f,g,h,i;f=b.f;if(f.c.has(1)){h=mm(b);if(h==null){return null}c.push(h)}else if(f.c.has(16)){e=km(b);if(e==null){return null}c.push(e)}if(!K(f,a)){return dm(a,f,c)}g=new ME;i='';for(d=c.length-1;d>=0;d--){LE((g.a+=i,g),Pc(c[d]));i='.'}return g.a}
+function tp(a,b){var c,d,e,f,g;if(xp()){qp(b.a)}else{f=(Ic(kk(a.d,td),8).f?(e='VAADIN/static/push/vaadinPush-min.js'):(e='VAADIN/static/push/vaadinPush.js'),e);Zj&&XC($wnd.console,'Loading '+f);d=Ic(kk(a.d,se),56);g=Ic(kk(a.d,td),8).h+f;c=new Ip(a,f,b);on(d,g,c,false,BH)}}
+function PB(a,b){var c,d,e,f,g,h;if(cD(b)==1){c=b;h=ad(fD(c[0]));switch(h){case 0:{g=ad(fD(c[1]));d=(f=g,Ic(a.a.get(f),6)).a;return d}case 1:return e=Mc(c[1]),e;case 2:return NB(ad(fD(c[1])),ad(fD(c[2])),Ic(kk(a.c,Df),32));default:throw Ii(new bE(NI+dD(c)));}}else{return b}}
+function pr(a,b){var c,d,e,f,g;Zj&&($wnd.console.log('Handling dependencies'),undefined);c=new $wnd.Map;for(e=(BC(),Dc(xc(yh,1),gH,42,0,[zC,yC,AC])),f=0,g=e.length;f<g;++f){d=e[f];hD(b,d.b!=null?d.b:''+d.c)&&c.set(d,b[d.b!=null?d.b:''+d.c])}c.size==0||Mk(Ic(kk(a.i,Sd),72),c)}
+function iv(a,b){var c,d,e,f,g;f=dv(a,b);if(EH in a){e=a[EH];g=e;_z(f,g)}else if('nodeValue' in a){d=ad(fD(a['nodeValue']));c=Hu(b.g,d);if(!c){debugger;throw Ii(new uD)}c.f=b;_z(f,c)}else{debugger;throw Ii(new vD('Change should have either value or nodeValue property: '+Ro(a)))}}
+function rp(a,b){a.g=b[VH];switch(a.f.c){case 0:a.f=(Sp(),Op);oq(Ic(kk(a.d,Oe),17));break;case 2:a.f=(Sp(),Op);if(!a.b){debugger;throw Ii(new uD)}jp(a,a.b);break;case 1:break;default:throw Ii(new cE('Got onOpen event when connection state is '+a.f+'. This should never happen.'));}}
+function ZG(a){var b,c,d,e;b=0;d=a.length;e=d-4;c=0;while(c<e){b=(QG(c+3,a.length),a.charCodeAt(c+3)+(QG(c+2,a.length),31*(a.charCodeAt(c+2)+(QG(c+1,a.length),31*(a.charCodeAt(c+1)+(QG(c,a.length),31*(a.charCodeAt(c)+31*b)))))));b=b|0;c+=4}while(c<d){b=b*31+tE(a,c++)}b=b|0;return b}
+function Zo(){Vo();if(To||!($wnd.Vaadin.Flow!=null)){Zj&&($wnd.console.warn('vaadinBootstrap.js was not loaded, skipping vaadin application configuration.'),undefined);return}To=true;$wnd.performance&&typeof $wnd.performance.now==dH?(Wm=new an):(Wm=new $m);Xm();ap((Db(),$moduleName))}
+function $b(b,c){var d,e,f,g;if(!b){debugger;throw Ii(new vD('tasks'))}for(e=0,f=b.length;e<f;e++){if(b.length!=f){debugger;throw Ii(new vD(mH+b.length+' != '+f))}g=b[e];try{g[1]?g[0].B()&&(c=Zb(c,g)):g[0].C()}catch(a){a=Hi(a);if(Sc(a,5)){d=a;Db();Mb(d,true)}else throw Ii(a)}}return c}
+function Tt(a,b){var c,d,e,f,g,h,i,j,k,l;l=Ic(kk(a.a,Xf),10);g=b.length-1;i=zc(di,gH,2,g+1,6,1);j=[];e=new $wnd.Map;for(d=0;d<g;d++){h=b[d];f=PB(l,h);j.push(f);i[d]='$'+d;k=OB(l,h);if(k){if(Wt(k)||!Vt(a,k)){fu(k,new $t(a,b));return}e.set(f,k)}}c=b[b.length-1];i[i.length-1]=c;Ut(a,i,j,e)}
+function dx(a,b,c){var d,e;if(!b.b){debugger;throw Ii(new vD(FI+b.e.d+KH))}e=ku(b.e,0);d=b.b;if(Bx(b.e)&&Lu(b.e)){Yw(a,b,c);CB(new Wx(d,e,b))}else if(Lu(b.e)){_z(TA(e,pI),(yD(),true));_w(d,e)}else{ax(d,e);Fx(Ic(kk(e.e.g.c,td),8),d,HI,(yD(),xD));om(d)&&(d.style.display='none',undefined)}}
+function W(d,b){if(b instanceof Object){try{b.__java$exception=d;if(navigator.userAgent.toLowerCase().indexOf('msie')!=-1&&$doc.documentMode<9){return}var c=d;Object.defineProperties(b,{cause:{get:function(){var a=c.u();return a&&a.s()}},suppressed:{get:function(){return c.t()}}})}catch(a){}}}
+function Aj(f,b,c){var d=f;var e=$wnd.Vaadin.Flow.clients[b];e.isActive=aH(function(){return d.S()});e.getVersionInfo=aH(function(a){return {'flow':c}});e.debug=aH(function(){var a=d.a;return a.Z().Fb().Cb()});e.getNodeInfo=aH(function(a){return {element:d.O(a),javaClass:d.Q(a),styles:d.P(a)}})}
+function tv(a,b,c,d){var e;e=b.has('leading')&&!a.e&&!a.f;if(!e&&(b.has(AI)||b.has(BI))){a.b=c;a.a=d;!b.has(BI)&&(!a.e||a.i==null)&&(a.i=d);a.g=null;a.h=null}if(b.has('leading')||b.has(AI)){!a.e&&(a.e=new Fv(a));Bv(a.e);Cv(a.e,ad(a.j))}if(!a.f&&b.has(BI)){a.f=new Hv(a,b);Dv(a.f,ad(a.j))}return e}
+function kn(a){var b,c,d,e,f,g,h,i,j,k;b=$doc;j=b.getElementsByTagName(OH);for(f=0;f<j.length;f++){c=j.item(f);k=c.src;k!=null&&k.length!=0&&a.b.add(k)}h=b.getElementsByTagName('link');for(e=0;e<h.length;e++){g=h.item(e);i=g.rel;d=g.href;(vE(PH,i)||vE('import',i))&&d!=null&&d.length!=0&&a.b.add(d)}}
+function ds(a,b,c){if(b==a.a){return}if(c){ek('Forced update of clientId to '+a.a);a.a=b;return}if(b>a.a){a.a==0?Zj&&XC($wnd.console,'Updating client-to-server id to '+b+' based on server'):fk('Server expects next client-to-server id to be '+b+' but we were going to use '+a.a+'. Will use '+b+'.');a.a=b}}
+function un(a,b,c){a.onload=aH(function(){a.onload=null;a.onerror=null;a.onreadystatechange=null;b.db(c)});a.onerror=aH(function(){a.onload=null;a.onerror=null;a.onreadystatechange=null;b.cb(c)});a.onreadystatechange=function(){('loaded'===a.readyState||'complete'===a.readyState)&&a.onload(arguments[0])}}
+function pn(a,b,c){var d,e,f;f=Po(b);d=new Gn(f);if(a.b.has(f)){!!c&&c.db(d);return}if(tn(f,c,a.a)){e=$doc.createElement('link');e.rel=PH;e.type='text/css';e.href=f;if((!Tj&&(Tj=new Vj),Tj).a.j||Wj()){ac((Qb(),new xn(a,f,d)),10)}else{un(e,new Kn(a,f),d);(!Tj&&(Tj=new Vj),Tj).a.i&&Zi(new zn(a,f,d),5000)}fn(e)}}
+function cx(a,b){var c,d,e,f,g,h;c=a.f;d=b.style;iA(a.a);if(a.c){h=(iA(a.a),Pc(a.g));e=false;if(h.indexOf('!important')!=-1){f=SC($doc,b.tagName);g=f.style;g.cssText=c+': '+h+';';if(uE('important',JC(f.style,c))){MC(d,c,KC(f.style,c),'important');e=true}}e||(d.setProperty(c,h),undefined)}else{d.removeProperty(c)}}
+function bq(a){var b,c,d,e;Wz((c=ku(Ic(kk(Ic(kk(a.c,xf),35).a,Xf),10).e,9),TA(c,_H)))!=null&&Xj('reconnectingText',Wz((d=ku(Ic(kk(Ic(kk(a.c,xf),35).a,Xf),10).e,9),TA(d,_H))));Wz((e=ku(Ic(kk(Ic(kk(a.c,xf),35).a,Xf),10).e,9),TA(e,aI)))!=null&&Xj('offlineText',Wz((b=ku(Ic(kk(Ic(kk(a.c,xf),35).a,Xf),10).e,9),TA(b,aI))))}
+function hm(a,b){var c,d,e,f,g;c=Gz(a).children;e=-1;for(f=0;f<c.length;f++){g=c.item(f);if(!g){debugger;throw Ii(new vD('Unexpected element type in the collection of children. DomElement::getChildren is supposed to return Element chidren only, but got '+Qc(g)))}d=g;vE('style',d.tagName)||++e;if(e==b){return g}}return null}
+function Xn(a,b,c,d,e,f){var g,h,i;if(b==null&&c==null&&d==null){Ic(kk(a.a,td),8).l?(h=Ic(kk(a.a,td),8).h+'web-component/web-component-bootstrap.js',i=EC(h,'v-r=webcomponent-resync'),$B(i,new _n(a)),undefined):Qo(e);return}g=Un(b,c,d,f);if(!Ic(kk(a.a,td),8).l){FC(g,'click',new ho(e),false);FC($doc,'keydown',new jo(e),false)}}
+function lw(a,b,c){var d,e,f,g,h,i,j,k;j=ju(b.e,2);if(a==0){d=lx(j,b.b)}else if(a<=(iA(j.a),j.c.length)&&a>0){k=Fw(a,b);d=!k?null:Gz(k.a).nextSibling}else{d=null}for(g=0;g<c.length;g++){i=c[g];h=Ic(i,6);f=Ic(kk(h.g.c,Vd),58);e=Hl(f,h.d);if(e){Il(f,h.d);pu(h,e);pv(h)}else{e=pv(h);Gz(b.b).insertBefore(e,d)}d=Gz(e).nextSibling}}
+function Ew(b,c){var d,e,f,g,h;if(!c){return -1}try{h=Gz(Nc(c));f=[];f.push(b);for(e=0;e<f.length;e++){g=Ic(f[e],6);if(h.isSameNode(g.a)){return g.d}FA(ju(g,2),Si(Yy.prototype.fb,Yy,[f]))}h=Gz(h.parentNode);return nx(f,h)}catch(a){a=Hi(a);if(Sc(a,7)){d=a;$j(GI+c+', which was the event.target. Error: '+d.v())}else throw Ii(a)}return -1}
+function nr(a){if(a.j.size==0){fk('Gave up waiting for message '+(a.f+1)+' from the server')}else{Zj&&($wnd.console.warn('WARNING: reponse handling was never resumed, forcibly removing locks...'),undefined);a.j.clear()}if(!sr(a)&&a.g.length!=0){vz(a.g);$r(Ic(kk(a.i,nf),19));Ic(kk(a.i,zf),16).b&&Os(Ic(kk(a.i,zf),16));_r(Ic(kk(a.i,nf),19))}}
+function Ik(a,b,c){var d,e;e=Ic(kk(a.a,se),56);d=c==(BC(),zC);switch(b.c){case 0:if(d){return new Tk(e)}return new Yk(e);case 1:if(d){return new bl(e)}return new rl(e);case 2:if(d){throw Ii(new bE('Inline load mode is not supported for JsModule.'))}return new tl(e);case 3:return new dl;default:throw Ii(new bE('Unknown dependency type '+b));}}
+function xr(b,c){var d,e,f,g;f=Ic(kk(b.i,Xf),10);g=hv(f,c['changes']);if(!Ic(kk(b.i,td),8).f){try{d=iu(f.e);Zj&&($wnd.console.log('StateTree after applying changes:'),undefined);Zj&&XC($wnd.console,d)}catch(a){a=Hi(a);if(Sc(a,7)){e=a;Zj&&($wnd.console.error('Failed to log state tree'),undefined);Zj&&WC($wnd.console,e)}else throw Ii(a)}}DB(new Tr(g))}
+function aw(n,k,l,m){_v();n[k]=aH(function(c){var d=Object.getPrototypeOf(this);d[k]!==undefined&&d[k].apply(this,arguments);var e=c||$wnd.event;var f=l.Db();var g=bw(this,e,k,l);g===null&&(g=Array.prototype.slice.call(arguments));var h;var i=-1;if(m){var j=this['}p'].promises;i=j.length;h=new Promise(function(a,b){j[i]=[a,b]})}f.Gb(l,k,g,i);return h})}
+function Hk(a,b,c){var d,e,f,g,h;f=new $wnd.Map;for(e=0;e<c.length;e++){d=c[e];h=(tC(),Co((xC(),wC),d[wH]));g=Ik(a,h,b);if(h==pC){Nk(d['url'],g)}else{switch(b.c){case 1:Nk(Mo(Ic(kk(a.a,Ee),49),d['url']),g);break;case 2:f.set(Mo(Ic(kk(a.a,Ee),49),d['url']),g);break;case 0:Nk(d['contents'],g);break;default:throw Ii(new bE('Unknown load mode = '+b));}}}return f}
+function CE(a,b){var c,d,e,f,g,h,i,j;c=new RegExp(b,'g');i=zc(di,gH,2,0,6,1);d=0;j=a;f=null;while(true){h=c.exec(j);if(h==null||j==''){i[d]=j;break}else{g=h.index;i[d]=j.substr(0,g);j=EE(j,g+h[0].length,j.length);c.lastIndex=0;if(f==j){i[d]=j.substr(0,1);j=j.substr(1)}f=j;++d}}if(a.length>0){e=i.length;while(e>0&&i[e-1]==''){--e}e<i.length&&(i.length=e)}return i}
+function cq(a,b){if(Ic(kk(a.c,De),12).b!=(Go(),Eo)){Zj&&($wnd.console.warn('Trying to reconnect after application has been stopped. Giving up'),undefined);return}if(b){Zj&&($wnd.console.log('Re-sending last message to the server...'),undefined);as(Ic(kk(a.c,nf),19),b)}else{Zj&&($wnd.console.log('Trying to re-establish server connection...'),undefined);Qq(Ic(kk(a.c,Ye),55))}}
+function ZD(a){var b,c,d,e,f;if(a==null){throw Ii(new oE(jH))}d=a.length;e=d>0&&(QG(0,a.length),a.charCodeAt(0)==45||(QG(0,a.length),a.charCodeAt(0)==43))?1:0;for(b=e;b<d;b++){if(BD((QG(b,a.length),a.charCodeAt(b)))==-1){throw Ii(new oE(ZI+a+'"'))}}f=parseInt(a,10);c=f<-2147483648;if(isNaN(f)){throw Ii(new oE(ZI+a+'"'))}else if(c||f>2147483647){throw Ii(new oE(ZI+a+'"'))}return f}
+function ex(a,b,c,d){var e,f,g,h,i;i=ju(a,24);for(f=0;f<(iA(i.a),i.c.length);f++){e=Ic(i.c[f],6);if(e==b){continue}if(uE((h=ku(b,0),dD(Nc(Uz(TA(h,qI))))),(g=ku(e,0),dD(Nc(Uz(TA(g,qI))))))){fk('There is already a request to attach element addressed by the '+d+". The existing request's node id='"+e.d+"'. Cannot attach the same element twice.");Ru(b.g,a,b.d,e.d,c);return false}}return true}
+function Xr(a){var b,c,d;d=Ic(kk(a.c,Hf),34);if(d.c.length==0&&a.d!=1){return}c=d.c;d.c=[];d.b=false;d.a=nt;if(c.length==0&&a.d!=1){Zj&&($wnd.console.warn('All RPCs filtered out, not sending anything to the server'),undefined);return}b={};if(a.d==1){a.d=2;Zj&&($wnd.console.log('Resynchronizing from server'),undefined);b[cI]=Object(true)}Yj('loading');Rs(Ic(kk(a.c,zf),16));as(a,Zr(a,c,b))}
+function wc(a,b){var c;switch(yc(a)){case 6:return Xc(b);case 7:return Uc(b);case 8:return Tc(b);case 3:return Array.isArray(b)&&(c=yc(b),!(c>=14&&c<=16));case 11:return b!=null&&Yc(b);case 12:return b!=null&&(typeof b===bH||typeof b==dH);case 0:return Hc(b,a.__elementTypeId$);case 2:return Zc(b)&&!(b.kc===Vi);case 1:return Zc(b)&&!(b.kc===Vi)||Hc(b,a.__elementTypeId$);default:return true;}}
+function vl(b,c){if(document.body.$&&document.body.$.hasOwnProperty&&document.body.$.hasOwnProperty(c)){return document.body.$[c]}else if(b.shadowRoot){return b.shadowRoot.getElementById(c)}else if(b.getElementById){return b.getElementById(c)}else if(c&&c.match('^[a-zA-Z0-9-_]*$')){return b.querySelector('#'+c)}else{return Array.from(b.querySelectorAll('[id]')).find(function(a){return a.id==c})}}
+function sp(a,b){var c,d;if(!np(a)){throw Ii(new cE('This server to client push connection should not be used to send client to server messages'))}if(a.f==(Sp(),Op)){d=Ro(b);ek('Sending push ('+a.g+') message to server: '+d);if(uE(a.g,UH)){c=new Np(d);while(c.a<c.b.length){lp(a.e,Mp(c))}}else{lp(a.e,d)}return}if(a.f==Pp){nq(Ic(kk(a.d,Oe),17),b);return}throw Ii(new cE('Can not push after disconnecting'))}
+function fq(a,b,c){var d;if(Ic(kk(a.c,De),12).b!=(Go(),Eo)){return}Yj('reconnecting');if(a.b){if(Fq(b,a.b)){Zj&&YC($wnd.console,'Now reconnecting because of '+b+' failure');a.b=b}}else{a.b=b;Zj&&YC($wnd.console,'Reconnecting because of '+b+' failure')}if(a.b!=b){return}++a.a;ek('Reconnect attempt '+a.a+' for '+b);a.a>=Vz((d=ku(Ic(kk(Ic(kk(a.c,xf),35).a,Xf),10).e,9),TA(d,'reconnectAttempts')),10000)?dq(a):tq(a,c)}
+function xl(a,b,c,d){var e,f,g,h,i,j,k,l,m,n,o,p,q,r;j=null;g=Gz(a.a).childNodes;o=new $wnd.Map;e=!b;i=-1;for(m=0;m<g.length;m++){q=Nc(g[m]);o.set(q,hE(m));K(q,b)&&(e=true);if(e&&!!q&&vE(c,q.tagName)){j=q;i=m;break}}if(!j){Qu(a.g,a,d,-1,c,-1)}else{p=ju(a,2);k=null;f=0;for(l=0;l<(iA(p.a),p.c.length);l++){r=Ic(p.c[l],6);h=r.a;n=Ic(o.get(h),25);!!n&&n.a<i&&++f;if(K(h,j)){k=hE(r.d);break}}k=yl(a,d,j,k);Qu(a.g,a,d,k.a,j.tagName,f)}}
+function jv(a,b){var c,d,e,f,g,h,i,j,k,l,m,n,o,p,q;n=ad(fD(a[xI]));m=ju(b,n);i=ad(fD(a['index']));yI in a?(o=ad(fD(a[yI]))):(o=0);if('add' in a){d=a['add'];c=(j=Mc(d),j);HA(m,i,o,c)}else if('addNodes' in a){e=a['addNodes'];l=e.length;c=[];q=b.g;for(h=0;h<l;h++){g=ad(fD(e[h]));f=(k=g,Ic(q.a.get(k),6));if(!f){debugger;throw Ii(new vD('No child node found with id '+g))}f.f=b;c[h]=f}HA(m,i,o,c)}else{p=m.c.splice(i,o);fA(m.a,new Nz(m,i,p,[],false))}}
+function gv(a,b){var c,d,e,f,g,h,i;g=b[wH];e=ad(fD(b[lI]));d=(c=e,Ic(a.a.get(c),6));if(!d&&a.d){return d}if(!d){debugger;throw Ii(new vD('No attached node found'))}switch(g){case 'empty':ev(b,d);break;case 'splice':jv(b,d);break;case 'put':iv(b,d);break;case yI:f=dv(b,d);$z(f);break;case 'detach':Uu(d.g,d);d.f=null;break;case 'clear':h=ad(fD(b[xI]));i=ju(d,h);EA(i);break;default:{debugger;throw Ii(new vD('Unsupported change type: '+g))}}return d}
+function cm(a){var b,c,d,e,f;if(Sc(a,6)){e=Ic(a,6);d=null;if(e.c.has(1)){d=ku(e,1)}else if(e.c.has(16)){d=ju(e,16)}else if(e.c.has(23)){return cm(TA(ku(e,23),EH))}if(!d){debugger;throw Ii(new vD("Don't know how to convert node without map or list features"))}b=d.Rb(new ym);if(!!b&&!(HH in b)){b[HH]=gD(e.d);um(e,d,b)}return b}else if(Sc(a,14)){f=Ic(a,14);if(f.e.d==23){return cm((iA(f.a),f.g))}else{c={};c[f.f]=cm((iA(f.a),f.g));return c}}else{return a}}
+function kp(f,c,d){var e=f;d.url=c;d.onOpen=aH(function(a){e.ub(a)});d.onReopen=aH(function(a){e.wb(a)});d.onMessage=aH(function(a){e.tb(a)});d.onError=aH(function(a){e.sb(a)});d.onTransportFailure=aH(function(a,b){e.xb(a)});d.onClose=aH(function(a){e.rb(a)});d.onReconnect=aH(function(a,b){e.vb(a,b)});d.onClientTimeout=aH(function(a){e.qb(a)});d.headers={'X-Vaadin-LastSeenServerSyncId':function(){return e.pb()}};return $wnd.vaadinPush.atmosphere.subscribe(d)}
+function St(h,e,f){var g={};g.getNode=aH(function(a){var b=e.get(a);if(b==null){throw new ReferenceError('There is no a StateNode for the given argument.')}return b});g.$appId=h.Bb().replace(/-\d+$/,'');g.registry=h.a;g.attachExistingElement=aH(function(a,b,c,d){xl(g.getNode(a),b,c,d)});g.populateModelProperties=aH(function(a,b){Al(g.getNode(a),b)});g.registerUpdatableModelProperties=aH(function(a,b){Cl(g.getNode(a),b)});g.stopApplication=aH(function(){f.I()});return g}
+function Fx(a,b,c,d){var e,f,g,h,i;if(d==null||Xc(d)){So(b,c,Pc(d))}else{f=d;if(0==cD(f)){g=f;if(!('uri' in g)){debugger;throw Ii(new vD("Implementation error: JsonObject is recieved as an attribute value for '"+c+"' but it has no "+'uri'+' key'))}i=g['uri'];if(a.l&&!i.match(/^(?:[a-zA-Z]+:)?\/\//)){e=a.h;e=(h='/'.length,uE(e.substr(e.length-h,h),'/')?e:e+'/');Gz(b).setAttribute(c,e+(''+i))}else{i==null?Gz(b).removeAttribute(c):Gz(b).setAttribute(c,i)}}else{So(b,c,Ui(d))}}}
+function Jw(a,b,c){var d,e,f,g,h,i,j,k,l,m,n,o,p;p=Ic(c.e.get(Qg),77);if(!p||!p.a.has(a)){return}k=CE(a,'\\.');g=c;f=null;e=0;j=k.length;for(m=k,n=0,o=m.length;n<o;++n){l=m[n];d=ku(g,1);if(!VA(d,l)&&e<j-1){Zj&&VC($wnd.console,"Ignoring property change for property '"+a+"' which isn't defined from server");return}f=TA(d,l);Sc((iA(f.a),f.g),6)&&(g=(iA(f.a),Ic(f.g,6)));++e}if(Sc((iA(f.a),f.g),6)){h=(iA(f.a),Ic(f.g,6));i=Nc(b.a[b.b]);if(!(HH in i)||h.c.has(16)){return}}Tz(f,b.a[b.b]).I()}
+function Dj(a){var b,c,d,e,f,g,h,i;this.a=new vk(this,a);T((Ic(kk(this.a,ye),22),new Lj));f=Ic(kk(this.a,Xf),10).e;ks(f,Ic(kk(this.a,rf),73));new GB(new Ls(Ic(kk(this.a,Oe),17)));h=ku(f,10);$q(h,'first',new br,450);$q(h,'second',new dr,1500);$q(h,'third',new fr,5000);i=TA(h,'theme');Rz(i,new hr);c=$doc.body;pu(f,c);nv(f,c);ek('Starting application '+a.a);b=a.a;b=BE(b,'-\\d+$','');d=a.f;e=a.g;Bj(this,b,d,e,a.c);if(!d){g=a.i;Aj(this,b,g);Zj&&XC($wnd.console,'Vaadin application servlet version: '+g)}Yj('loading')}
+function rr(a,b){var c,d;if(!b){throw Ii(new bE('The json to handle cannot be null'))}if((bI in b?b[bI]:-1)==-1){c=b['meta'];(!c||!(iI in c))&&Zj&&($wnd.console.error("Response didn't contain a server id. Please verify that the server is up-to-date and that the response data has not been modified in transmission."),undefined)}d=Ic(kk(a.i,De),12).b;if(d==(Go(),Do)){d=Eo;qo(Ic(kk(a.i,De),12),d)}d==Eo?qr(a,b):Zj&&($wnd.console.warn('Ignored received message because application has already been stopped'),undefined)}
+function Wb(a){var b,c,d,e,f,g,h;if(!a){debugger;throw Ii(new vD('tasks'))}f=a.length;if(f==0){return null}b=false;c=new R;while(xb()-c.a<16){d=false;for(e=0;e<f;e++){if(a.length!=f){debugger;throw Ii(new vD(mH+a.length+' != '+f))}h=a[e];if(!h){continue}d=true;if(!h[1]){debugger;throw Ii(new vD('Found a non-repeating Task'))}if(!h[0].B()){a[e]=null;b=true}}if(!d){break}}if(b){g=[];for(e=0;e<f;e++){!!a[e]&&(g[g.length]=a[e],undefined)}if(g.length>=f){debugger;throw Ii(new uD)}return g.length==0?null:g}else{return a}}
+function ox(a,b,c,d,e){var f,g,h;h=Hu(e,ad(a));if(!h.c.has(1)){return}if(!jx(h,b)){debugger;throw Ii(new vD('Host element is not a parent of the node whose property has changed. This is an implementation error. Most likely it means that there are several StateTrees on the same page (might be possible with portlets) and the target StateTree should not be passed into the method as an argument but somehow detected from the host element. Another option is that host element is calculated incorrectly.'))}f=ku(h,1);g=TA(f,c);Tz(g,d).I()}
+function Un(a,b,c,d){var e,f,g,h,i,j;h=$doc;j=h.createElement('div');j.className='v-system-error';if(a!=null){f=h.createElement('div');f.className='caption';f.textContent=a;j.appendChild(f);Zj&&WC($wnd.console,a)}if(b!=null){i=h.createElement('div');i.className='message';i.textContent=b;j.appendChild(i);Zj&&WC($wnd.console,b)}if(c!=null){g=h.createElement('div');g.className='details';g.textContent=c;j.appendChild(g);Zj&&WC($wnd.console,c)}if(d!=null){e=h.querySelector(d);!!e&&OC(Nc(AF(EF(e.shadowRoot),e)),j)}else{PC(h.body,j)}return j}
+function _o(a,b){var c,d,e;c=hp(b,'serviceUrl');xj(a,fp(b,'webComponentMode'));if(c==null){tj(a,Po('.'));nj(a,Po(hp(b,RH)))}else{a.h=c;nj(a,Po(c+(''+hp(b,RH))))}wj(a,gp(b,'v-uiId').a);pj(a,gp(b,'heartbeatInterval').a);qj(a,gp(b,'maxMessageSuspendTimeout').a);uj(a,(d=b.getConfig(SH),d?d.vaadinVersion:null));e=b.getConfig(SH);ep();vj(a,b.getConfig('sessExpMsg'));rj(a,!fp(b,'debug'));sj(a,fp(b,'requestTiming'));oj(a,b.getConfig('webcomponents'));fp(b,'devToolsEnabled');hp(b,'liveReloadUrl');hp(b,'liveReloadBackend');hp(b,'springBootLiveReloadPort')}
+function qc(a,b){var c,d,e,f,g,h,i,j,k;j='';if(b.length==0){return a.G(pH,nH,-1,-1)}k=FE(b);uE(k.substr(0,3),'at ')&&(k=k.substr(3));k=k.replace(/\[.*?\]/g,'');g=k.indexOf('(');if(g==-1){g=k.indexOf('@');if(g==-1){j=k;k=''}else{j=FE(k.substr(g+1));k=FE(k.substr(0,g))}}else{c=k.indexOf(')',g);j=k.substr(g+1,c-(g+1));k=FE(k.substr(0,g))}g=wE(k,GE(46));g!=-1&&(k=k.substr(g+1));(k.length==0||uE(k,'Anonymous function'))&&(k=nH);h=yE(j,GE(58));e=zE(j,GE(58),h-1);i=-1;d=-1;f=pH;if(h!=-1&&e!=-1){f=j.substr(0,e);i=kc(j.substr(e+1,h-(e+1)));d=kc(j.substr(h+1))}return a.G(f,k,i,d)}
+function vk(a,b){this.a=new $wnd.Map;this.b=new $wnd.Map;nk(this,yd,a);nk(this,td,b);nk(this,se,new rn(this));nk(this,Ee,new No(this));nk(this,Sd,new Pk(this));nk(this,ye,new Zn(this));ok(this,De,new wk);nk(this,Xf,new Vu(this));nk(this,zf,new Ss(this));nk(this,lf,new Br(this));nk(this,nf,new fs(this));nk(this,Hf,new st(this));nk(this,Df,new kt(this));nk(this,Sf,new Yt(this));ok(this,Of,new yk);ok(this,Vd,new Ak);nk(this,Xd,new Sl(this));nk(this,Ye,new Sq(this));nk(this,Oe,new yq(this));nk(this,Nf,new Bt(this));nk(this,vf,new zs(this));nk(this,xf,new Ks(this));nk(this,rf,new qs(this))}
+function nw(a,b){var c,d,e,f,g,h;g=(e=ku(b,0),Nc(Uz(TA(e,qI))));h=g[wH];if(uE('inMemory',h)){pv(b);return}if(!a.b){debugger;throw Ii(new vD('Unexpected html node. The node is supposed to be a custom element'))}if(uE('@id',h)){if($l(a.b)){_l(a.b,new ky(a,b,g));return}else if(!(typeof a.b.$!=lH)){bm(a.b,new my(a,b,g));return}Iw(a,b,g,true)}else if(uE(rI,h)){if(!a.b.root){bm(a.b,new oy(a,b,g));return}Kw(a,b,g,true)}else if(uE('@name',h)){f=g[qI];c="name='"+f+"'";d=new qy(a,f);if(!ux(d.a,d.b)){cn(a.b,f,new sy(a,b,d,f,c));return}Bw(a,b,true,d,f,c)}else{debugger;throw Ii(new vD('Unexpected payload type '+h))}}
+function wb(b){var c=function(a){return typeof a!=lH};var d=function(a){return a.replace(/\r\n/g,'')};if(c(b.outerHTML))return d(b.outerHTML);c(b.innerHTML)&&b.cloneNode&&$doc.createElement('div').appendChild(b.cloneNode(true)).innerHTML;if(c(b.nodeType)&&b.nodeType==3){return "'"+b.data.replace(/ /g,'\u25AB').replace(/\u00A0/,'\u25AA')+"'"}if(typeof c(b.htmlText)&&b.collapse){var e=b.htmlText;if(e){return 'IETextRange ['+d(e)+']'}else{var f=b.duplicate();f.pasteHTML('|');var g='IETextRange '+d(b.parentElement().outerHTML);f.moveStart('character',-1);f.pasteHTML('');return g}}return b.toString?b.toString():'[JavaScriptObject]'}
+function um(a,b,c){var d,e,f;f=[];if(a.c.has(1)){if(!Sc(b,41)){debugger;throw Ii(new vD('Received an inconsistent NodeFeature for a node that has a ELEMENT_PROPERTIES feature. It should be NodeMap, but it is: '+b))}e=Ic(b,41);SA(e,Si(Om.prototype.bb,Om,[f,c]));f.push(RA(e,new Km(f,c)))}else if(a.c.has(16)){if(!Sc(b,28)){debugger;throw Ii(new vD('Received an inconsistent NodeFeature for a node that has a TEMPLATE_MODELLIST feature. It should be NodeList, but it is: '+b))}d=Ic(b,28);f.push(DA(d,new Em(c)))}if(f.length==0){debugger;throw Ii(new vD('Node should have ELEMENT_PROPERTIES or TEMPLATE_MODELLIST feature'))}f.push(gu(a,new Im(f)))}
+function fx(a,b,c,d,e){var f,g,h,i,j,k,l,m,n,o;l=e.e;o=Pc(Uz(TA(ku(b,0),'tag')));h=false;if(!a){h=true;Zj&&YC($wnd.console,JI+d+" is not found. The requested tag name is '"+o+"'")}else if(!(!!a&&vE(o,a.tagName))){h=true;fk(JI+d+" has the wrong tag name '"+a.tagName+"', the requested tag name is '"+o+"'")}if(h){Ru(l.g,l,b.d,-1,c);return false}if(!l.c.has(20)){return true}k=ku(l,20);m=Ic(Uz(TA(k,EI)),6);if(!m){return true}j=ju(m,2);g=null;for(i=0;i<(iA(j.a),j.c.length);i++){n=Ic(j.c[i],6);f=n.a;if(K(f,a)){g=hE(n.d);break}}if(g){Zj&&YC($wnd.console,JI+d+" has been already attached previously via the node id='"+g+"'");Ru(l.g,l,b.d,g.a,c);return false}return true}
+function Ut(b,c,d,e){var f,g,h,i,j,k,l,m,n;if(c.length!=d.length+1){debugger;throw Ii(new uD)}try{j=new ($wnd.Function.bind.apply($wnd.Function,[null].concat(c)));j.apply(St(b,e,new cu(b)),d)}catch(a){a=Hi(a);if(Sc(a,7)){i=a;_j(new gk(i));Zj&&($wnd.console.error('Exception is thrown during JavaScript execution. Stacktrace will be dumped separately.'),undefined);if(!Ic(kk(b.a,td),8).f){g=new OE('[');h='';for(l=c,m=0,n=l.length;m<n;++m){k=l[m];LE((g.a+=h,g),k);h=', '}g.a+=']';f=g.a;QG(0,f.length);f.charCodeAt(0)==91&&(f=f.substr(1));tE(f,f.length-1)==93&&(f=EE(f,0,f.length-1));Zj&&WC($wnd.console,"The error has occurred in the JS code: '"+f+"'")}}else throw Ii(a)}}
+function pw(a,b,c,d){var e,f,g,h,i,j,k;g=Lu(b);i=Pc(Uz(TA(ku(b,0),'tag')));if(!(i==null||vE(c.tagName,i))){debugger;throw Ii(new vD("Element tag name is '"+c.tagName+"', but the required tag name is "+Pc(Uz(TA(ku(b,0),'tag')))))}jw==null&&(jw=wz());if(jw.has(b)){return}jw.set(b,(yD(),true));f=new Kx(b,c,d);e=[];h=[];if(g){h.push(sw(f));h.push(Uv(new Wy(f),f.e,17,false));h.push((j=ku(f.e,4),SA(j,Si(Gy.prototype.bb,Gy,[f])),RA(j,new Iy(f))));h.push(xw(f));h.push(qw(f));h.push(ww(f));h.push(rw(c,b));h.push(uw(12,new Mx(c),Aw(e),b));h.push(uw(3,new Ox(c),Aw(e),b));h.push(uw(1,new iy(c),Aw(e),b));vw(a,b,c);h.push(gu(b,new Cy(h,f,e)))}h.push(yw(h,f,e));k=new Lx(b);b.e.set(eg,k);DB(new Uy(b))}
+function Bj(k,e,f,g,h){var i=k;var j={};j.isActive=aH(function(){return i.S()});j.getByNodeId=aH(function(a){return i.O(a)});j.getNodeId=aH(function(a){return i.R(a)});j.getUIId=aH(function(){var a=i.a.V();return a.M()});j.addDomBindingListener=aH(function(a,b){i.N(a,b)});j.productionMode=f;j.poll=aH(function(){var a=i.a.X();a.yb()});j.connectWebComponent=aH(function(a){var b=i.a;var c=b.Y();var d=b.Z().Fb().d;c.zb(d,'connect-web-component',a)});g&&(j.getProfilingData=aH(function(){var a=i.a.W();var b=[a.e,a.l];null!=a.k?(b=b.concat(a.k)):(b=b.concat(-1,-1));b[b.length]=a.a;return b}));j.resolveUri=aH(function(a){var b=i.a._();return b.ob(a)});j.sendEventMessage=aH(function(a,b,c){var d=i.a.Y();d.zb(a,b,c)});j.initializing=false;j.exportedWebComponents=h;$wnd.Vaadin.Flow.clients[e]=j}
+function up(a){var b,c,d,e;this.f=(Sp(),Pp);this.d=a;po(Ic(kk(a,De),12),new Vp(this));this.a={transport:UH,maxStreamingLength:1000000,fallbackTransport:'long-polling',contentType:WH,reconnectInterval:5000,timeout:-1,maxReconnectOnClose:10000000,trackMessageLength:true,enableProtocol:true,handleOnlineOffline:false,executeCallbackBeforeReconnect:true,messageDelimiter:String.fromCharCode(124)};this.a['logLevel']='debug';ws(Ic(kk(this.d,vf),48)).forEach(Si(Zp.prototype.bb,Zp,[this]));c=xs(Ic(kk(this.d,vf),48));if(c==null||FE(c).length==0||uE('/',c)){this.h=XH;d=Ic(kk(a,td),8).h;if(!uE(d,'.')){e='/'.length;uE(d.substr(d.length-e,e),'/')||(d+='/');this.h=d+(''+this.h)}}else{b=Ic(kk(a,td),8).b;e='/'.length;uE(b.substr(b.length-e,e),'/')&&uE(c.substr(0,1),'/')&&(c=c.substr(1));this.h=b+(''+c)+XH}tp(this,new _p(this))}
+function yr(a,b,c,d){var e,f,g,h,i,j,k,l,m;if(!((bI in b?b[bI]:-1)==-1||(bI in b?b[bI]:-1)==a.f)){debugger;throw Ii(new uD)}try{k=xb();i=b;if('constants' in i){e=Ic(kk(a.i,Of),57);f=i['constants'];Pt(e,f)}'changes' in i&&xr(a,i);dI in i&&DB(new Pr(a,i));ek('handleUIDLMessage: '+(xb()-k)+' ms');EB();j=b['meta'];if(j){m=Ic(kk(a.i,De),12).b;if(iI in j){if(m!=(Go(),Fo)){Vn(Ic(kk(a.i,ye),22),null);qo(Ic(kk(a.i,De),12),Fo)}}else if('appError' in j&&m!=(Go(),Fo)){g=j['appError'];Xn(Ic(kk(a.i,ye),22),g['caption'],g['message'],g['details'],g['url'],g['querySelector']);qo(Ic(kk(a.i,De),12),(Go(),Fo))}}a.e=ad(xb()-d);a.l+=a.e;if(!a.d){a.d=true;h=Dr();if(h!=0){l=ad(xb()-h);Zj&&XC($wnd.console,'First response processed '+l+' ms after fetchStart')}a.a=Cr()}}finally{ek(' Processing time was '+(''+a.e)+'ms');ur(b)&&Os(Ic(kk(a.i,zf),16));Ar(a,c)}}
+function Hw(a,b){var c,d,e,f,g,h,i,j,k,l,m,n,o,p,q,r,s,t,u,v,w,A,B,C,D,F,G;if(!b){debugger;throw Ii(new uD)}f=b.b;t=b.e;if(!f){debugger;throw Ii(new vD('Cannot handle DOM event for a Node'))}D=a.type;s=ku(t,4);e=Ic(kk(t.g.c,Of),57);i=Pc(Uz(TA(s,D)));if(i==null){debugger;throw Ii(new uD)}if(!Ot(e,i)){debugger;throw Ii(new uD)}j=Nc(Nt(e,i));p=(A=iD(j),A);B=new $wnd.Set;p.length==0?(g=null):(g={});for(l=p,m=0,n=l.length;m<n;++m){k=l[m];if(uE(k.substr(0,1),'}')){u=k.substr(1);B.add(u)}else if(uE(k,']')){C=Ew(t,a.target);g[']']=Object(C)}else if(uE(k.substr(0,1),']')){r=k.substr(1);h=mx(r);o=h(a,f);C=Dw(t.g,o,r);g[k]=Object(C)}else{h=mx(k);o=h(a,f);g[k]=o}}d=new $wnd.Map;B.forEach(Si(Oy.prototype.fb,Oy,[d,b]));v=new Qy(t,D,g);w=Dx(f,D,j,g,v,d);if(w){c=false;q=B.size==0;q&&(c=gF((sv(),F=new iF,G=Si(Jv.prototype.bb,Jv,[F]),rv.forEach(G),F),v,0)!=-1);if(!c){Az(d).forEach(Si(Ix.prototype.fb,Ix,[]));Ex(v.b,v.c,v.a,null)}}}
+function Gu(a,b){if(a.b==null){a.b=new $wnd.Map;a.b.set(hE(0),'elementData');a.b.set(hE(1),'elementProperties');a.b.set(hE(2),'elementChildren');a.b.set(hE(3),'elementAttributes');a.b.set(hE(4),'elementListeners');a.b.set(hE(5),'pushConfiguration');a.b.set(hE(6),'pushConfigurationParameters');a.b.set(hE(7),'textNode');a.b.set(hE(8),'pollConfiguration');a.b.set(hE(9),'reconnectDialogConfiguration');a.b.set(hE(10),'loadingIndicatorConfiguration');a.b.set(hE(11),'classList');a.b.set(hE(12),'elementStyleProperties');a.b.set(hE(15),'componentMapping');a.b.set(hE(16),'modelList');a.b.set(hE(17),'polymerServerEventHandlers');a.b.set(hE(18),'polymerEventListenerMap');a.b.set(hE(19),'clientDelegateHandlers');a.b.set(hE(20),'shadowRootData');a.b.set(hE(21),'shadowRootHost');a.b.set(hE(22),'attachExistingElementFeature');a.b.set(hE(24),'virtualChildrenList');a.b.set(hE(23),'basicTypeValue')}return a.b.has(hE(b))?Pc(a.b.get(hE(b))):'Unknown node feature: '+b}
+function qr(a,b){var c,d,e,f,g,h,i,j,k,l,m,n;j=bI in b?b[bI]:-1;e=cI in b;if(!e&&Ic(kk(a.i,nf),19).d==2){g=b;if(dI in g){d=g[dI];for(f=0;f<d.length;f++){c=d[f];if(c.length>0&&uE('window.location.reload();',c[0])){Zj&&($wnd.console.warn('Executing forced page reload while a resync request is ongoing.'),undefined);$wnd.location.reload();return}}}Zj&&($wnd.console.warn('Ignoring message from the server as a resync request is ongoing.'),undefined);return}Ic(kk(a.i,nf),19).d=0;if(e&&!tr(a,j)){ek('Received resync message with id '+j+' while waiting for '+(a.f+1));a.f=j-1;zr(a)}i=a.j.size!=0;if(i||!tr(a,j)){if(i){Zj&&($wnd.console.log('Postponing UIDL handling due to lock...'),undefined)}else{if(j<=a.f){fk(eI+j+' but have already seen '+a.f+'. Ignoring it');ur(b)&&Os(Ic(kk(a.i,zf),16));return}ek(eI+j+' but expected '+(a.f+1)+'. Postponing handling until the missing message(s) have been received')}a.g.push(new Mr(b));if(!a.c.f){m=Ic(kk(a.i,td),8).e;Zi(a.c,m)}return}cI in b&&Nu(Ic(kk(a.i,Xf),10));l=xb();h=new I;a.j.add(h);Zj&&($wnd.console.log('Handling message from server'),undefined);Ps(Ic(kk(a.i,zf),16),new at);if(fI in b){k=b[fI];ds(Ic(kk(a.i,nf),19),k,cI in b)}j!=-1&&(a.f=j);if('redirect' in b){n=b['redirect']['url'];Zj&&XC($wnd.console,'redirecting to '+n);Qo(n);return}gI in b&&(a.b=b[gI]);hI in b&&(a.h=b[hI]);pr(a,b);a.d||Ok(Ic(kk(a.i,Sd),72));'timings' in b&&(a.k=b['timings']);Sk(new Gr);Sk(new Nr(a,b,h,l))}
+function mC(b){var c,d,e,f,g;b=b.toLowerCase();this.e=b.indexOf('gecko')!=-1&&b.indexOf('webkit')==-1&&b.indexOf(SI)==-1;b.indexOf(' presto/')!=-1;this.k=b.indexOf(SI)!=-1;this.l=!this.k&&b.indexOf('applewebkit')!=-1;this.b=b.indexOf(' chrome/')!=-1||b.indexOf(' crios/')!=-1||b.indexOf(RI)!=-1;this.i=b.indexOf('opera')!=-1;this.f=b.indexOf('msie')!=-1&&!this.i&&b.indexOf('webtv')==-1;this.f=this.f||this.k;this.j=!this.b&&!this.f&&b.indexOf('safari')!=-1;this.d=b.indexOf(' firefox/')!=-1;if(b.indexOf(' edge/')!=-1||b.indexOf(' edg/')!=-1||b.indexOf(TI)!=-1||b.indexOf(UI)!=-1){this.c=true;this.b=false;this.i=false;this.f=false;this.j=false;this.d=false;this.l=false;this.e=false}try{if(this.e){f=b.indexOf('rv:');if(f>=0){g=b.substr(f+3);g=BE(g,VI,'$1');this.a=aE(g)}}else if(this.l){g=DE(b,b.indexOf('webkit/')+7);g=BE(g,WI,'$1');this.a=aE(g)}else if(this.k){g=DE(b,b.indexOf(SI)+8);g=BE(g,WI,'$1');this.a=aE(g);this.a>7&&(this.a=7)}else this.c&&(this.a=0)}catch(a){a=Hi(a);if(Sc(a,7)){c=a;RE();'Browser engine version parsing failed for: '+b+' '+c.v()}else throw Ii(a)}try{if(this.f){if(b.indexOf('msie')!=-1){if(this.k);else{e=DE(b,b.indexOf('msie ')+5);e=oC(e,0,wE(e,GE(59)));lC(e)}}else{f=b.indexOf('rv:');if(f>=0){g=b.substr(f+3);g=BE(g,VI,'$1');lC(g)}}}else if(this.d){d=b.indexOf(' firefox/')+9;lC(oC(b,d,d+5))}else if(this.b){hC(b)}else if(this.j){d=b.indexOf(' version/');if(d>=0){d+=9;lC(oC(b,d,d+5))}}else if(this.i){d=b.indexOf(' version/');d!=-1?(d+=9):(d=b.indexOf('opera/')+6);lC(oC(b,d,d+5))}else if(this.c){d=b.indexOf(' edge/')+6;b.indexOf(' edg/')!=-1?(d=b.indexOf(' edg/')+5):b.indexOf(TI)!=-1?(d=b.indexOf(TI)+6):b.indexOf(UI)!=-1&&(d=b.indexOf(UI)+8);lC(oC(b,d,d+8))}}catch(a){a=Hi(a);if(Sc(a,7)){c=a;RE();'Browser version parsing failed for: '+b+' '+c.v()}else throw Ii(a)}if(b.indexOf('windows ')!=-1){b.indexOf('windows phone')!=-1}else if(b.indexOf('android')!=-1){eC(b)}else if(b.indexOf('linux')!=-1);else if(b.indexOf('macintosh')!=-1||b.indexOf('mac osx')!=-1||b.indexOf('mac os x')!=-1){this.g=b.indexOf('ipad')!=-1;this.h=b.indexOf('iphone')!=-1;(this.g||this.h)&&iC(b)}else b.indexOf('; cros ')!=-1&&fC(b)}
+var bH='object',cH='[object Array]',dH='function',eH='java.lang',fH='com.google.gwt.core.client',gH={4:1},hH='__noinit__',iH={4:1,7:1,9:1,5:1},jH='null',kH='com.google.gwt.core.client.impl',lH='undefined',mH='Working array length changed ',nH='anonymous',oH='fnStack',pH='Unknown',qH='must be non-negative',rH='must be positive',sH='com.google.web.bindery.event.shared',tH='com.vaadin.client',uH={66:1},vH={27:1},wH='type',xH={46:1},yH={24:1},zH={13:1},AH={26:1},BH='text/javascript',CH='constructor',DH='properties',EH='value',FH='com.vaadin.client.flow.reactive',GH={15:1},HH='nodeId',IH='Root node for node ',JH=' could not be found',KH=' is not an Element',LH={64:1},MH={81:1},NH={45:1},OH='script',PH='stylesheet',QH='com.vaadin.flow.shared',RH='contextRootUrl',SH='versionInfo',TH='v-uiId=',UH='websocket',VH='transport',WH='application/json; charset=UTF-8',XH='VAADIN/push',YH='com.vaadin.client.communication',ZH={89:1},_H='dialogText',aI='dialogTextGaveUp',bI='syncId',cI='resynchronize',dI='execute',eI='Received message with server id ',fI='clientId',gI='Vaadin-Security-Key',hI='Vaadin-Push-ID',iI='sessionExpired',jI='pushServletMapping',kI='event',lI='node',mI='attachReqId',nI='attachAssignedId',oI='com.vaadin.client.flow',pI='bound',qI='payload',rI='subTemplate',sI={44:1},tI='Node is null',uI='Node is not created for this tree',vI='Node id is not registered with this tree',wI='$server',xI='feat',yI='remove',zI='com.vaadin.client.flow.binding',AI='trailing',BI='intermediate',CI='elemental.util',DI='element',EI='shadowRoot',FI='The HTML node for the StateNode with id=',GI='An error occurred when Flow tried to find a state node matching the element ',HI='hidden',II='styleDisplay',JI='Element addressed by the ',KI='dom-repeat',LI='dom-change',MI='com.vaadin.client.flow.nodefeature',NI='Unsupported complex type in ',OI='com.vaadin.client.gwt.com.google.web.bindery.event.shared',QI='OS minor',RI=' headlesschrome/',SI='trident/',TI=' edga/',UI=' edgios/',VI='(\\.[0-9]+).+',WI='([0-9]+\\.[0-9]+).*',XI='com.vaadin.flow.shared.ui',YI='java.io',ZI='For input string: "',$I='java.util',_I='java.util.stream',aJ='Index: ',bJ=', Size: ',cJ='user.agent';var _,Oi,Ji,Gi=-1;$wnd.goog=$wnd.goog||{};$wnd.goog.global=$wnd.goog.global||$wnd;Pi();Qi(1,null,{},I);_.m=function J(a){return H(this,a)};_.n=function L(){return this.ic};_.o=function N(){return UG(this)};_.p=function P(){var a;return ED(M(this))+'@'+(a=O(this)>>>0,a.toString(16))};_.equals=function(a){return this.m(a)};_.hashCode=function(){return this.o()};_.toString=function(){return this.p()};var Ec,Fc,Gc;Qi(67,1,{67:1},FD);_.Ub=function GD(a){var b;b=new FD;b.e=4;a>1?(b.c=MD(this,a-1)):(b.c=this);return b};_.Vb=function LD(){DD(this);return this.b};_.Wb=function ND(){return ED(this)};_.Xb=function PD(){DD(this);return this.g};_.Yb=function RD(){return (this.e&4)!=0};_.Zb=function SD(){return (this.e&1)!=0};_.p=function VD(){return ((this.e&2)!=0?'interface ':(this.e&1)!=0?'':'class ')+(DD(this),this.i)};_.e=0;var CD=1;var $h=ID(eH,'Object',1);var Nh=ID(eH,'Class',67);Qi(94,1,{},R);_.a=0;var cd=ID(fH,'Duration',94);var S=null;Qi(5,1,{4:1,5:1});_.r=function bb(a){return new Error(a)};_.s=function db(){return this.e};_.t=function eb(){var a;return a=Ic(pG(rG(tF((this.i==null&&(this.i=zc(fi,gH,5,0,0,1)),this.i)),new TE),$F(new jG,new hG,new lG,Dc(xc(ui,1),gH,47,0,[(cG(),aG)]))),90),hF(a,zc($h,gH,1,a.a.length,5,1))};_.u=function fb(){return this.f};_.v=function gb(){return this.g};_.w=function hb(){Z(this,cb(this.r($(this,this.g))));hc(this)};_.p=function jb(){return $(this,this.v())};_.e=hH;_.j=true;var fi=ID(eH,'Throwable',5);Qi(7,5,{4:1,7:1,5:1});var Rh=ID(eH,'Exception',7);Qi(9,7,iH,mb);var _h=ID(eH,'RuntimeException',9);Qi(53,9,iH,nb);var Wh=ID(eH,'JsException',53);Qi(119,53,iH);var gd=ID(kH,'JavaScriptExceptionBase',119);Qi(31,119,{31:1,4:1,7:1,9:1,5:1},rb);_.v=function ub(){return qb(this),this.c};_.A=function vb(){return _c(this.b)===_c(ob)?null:this.b};var ob;var dd=ID(fH,'JavaScriptException',31);var ed=ID(fH,'JavaScriptObject$',0);Qi(307,1,{});var fd=ID(fH,'Scheduler',307);var yb=0,zb=false,Ab,Bb=0,Cb=-1;Qi(129,307,{});_.e=false;_.i=false;var Pb;var kd=ID(kH,'SchedulerImpl',129);Qi(130,1,{},bc);_.B=function cc(){this.a.e=true;Tb(this.a);this.a.e=false;return this.a.i=Ub(this.a)};var hd=ID(kH,'SchedulerImpl/Flusher',130);Qi(131,1,{},dc);_.B=function ec(){this.a.e&&_b(this.a.f,1);return this.a.i};var jd=ID(kH,'SchedulerImpl/Rescuer',131);var fc;Qi(317,1,{});var od=ID(kH,'StackTraceCreator/Collector',317);Qi(120,317,{},nc);_.D=function oc(a){var b={},j;var c=[];a[oH]=c;var d=arguments.callee.caller;while(d){var e=(gc(),d.name||(d.name=jc(d.toString())));c.push(e);var f=':'+e;var g=b[f];if(g){var h,i;for(h=0,i=g.length;h<i;h++){if(g[h]===d){return}}}(g||(b[f]=[])).push(d);d=d.caller}};_.F=function pc(a){var b,c,d,e;d=(gc(),a&&a[oH]?a[oH]:[]);c=d.length;e=zc(ai,gH,29,c,0,1);for(b=0;b<c;b++){e[b]=new pE(d[b],null,-1)}return e};var ld=ID(kH,'StackTraceCreator/CollectorLegacy',120);Qi(318,317,{});_.D=function rc(a){};_.G=function sc(a,b,c,d){return new pE(b,a+'@'+d,c<0?-1:c)};_.F=function tc(a){var b,c,d,e,f,g;e=lc(a);f=zc(ai,gH,29,0,0,1);b=0;d=e.length;if(d==0){return f}g=qc(this,e[0]);uE(g.d,nH)||(f[b++]=g);for(c=1;c<d;c++){f[b++]=qc(this,e[c])}return f};var nd=ID(kH,'StackTraceCreator/CollectorModern',318);Qi(121,318,{},uc);_.G=function vc(a,b,c,d){return new pE(b,a,-1)};var md=ID(kH,'StackTraceCreator/CollectorModernNoSourceMap',121);Qi(40,1,{});_.H=function dj(a){if(a!=this.d){return}this.e||(this.f=null);this.I()};_.d=0;_.e=false;_.f=null;var pd=ID('com.google.gwt.user.client','Timer',40);Qi(324,1,{});_.p=function ij(){return 'An event type'};var sd=ID(sH,'Event',324);Qi(97,1,{},kj);_.o=function lj(){return this.a};_.p=function mj(){return 'Event type'};_.a=0;var jj=0;var qd=ID(sH,'Event/Type',97);Qi(325,1,{});var rd=ID(sH,'EventBus',325);Qi(8,1,{8:1},yj);_.M=function zj(){return this.k};_.d=0;_.e=0;_.f=false;_.g=false;_.k=0;_.l=false;var td=ID(tH,'ApplicationConfiguration',8);Qi(92,1,{92:1},Dj);_.N=function Ej(a,b){fu(Hu(Ic(kk(this.a,Xf),10),a),new Rj(a,b))};_.O=function Fj(a){var b;b=Hu(Ic(kk(this.a,Xf),10),a);return !b?null:b.a};_.P=function Gj(a){var b,c,d,e,f;e=Hu(Ic(kk(this.a,Xf),10),a);f={};if(e){d=UA(ku(e,12));for(b=0;b<d.length;b++){c=Pc(d[b]);f[c]=Uz(TA(ku(e,12),c))}}return f};_.Q=function Hj(a){var b;b=Hu(Ic(kk(this.a,Xf),10),a);return !b?null:Wz(TA(ku(b,0),'jc'))};_.R=function Ij(a){var b;b=Iu(Ic(kk(this.a,Xf),10),Gz(a));return !b?-1:b.d};_.S=function Jj(){var a;return Ic(kk(this.a,lf),21).a==0||Ic(kk(this.a,zf),16).b||(a=(Qb(),Pb),!!a&&a.a!=0)};var yd=ID(tH,'ApplicationConnection',92);Qi(146,1,{},Lj);_.q=function Mj(a){var b;b=a;Sc(b,3)?Tn('Assertion error: '+b.v()):Tn(b.v())};var ud=ID(tH,'ApplicationConnection/0methodref$handleError$Type',146);Qi(147,1,{},Nj);_.T=function Oj(a){cs(Ic(kk(this.a.a,nf),19))};var vd=ID(tH,'ApplicationConnection/lambda$1$Type',147);Qi(148,1,{},Pj);_.T=function Qj(a){$wnd.location.reload()};var wd=ID(tH,'ApplicationConnection/lambda$2$Type',148);Qi(149,1,uH,Rj);_.U=function Sj(a){return Kj(this.b,this.a,a)};_.b=0;var xd=ID(tH,'ApplicationConnection/lambda$3$Type',149);Qi(36,1,{},Vj);var Tj;var zd=ID(tH,'BrowserInfo',36);var Ad=KD(tH,'Command');var Zj=false;Qi(128,1,{},gk);_.I=function hk(){ck(this.a)};var Bd=ID(tH,'Console/lambda$0$Type',128);Qi(127,1,{},ik);_.q=function jk(a){dk(this.a)};var Cd=ID(tH,'Console/lambda$1$Type',127);Qi(153,1,{});_.V=function pk(){return Ic(kk(this,td),8)};_.W=function qk(){return Ic(kk(this,lf),21)};_.X=function rk(){return Ic(kk(this,rf),73)};_.Y=function sk(){return Ic(kk(this,Df),32)};_.Z=function tk(){return Ic(kk(this,Xf),10)};_._=function uk(){return Ic(kk(this,Ee),49)};var ge=ID(tH,'Registry',153);Qi(154,153,{},vk);var Gd=ID(tH,'DefaultRegistry',154);Qi(155,1,vH,wk);_.ab=function xk(){return new ro};var Dd=ID(tH,'DefaultRegistry/0methodref$ctor$Type',155);Qi(156,1,vH,yk);_.ab=function zk(){return new Qt};var Ed=ID(tH,'DefaultRegistry/1methodref$ctor$Type',156);Qi(157,1,vH,Ak);_.ab=function Bk(){return new Jl};var Fd=ID(tH,'DefaultRegistry/2methodref$ctor$Type',157);Qi(72,1,{72:1},Pk);var Ck,Dk,Ek,Fk=0;var Sd=ID(tH,'DependencyLoader',72);Qi(196,1,xH,Tk);_.bb=function Uk(a,b){mn(this.a,a,Ic(b,24))};var Hd=ID(tH,'DependencyLoader/0methodref$inlineStyleSheet$Type',196);var me=KD(tH,'ResourceLoader/ResourceLoadListener');Qi(192,1,yH,Vk);_.cb=function Wk(a){ak("'"+a.a+"' could not be loaded.");Qk()};_.db=function Xk(a){Qk()};var Id=ID(tH,'DependencyLoader/1',192);Qi(197,1,xH,Yk);_.bb=function Zk(a,b){pn(this.a,a,Ic(b,24))};var Jd=ID(tH,'DependencyLoader/1methodref$loadStylesheet$Type',197);Qi(193,1,yH,$k);_.cb=function _k(a){ak(a.a+' could not be loaded.')};_.db=function al(a){};var Kd=ID(tH,'DependencyLoader/2',193);Qi(198,1,xH,bl);_.bb=function cl(a,b){ln(this.a,a,Ic(b,24))};var Ld=ID(tH,'DependencyLoader/2methodref$inlineScript$Type',198);Qi(201,1,xH,dl);_.bb=function el(a,b){nn(a,Ic(b,24))};var Md=ID(tH,'DependencyLoader/3methodref$loadDynamicImport$Type',201);Qi(202,1,zH,fl);_.I=function gl(){Qk()};var Nd=ID(tH,'DependencyLoader/4methodref$endEagerDependencyLoading$Type',202);Qi(344,$wnd.Function,{},hl);_.bb=function il(a,b){Jk(this.a,this.b,Nc(a),Ic(b,42))};Qi(345,$wnd.Function,{},jl);_.bb=function kl(a,b){Rk(this.a,Ic(a,46),Pc(b))};Qi(195,1,AH,ll);_.C=function ml(){Kk(this.a)};var Od=ID(tH,'DependencyLoader/lambda$2$Type',195);Qi(194,1,{},nl);_.C=function ol(){Lk(this.a)};var Pd=ID(tH,'DependencyLoader/lambda$3$Type',194);Qi(346,$wnd.Function,{},pl);_.bb=function ql(a,b){Ic(a,46).bb(Pc(b),(Gk(),Dk))};Qi(199,1,xH,rl);_.bb=function sl(a,b){Gk();on(this.a,a,Ic(b,24),true,BH)};var Qd=ID(tH,'DependencyLoader/lambda$8$Type',199);Qi(200,1,xH,tl);_.bb=function ul(a,b){Gk();on(this.a,a,Ic(b,24),true,'module')};var Rd=ID(tH,'DependencyLoader/lambda$9$Type',200);Qi(300,1,zH,Dl);_.I=function El(){DB(new Fl(this.a,this.b))};var Td=ID(tH,'ExecuteJavaScriptElementUtils/lambda$0$Type',300);var kh=KD(FH,'FlushListener');Qi(299,1,GH,Fl);_.eb=function Gl(){Al(this.a,this.b)};var Ud=ID(tH,'ExecuteJavaScriptElementUtils/lambda$1$Type',299);Qi(58,1,{58:1},Jl);var Vd=ID(tH,'ExistingElementMap',58);Qi(50,1,{50:1},Sl);var Xd=ID(tH,'InitialPropertiesHandler',50);Qi(347,$wnd.Function,{},Ul);_.fb=function Vl(a){Pl(this.a,this.b,Kc(a))};Qi(209,1,GH,Wl);_.eb=function Xl(){Ll(this.a,this.b)};var Wd=ID(tH,'InitialPropertiesHandler/lambda$1$Type',209);Qi(348,$wnd.Function,{},Yl);_.bb=function Zl(a,b){Tl(this.a,Ic(a,14),Pc(b))};var am;Qi(288,1,uH,ym);_.U=function zm(a){return xm(a)};var Yd=ID(tH,'PolymerUtils/0methodref$createModelTree$Type',288);Qi(368,$wnd.Function,{},Am);_.fb=function Bm(a){Ic(a,44).Eb()};Qi(367,$wnd.Function,{},Cm);_.fb=function Dm(a){Ic(a,13).I()};Qi(289,1,LH,Em);_.gb=function Fm(a){qm(this.a,a)};var Zd=ID(tH,'PolymerUtils/lambda$1$Type',289);Qi(88,1,GH,Gm);_.eb=function Hm(){fm(this.b,this.a)};var $d=ID(tH,'PolymerUtils/lambda$10$Type',88);Qi(290,1,{104:1},Im);_.hb=function Jm(a){this.a.forEach(Si(Am.prototype.fb,Am,[]))};var _d=ID(tH,'PolymerUtils/lambda$2$Type',290);Qi(292,1,MH,Km);_.ib=function Lm(a){rm(this.a,this.b,a)};var ae=ID(tH,'PolymerUtils/lambda$4$Type',292);Qi(291,1,NH,Mm);_.jb=function Nm(a){CB(new Gm(this.a,this.b))};var be=ID(tH,'PolymerUtils/lambda$5$Type',291);Qi(365,$wnd.Function,{},Om);_.bb=function Pm(a,b){var c;sm(this.a,this.b,(c=Ic(a,14),Pc(b),c))};Qi(293,1,NH,Qm);_.jb=function Rm(a){CB(new Gm(this.a,this.b))};var ce=ID(tH,'PolymerUtils/lambda$7$Type',293);Qi(294,1,GH,Sm);_.eb=function Tm(){em(this.a,this.b)};var de=ID(tH,'PolymerUtils/lambda$8$Type',294);Qi(366,$wnd.Function,{},Um);_.fb=function Vm(a){this.a.push(cm(a))};var Wm;Qi(112,1,{},$m);_.kb=function _m(){return (new Date).getTime()};var ee=ID(tH,'Profiler/DefaultRelativeTimeSupplier',112);Qi(111,1,{},an);_.kb=function bn(){return $wnd.performance.now()};var fe=ID(tH,'Profiler/HighResolutionTimeSupplier',111);Qi(340,$wnd.Function,{},dn);_.bb=function en(a,b){lk(this.a,Ic(a,27),Ic(b,67))};Qi(56,1,{56:1},rn);_.d=false;var se=ID(tH,'ResourceLoader',56);Qi(185,1,{},xn);_.B=function yn(){var a;a=vn(this.d);if(vn(this.d)>0){jn(this.b,this.c);return false}else if(a==0){hn(this.b,this.c);return true}else if(Q(this.a)>60000){hn(this.b,this.c);return false}else{return true}};var he=ID(tH,'ResourceLoader/1',185);Qi(186,40,{},zn);_.I=function An(){this.a.b.has(this.c)||hn(this.a,this.b)};var ie=ID(tH,'ResourceLoader/2',186);Qi(190,40,{},Bn);_.I=function Cn(){this.a.b.has(this.c)?jn(this.a,this.b):hn(this.a,this.b)};var je=ID(tH,'ResourceLoader/3',190);Qi(191,1,yH,Dn);_.cb=function En(a){hn(this.a,a)};_.db=function Fn(a){jn(this.a,a)};var ke=ID(tH,'ResourceLoader/4',191);Qi(61,1,{},Gn);var le=ID(tH,'ResourceLoader/ResourceLoadEvent',61);Qi(98,1,yH,Hn);_.cb=function In(a){hn(this.a,a)};_.db=function Jn(a){jn(this.a,a)};var ne=ID(tH,'ResourceLoader/SimpleLoadListener',98);Qi(184,1,yH,Kn);_.cb=function Ln(a){hn(this.a,a)};_.db=function Mn(a){var b;if((!Tj&&(Tj=new Vj),Tj).a.b||(!Tj&&(Tj=new Vj),Tj).a.f||(!Tj&&(Tj=new Vj),Tj).a.c){b=vn(this.b);if(b==0){hn(this.a,a);return}}jn(this.a,a)};var oe=ID(tH,'ResourceLoader/StyleSheetLoadListener',184);Qi(187,1,vH,Nn);_.ab=function On(){return this.a.call(null)};var pe=ID(tH,'ResourceLoader/lambda$0$Type',187);Qi(188,1,zH,Pn);_.I=function Qn(){this.b.db(this.a)};var qe=ID(tH,'ResourceLoader/lambda$1$Type',188);Qi(189,1,zH,Rn);_.I=function Sn(){this.b.cb(this.a)};var re=ID(tH,'ResourceLoader/lambda$2$Type',189);Qi(22,1,{22:1},Zn);var ye=ID(tH,'SystemErrorHandler',22);Qi(160,1,{},_n);_.lb=function ao(a,b){var c;c=b;Tn(c.v())};_.mb=function bo(a){var b;ek('Received xhr HTTP session resynchronization message: '+a.responseText);mk(this.a.a);qo(Ic(kk(this.a.a,De),12),(Go(),Eo));b=Er(Fr(a.responseText));rr(Ic(kk(this.a.a,lf),21),b);wj(Ic(kk(this.a.a,td),8),b['uiId']);lo((Qb(),Pb),new fo(this))};var ve=ID(tH,'SystemErrorHandler/1',160);Qi(161,1,{},co);_.fb=function eo(a){Yn(Pc(a))};var te=ID(tH,'SystemErrorHandler/1/0methodref$recreateNodes$Type',161);Qi(162,1,{},fo);_.C=function go(){qG(tF(Ic(kk(this.a.a.a,td),8).c),new co)};var ue=ID(tH,'SystemErrorHandler/1/lambda$0$Type',162);Qi(158,1,{},ho);_.T=function io(a){Qo(this.a)};var we=ID(tH,'SystemErrorHandler/lambda$0$Type',158);Qi(159,1,{},jo);_.T=function ko(a){$n(this.a,a)};var xe=ID(tH,'SystemErrorHandler/lambda$1$Type',159);Qi(133,129,{},mo);_.a=0;var Ae=ID(tH,'TrackingScheduler',133);Qi(134,1,{},no);_.C=function oo(){this.a.a--};var ze=ID(tH,'TrackingScheduler/lambda$0$Type',134);Qi(12,1,{12:1},ro);var De=ID(tH,'UILifecycle',12);Qi(166,324,{},to);_.K=function uo(a){Ic(a,89).nb(this)};_.L=function vo(){return so};var so=null;var Be=ID(tH,'UILifecycle/StateChangeEvent',166);Qi(20,1,{4:1,30:1,20:1});_.m=function zo(a){return this===a};_.o=function Ao(){return UG(this)};_.p=function Bo(){return this.b!=null?this.b:''+this.c};_.c=0;var Ph=ID(eH,'Enum',20);Qi(59,20,{59:1,4:1,30:1,20:1},Ho);var Do,Eo,Fo;var Ce=JD(tH,'UILifecycle/UIState',59,Io);Qi(323,1,gH);var wh=ID(QH,'VaadinUriResolver',323);Qi(49,323,{49:1,4:1},No);_.ob=function Oo(a){return Mo(this,a)};var Ee=ID(tH,'URIResolver',49);var To=false,Uo;Qi(113,1,{},cp);_.C=function dp(){$o(this.a)};var Fe=ID('com.vaadin.client.bootstrap','Bootstrapper/lambda$0$Type',113);Qi(99,1,{},up);_.pb=function wp(){return Ic(kk(this.d,lf),21).f};_.qb=function yp(a){this.f=(Sp(),Qp);Xn(Ic(kk(Ic(kk(this.d,Oe),17).c,ye),22),'','Client unexpectedly disconnected. Ensure client timeout is disabled.','',null,null)};_.rb=function zp(a){this.f=(Sp(),Pp);Ic(kk(this.d,Oe),17);Zj&&($wnd.console.log('Push connection closed'),undefined)};_.sb=function Ap(a){this.f=(Sp(),Qp);eq(Ic(kk(this.d,Oe),17),'Push connection using '+a[VH]+' failed!')};_.tb=function Bp(a){var b,c;c=a['responseBody'];b=Er(Fr(c));if(!b){mq(Ic(kk(this.d,Oe),17),this,c);return}else{ek('Received push ('+this.g+') message: '+c);rr(Ic(kk(this.d,lf),21),b)}};_.ub=function Cp(a){ek('Push connection established using '+a[VH]);rp(this,a)};_.vb=function Dp(a,b){this.f==(Sp(),Op)&&(this.f=Pp);pq(Ic(kk(this.d,Oe),17),this)};_.wb=function Ep(a){ek('Push connection re-established using '+a[VH]);rp(this,a)};_.xb=function Fp(){fk('Push connection using primary method ('+this.a[VH]+') failed. Trying with '+this.a['fallbackTransport'])};var Ne=ID(YH,'AtmospherePushConnection',99);Qi(242,1,{},Gp);_.C=function Hp(){ip(this.a)};var Ge=ID(YH,'AtmospherePushConnection/0methodref$connect$Type',242);Qi(244,1,yH,Ip);_.cb=function Jp(a){qq(Ic(kk(this.a.d,Oe),17),a.a)};_.db=function Kp(a){if(xp()){ek(this.c+' loaded');qp(this.b.a)}else{qq(Ic(kk(this.a.d,Oe),17),a.a)}};var He=ID(YH,'AtmospherePushConnection/1',244);Qi(239,1,{},Np);_.a=0;var Ie=ID(YH,'AtmospherePushConnection/FragmentedMessage',239);Qi(51,20,{51:1,4:1,30:1,20:1},Tp);var Op,Pp,Qp,Rp;var Je=JD(YH,'AtmospherePushConnection/State',51,Up);Qi(241,1,ZH,Vp);_.nb=function Wp(a){op(this.a,a)};var Ke=ID(YH,'AtmospherePushConnection/lambda$0$Type',241);Qi(240,1,AH,Xp);_.C=function Yp(){};var Le=ID(YH,'AtmospherePushConnection/lambda$1$Type',240);Qi(355,$wnd.Function,{},Zp);_.bb=function $p(a,b){pp(this.a,Pc(a),Pc(b))};Qi(243,1,AH,_p);_.C=function aq(){qp(this.a)};var Me=ID(YH,'AtmospherePushConnection/lambda$3$Type',243);var Oe=KD(YH,'ConnectionStateHandler');Qi(213,1,{17:1},yq);_.a=0;_.b=null;var Ue=ID(YH,'DefaultConnectionStateHandler',213);Qi(215,40,{},zq);_.I=function Aq(){this.a.d=null;cq(this.a,this.b)};var Pe=ID(YH,'DefaultConnectionStateHandler/1',215);Qi(62,20,{62:1,4:1,30:1,20:1},Gq);_.a=0;var Bq,Cq,Dq;var Qe=JD(YH,'DefaultConnectionStateHandler/Type',62,Hq);Qi(214,1,ZH,Iq);_.nb=function Jq(a){kq(this.a,a)};var Re=ID(YH,'DefaultConnectionStateHandler/lambda$0$Type',214);Qi(216,1,{},Kq);_.T=function Lq(a){dq(this.a)};var Se=ID(YH,'DefaultConnectionStateHandler/lambda$1$Type',216);Qi(217,1,{},Mq);_.T=function Nq(a){lq(this.a)};var Te=ID(YH,'DefaultConnectionStateHandler/lambda$2$Type',217);Qi(55,1,{55:1},Sq);_.a=-1;var Ye=ID(YH,'Heartbeat',55);Qi(210,40,{},Tq);_.I=function Uq(){Qq(this.a)};var Ve=ID(YH,'Heartbeat/1',210);Qi(212,1,{},Vq);_.lb=function Wq(a,b){!b?iq(Ic(kk(this.a.b,Oe),17),a):hq(Ic(kk(this.a.b,Oe),17),b);Pq(this.a)};_.mb=function Xq(a){jq(Ic(kk(this.a.b,Oe),17));Pq(this.a)};var We=ID(YH,'Heartbeat/2',212);Qi(211,1,ZH,Yq);_.nb=function Zq(a){Oq(this.a,a)};var Xe=ID(YH,'Heartbeat/lambda$0$Type',211);Qi(168,1,{},br);_.fb=function cr(a){Xj('firstDelay',hE(Ic(a,25).a))};var Ze=ID(YH,'LoadingIndicatorConfigurator/0methodref$setFirstDelay$Type',168);Qi(169,1,{},dr);_.fb=function er(a){Xj('secondDelay',hE(Ic(a,25).a))};var $e=ID(YH,'LoadingIndicatorConfigurator/1methodref$setSecondDelay$Type',169);Qi(170,1,{},fr);_.fb=function gr(a){Xj('thirdDelay',hE(Ic(a,25).a))};var _e=ID(YH,'LoadingIndicatorConfigurator/2methodref$setThirdDelay$Type',170);Qi(171,1,NH,hr);_.jb=function ir(a){ar(Xz(Ic(a.e,14)))};var af=ID(YH,'LoadingIndicatorConfigurator/lambda$3$Type',171);Qi(172,1,NH,jr);_.jb=function kr(a){_q(this.b,this.a,a)};_.a=0;var bf=ID(YH,'LoadingIndicatorConfigurator/lambda$4$Type',172);Qi(21,1,{21:1},Br);_.a=0;_.b='init';_.d=false;_.e=0;_.f=-1;_.h=null;_.l=0;var lf=ID(YH,'MessageHandler',21);Qi(177,1,AH,Gr);_.C=function Hr(){!Fz&&$wnd.Polymer!=null&&uE($wnd.Polymer.version.substr(0,'1.'.length),'1.')&&(Fz=true,Zj&&($wnd.console.log('Polymer micro is now loaded, using Polymer DOM API'),undefined),Ez=new Hz,undefined)};var cf=ID(YH,'MessageHandler/0methodref$updateApiImplementation$Type',177);Qi(176,40,{},Ir);_.I=function Jr(){nr(this.a)};var df=ID(YH,'MessageHandler/1',176);Qi(343,$wnd.Function,{},Kr);_.fb=function Lr(a){lr(Ic(a,6))};Qi(60,1,{60:1},Mr);var ef=ID(YH,'MessageHandler/PendingUIDLMessage',60);Qi(178,1,AH,Nr);_.C=function Or(){yr(this.a,this.d,this.b,this.c)};_.c=0;var ff=ID(YH,'MessageHandler/lambda$1$Type',178);Qi(180,1,GH,Pr);_.eb=function Qr(){DB(new Rr(this.a,this.b))};var gf=ID(YH,'MessageHandler/lambda$3$Type',180);Qi(179,1,GH,Rr);_.eb=function Sr(){vr(this.a,this.b)};var hf=ID(YH,'MessageHandler/lambda$4$Type',179);Qi(182,1,GH,Tr);_.eb=function Ur(){wr(this.a)};var jf=ID(YH,'MessageHandler/lambda$5$Type',182);Qi(181,1,{},Vr);_.C=function Wr(){this.a.forEach(Si(Kr.prototype.fb,Kr,[]))};var kf=ID(YH,'MessageHandler/lambda$6$Type',181);Qi(19,1,{19:1},fs);_.a=0;_.d=0;var nf=ID(YH,'MessageSender',19);Qi(174,1,AH,hs);_.C=function is(){Yr(this.a)};var mf=ID(YH,'MessageSender/lambda$0$Type',174);Qi(163,1,NH,ls);_.jb=function ms(a){js(this.a,a)};var of=ID(YH,'PollConfigurator/lambda$0$Type',163);Qi(73,1,{73:1},qs);_.yb=function rs(){var a;a=Ic(kk(this.b,Xf),10);Pu(a,a.e,'ui-poll',null)};_.a=null;var rf=ID(YH,'Poller',73);Qi(165,40,{},ss);_.I=function ts(){var a;a=Ic(kk(this.a.b,Xf),10);Pu(a,a.e,'ui-poll',null)};var pf=ID(YH,'Poller/1',165);Qi(164,1,ZH,us);_.nb=function vs(a){ns(this.a,a)};var qf=ID(YH,'Poller/lambda$0$Type',164);Qi(48,1,{48:1},zs);var vf=ID(YH,'PushConfiguration',48);Qi(223,1,NH,Cs);_.jb=function Ds(a){ys(this.a,a)};var sf=ID(YH,'PushConfiguration/0methodref$onPushModeChange$Type',223);Qi(224,1,GH,Es);_.eb=function Fs(){es(Ic(kk(this.a.a,nf),19),true)};var tf=ID(YH,'PushConfiguration/lambda$1$Type',224);Qi(225,1,GH,Gs);_.eb=function Hs(){es(Ic(kk(this.a.a,nf),19),false)};var uf=ID(YH,'PushConfiguration/lambda$2$Type',225);Qi(349,$wnd.Function,{},Is);_.bb=function Js(a,b){Bs(this.a,Ic(a,14),Pc(b))};Qi(35,1,{35:1},Ks);var xf=ID(YH,'ReconnectConfiguration',35);Qi(167,1,AH,Ls);_.C=function Ms(){bq(this.a)};var wf=ID(YH,'ReconnectConfiguration/lambda$0$Type',167);Qi(16,1,{16:1},Ss);_.b=false;var zf=ID(YH,'RequestResponseTracker',16);Qi(175,1,{},Ts);_.C=function Us(){Qs(this.a)};var yf=ID(YH,'RequestResponseTracker/lambda$0$Type',175);Qi(238,324,{},Vs);_.K=function Ws(a){bd(a);null.lc()};_.L=function Xs(){return null};var Af=ID(YH,'RequestStartingEvent',238);Qi(222,324,{},Zs);_.K=function $s(a){Ic(a,328).a.b=false};_.L=function _s(){return Ys};var Ys;var Bf=ID(YH,'ResponseHandlingEndedEvent',222);Qi(281,324,{},at);_.K=function bt(a){bd(a);null.lc()};_.L=function ct(){return null};var Cf=ID(YH,'ResponseHandlingStartedEvent',281);Qi(32,1,{32:1},kt);_.zb=function lt(a,b,c){dt(this,a,b,c)};_.Ab=function mt(a,b,c){var d;d={};d[wH]='channel';d[lI]=Object(a);d['channel']=Object(b);d['args']=c;ht(this,d)};var Df=ID(YH,'ServerConnector',32);Qi(34,1,{34:1},st);_.b=false;var nt;var Hf=ID(YH,'ServerRpcQueue',34);Qi(204,1,zH,tt);_.I=function ut(){qt(this.a)};var Ef=ID(YH,'ServerRpcQueue/0methodref$doFlush$Type',204);Qi(203,1,zH,vt);_.I=function wt(){ot()};var Ff=ID(YH,'ServerRpcQueue/lambda$0$Type',203);Qi(205,1,{},xt);_.C=function yt(){this.a.a.I()};var Gf=ID(YH,'ServerRpcQueue/lambda$2$Type',205);Qi(71,1,{71:1},Bt);_.b=false;var Nf=ID(YH,'XhrConnection',71);Qi(221,40,{},Dt);_.I=function Et(){Ct(this.b)&&this.a.b&&Zi(this,250)};var If=ID(YH,'XhrConnection/1',221);Qi(218,1,{},Gt);_.lb=function Ht(a,b){var c;c=new Mt(a,this.a);if(!b){wq(Ic(kk(this.c.a,Oe),17),c);return}else{uq(Ic(kk(this.c.a,Oe),17),c)}};_.mb=function It(a){var b,c;ek('Server visit took '+Ym(this.b)+'ms');c=a.responseText;b=Er(Fr(c));if(!b){vq(Ic(kk(this.c.a,Oe),17),new Mt(a,this.a));return}xq(Ic(kk(this.c.a,Oe),17));Zj&&XC($wnd.console,'Received xhr message: '+c);rr(Ic(kk(this.c.a,lf),21),b)};_.b=0;var Jf=ID(YH,'XhrConnection/XhrResponseHandler',218);Qi(219,1,{},Jt);_.T=function Kt(a){this.a.b=true};var Kf=ID(YH,'XhrConnection/lambda$0$Type',219);Qi(220,1,{328:1},Lt);var Lf=ID(YH,'XhrConnection/lambda$1$Type',220);Qi(102,1,{},Mt);var Mf=ID(YH,'XhrConnectionError',102);Qi(57,1,{57:1},Qt);var Of=ID(oI,'ConstantPool',57);Qi(84,1,{84:1},Yt);_.Bb=function Zt(){return Ic(kk(this.a,td),8).a};var Sf=ID(oI,'ExecuteJavaScriptProcessor',84);Qi(207,1,uH,$t);_.U=function _t(a){var b;return DB(new au(this.a,(b=this.b,b))),yD(),true};var Pf=ID(oI,'ExecuteJavaScriptProcessor/lambda$0$Type',207);Qi(206,1,GH,au);_.eb=function bu(){Tt(this.a,this.b)};var Qf=ID(oI,'ExecuteJavaScriptProcessor/lambda$1$Type',206);Qi(208,1,zH,cu);_.I=function du(){Xt(this.a)};var Rf=ID(oI,'ExecuteJavaScriptProcessor/lambda$2$Type',208);Qi(298,1,{},eu);var Tf=ID(oI,'NodeUnregisterEvent',298);Qi(6,1,{6:1},ru);_.Cb=function su(){return iu(this)};_.Db=function tu(){return this.g};_.d=0;_.i=false;var Wf=ID(oI,'StateNode',6);Qi(336,$wnd.Function,{},vu);_.bb=function wu(a,b){lu(this.a,this.b,Ic(a,33),Kc(b))};Qi(337,$wnd.Function,{},xu);_.fb=function yu(a){uu(this.a,Ic(a,104))};var zh=KD('elemental.events','EventRemover');Qi(151,1,sI,zu);_.Eb=function Au(){mu(this.a,this.b)};var Uf=ID(oI,'StateNode/lambda$2$Type',151);Qi(338,$wnd.Function,{},Bu);_.fb=function Cu(a){nu(this.a,Ic(a,66))};Qi(152,1,sI,Du);_.Eb=function Eu(){ou(this.a,this.b)};var Vf=ID(oI,'StateNode/lambda$4$Type',152);Qi(10,1,{10:1},Vu);_.Fb=function Wu(){return this.e};_.Gb=function Yu(a,b,c,d){var e;if(Ku(this,a)){e=Nc(c);jt(Ic(kk(this.c,Df),32),a,b,e,d)}};_.d=false;_.f=false;var Xf=ID(oI,'StateTree',10);Qi(341,$wnd.Function,{},Zu);_.fb=function $u(a){hu(Ic(a,6),Si(bv.prototype.bb,bv,[]))};Qi(342,$wnd.Function,{},_u);_.bb=function av(a,b){var c;Mu(this.a,(c=Ic(a,6),Kc(b),c))};Qi(327,$wnd.Function,{},bv);_.bb=function cv(a,b){Xu(Ic(a,33),Kc(b))};var kv,lv;Qi(173,1,{},qv);var Yf=ID(zI,'Binder/BinderContextImpl',173);var Zf=KD(zI,'BindingStrategy');Qi(79,1,{79:1},vv);_.j=0;var rv;var ag=ID(zI,'Debouncer',79);Qi(371,$wnd.Function,{},zv);_.fb=function Av(a){Ic(a,13).I()};Qi(326,1,{});_.c=false;_.d=0;var Dh=ID(CI,'Timer',326);Qi(301,326,{},Fv);var $f=ID(zI,'Debouncer/1',301);Qi(302,326,{},Hv);var _f=ID(zI,'Debouncer/2',302);Qi(372,$wnd.Function,{},Jv);_.bb=function Kv(a,b){var c;Iv(this,(c=Oc(a,$wnd.Map),Nc(b),c))};Qi(373,$wnd.Function,{},Nv);_.fb=function Ov(a){Lv(this.a,Oc(a,$wnd.Map))};Qi(374,$wnd.Function,{},Pv);_.fb=function Qv(a){Mv(this.a,Ic(a,79))};Qi(370,$wnd.Function,{},Rv);_.bb=function Sv(a,b){xv(this.a,Ic(a,13),Pc(b))};Qi(295,1,vH,Wv);_.ab=function Xv(){return hw(this.a)};var bg=ID(zI,'ServerEventHandlerBinder/lambda$0$Type',295);Qi(296,1,LH,Yv);_.gb=function Zv(a){Vv(this.b,this.a,this.c,a)};_.c=false;var cg=ID(zI,'ServerEventHandlerBinder/lambda$1$Type',296);var $v;Qi(245,1,{305:1},gx);_.Hb=function hx(a,b,c){pw(this,a,b,c)};_.Ib=function kx(a){return zw(a)};_.Kb=function px(a,b){var c,d,e;d=Object.keys(a);e=new bz(d,a,b);c=Ic(b.e.get(eg),76);!c?Xw(e.b,e.a,e.c):(c.a=e)};_.Lb=function qx(r,s){var t=this;var u=s._propertiesChanged;u&&(s._propertiesChanged=function(a,b,c){aH(function(){t.Kb(b,r)})();u.apply(this,arguments)});var v=r.Db();var w=s.ready;s.ready=function(){w.apply(this,arguments);gm(s);var q=function(){var o=s.root.querySelector(KI);if(o){s.removeEventListener(LI,q)}else{return}if(!o.constructor.prototype.$propChangedModified){o.constructor.prototype.$propChangedModified=true;var p=o.constructor.prototype._propertiesChanged;o.constructor.prototype._propertiesChanged=function(a,b,c){p.apply(this,arguments);var d=Object.getOwnPropertyNames(b);var e='items.';var f;for(f=0;f<d.length;f++){var g=d[f].indexOf(e);if(g==0){var h=d[f].substr(e.length);g=h.indexOf('.');if(g>0){var i=h.substr(0,g);var j=h.substr(g+1);var k=a.items[i];if(k&&k.nodeId){var l=k.nodeId;var m=k[j];var n=this.__dataHost;while(!n.localName||n.__dataHost){n=n.__dataHost}aH(function(){ox(l,n,j,m,v)})()}}}}}}};s.root&&s.root.querySelector(KI)?q():s.addEventListener(LI,q)}};_.Jb=function rx(a){if(a.c.has(0)){return true}return !!a.g&&K(a,a.g.e)};var jw,kw;var Lg=ID(zI,'SimpleElementBindingStrategy',245);Qi(360,$wnd.Function,{},Gx);_.fb=function Hx(a){Ic(a,44).Eb()};Qi(363,$wnd.Function,{},Ix);_.fb=function Jx(a){Ic(a,13).I()};Qi(100,1,{},Kx);var dg=ID(zI,'SimpleElementBindingStrategy/BindingContext',100);Qi(76,1,{76:1},Lx);var eg=ID(zI,'SimpleElementBindingStrategy/InitialPropertyUpdate',76);Qi(246,1,{},Mx);_.Mb=function Nx(a){Lw(this.a,a)};var fg=ID(zI,'SimpleElementBindingStrategy/lambda$0$Type',246);Qi(247,1,{},Ox);_.Mb=function Px(a){Mw(this.a,a)};var gg=ID(zI,'SimpleElementBindingStrategy/lambda$1$Type',247);Qi(356,$wnd.Function,{},Qx);_.bb=function Rx(a,b){var c;sx(this.b,this.a,(c=Ic(a,14),Pc(b),c))};Qi(256,1,MH,Sx);_.ib=function Tx(a){tx(this.b,this.a,a)};var hg=ID(zI,'SimpleElementBindingStrategy/lambda$11$Type',256);Qi(257,1,NH,Ux);_.jb=function Vx(a){dx(this.c,this.b,this.a)};var ig=ID(zI,'SimpleElementBindingStrategy/lambda$12$Type',257);Qi(258,1,GH,Wx);_.eb=function Xx(){Nw(this.b,this.c,this.a)};var jg=ID(zI,'SimpleElementBindingStrategy/lambda$13$Type',258);Qi(259,1,AH,Yx);_.C=function Zx(){this.b.Mb(this.a)};var kg=ID(zI,'SimpleElementBindingStrategy/lambda$14$Type',259);Qi(260,1,AH,$x);_.C=function _x(){this.a[this.b]=cm(this.c)};var lg=ID(zI,'SimpleElementBindingStrategy/lambda$15$Type',260);Qi(262,1,LH,ay);_.gb=function by(a){Ow(this.a,a)};var mg=ID(zI,'SimpleElementBindingStrategy/lambda$16$Type',262);Qi(261,1,GH,cy);_.eb=function dy(){Gw(this.b,this.a)};var ng=ID(zI,'SimpleElementBindingStrategy/lambda$17$Type',261);Qi(264,1,LH,ey);_.gb=function fy(a){Pw(this.a,a)};var og=ID(zI,'SimpleElementBindingStrategy/lambda$18$Type',264);Qi(263,1,GH,gy);_.eb=function hy(){Qw(this.b,this.a)};var pg=ID(zI,'SimpleElementBindingStrategy/lambda$19$Type',263);Qi(248,1,{},iy);_.Mb=function jy(a){Rw(this.a,a)};var qg=ID(zI,'SimpleElementBindingStrategy/lambda$2$Type',248);Qi(265,1,zH,ky);_.I=function ly(){Iw(this.a,this.b,this.c,false)};var rg=ID(zI,'SimpleElementBindingStrategy/lambda$20$Type',265);Qi(266,1,zH,my);_.I=function ny(){Iw(this.a,this.b,this.c,false)};var sg=ID(zI,'SimpleElementBindingStrategy/lambda$21$Type',266);Qi(267,1,zH,oy);_.I=function py(){Kw(this.a,this.b,this.c,false)};var tg=ID(zI,'SimpleElementBindingStrategy/lambda$22$Type',267);Qi(268,1,vH,qy);_.ab=function ry(){return ux(this.a,this.b)};var ug=ID(zI,'SimpleElementBindingStrategy/lambda$23$Type',268);Qi(269,1,zH,sy);_.I=function ty(){Bw(this.b,this.e,false,this.c,this.d,this.a)};var vg=ID(zI,'SimpleElementBindingStrategy/lambda$24$Type',269);Qi(270,1,vH,uy);_.ab=function vy(){return vx(this.a,this.b)};var wg=ID(zI,'SimpleElementBindingStrategy/lambda$25$Type',270);Qi(271,1,vH,wy);_.ab=function xy(){return wx(this.a,this.b)};var xg=ID(zI,'SimpleElementBindingStrategy/lambda$26$Type',271);Qi(357,$wnd.Function,{},yy);_.bb=function zy(a,b){var c;rB((c=Ic(a,74),Pc(b),c))};Qi(358,$wnd.Function,{},Ay);_.fb=function By(a){xx(this.a,Oc(a,$wnd.Map))};Qi(249,1,{104:1},Cy);_.hb=function Dy(a){Yw(this.c,this.b,this.a)};var yg=ID(zI,'SimpleElementBindingStrategy/lambda$3$Type',249);Qi(359,$wnd.Function,{},Ey);_.bb=function Fy(a,b){var c;(c=Ic(a,44),Pc(b),c).Eb()};Qi(361,$wnd.Function,{},Gy);_.bb=function Hy(a,b){var c;Sw(this.a,(c=Ic(a,14),Pc(b),c))};Qi(272,1,MH,Iy);_.ib=function Jy(a){Tw(this.a,a)};var zg=ID(zI,'SimpleElementBindingStrategy/lambda$33$Type',272);Qi(273,1,AH,Ky);_.C=function Ly(){Uw(this.b,this.a,this.c)};var Ag=ID(zI,'SimpleElementBindingStrategy/lambda$34$Type',273);Qi(274,1,{},My);_.T=function Ny(a){Vw(this.a,a)};var Bg=ID(zI,'SimpleElementBindingStrategy/lambda$35$Type',274);Qi(362,$wnd.Function,{},Oy);_.fb=function Py(a){Ww(this.a,this.b,Pc(a))};Qi(275,1,{},Qy);_.fb=function Ry(a){Ex(this.b,this.c,this.a,Pc(a))};var Cg=ID(zI,'SimpleElementBindingStrategy/lambda$37$Type',275);Qi(276,1,LH,Sy);_.gb=function Ty(a){yx(this.a,a)};var Dg=ID(zI,'SimpleElementBindingStrategy/lambda$39$Type',276);Qi(251,1,GH,Uy);_.eb=function Vy(){zx(this.a)};var Eg=ID(zI,'SimpleElementBindingStrategy/lambda$4$Type',251);Qi(277,1,vH,Wy);_.ab=function Xy(){return this.a.b};var Fg=ID(zI,'SimpleElementBindingStrategy/lambda$40$Type',277);Qi(364,$wnd.Function,{},Yy);_.fb=function Zy(a){this.a.push(Ic(a,6))};Qi(250,1,{},$y);_.C=function _y(){Ax(this.a)};var Gg=ID(zI,'SimpleElementBindingStrategy/lambda$5$Type',250);Qi(253,1,zH,bz);_.I=function cz(){az(this)};var Hg=ID(zI,'SimpleElementBindingStrategy/lambda$6$Type',253);Qi(252,1,vH,dz);_.ab=function ez(){return this.a[this.b]};var Ig=ID(zI,'SimpleElementBindingStrategy/lambda$7$Type',252);Qi(255,1,MH,fz);_.ib=function gz(a){CB(new hz(this.a))};var Jg=ID(zI,'SimpleElementBindingStrategy/lambda$8$Type',255);Qi(254,1,GH,hz);_.eb=function iz(){ow(this.a)};var Kg=ID(zI,'SimpleElementBindingStrategy/lambda$9$Type',254);Qi(278,1,{305:1},nz);_.Hb=function oz(a,b,c){lz(a,b)};_.Ib=function pz(a){return $doc.createTextNode('')};_.Jb=function qz(a){return a.c.has(7)};var jz;var Og=ID(zI,'TextBindingStrategy',278);Qi(279,1,AH,rz);_.C=function sz(){kz();RC(this.a,Pc(Uz(this.b)))};var Mg=ID(zI,'TextBindingStrategy/lambda$0$Type',279);Qi(280,1,{104:1},tz);_.hb=function uz(a){mz(this.b,this.a)};var Ng=ID(zI,'TextBindingStrategy/lambda$1$Type',280);Qi(335,$wnd.Function,{},yz);_.fb=function zz(a){this.a.add(a)};Qi(339,$wnd.Function,{},Bz);_.bb=function Cz(a,b){this.a.push(a)};var Ez,Fz=false;Qi(287,1,{},Hz);var Pg=ID('com.vaadin.client.flow.dom','PolymerDomApiImpl',287);Qi(77,1,{77:1},Iz);var Qg=ID('com.vaadin.client.flow.model','UpdatableModelProperties',77);Qi(369,$wnd.Function,{},Jz);_.fb=function Kz(a){this.a.add(Pc(a))};Qi(86,1,{});_.Nb=function Mz(){return this.e};var ph=ID(FH,'ReactiveValueChangeEvent',86);Qi(52,86,{52:1},Nz);_.Nb=function Oz(){return Ic(this.e,28)};_.b=false;_.c=0;var Rg=ID(MI,'ListSpliceEvent',52);Qi(14,1,{14:1,306:1},bA);_.Ob=function cA(a){return eA(this.a,a)};_.b=false;_.c=false;_.d=false;var Pz;var $g=ID(MI,'MapProperty',14);Qi(85,1,{});var oh=ID(FH,'ReactiveEventRouter',85);Qi(231,85,{},kA);_.Pb=function lA(a,b){Ic(a,45).jb(Ic(b,78))};_.Qb=function mA(a){return new nA(a)};var Tg=ID(MI,'MapProperty/1',231);Qi(232,1,NH,nA);_.jb=function oA(a){pB(this.a)};var Sg=ID(MI,'MapProperty/1/0methodref$onValueChange$Type',232);Qi(230,1,zH,pA);_.I=function qA(){Qz()};var Ug=ID(MI,'MapProperty/lambda$0$Type',230);Qi(233,1,GH,rA);_.eb=function sA(){this.a.d=false};var Vg=ID(MI,'MapProperty/lambda$1$Type',233);Qi(234,1,GH,tA);_.eb=function uA(){this.a.d=false};var Wg=ID(MI,'MapProperty/lambda$2$Type',234);Qi(235,1,zH,vA);_.I=function wA(){Zz(this.a,this.b)};var Xg=ID(MI,'MapProperty/lambda$3$Type',235);Qi(87,86,{87:1},xA);_.Nb=function yA(){return Ic(this.e,41)};var Yg=ID(MI,'MapPropertyAddEvent',87);Qi(78,86,{78:1},zA);_.Nb=function AA(){return Ic(this.e,14)};var Zg=ID(MI,'MapPropertyChangeEvent',78);Qi(33,1,{33:1});_.d=0;var _g=ID(MI,'NodeFeature',33);Qi(28,33,{33:1,28:1,306:1},IA);_.Ob=function JA(a){return eA(this.a,a)};_.Rb=function KA(a){var b,c,d;c=[];for(b=0;b<this.c.length;b++){d=this.c[b];c[c.length]=cm(d)}return c};_.Sb=function LA(){var a,b,c,d;b=[];for(a=0;a<this.c.length;a++){d=this.c[a];c=BA(d);b[b.length]=c}return b};_.b=false;var dh=ID(MI,'NodeList',28);Qi(284,85,{},MA);_.Pb=function NA(a,b){Ic(a,64).gb(Ic(b,52))};_.Qb=function OA(a){return new PA(a)};var bh=ID(MI,'NodeList/1',284);Qi(285,1,LH,PA);_.gb=function QA(a){pB(this.a)};var ah=ID(MI,'NodeList/1/0methodref$onValueChange$Type',285);Qi(41,33,{33:1,41:1,306:1},XA);_.Ob=function YA(a){return eA(this.a,a)};_.Rb=function ZA(a){var b;b={};this.b.forEach(Si(jB.prototype.bb,jB,[a,b]));return b};_.Sb=function $A(){var a,b;a={};this.b.forEach(Si(hB.prototype.bb,hB,[a]));if((b=iD(a),b).length==0){return null}return a};var gh=ID(MI,'NodeMap',41);Qi(226,85,{},aB);_.Pb=function bB(a,b){Ic(a,81).ib(Ic(b,87))};_.Qb=function cB(a){return new dB(a)};var fh=ID(MI,'NodeMap/1',226);Qi(227,1,MH,dB);_.ib=function eB(a){pB(this.a)};var eh=ID(MI,'NodeMap/1/0methodref$onValueChange$Type',227);Qi(350,$wnd.Function,{},fB);_.bb=function gB(a,b){this.a.push((Ic(a,14),Pc(b)))};Qi(351,$wnd.Function,{},hB);_.bb=function iB(a,b){WA(this.a,Ic(a,14),Pc(b))};Qi(352,$wnd.Function,{},jB);_.bb=function kB(a,b){_A(this.a,this.b,Ic(a,14),Pc(b))};Qi(74,1,{74:1});_.d=false;_.e=false;var jh=ID(FH,'Computation',74);Qi(236,1,GH,sB);_.eb=function tB(){qB(this.a)};var hh=ID(FH,'Computation/0methodref$recompute$Type',236);Qi(237,1,AH,uB);_.C=function vB(){this.a.a.C()};var ih=ID(FH,'Computation/1methodref$doRecompute$Type',237);Qi(354,$wnd.Function,{},wB);_.fb=function xB(a){HB(Ic(a,329).a)};var yB=null,zB,AB=false,BB;Qi(75,74,{74:1},GB);var lh=ID(FH,'Reactive/1',75);Qi(228,1,sI,IB);_.Eb=function JB(){HB(this)};var mh=ID(FH,'ReactiveEventRouter/lambda$0$Type',228);Qi(229,1,{329:1},KB);var nh=ID(FH,'ReactiveEventRouter/lambda$1$Type',229);Qi(353,$wnd.Function,{},LB);_.fb=function MB(a){hA(this.a,this.b,a)};Qi(101,325,{},XB);_.b=0;var th=ID(OI,'SimpleEventBus',101);var qh=KD(OI,'SimpleEventBus/Command');Qi(282,1,{},YB);var rh=ID(OI,'SimpleEventBus/lambda$0$Type',282);Qi(283,1,{330:1},ZB);var sh=ID(OI,'SimpleEventBus/lambda$1$Type',283);Qi(96,1,{},cC);_.J=function dC(a){if(a.readyState==4){if(a.status==200){this.a.mb(a);gj(a);return}this.a.lb(a,null);gj(a)}};var uh=ID('com.vaadin.client.gwt.elemental.js.util','Xhr/Handler',96);Qi(297,1,gH,mC);_.a=-1;_.b=false;_.c=false;_.d=false;_.e=false;_.f=false;_.g=false;_.h=false;_.i=false;_.j=false;_.k=false;_.l=false;var vh=ID(QH,'BrowserDetails',297);Qi(43,20,{43:1,4:1,30:1,20:1},uC);var pC,qC,rC,sC;var xh=JD(XI,'Dependency/Type',43,vC);var wC;Qi(42,20,{42:1,4:1,30:1,20:1},CC);var yC,zC,AC;var yh=JD(XI,'LoadMode',42,DC);Qi(114,1,sI,TC);_.Eb=function UC(){IC(this.b,this.c,this.a,this.d)};_.d=false;var Ah=ID('elemental.js.dom','JsElementalMixinBase/Remover',114);Qi(303,1,{},jD);_.Tb=function kD(){Ev(this.a)};var Bh=ID(CI,'Timer/1',303);Qi(304,1,{},lD);_.Tb=function mD(){Gv(this.a)};var Ch=ID(CI,'Timer/2',304);Qi(319,1,{});var Fh=ID(YI,'OutputStream',319);Qi(320,319,{});var Eh=ID(YI,'FilterOutputStream',320);Qi(124,320,{},nD);var Gh=ID(YI,'PrintStream',124);Qi(83,1,{110:1});_.p=function pD(){return this.a};var Hh=ID(eH,'AbstractStringBuilder',83);Qi(69,9,iH,qD);var Uh=ID(eH,'IndexOutOfBoundsException',69);Qi(183,69,iH,rD);var Ih=ID(eH,'ArrayIndexOutOfBoundsException',183);Qi(125,9,iH,sD);var Jh=ID(eH,'ArrayStoreException',125);Qi(37,5,{4:1,37:1,5:1});var Qh=ID(eH,'Error',37);Qi(3,37,{4:1,3:1,37:1,5:1},uD,vD);var Kh=ID(eH,'AssertionError',3);Ec={4:1,115:1,30:1};var wD,xD;var Lh=ID(eH,'Boolean',115);Qi(117,9,iH,WD);var Mh=ID(eH,'ClassCastException',117);Qi(82,1,{4:1,82:1});var XD;var Zh=ID(eH,'Number',82);Fc={4:1,30:1,116:1,82:1};var Oh=ID(eH,'Double',116);Qi(18,9,iH,bE);var Sh=ID(eH,'IllegalArgumentException',18);Qi(38,9,iH,cE);var Th=ID(eH,'IllegalStateException',38);Qi(25,82,{4:1,30:1,25:1,82:1},dE);_.m=function eE(a){return Sc(a,25)&&Ic(a,25).a==this.a};_.o=function fE(){return this.a};_.p=function gE(){return ''+this.a};_.a=0;var Vh=ID(eH,'Integer',25);var iE;Qi(474,1,{});Qi(65,53,iH,kE,lE,mE);_.r=function nE(a){return new TypeError(a)};var Xh=ID(eH,'NullPointerException',65);Qi(54,18,iH,oE);var Yh=ID(eH,'NumberFormatException',54);Qi(29,1,{4:1,29:1},pE);_.m=function qE(a){var b;if(Sc(a,29)){b=Ic(a,29);return this.c==b.c&&this.d==b.d&&this.a==b.a&&this.b==b.b}return false};_.o=function rE(){return rF(Dc(xc($h,1),gH,1,5,[hE(this.c),this.a,this.d,this.b]))};_.p=function sE(){return this.a+'.'+this.d+'('+(this.b!=null?this.b:'Unknown Source')+(this.c>=0?':'+this.c:'')+')'};_.c=0;var ai=ID(eH,'StackTraceElement',29);Gc={4:1,110:1,30:1,2:1};var di=ID(eH,'String',2);Qi(68,83,{110:1},ME,NE,OE);var bi=ID(eH,'StringBuilder',68);Qi(123,69,iH,PE);var ci=ID(eH,'StringIndexOutOfBoundsException',123);Qi(478,1,{});var QE;Qi(105,1,uH,TE);_.U=function UE(a){return SE(a)};var ei=ID(eH,'Throwable/lambda$0$Type',105);Qi(93,9,iH,VE);var gi=ID(eH,'UnsupportedOperationException',93);Qi(321,1,{103:1});_.$b=function WE(a){throw Ii(new VE('Add not supported on this collection'))};_.p=function XE(){var a,b,c;c=new WF;for(b=this._b();b.cc();){a=b.dc();VF(c,a===this?'(this Collection)':a==null?jH:Ui(a))}return !c.a?c.c:c.e.length==0?c.a.a:c.a.a+(''+c.e)};var hi=ID($I,'AbstractCollection',321);Qi(322,321,{103:1,90:1});_.bc=function YE(a,b){throw Ii(new VE('Add not supported on this list'))};_.$b=function ZE(a){this.bc(this.ac(),a);return true};_.m=function $E(a){var b,c,d,e,f;if(a===this){return true}if(!Sc(a,39)){return false}f=Ic(a,90);if(this.a.length!=f.a.length){return false}e=new oF(f);for(c=new oF(this);c.a<c.c.a.length;){b=nF(c);d=nF(e);if(!(_c(b)===_c(d)||b!=null&&K(b,d))){return false}}return true};_.o=function _E(){return uF(this)};_._b=function aF(){return new bF(this)};var ji=ID($I,'AbstractList',322);Qi(132,1,{},bF);_.cc=function cF(){return this.a<this.b.a.length};_.dc=function dF(){MG(this.a<this.b.a.length);return fF(this.b,this.a++)};_.a=0;var ii=ID($I,'AbstractList/IteratorImpl',132);Qi(39,322,{4:1,39:1,103:1,90:1},iF);_.bc=function jF(a,b){PG(a,this.a.length);IG(this.a,a,b)};_.$b=function kF(a){return eF(this,a)};_._b=function lF(){return new oF(this)};_.ac=function mF(){return this.a.length};var li=ID($I,'ArrayList',39);Qi(70,1,{},oF);_.cc=function pF(){return this.a<this.c.a.length};_.dc=function qF(){return nF(this)};_.a=0;_.b=-1;var ki=ID($I,'ArrayList/1',70);Qi(150,9,iH,vF);var mi=ID($I,'NoSuchElementException',150);Qi(63,1,{63:1},BF);_.m=function CF(a){var b;if(a===this){return true}if(!Sc(a,63)){return false}b=Ic(a,63);return wF(this.a,b.a)};_.o=function DF(){return xF(this.a)};_.p=function FF(){return this.a!=null?'Optional.of('+IE(this.a)+')':'Optional.empty()'};var yF;var ni=ID($I,'Optional',63);Qi(138,1,{});_.gc=function KF(a){GF(this,a)};_.ec=function IF(){return this.c};_.fc=function JF(){return this.d};_.c=0;_.d=0;var ri=ID($I,'Spliterators/BaseSpliterator',138);Qi(139,138,{});var oi=ID($I,'Spliterators/AbstractSpliterator',139);Qi(135,1,{});_.gc=function QF(a){GF(this,a)};_.ec=function OF(){return this.b};_.fc=function PF(){return this.d-this.c};_.b=0;_.c=0;_.d=0;var qi=ID($I,'Spliterators/BaseArraySpliterator',135);Qi(136,135,{},SF);_.gc=function TF(a){MF(this,a)};_.hc=function UF(a){return NF(this,a)};var pi=ID($I,'Spliterators/ArraySpliterator',136);Qi(122,1,{},WF);_.p=function XF(){return !this.a?this.c:this.e.length==0?this.a.a:this.a.a+(''+this.e)};var si=ID($I,'StringJoiner',122);Qi(109,1,uH,YF);_.U=function ZF(a){return a};var ti=ID('java.util.function','Function/lambda$0$Type',109);Qi(47,20,{4:1,30:1,20:1,47:1},dG);var _F,aG,bG;var ui=JD(_I,'Collector/Characteristics',47,eG);Qi(286,1,{},fG);var vi=ID(_I,'CollectorImpl',286);Qi(107,1,xH,hG);_.bb=function iG(a,b){gG(a,b)};var wi=ID(_I,'Collectors/20methodref$add$Type',107);Qi(106,1,vH,jG);_.ab=function kG(){return new iF};var xi=ID(_I,'Collectors/21methodref$ctor$Type',106);Qi(108,1,{},lG);var yi=ID(_I,'Collectors/lambda$42$Type',108);Qi(137,1,{});_.c=false;var Fi=ID(_I,'TerminatableStream',137);Qi(95,137,{},tG);var Ei=ID(_I,'StreamImpl',95);Qi(140,139,{},xG);_.hc=function yG(a){return this.b.hc(new zG(this,a))};var Ai=ID(_I,'StreamImpl/MapToObjSpliterator',140);Qi(142,1,{},zG);_.fb=function AG(a){wG(this.a,this.b,a)};var zi=ID(_I,'StreamImpl/MapToObjSpliterator/lambda$0$Type',142);Qi(141,1,{},CG);_.fb=function DG(a){BG(this,a)};var Bi=ID(_I,'StreamImpl/ValueConsumer',141);Qi(143,1,{},FG);var Ci=ID(_I,'StreamImpl/lambda$4$Type',143);Qi(144,1,{},GG);_.fb=function HG(a){vG(this.b,this.a,a)};var Di=ID(_I,'StreamImpl/lambda$5$Type',144);Qi(476,1,{});Qi(473,1,{});var TG=0;var VG,WG=0,XG;var aH=(Db(),Gb);var gwtOnLoad=gwtOnLoad=Mi;Ki(Wi);Ni('permProps',[[[cJ,'gecko1_8']],[[cJ,'safari']]]);if (client) client.onScriptLoad(gwtOnLoad);})();
+};
\ No newline at end of file
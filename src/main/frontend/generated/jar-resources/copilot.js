@@ -0,0 +1 @@
+import "./copilot/copilot-Cn85U7pa.js";
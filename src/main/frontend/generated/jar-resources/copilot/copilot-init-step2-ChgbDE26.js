@@ -0,0 +1,2431 @@
+import { m as k, M, C as j, n as d, b as g, o as re, r as L, q as S, e as r, O as Q, A as x, u as m, w as l, x as le, y as de, z as O, B as _, D as h, f as ce, h as pe, P as he, E as ge, I as ue, V as ve, F as fe, G as T, H as me, J as ee, K as Y, L as be, N as we, Q as te, R as ye, S as xe, T as Pe, U as ie } from "./copilot-Cn85U7pa.js";
+import { n as R, r as A } from "./state-BhzPx_8H.js";
+import { e as z, m as oe } from "./overlay-monkeypatch-BkTqONsW.js";
+import { i as c } from "./icons-Dw_MbfTe.js";
+import { o as ze, p as Ie } from "./react-utils-BPFPQdLp.js";
+import { dismissNotification as Ae, showNotification as ne } from "./copilot-notification-CFPuupIJ.js";
+/**
+ * @license
+ * Copyright 2017 Google LLC
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+function Ce(e) {
+  return (t, i) => {
+    const o = typeof t == "function" ? t : t[i];
+    Object.assign(o, e);
+  };
+}
+const F = "@keyframes bounce{0%{transform:scale(.8)}50%{transform:scale(1.5)}to{transform:scale(1)}}@keyframes pulse{0%{box-shadow:0 0 calc(var(--pulse-size) * 2) 0 transparent}25%{box-shadow:0 0 calc(var(--pulse-size) * 2) 0 var(--pulse-first-color, var(--selection-color))}50%{box-shadow:0 0 calc(var(--pulse-size) * 2) 0 transparent}75%{box-shadow:0 0 calc(var(--pulse-size) * 2) 0 var(--pulse-second-color, var(--accent-color))}to{box-shadow:0 0 calc(var(--pulse-size) * 2) 0 transparent}}@keyframes around-we-go-again{0%{background-position:0 0,0 0,calc(var(--glow-size) * -.5) calc(var(--glow-size) * -.5),calc(100% + calc(var(--glow-size) * .5)) calc(100% + calc(var(--glow-size) * .5))}25%{background-position:0 0,0 0,calc(100% + calc(var(--glow-size) * .5)) calc(var(--glow-size) * -.5),calc(var(--glow-size) * -.5) calc(100% + calc(var(--glow-size) * .5))}50%{background-position:0 0,0 0,calc(100% + calc(var(--glow-size) * .5)) calc(100% + calc(var(--glow-size) * .5)),calc(var(--glow-size) * -.5) calc(var(--glow-size) * -.5)}75%{background-position:0 0,0 0,calc(var(--glow-size) * -.5) calc(100% + calc(var(--glow-size) * .5)),calc(100% + calc(var(--glow-size) * .5)) calc(var(--glow-size) * -.5)}to{background-position:0 0,0 0,calc(var(--glow-size) * -.5) calc(var(--glow-size) * -.5),calc(100% + calc(var(--glow-size) * .5)) calc(100% + calc(var(--glow-size) * .5))}}@keyframes swirl{0%{rotate:0deg;filter:hue-rotate(20deg)}50%{filter:hue-rotate(-30deg)}to{rotate:360deg;filter:hue-rotate(20deg)}}";
+var ke = Object.defineProperty, Se = Object.getOwnPropertyDescriptor, I = (e, t, i, o) => {
+  for (var n = o > 1 ? void 0 : o ? Se(t, i) : t, a = e.length - 1, s; a >= 0; a--)
+    (s = e[a]) && (n = (o ? s(t, i, n) : s(n)) || n);
+  return o && n && ke(t, i, n), n;
+};
+const N = "data-drag-initial-index", E = "data-drag-final-index";
+let y = class extends M {
+  constructor() {
+    super(...arguments), this.position = "right", this.opened = !1, this.keepOpen = !1, this.resizing = !1, this.closingForcefully = !1, this.draggingSectionPanel = null, this.activationAnimationTransitionEndListener = () => {
+      this.style.removeProperty("--closing-delay"), this.style.removeProperty("--initial-position"), this.removeEventListener("transitionend", this.activationAnimationTransitionEndListener);
+    }, this.resizingMouseMoveListener = (e) => {
+      if (!this.resizing)
+        return;
+      const { x: t, y: i } = e;
+      e.stopPropagation(), e.preventDefault(), requestAnimationFrame(() => {
+        let o;
+        if (this.position === "right") {
+          const n = document.body.clientWidth - t;
+          this.style.setProperty("--size", `${n}px`), j.saveDrawerSize(this.position, n), o = { width: n };
+        } else if (this.position === "left") {
+          const n = t;
+          this.style.setProperty("--size", `${n}px`), j.saveDrawerSize(this.position, n), o = { width: n };
+        } else if (this.position === "bottom") {
+          const n = document.body.clientHeight - i;
+          this.style.setProperty("--size", `${n}px`), j.saveDrawerSize(this.position, n), o = { height: n };
+        }
+        d.panels.filter((n) => !n.floating && n.panel === this.position).forEach((n) => {
+          d.updatePanel(n.tag, o);
+        });
+      });
+    }, this.sectionPanelDraggingStarted = (e, t) => {
+      this.draggingSectionPanel = e, g.emit("user-select", { allowSelection: !1 }), this.draggingSectionPointerStartY = t.clientY, e.toggleAttribute("dragging", !0), e.style.zIndex = "1000", Array.from(this.querySelectorAll("copilot-section-panel-wrapper")).forEach((i, o) => {
+        i.setAttribute(N, `${o}`);
+      }), document.addEventListener("mousemove", this.sectionPanelDragging), document.addEventListener("mouseup", this.sectionPanelDraggingFinished);
+    }, this.sectionPanelDragging = (e) => {
+      if (!this.draggingSectionPanel)
+        return;
+      const { clientX: t, clientY: i } = e;
+      if (!re(this.getBoundingClientRect(), t, i)) {
+        this.cleanUpDragging();
+        return;
+      }
+      const o = i - this.draggingSectionPointerStartY;
+      this.draggingSectionPanel.style.transform = `translateY(${o}px)`, this.updateSectionPanelPositionsWhileDragging();
+    }, this.sectionPanelDraggingFinished = () => {
+      if (!this.draggingSectionPanel)
+        return;
+      g.emit("user-select", { allowSelection: !0 });
+      const e = this.getAllPanels().filter(
+        (t) => t.hasAttribute(E) && t.panelInfo?.panelOrder !== Number.parseInt(t.getAttribute(E), 10)
+      ).map((t) => ({
+        tag: t.panelTag,
+        order: Number.parseInt(t.getAttribute(E), 10)
+      }));
+      this.cleanUpDragging(), d.updateOrders(e), document.removeEventListener("mouseup", this.sectionPanelDraggingFinished), document.removeEventListener("mousemove", this.sectionPanelDragging);
+    }, this.updateSectionPanelPositionsWhileDragging = () => {
+      const e = this.draggingSectionPanel.getBoundingClientRect().height;
+      this.getAllPanels().sort((t, i) => {
+        const o = t.getBoundingClientRect(), n = i.getBoundingClientRect(), a = (o.top + o.bottom) / 2, s = (n.top + n.bottom) / 2;
+        return a - s;
+      }).forEach((t, i) => {
+        if (t.setAttribute(E, `${i}`), t.panelTag !== this.draggingSectionPanel?.panelTag) {
+          const o = Number.parseInt(t.getAttribute(N), 10);
+          o > i ? t.style.transform = `translateY(${-e}px)` : o < i ? t.style.transform = `translateY(${e}px)` : t.style.removeProperty("transform");
+        }
+      });
+    };
+  }
+  static get styles() {
+    return [
+      L(F),
+      S`
+        :host {
+          --size: 350px;
+          --min-size: 20%;
+          --max-size: 80%;
+          --default-content-height: 300px;
+          --transition-duration: var(--duration-2);
+          --opening-delay: var(--duration-2);
+          --closing-delay: var(--duration-3);
+          --hover-size: 18px;
+          --pulse-size: var(--hover-size);
+          --pulse-animation-duration: 8s;
+          --initial-position: 0px;
+          position: absolute;
+          z-index: var(--z-index-drawer);
+          transition: translate var(--transition-duration) var(--closing-delay);
+        }
+
+        :host([no-transition]),
+        :host([no-transition]) .container {
+          transition: none;
+          -webkit-transition: none;
+          -moz-transition: none;
+          -o-transition: none;
+        }
+
+        :host(:is([position='left'], [position='right'])) {
+          width: var(--size);
+          min-width: var(--min-size);
+          max-width: var(--max-size);
+          top: 0;
+          bottom: 0;
+        }
+
+        :host([position='left']) {
+          left: var(--initial-position);
+          translate: calc(-100% + var(--hover-size)) 0%;
+          padding-right: var(--hover-size);
+        }
+
+        :host([position='right']) {
+          right: var(--initial-position);
+          translate: calc(100% - var(--hover-size)) 0%;
+          padding-left: var(--hover-size);
+        }
+
+        :host([position='bottom']) {
+          height: var(--size);
+          min-height: var(--min-size);
+          max-height: var(--max-size);
+          bottom: var(--initial-position);
+          left: 0;
+          right: 0;
+          translate: 0% calc(100% - var(--hover-size));
+          padding-top: var(--hover-size);
+        }
+
+        /* The visible container. Needed to have extra space for hover and resize handle outside it. */
+
+        .container {
+          display: flex;
+          flex-direction: column;
+          box-sizing: border-box;
+          height: 100%;
+          background: var(--surface);
+          -webkit-backdrop-filter: var(--surface-backdrop-filter);
+          backdrop-filter: var(--surface-backdrop-filter);
+          overflow-y: auto;
+          overflow-x: hidden;
+          box-shadow: var(--surface-box-shadow-2);
+          transition:
+            opacity var(--transition-duration) var(--closing-delay),
+            visibility calc(var(--transition-duration) * 2) var(--closing-delay);
+          opacity: 0;
+          /* For accessibility (restored when open) */
+          visibility: hidden;
+        }
+
+        :host([position='left']) .container {
+          border-right: 1px solid var(--surface-border-color);
+        }
+
+        :host([position='right']) .container {
+          border-left: 1px solid var(--surface-border-color);
+        }
+
+        :host([position='bottom']) .container {
+          border-top: 1px solid var(--surface-border-color);
+        }
+
+        /* Opened state */
+
+        :host(:is([opened], [keepopen])) {
+          translate: 0% 0%;
+          transition-delay: var(--opening-delay);
+          z-index: var(--z-index-opened-drawer);
+        }
+
+        :host(:is([opened], [keepopen])) .container {
+          transition-delay: var(--opening-delay);
+          visibility: visible;
+          opacity: 1;
+        }
+
+        .resize {
+          position: absolute;
+          z-index: 10;
+          inset: 0;
+        }
+
+        :host(:is([position='left'], [position='right'])) .resize {
+          width: var(--hover-size);
+          cursor: col-resize;
+        }
+
+        :host([position='left']) .resize {
+          left: auto;
+          right: calc(var(--hover-size) * 0.5);
+        }
+
+        :host([position='right']) .resize {
+          right: auto;
+          left: calc(var(--hover-size) * 0.5);
+        }
+
+        :host([position='bottom']) .resize {
+          height: var(--hover-size);
+          bottom: auto;
+          top: calc(var(--hover-size) * 0.5);
+          cursor: row-resize;
+        }
+
+        :host([resizing]) .container {
+          /* vaadin-grid (used in the outline) blocks the mouse events */
+          pointer-events: none;
+        }
+
+        /* Visual indication of the drawer */
+
+        :host::before {
+          content: '';
+          position: absolute;
+          pointer-events: none;
+          z-index: -1;
+          inset: var(--hover-size);
+          transition: opacity var(--transition-duration) var(--closing-delay);
+          animation: pulse var(--pulse-animation-duration) infinite;
+        }
+        :host([document-hidden])::before {
+          animation: none;
+        }
+
+        :host([attention-required]) {
+          --pulse-animation-duration: 2s;
+          --pulse-first-color: var(--red-500);
+          --pulse-second-color: var(--red-800);
+        }
+
+        :host(:is([opened], [keepopen]))::before {
+          transition-delay: var(--opening-delay);
+          opacity: 0;
+        }
+        .hasmore {
+          position: absolute;
+          bottom: 0;
+          width: 100%;
+
+          text-align: center;
+          padding-bottom: 0.5em;
+          background: linear-gradient(to bottom, rgba(0, 0, 0, 0), var(--surface-2));
+          padding-top: 2em;
+          display: none;
+        }
+        .hasmoreContainer {
+          height: 100%;
+          position: relative;
+        }
+        :host([position='left']) .hasmoreContainer[canscroll] .hasmore,
+        :host([position='right']) .hasmoreContainer[canscroll] .hasmore {
+          display: block;
+        }
+      `
+    ];
+  }
+  connectedCallback() {
+    super.connectedCallback(), this.reaction(
+      () => d.panels,
+      () => this.requestUpdate()
+    ), this.reaction(
+      () => r.operationInProgress,
+      (t) => {
+        t === Q.DragAndDrop && !this.opened && !this.keepOpen ? this.style.setProperty("pointer-events", "none") : this.style.setProperty("pointer-events", "auto");
+      }
+    ), this.reaction(
+      () => d.getAttentionRequiredPanelConfiguration(),
+      () => {
+        const t = d.getAttentionRequiredPanelConfiguration();
+        t && !t.floating && this.toggleAttribute(x, t.panel === this.position);
+      }
+    ), this.reaction(
+      () => r.active,
+      () => {
+        if (!r.active || !m.isActivationAnimation() || r.activatedFrom === "restore" || r.activatedFrom === "test")
+          return;
+        const t = d.getAttentionRequiredPanelConfiguration();
+        t && !t.floating && t.panel === this.position || (this.addEventListener("transitionend", this.activationAnimationTransitionEndListener), this.toggleAttribute("no-transition", !0), this.opened = !0, this.style.setProperty("--closing-delay", "var(--duration-1)"), this.style.setProperty("--initial-position", "calc(-1 * (max(var(--size), var(--min-size)) * 1) / 3)"), requestAnimationFrame(() => {
+          this.toggleAttribute("no-transition", !1), this.opened = !1;
+        }));
+      }
+    ), document.addEventListener("mouseup", () => {
+      this.resizing = !1, r.setDrawerResizing(!1), this.removeAttribute("resizing"), g.emit("user-select", { allowSelection: !0 });
+    });
+    const e = j.getDrawerSize(this.position);
+    e && this.style.setProperty("--size", `${e}px`), document.addEventListener("mousemove", this.resizingMouseMoveListener), this.addEventListener("mouseenter", this.mouseEnterListener), g.on("document-activation-change", (t) => {
+      this.toggleAttribute("document-hidden", !t.detail.active);
+    });
+  }
+  firstUpdated(e) {
+    super.firstUpdated(e), requestAnimationFrame(() => this.toggleAttribute("no-transition", !1)), this.resizeElement.addEventListener("mousedown", (t) => {
+      t.button === 0 && (this.resizing = !0, r.setDrawerResizing(!0), this.setAttribute("resizing", ""), g.emit("user-select", { allowSelection: !1 }));
+    });
+  }
+  updated(e) {
+    super.updated(e), e.has("opened") && this.opened && this.hasAttribute(x) && (this.removeAttribute(x), d.clearAttention()), this.updateScrollable();
+  }
+  disconnectedCallback() {
+    super.disconnectedCallback(), document.removeEventListener("mousemove", this.resizingMouseMoveListener), this.removeEventListener("mouseenter", this.mouseEnterListener);
+  }
+  /**
+   * Cleans up attributes/styles etc... for dragging operations
+   * @private
+   */
+  cleanUpDragging() {
+    this.draggingSectionPanel && (r.setSectionPanelDragging(!1), this.draggingSectionPanel.style.zIndex = "", Array.from(this.querySelectorAll("copilot-section-panel-wrapper")).forEach((e) => {
+      e.style.removeProperty("transform"), e.removeAttribute(E), e.removeAttribute(N);
+    }), this.draggingSectionPanel.removeAttribute("dragging"), this.draggingSectionPanel = null);
+  }
+  getAllPanels() {
+    return Array.from(this.querySelectorAll("copilot-section-panel-wrapper"));
+  }
+  /**
+   * Closes the drawer and disables mouse enter event for a while.
+   */
+  forceClose() {
+    this.closingForcefully = !0, this.opened = !1, setTimeout(() => {
+      this.closingForcefully = !1;
+    }, 0.5);
+  }
+  mouseEnterListener(e) {
+    if (this.closingForcefully || r.sectionPanelResizing)
+      return;
+    document.querySelector("copilot-main").shadowRoot.querySelector("copilot-drawer-panel[opened]") || (this.opened = !0);
+  }
+  render() {
+    return l`
+      <div class="hasmoreContainer">
+        <div class="container" @scroll=${this.updateScrollable}>
+          <slot></slot>
+        </div>
+        <div class="hasmore">⌄</div>
+      </div>
+      <div class="resize"></div>
+    `;
+  }
+  updateScrollable() {
+    this.hasmoreContainer.toggleAttribute(
+      "canscroll",
+      this.container.scrollHeight - this.container.scrollTop - this.container.clientHeight > 10
+    );
+  }
+};
+I([
+  R({ reflect: !0, attribute: !0 })
+], y.prototype, "position", 2);
+I([
+  R({ reflect: !0, type: Boolean })
+], y.prototype, "opened", 2);
+I([
+  R({ reflect: !0, type: Boolean })
+], y.prototype, "keepOpen", 2);
+I([
+  z(".container")
+], y.prototype, "container", 2);
+I([
+  z(".hasmoreContainer")
+], y.prototype, "hasmoreContainer", 2);
+I([
+  z(".resize")
+], y.prototype, "resizeElement", 2);
+I([
+  Ce({ passive: !0 })
+], y.prototype, "updateScrollable", 1);
+y = I([
+  k("copilot-drawer-panel")
+], y);
+var De = Object.defineProperty, $e = Object.getOwnPropertyDescriptor, ae = (e, t, i, o) => {
+  for (var n = o > 1 ? void 0 : o ? $e(t, i) : t, a = e.length - 1, s; a >= 0; a--)
+    (s = e[a]) && (n = (o ? s(t, i, n) : s(n)) || n);
+  return o && n && De(t, i, n), n;
+};
+let V = class extends le {
+  constructor() {
+    super(...arguments), this.checked = !1;
+  }
+  static get styles() {
+    return S`
+      .switch {
+        display: inline-flex;
+        align-items: center;
+        gap: var(--space-100);
+      }
+
+      .switch input {
+        display: none;
+      }
+
+      .slider {
+        background-color: var(--gray-300);
+        border-radius: 9999px;
+        cursor: pointer;
+        inset: 0;
+        position: absolute;
+        transition: 0.4s;
+        height: 0.75rem;
+        position: relative;
+        width: 1.5rem;
+        min-width: 1.5rem;
+      }
+
+      .slider:before {
+        background-color: white;
+        border-radius: 50%;
+        bottom: 1px;
+        content: '';
+        height: 0.625rem;
+        left: 1px;
+        position: absolute;
+        transition: 0.4s;
+        width: 0.625rem;
+      }
+
+      input:checked + .slider {
+        background-color: var(--selection-color);
+      }
+
+      input:checked + .slider:before {
+        transform: translateX(0.75rem);
+      }
+
+      label:has(input:focus) {
+        outline: 2px solid var(--selection-color);
+        outline-offset: 2px;
+      }
+    `;
+  }
+  render() {
+    return l`
+      <label class="switch">
+        <input
+          class="feature-toggle"
+          id="feature-toggle-${this.id}"
+          type="checkbox"
+          ?checked="${this.checked}"
+          @change=${(e) => {
+      e.preventDefault(), this.checked = e.target.checked, this.dispatchEvent(new CustomEvent("on-change"));
+    }} />
+        <span class="slider"></span>
+        ${this.title}
+      </label>
+    `;
+  }
+  //  @change=${(e: InputEvent) => this.toggleFeatureFlag(e, feature)}
+};
+ae([
+  R({ reflect: !0, type: Boolean })
+], V.prototype, "checked", 2);
+V = ae([
+  k("copilot-toggle-button")
+], V);
+function v(e, t) {
+  const i = document.createElement(e);
+  if (t.style && (i.className = t.style), t.icon)
+    if (typeof t.icon == "string") {
+      const o = document.createElement("vaadin-icon");
+      o.setAttribute("icon", t.icon), i.append(o);
+    } else
+      i.append(Ee(t.icon.strings[0]));
+  if (t.label) {
+    const o = document.createElement("span");
+    o.className = "label", o.innerHTML = t.label, i.append(o);
+  }
+  if (t.hint) {
+    const o = document.createElement("span");
+    o.className = "hint", o.innerHTML = t.hint, i.append(o);
+  }
+  return i;
+}
+function Ee(e) {
+  if (!e) return null;
+  const t = document.createElement("template");
+  t.innerHTML = e;
+  const i = t.content.children;
+  return i.length === 1 ? i[0] : i;
+}
+class Le {
+  constructor() {
+    this.offsetX = 0, this.offsetY = 0;
+  }
+  draggingStarts(t, i) {
+    this.offsetX = i.clientX - t.getBoundingClientRect().left, this.offsetY = i.clientY - t.getBoundingClientRect().top;
+  }
+  dragging(t, i) {
+    const o = i.clientX, n = i.clientY, a = o - this.offsetX, s = o - this.offsetX + t.getBoundingClientRect().width, p = n - this.offsetY, f = n - this.offsetY + t.getBoundingClientRect().height;
+    return this.adjust(t, a, p, s, f);
+  }
+  adjust(t, i, o, n, a) {
+    let s, p, f, $;
+    const B = document.documentElement.getBoundingClientRect().width, J = document.documentElement.getBoundingClientRect().height;
+    return (n + i) / 2 < B / 2 ? (t.style.setProperty("--left", `${i}px`), t.style.setProperty("--right", ""), $ = void 0, s = Math.max(0, i)) : (t.style.removeProperty("--left"), t.style.setProperty("--right", `${B - n}px`), s = void 0, $ = Math.max(0, B - n)), (o + a) / 2 < J / 2 ? (t.style.setProperty("--top", `${o}px`), t.style.setProperty("--bottom", ""), f = void 0, p = Math.max(0, o)) : (t.style.setProperty("--top", ""), t.style.setProperty("--bottom", `${J - a}px`), p = void 0, f = Math.max(0, J - a)), {
+      left: s,
+      right: $,
+      top: p,
+      bottom: f
+    };
+  }
+  anchor(t) {
+    const { left: i, top: o, bottom: n, right: a } = t.getBoundingClientRect();
+    return this.adjust(t, i, o, a, n);
+  }
+  anchorLeftTop(t) {
+    const { left: i, top: o } = t.getBoundingClientRect();
+    return t.style.setProperty("--left", `${i}px`), t.style.setProperty("--right", ""), t.style.setProperty("--top", `${o}px`), t.style.setProperty("--bottom", ""), {
+      left: i,
+      top: o
+    };
+  }
+}
+const w = new Le();
+var Me = Object.defineProperty, Re = Object.getOwnPropertyDescriptor, D = (e, t, i, o) => {
+  for (var n = o > 1 ? void 0 : o ? Re(t, i) : t, a = e.length - 1, s; a >= 0; a--)
+    (s = e[a]) && (n = (o ? s(t, i, n) : s(n)) || n);
+  return o && n && Me(t, i, n), n;
+};
+const G = "https://github.com/JetBrains/JetBrainsRuntime/releases";
+function je(e, t) {
+  if (!t)
+    return !0;
+  const [i, o, n] = t.split(".").map((f) => parseInt(f)), [a, s, p] = e.split(".").map((f) => parseInt(f));
+  if (i < a)
+    return !0;
+  if (i == a) {
+    if (o < s)
+      return !0;
+    if (o === s)
+      return n < p;
+  }
+  return !1;
+}
+const W = "Download complete";
+let b = class extends M {
+  constructor() {
+    super(), this.javaPluginSectionOpened = !1, this.hotswapSectionOpened = !1, this.hotswapTab = "hotswapagent", this.downloadStatusMessages = [], this.downloadProgress = 0, this.onDownloadStatusUpdate = this.downloadStatusUpdate.bind(this), this.reaction(
+      () => [r.jdkInfo, r.idePluginState],
+      () => {
+        r.idePluginState && (!r.idePluginState.ide || !r.idePluginState.active ? this.javaPluginSectionOpened = !0 : (!(/* @__PURE__ */ new Set(["vscode", "intellij"])).has(r.idePluginState.ide) || !r.idePluginState.active) && (this.javaPluginSectionOpened = !1)), r.jdkInfo && O() !== "success" && (this.hotswapSectionOpened = !0);
+      },
+      { fireImmediately: !0 }
+    );
+  }
+  connectedCallback() {
+    super.connectedCallback(), g.on("set-up-vs-code-hotswap-status", this.onDownloadStatusUpdate);
+  }
+  disconnectedCallback() {
+    super.disconnectedCallback(), g.off("set-up-vs-code-hotswap-status", this.onDownloadStatusUpdate);
+  }
+  render() {
+    const e = {
+      intellij: r.idePluginState?.ide === "intellij",
+      vscode: r.idePluginState?.ide === "vscode",
+      eclipse: r.idePluginState?.ide === "eclipse",
+      idePluginInstalled: !!r.idePluginState?.active
+    };
+    return l`
+      <div part="container">${this.renderPluginSection(e)} ${this.renderHotswapSection(e)}</div>
+      <div part="footer">
+        <vaadin-button
+          id="close"
+          @click="${() => d.updatePanel(q.tag, { floating: !1 })}"
+          >Close
+        </vaadin-button>
+        <vaadin-button
+          id="more-info"
+          theme="tertiary"
+          @click="${() => {
+      window.open(
+        "https://vaadin.com/docs/latest/flow/configuration/live-reload/hotswap-agent",
+        "_blank",
+        "noopener"
+      );
+    }}"
+          >More information...
+        </vaadin-button>
+      </div>
+    `;
+  }
+  renderPluginSection(e) {
+    let t = "";
+    e.intellij ? t = "IntelliJ" : e.vscode ? t = "VS Code" : e.eclipse && (t = "Eclipse");
+    let i, o;
+    e.vscode || e.intellij ? e.idePluginInstalled ? (i = `Plugin for ${t} installed`, o = this.renderPluginInstalledContent()) : (i = `Plugin for ${t} not installed`, o = this.renderPluginIsNotInstalledContent(e)) : e.eclipse ? (i = "Eclipse development workflow is not supported yet", o = this.renderEclipsePluginContent()) : (i = "No IDE found", o = this.renderNoIdePluginContent());
+    const n = e.idePluginInstalled ? c.successColorful : c.warningColorful;
+    return l`
+      <details
+        part="panel"
+        .open=${this.javaPluginSectionOpened}
+        @toggle=${(a) => {
+      _(() => {
+        this.javaPluginSectionOpened = a.target.open;
+      });
+    }}>
+        <summary part="header">
+          <span class="icon">${n}</span>
+          <div>${i}</div>
+        </summary>
+        <div part="content">${o}</div>
+      </details>
+    `;
+  }
+  renderNoIdePluginContent() {
+    return l`
+      <div>
+        <div>We could not detect an IDE</div>
+        ${this.recommendSupportedPlugin()}
+      </div>
+    `;
+  }
+  renderEclipsePluginContent() {
+    return l`
+      <div>
+        <div>Eclipse workflow environment is not supported yet.</div>
+        ${this.recommendSupportedPlugin()}
+      </div>
+    `;
+  }
+  recommendSupportedPlugin() {
+    return l`<p>
+      Please use <a href="https://code.visualstudio.com">Visual Studio Code</a> or
+      <a href="https://www.jetbrains.com/idea">IntelliJ IDEA</a> for better development experience
+    </p>`;
+  }
+  renderPluginInstalledContent() {
+    return l` <p>You have a running plugin. Enjoy your awesome development workflow!</p> `;
+  }
+  renderPluginIsNotInstalledContent(e) {
+    let t = null, i = "Install from Marketplace";
+    return e.intellij ? (t = ue, i = "Install from JetBrains Marketplace") : e.vscode && (t = ve, i = "Install from VSCode Marketplace"), l`
+      <div>
+        <div>Install the Vaadin IDE Plugin to ensure a smooth development workflow</div>
+        <p>
+          Installing the plugin is not required, but strongly recommended.<br />Some Vaadin Copilot functionality, such
+          as undo, will not function optimally without the plugin.
+        </p>
+        ${t ? l` <div>
+              <vaadin-button
+                @click="${() => {
+      window.open(t, "_blank");
+    }}"
+                >${i}
+                <vaadin-icon icon="vaadin:external-link"></vaadin-icon>
+              </vaadin-button>
+            </div>` : h}
+      </div>
+    `;
+  }
+  renderHotswapSection(e) {
+    const { jdkInfo: t } = r;
+    if (!t)
+      return h;
+    const i = O();
+    let o, n, a;
+    return i === "success" ? (o = c.successColorful, a = "Java Hotswap is enabled") : i === "warning" ? (o = c.warningColorful, a = "Java Hotswap is not enabled") : i === "error" && (o = c.warningColorful, a = "Java Hotswap is partially enabled"), this.hotswapTab === "jrebel" ? t.jrebel ? n = this.renderJRebelInstalledContent() : n = this.renderJRebelNotInstalledContent() : e.intellij ? n = this.renderHotswapAgentIntelliJPluginContent() : n = this.renderHotswapAgentNotInstalledContent(e), l`
+      <details
+        part="panel"
+        .open=${this.hotswapSectionOpened}
+        @toggle=${(s) => {
+      _(() => {
+        this.hotswapSectionOpened = s.target.open;
+      });
+    }}>
+        <summary part="header">
+          <span class="icon">${o}</span>
+          <div>${a}</div>
+        </summary>
+        <div part="content">
+          <div class="tabs" role="tablist">
+            <button
+              aria-selected="${this.hotswapTab === "hotswapagent" ? "true" : "false"}"
+              class="tab"
+              role="tab"
+              @click=${() => {
+      this.hotswapTab = "hotswapagent";
+    }}>
+              Hotswap Agent
+            </button>
+            <button
+              aria-selected="${this.hotswapTab === "jrebel" ? "true" : "false"}"
+              class="tab"
+              role="tab"
+              @click=${() => {
+      this.hotswapTab = "jrebel";
+    }}>
+              JRebel
+            </button>
+          </div>
+          <div part="content">${n}</div>
+        </div>
+      </details>
+    `;
+  }
+  renderJRebelInstalledContent() {
+    return l` <div>JRebel is running and enabled.</div> `;
+  }
+  renderJRebelNotInstalledContent() {
+    return l`
+      <div>
+        <a href="https://www.jrebel.com">JRebel ${c.linkExternal}</a> is a commercial hotswap solution. Vaadin
+        detects the JRebel Agent and automatically reloads the application in the browser after the Java changes have
+        been hotpatched.
+        <br />
+        <a href="https://www.jrebel.com/products/jrebel">Read more</a>
+        <p>
+          Go to
+          <a href="https://www.jrebel.com/products/jrebel/learn" target="_blank" rel="noopener noreferrer">
+            >https://www.jrebel.com/products/jrebel/learn ${c.linkExternal}</a
+          >
+          to get started
+        </p>
+      </div>
+    `;
+  }
+  renderHotswapAgentNotInstalledContent(e) {
+    const t = O(), i = [
+      this.renderJavaRunningInDebugModeSection(),
+      t === "success" ? this.renderHotswapAgentInstalledContent() : h,
+      this.renderHotswapAgentJdkSection(e),
+      this.renderInstallHotswapAgentJdkSection(e),
+      this.renderHotswapAgentVersionSection(),
+      this.renderHotswapAgentMissingArgParam(e)
+    ];
+    return l` <div part="hotswap-agent-section-container">${i}</div> `;
+  }
+  renderHotswapAgentIntelliJPluginContent() {
+    const t = O() === "success";
+    return l`
+      <div part="hotswap-agent-section-container">
+        <div class="inner-section">
+          <details class="inner" .open="${!t}">
+            <summary>
+              <span class="icon">${t ? c.successColorful : c.warningColorful}</span>
+              <div>Use 'Debug using Hotswap Agent' launch configuration</div>
+            </summary>
+            <div class="hint">
+              Vaadin IntelliJ plugin offers launch mode that does not require any manual configuration!
+              <p>
+                In order to run recommended launch configuration, you should click three dots right next to Debug button
+                and select <code>Debug using Hotswap Agent</code> option.
+              </p>
+            </div>
+          </details>
+        </div>
+      </div>
+    `;
+  }
+  renderJavaRunningInDebugModeSection() {
+    const e = r.jdkInfo?.runningInJavaDebugMode;
+    return l`
+      <div class="inner-section">
+        <details class="inner" .open="${!e}">
+          <summary>
+            <span class="icon">${e ? c.successColorful : c.warningColorful}</span>
+            <div>Run Java in debug mode</div>
+          </summary>
+          <div class="hint">Start the application in debug mode in the IDE</div>
+        </details>
+      </div>
+    `;
+  }
+  renderHotswapAgentMissingArgParam(e) {
+    const t = r.jdkInfo?.runningWitHotswap && r.jdkInfo?.runningWithExtendClassDef;
+    return l`
+      <div class="inner-section">
+        <details class="inner" .open="${!t}">
+          <summary>
+            <span class="icon">${t ? c.successColorful : c.warningColorful}</span>
+            <div>Enable HotswapAgent</div>
+          </summary>
+          <div class="hint">
+            <ul>
+              ${e.intellij ? l`<li>Launch as mentioned in the previous step</li>` : h}
+              ${e.intellij ? l`<li>
+                    To manually configure IntelliJ, add the
+                    <code>-XX:HotswapAgent=fatjar -XX:+AllowEnhancedClassRedefinition -XX:+UpdateClasses</code> JVM
+                    arguments when launching the application
+                  </li>` : l`<li>
+                    Add the
+                    <code>-XX:HotswapAgent=fatjar -XX:+AllowEnhancedClassRedefinition -XX:+UpdateClasses</code> JVM
+                    arguments when launching the application
+                  </li>`}
+            </ul>
+          </div>
+        </details>
+      </div>
+    `;
+  }
+  renderHotswapAgentJdkSection(e) {
+    const t = r.jdkInfo?.extendedClassDefCapable, i = this.downloadStatusMessages?.[this.downloadStatusMessages.length - 1] === W;
+    return l`
+      <div class="inner-section">
+        <details class="inner" .open="${!t}">
+          <summary>
+            <span class="icon">${t ? c.successColorful : c.warningColorful}</span>
+            <div>Run using JetBrains Runtime JDK</div>
+          </summary>
+          <div class="hint">
+            JetBrains Runtime provides much better hotswapping compared to other JDKs.
+            <ul>
+              ${e.intellij && je("1.3.0", r.idePluginState?.version) ? l` <li>Upgrade to the latest IntelliJ plugin</li>` : h}
+              ${e.intellij ? l` <li>Launch the application in IntelliJ using "Debug using Hotswap Agent"</li>` : h}
+              ${e.vscode ? l` <li>
+                    <a href @click="${(o) => this.downloadJetbrainsRuntime(o)}"
+                      >Let Copilot download and set up JetBrains Runtime for VS Code</a
+                    >
+                    ${this.downloadProgress > 0 ? l`<vaadin-progress-bar
+                          .value="${this.downloadProgress}"
+                          min="0"
+                          max="1"></vaadin-progress-bar>` : h}
+                    <ul>
+                      ${this.downloadStatusMessages.map((o) => l`<li>${o}</li>`)}
+                      ${i ? l`<h3>Go to VS Code and launch the 'Debug using Hotswap Agent' configuration</h3>` : h}
+                    </ul>
+                  </li>` : h}
+              <li>
+                ${e.intellij || e.vscode ? l`If there is a problem, you can manually
+                      <a target="_blank" href="${G}">download JetBrains Runtime JDK</a> and set up
+                      your debug configuration to use it.` : l`<a target="_blank" href="${G}">Download JetBrains Runtime JDK</a> and set up
+                      your debug configuration to use it.`}
+              </li>
+            </ul>
+          </div>
+        </details>
+      </div>
+    `;
+  }
+  renderInstallHotswapAgentJdkSection(e) {
+    const t = r.jdkInfo?.hotswapAgentFound, i = r.jdkInfo?.extendedClassDefCapable;
+    return l`
+      <div class="inner-section">
+        <details class="inner" .open="${!t}">
+          <summary>
+            <span class="icon">${t ? c.successColorful : c.warningColorful}</span>
+            <div>Install HotswapAgent</div>
+          </summary>
+          <div class="hint">
+            Hotswap Agent provides application level support for hot reloading, such as reinitalizing Vaadin @Route or
+            @BrowserCallable classes when they are updated
+            <ul>
+              ${e.intellij ? l`<li>Launch as mentioned in the previous step</li>` : h}
+              ${!e.intellij && !i ? l`<li>First install JetBrains Runtime as mentioned in the step above.</li>` : h}
+              ${e.intellij ? l`<li>
+                    To manually configure IntelliJ, download HotswapAgent and install the jar file as
+                    <code>[JAVA_HOME]/lib/hotswap/hotswap-agent.jar</code> in the JetBrains Runtime JDK. Note that the
+                    file must be renamed to exactly match this path.
+                  </li>` : l`<li>
+                    Download HotswapAgent and install the jar file as
+                    <code>[JAVA_HOME]/lib/hotswap/hotswap-agent.jar</code> in the JetBrains Runtime JDK. Note that the
+                    file must be renamed to exactly match this path.
+                  </li>`}
+            </ul>
+          </div>
+        </details>
+      </div>
+    `;
+  }
+  renderHotswapAgentVersionSection() {
+    if (!r.jdkInfo?.hotswapAgentFound)
+      return h;
+    const e = r.jdkInfo?.hotswapVersionOk, t = r.jdkInfo?.hotswapVersion, i = r.jdkInfo?.hotswapAgentLocation;
+    return l`
+      <div class="inner-section">
+        <details class="inner" .open="${!e}">
+          <summary>
+            <span class="icon">${e ? c.successColorful : c.warningColorful}</span>
+            <div>Hotswap version requires update</div>
+          </summary>
+          <div class="hint">
+            HotswapAgent version ${t} is in use
+            <a target="_blank" href="https://github.com/HotswapProjects/HotswapAgent/releases"
+              >Download the latest HotswapAgent</a
+            >
+            and place it in <code>${i}</code>
+          </div>
+        </details>
+      </div>
+    `;
+  }
+  renderHotswapAgentInstalledContent() {
+    return l` <div>Hotswap agent is in use. Enjoy your awesome development workflow!</div> `;
+  }
+  async downloadJetbrainsRuntime(e) {
+    return e.target.disabled = !0, e.preventDefault(), this.downloadStatusMessages = [], ce(`${he}set-up-vs-code-hotswap`, {}, (t) => {
+      t.data.error ? (pe("Error downloading JetBrains runtime", t.data.error), this.downloadStatusMessages = [...this.downloadStatusMessages, "Download failed"]) : this.downloadStatusMessages = [...this.downloadStatusMessages, W];
+    });
+  }
+  downloadStatusUpdate(e) {
+    const t = e.detail.progress;
+    t ? this.downloadProgress = t : this.downloadStatusMessages = [...this.downloadStatusMessages, e.detail.message];
+  }
+};
+b.NAME = "copilot-development-setup-user-guide";
+b.styles = S`
+    :host {
+      --icon-size: 24px;
+      --summary-header-gap: 10px;
+      --footer-height: calc(50px + var(--space-150));
+      color: var(--color);
+    }
+    :host code {
+      background-color: var(--gray-50);
+      font-size: var(--font-size-0);
+      display: inline-block;
+      margin-top: var(--space-100);
+      margin-bottom: var(--space-100);
+      user-select: all;
+    }
+
+    [part='container'] {
+      display: flex;
+      flex-direction: column;
+      gap: var(--space-150);
+      padding: var(--space-150);
+      box-sizing: border-box;
+      height: calc(100% - var(--footer-height));
+      overflow: auto;
+    }
+
+    [part='footer'] {
+      display: flex;
+      justify-content: space-between;
+      height: var(--footer-height);
+      padding-left: var(--space-150);
+      padding-right: var(--space-150);
+    }
+    [part='hotswap-agent-section-container'] {
+      display: flex;
+      flex-direction: column;
+      gap: var(--space-100);
+    }
+    [part='content'] {
+      display: flex;
+      padding: var(--space-150);
+      flex-direction: column;
+    }
+    div.inner-section div.hint {
+      margin-left: calc(var(--summary-header-gap) + var(--icon-size));
+      margin-top: var(--space-75);
+    }
+    details {
+      display: flex;
+      flex-direction: column;
+      box-sizing: border-box;
+
+      & > summary span.icon {
+        width: var(--icon-size);
+        height: var(--icon-size);
+      }
+      & > summary,
+      summary::part(header) {
+        display: flex;
+        flex-direction: row;
+        align-items: center;
+        cursor: pointer;
+        position: relative;
+        gap: var(--summary-header-gap);
+        font: var(--font);
+      }
+      summary::after,
+      summary::part(header)::after {
+        content: '';
+        display: block;
+        width: 4px;
+        height: 4px;
+        border-color: var(--color);
+        opacity: var(--panel-toggle-opacity, 0.2);
+        border-width: 2px;
+        border-style: solid solid none none;
+        transform: rotate(var(--panel-toggle-angle, -45deg));
+        position: absolute;
+        right: 15px;
+        top: calc(50% - var(--panel-toggle-offset, 2px));
+      }
+      &:not([open]) {
+        --panel-toggle-angle: 135deg;
+        --panel-toggle-offset: 4px;
+      }
+    }
+    details[part='panel'] {
+      background: var(--card-bg);
+      border: var(--card-border);
+      border-radius: 4px;
+      user-select: none;
+
+      &:has(summary:hover) {
+        border-color: var(--accent-color);
+      }
+
+      & > summary,
+      summary::part(header) {
+        padding: 10px 10px;
+        padding-right: 25px;
+      }
+
+      summary:hover,
+      summary::part(header):hover {
+        --panel-toggle-opacity: 0.5;
+      }
+
+      input[type='checkbox'],
+      summary::part(checkbox) {
+        margin: 0;
+      }
+
+      &:not([open]):hover {
+        background: var(--card-hover-bg);
+      }
+
+      &[open] {
+        background: var(--card-open-bg);
+        box-shadow: var(--card-open-shadow);
+
+        & > summary {
+          font-weight: bold;
+        }
+      }
+      .tabs {
+        border-bottom: 1px solid var(--border-color);
+        box-sizing: border-box;
+        display: flex;
+        height: 2.25rem;
+      }
+
+      .tab {
+        background: none;
+        border: none;
+        border-bottom: 1px solid transparent;
+        color: var(--color);
+        font: var(--font-button);
+        height: 2.25rem;
+        padding: 0 0.75rem;
+      }
+
+      .tab[aria-selected='true'] {
+        color: var(--color-high-contrast);
+        border-bottom-color: var(--color-high-contrast);
+      }
+
+      .tab-content {
+        flex: 1 1 auto;
+        gap: var(--space-150);
+        overflow: auto;
+        padding: var(--space-150);
+      }
+    }
+  `;
+D([
+  A()
+], b.prototype, "javaPluginSectionOpened", 2);
+D([
+  A()
+], b.prototype, "hotswapSectionOpened", 2);
+D([
+  A()
+], b.prototype, "hotswapTab", 2);
+D([
+  A()
+], b.prototype, "downloadStatusMessages", 2);
+D([
+  A()
+], b.prototype, "downloadProgress", 2);
+b = D([
+  k(b.NAME)
+], b);
+const q = de({
+  header: "Development Workflow",
+  tag: ge,
+  width: 800,
+  height: 800,
+  floatingPosition: {
+    top: 50,
+    left: 50
+  },
+  individual: !0
+}), Oe = {
+  init(e) {
+    e.addPanel(q);
+  }
+};
+window.Vaadin.copilot.plugins.push(Oe);
+d.addPanel(q);
+var Te = Object.defineProperty, _e = Object.getOwnPropertyDescriptor, X = (e, t, i, o) => {
+  for (var n = o > 1 ? void 0 : o ? _e(t, i) : t, a = e.length - 1, s; a >= 0; a--)
+    (s = e[a]) && (n = (o ? s(t, i, n) : s(n)) || n);
+  return o && n && Te(t, i, n), n;
+};
+const He = 8;
+let H = class extends M {
+  constructor() {
+    super(...arguments), this.initialMouseDownPosition = null, this.dragging = !1, this.mouseDownListener = (e) => {
+      this.initialMouseDownPosition = { x: e.clientX, y: e.clientY }, w.draggingStarts(this, e), document.addEventListener("mousemove", this.documentDraggingMouseMoveEventListener);
+    }, this.documentDraggingMouseMoveEventListener = (e) => {
+      if (this.initialMouseDownPosition && !this.dragging) {
+        const { clientX: t, clientY: i } = e;
+        this.dragging = Math.abs(t - this.initialMouseDownPosition.x) + Math.abs(i - this.initialMouseDownPosition.y) > He;
+      }
+      this.dragging && (this.setOverlayVisibility(!1), w.dragging(this, e));
+    }, this.documentMouseUpListener = (e) => {
+      if (this.dragging) {
+        const t = w.dragging(this, e);
+        m.setActivationButtonPosition(t), this.setOverlayVisibility(!0);
+      }
+      this.dragging = !1, this.initialMouseDownPosition = null, document.removeEventListener("mousemove", this.documentDraggingMouseMoveEventListener), this.setMenuBarOnClick();
+    }, this.dispatchSpotlightActivationEvent = (e) => {
+      this.dispatchEvent(
+        new CustomEvent("spotlight-activation-changed", {
+          detail: e
+        })
+      );
+    }, this.activationBtnClicked = (e) => {
+      if (this.dragging) {
+        e?.stopPropagation(), this.dragging = !1;
+        return;
+      }
+      if (r.active && this.handleAttentionRequiredOnClick()) {
+        e?.stopPropagation(), e?.preventDefault();
+        return;
+      }
+      e?.stopPropagation(), this.dispatchEvent(new CustomEvent("activation-btn-clicked"));
+    }, this.handleAttentionRequiredOnClick = () => {
+      const e = d.getAttentionRequiredPanelConfiguration();
+      return e ? e.panel && !e.floating ? (g.emit("open-attention-required-drawer", null), !0) : (d.clearAttention(), !0) : !1;
+    }, this.setMenuBarOnClick = () => {
+      const e = this.shadowRoot.querySelector("vaadin-menu-bar-button");
+      e && (e.onclick = this.activationBtnClicked);
+    };
+  }
+  static get styles() {
+    return [
+      L(F),
+      S`
+        :host {
+          --space: 8px;
+          --height: 28px;
+          --width: 28px;
+          position: absolute;
+          top: clamp(var(--space), var(--top), calc(100vh - var(--height) - var(--space)));
+          left: clamp(var(--space), var(--left), calc(100vw - var(--width) - var(--space)));
+          bottom: clamp(var(--space), var(--bottom), calc(100vh - var(--height) - var(--space)));
+          right: clamp(var(--space), var(--right), calc(100vw - var(--width) - var(--space)));
+          user-select: none;
+          -ms-user-select: none;
+          -moz-user-select: none;
+          -webkit-user-select: none;
+          --indicator-color: var(--red);
+          /* Don't add a z-index or anything else that creates a stacking context */
+        }
+
+        :host .menu-button {
+          min-width: unset;
+        }
+
+        :host([document-hidden]) {
+          -webkit-filter: grayscale(100%); /* Chrome, Safari, Opera */
+          filter: grayscale(100%);
+        }
+
+        .menu-button::part(container) {
+          overflow: visible;
+        }
+
+        .menu-button vaadin-menu-bar-button {
+          all: initial;
+          display: block;
+          position: relative;
+          z-index: var(--z-index-activation-button);
+          width: var(--width);
+          height: var(--height);
+          overflow: hidden;
+          color: transparent;
+          background: hsl(0 0% 0% / 0.25);
+          border-radius: 8px;
+          box-shadow: 0 0 0 1px hsl(0 0% 100% / 0.1);
+          cursor: default;
+          -webkit-backdrop-filter: blur(8px);
+          backdrop-filter: blur(8px);
+          transition:
+            box-shadow 0.2s,
+            background-color 0.2s;
+        }
+
+        /* pointer-events property is set when the menu is open */
+
+        .menu-button[style*='pointer-events'] + .monkey-patch-close-on-hover {
+          position: fixed; /* escapes the host positioning context */
+          inset: 0;
+          bottom: 40px;
+          z-index: calc(var(--z-index-popover) - 1);
+          pointer-events: auto;
+        }
+
+        /* visual effect when active */
+
+        .menu-button vaadin-menu-bar-button::before {
+          all: initial;
+          content: '';
+          position: absolute;
+          inset: -6px;
+          background-image: radial-gradient(circle at 50% -10%, hsl(221 100% 55% / 0.6) 0%, transparent 60%),
+            radial-gradient(circle at 25% 40%, hsl(303 71% 64%) 0%, transparent 70%),
+            radial-gradient(circle at 80% 10%, hsla(262, 38%, 9%, 0.5) 0%, transparent 80%),
+            radial-gradient(circle at 110% 50%, hsla(147, 100%, 77%, 1) 20%, transparent 100%);
+          animation: 5s swirl linear infinite;
+          animation-play-state: paused;
+          opacity: 0;
+          transition: opacity 0.5s;
+        }
+
+        /* vaadin symbol */
+
+        .menu-button vaadin-menu-bar-button::after {
+          all: initial;
+          content: '';
+          position: absolute;
+          inset: 1px;
+          background: url('data:image/svg+xml;utf8,<svg width="24" height="24" viewBox="0 0 24 24" fill="none" xmlns="http://www.w3.org/2000/svg"><path d="M12.7407 9.70401C12.7407 9.74417 12.7378 9.77811 12.7335 9.81479C12.7111 10.207 12.3897 10.5195 11.9955 10.5195C11.6014 10.5195 11.2801 10.209 11.2577 9.8169C11.2534 9.7801 11.2504 9.74417 11.2504 9.70401C11.2504 9.31225 11.1572 8.90867 10.2102 8.90867H7.04307C5.61481 8.90867 5 8.22698 5 6.86345V5.70358C5 5.31505 5.29521 5 5.68008 5C6.06495 5 6.35683 5.31505 6.35683 5.70358V6.09547C6.35683 6.53423 6.655 6.85413 7.307 6.85413H10.4119C11.8248 6.85413 11.9334 7.91255 11.98 8.4729H12.0111C12.0577 7.91255 12.1663 6.85413 13.5791 6.85413H16.6841C17.3361 6.85413 17.614 6.54529 17.614 6.10641L17.6158 5.70358C17.6158 5.31505 17.9246 5 18.3095 5C18.6943 5 19 5.31505 19 5.70358V6.86345C19 8.22698 18.3763 8.90867 16.9481 8.90867H13.7809C12.8338 8.90867 12.7407 9.31225 12.7407 9.70401Z" fill="white"/><path d="M12.7536 17.7785C12.6267 18.0629 12.3469 18.2608 12.0211 18.2608C11.6907 18.2608 11.4072 18.0575 11.2831 17.7668C11.2817 17.7643 11.2803 17.7619 11.279 17.7595C11.2761 17.7544 11.2732 17.7495 11.2704 17.744L8.45986 12.4362C8.3821 12.2973 8.34106 12.1399 8.34106 11.9807C8.34106 11.4732 8.74546 11.0603 9.24238 11.0603C9.64162 11.0603 9.91294 11.2597 10.0985 11.6922L12.0216 15.3527L13.9468 11.6878C14.1301 11.2597 14.4014 11.0603 14.8008 11.0603C15.2978 11.0603 15.7021 11.4732 15.7021 11.9807C15.7021 12.1399 15.6611 12.2973 15.5826 12.4374L12.7724 17.7446C12.7683 17.7524 12.7642 17.7597 12.7601 17.767C12.7579 17.7708 12.7557 17.7746 12.7536 17.7785Z" fill="white"/></svg>');
+          background-size: 100%;
+        }
+
+        .menu-button vaadin-menu-bar-button[focus-ring] {
+          outline: 2px solid var(--selection-color);
+          outline-offset: 2px;
+        }
+
+        .menu-button vaadin-menu-bar-button:hover {
+          background: hsl(0 0% 0% / 0.8);
+          box-shadow:
+            0 0 0 1px hsl(0 0% 100% / 0.1),
+            0 2px 8px -1px hsl(0 0% 0% / 0.3);
+        }
+
+        :host([active]) .menu-button vaadin-menu-bar-button {
+          background-color: transparent;
+          box-shadow:
+            inset 0 0 0 1px hsl(0 0% 0% / 0.2),
+            0 2px 8px -1px hsl(0 0% 0% / 0.3);
+        }
+
+        :host([active]) .menu-button vaadin-menu-bar-button::before {
+          opacity: 1;
+          animation-play-state: running;
+        }
+
+        :host([attention-required]) {
+          animation: bounce 0.5s;
+          animation-iteration-count: 2;
+        }
+
+        [part='indicator'] {
+          top: -6px;
+          right: -6px;
+          width: 12px;
+          height: 12px;
+          box-sizing: border-box;
+          border-radius: 100%;
+          position: absolute;
+          display: var(--indicator-display, none);
+          background: var(--indicator-color);
+          z-index: calc(var(--z-index-activation-button) + 1);
+          border: 2px solid var(--indicator-border);
+        }
+
+        :host([indicator='warning']) {
+          --indicator-display: block;
+          --indicator-color: var(--yellow);
+        }
+
+        :host([indicator='error']) {
+          --indicator-display: block;
+          --indicator-color: var(--red);
+        }
+      `
+    ];
+  }
+  connectedCallback() {
+    super.connectedCallback(), this.reaction(
+      () => d.attentionRequiredPanelTag,
+      () => {
+        this.toggleAttribute(x, d.attentionRequiredPanelTag !== null), this.updateIndicator();
+      }
+    ), this.reaction(
+      () => r.active,
+      () => {
+        this.toggleAttribute("active", r.active);
+      },
+      { fireImmediately: !0 }
+    ), this.addEventListener("mousedown", this.mouseDownListener), document.addEventListener("mouseup", this.documentMouseUpListener);
+    const e = m.getActivationButtonPosition();
+    e ? (this.style.setProperty("--left", `${e.left}px`), this.style.setProperty("--bottom", `${e.bottom}px`), this.style.setProperty("--right", `${e.right}px`), this.style.setProperty("--top", `${e.top}px`)) : (this.style.setProperty("--bottom", "var(--space)"), this.style.setProperty("--right", "var(--space)")), g.on("document-activation-change", (t) => {
+      this.toggleAttribute("document-hidden", !t.detail.active);
+    }), this.reaction(
+      () => [r.jdkInfo, r.idePluginState],
+      () => {
+        this.updateIndicator();
+      }
+    );
+  }
+  disconnectedCallback() {
+    super.disconnectedCallback(), this.removeEventListener("mousedown", this.mouseDownListener), document.removeEventListener("mouseup", this.documentMouseUpListener);
+  }
+  updateIndicator() {
+    if (this.hasAttribute(x)) {
+      this.setAttribute("indicator", "error");
+      return;
+    }
+    const e = fe();
+    e.status !== "success" ? this.setAttribute("indicator", e.status) : this.removeAttribute("indicator");
+  }
+  /**
+   * To hide overlay while dragging
+   * @param visible
+   */
+  setOverlayVisibility(e) {
+    const t = this.shadowRoot.querySelector("vaadin-menu-bar-button").__overlay;
+    e ? (t?.style.setProperty("display", "flex"), t?.style.setProperty("visibility", "visible")) : (t?.style.setProperty("display", "none"), t?.style.setProperty("visibility", "invisible"));
+  }
+  render() {
+    const e = [
+      {
+        text: "Vaadin Copilot",
+        children: [
+          {
+            component: v("vaadin-menu-bar-item", {
+              label: '<span class="deactivate">Deactivate</span><span class="activate">Activate</span> Copilot',
+              hint: m.isActivationShortcut() ? T.toggleCopilot : void 0
+            }),
+            action: "copilot"
+          },
+          {
+            component: v("vaadin-menu-bar-item", {
+              label: "Toggle Command Window",
+              hint: T.toggleCommandWindow,
+              style: "toggle-spotlight"
+            }),
+            action: "spotlight"
+          }
+        ]
+      }
+    ];
+    return r.active && (r.idePluginState?.supportedActions?.find((t) => t === "undo") && (e[0].children = [
+      {
+        component: v("vaadin-menu-bar-item", {
+          label: "Undo",
+          hint: T.undo
+        }),
+        action: "undo"
+      },
+      {
+        component: v("vaadin-menu-bar-item", {
+          label: "Redo",
+          hint: T.redo
+        }),
+        action: "redo"
+      },
+      ...e[0].children
+    ]), e[0].children = [
+      {
+        component: v("vaadin-menu-bar-item", {
+          label: "Tell us what you think"
+          // Label used also in ScreenshotsIT.java
+        }),
+        action: "feedback"
+      },
+      {
+        component: v("vaadin-menu-bar-item", {
+          label: "Show welcome message"
+        }),
+        action: "welcome"
+      },
+      {
+        component: v("vaadin-menu-bar-item", {
+          label: "Show keyboard shortcuts"
+        }),
+        action: "shortcuts"
+      },
+      {
+        component: "hr"
+      },
+      ...e[0].children,
+      { component: "hr" },
+      // Settings sub menu
+      {
+        text: "Settings",
+        children: [
+          {
+            component: v("vaadin-menu-bar-item", {
+              label: "Activation shortcut enabled",
+              hint: m.isActivationShortcut() ? "✓" : void 0
+            }),
+            action: "shortcut"
+          },
+          {
+            component: v("vaadin-menu-bar-item", {
+              label: "Show animation when activating",
+              hint: m.isActivationAnimation() ? "✓" : void 0
+            }),
+            action: "animate-on-activate"
+          }
+        ]
+      }
+    ]), e[0].children.unshift(me()), l`
+      <vaadin-menu-bar
+        class="menu-button"
+        .items="${e}"
+        @item-selected="${(t) => {
+      this.handleMenuItemClick(t.detail.value);
+    }}"
+        ?open-on-hover=${!this.dragging}
+        overlay-class="activation-button-menu">
+      </vaadin-menu-bar>
+      <div class="monkey-patch-close-on-hover" @mouseenter="${this.closeMenu}"></div>
+      <div part="indicator"></div>
+    `;
+  }
+  closeMenu() {
+    this.menubar._close();
+  }
+  handleMenuItemClick(e) {
+    if (e.onClick) {
+      e.onClick();
+      return;
+    }
+    switch (e.action) {
+      case "copilot":
+        this.activationBtnClicked();
+        break;
+      case "spotlight":
+        r.setSpotlightActive(!r.spotlightActive);
+        break;
+      case "shortcut":
+        m.setActivationShortcut(!m.isActivationShortcut());
+        break;
+      case "animate-on-activate":
+        m.setActivationAnimation(!m.isActivationAnimation());
+        break;
+      case "undo":
+      case "redo":
+        g.emit("undoRedo", { undo: e.action === "undo" });
+        break;
+      case "feedback":
+        d.updatePanel("copilot-feedback-panel", {
+          floating: !0
+        });
+        break;
+      case "welcome":
+        r.setWelcomeActive(!0), r.setSpotlightActive(!0);
+        break;
+      case "shortcuts":
+        d.updatePanel("copilot-shortcuts-panel", {
+          floating: !0
+        });
+        break;
+    }
+  }
+  firstUpdated() {
+    this.setMenuBarOnClick(), oe(this.shadowRoot);
+  }
+};
+X([
+  z("vaadin-menu-bar")
+], H.prototype, "menubar", 2);
+X([
+  A()
+], H.prototype, "dragging", 2);
+H = X([
+  k("copilot-activation-button")
+], H);
+var Be = Object.defineProperty, Je = Object.getOwnPropertyDescriptor, C = (e, t, i, o) => {
+  for (var n = o > 1 ? void 0 : o ? Je(t, i) : t, a = e.length - 1, s; a >= 0; a--)
+    (s = e[a]) && (n = (o ? s(t, i, n) : s(n)) || n);
+  return o && n && Be(t, i, n), n;
+};
+const u = "resize-dir", U = "floating-resizing-active";
+let P = class extends M {
+  constructor() {
+    super(...arguments), this.panelTag = "", this.dockingItems = [
+      {
+        component: v("vaadin-context-menu-item", {
+          icon: c.dockRight,
+          label: "Dock right"
+        }),
+        panel: "right"
+      },
+      {
+        component: v("vaadin-context-menu-item", {
+          icon: c.dockLeft,
+          label: "Dock left"
+        }),
+        panel: "left"
+      },
+      {
+        component: v("vaadin-context-menu-item", {
+          icon: c.dockBottom,
+          label: "Dock bottom"
+        }),
+        panel: "bottom"
+      }
+    ], this.floatingResizingStarted = !1, this.resizingInDrawerStarted = !1, this.toggling = !1, this.rectangleBeforeResizing = null, this.floatingResizeHandlerMouseMoveListener = (e) => {
+      if (!this.panelInfo?.floating || this.floatingResizingStarted || !this.panelInfo?.expanded)
+        return;
+      const t = this.getBoundingClientRect(), i = Math.abs(e.clientX - t.x), o = Math.abs(t.x + t.width - e.clientX), n = Math.abs(e.clientY - t.y), a = Math.abs(t.y + t.height - e.clientY), s = Number.parseInt(
+        window.getComputedStyle(this).getPropertyValue("--floating-offset-resize-threshold"),
+        10
+      );
+      let p = "";
+      i < s ? n < s ? (p = "nw-resize", this.setAttribute(u, "top left")) : a < s ? (p = "sw-resize", this.setAttribute(u, "bottom left")) : (p = "col-resize", this.setAttribute(u, "left")) : o < s ? n < s ? (p = "ne-resize", this.setAttribute(u, "top right")) : a < s ? (p = "se-resize", this.setAttribute(u, "bottom right")) : (p = "col-resize", this.setAttribute(u, "right")) : a < s ? (p = "row-resize", this.setAttribute(u, "bottom")) : n < s && (p = "row-resize", this.setAttribute(u, "top")), p !== "" ? (this.rectangleBeforeResizing = this.getBoundingClientRect(), this.style.setProperty("--resize-cursor", p)) : (this.style.removeProperty("--resize-cursor"), this.removeAttribute(u)), this.toggleAttribute(U, p !== "");
+    }, this.floatingResizingMouseDownListener = (e) => {
+      this.hasAttribute(U) && e.button === 0 && (e.stopPropagation(), e.preventDefault(), w.anchorLeftTop(this), this.floatingResizingStarted = !0, this.toggleAttribute("resizing", !0), _(() => {
+        r.sectionPanelResizing = !0;
+      }));
+    }, this.floatingResizingMouseLeaveListener = () => {
+      this.panelInfo?.floating && (this.floatingResizingStarted || (this.removeAttribute("resizing"), this.removeAttribute(U), this.removeAttribute("dragging"), this.style.removeProperty("--resize-cursor"), this.removeAttribute(u)));
+    }, this.floatingResizingMouseMoveListener = (e) => {
+      if (!this.panelInfo?.floating || !this.floatingResizingStarted)
+        return;
+      const t = this.getAttribute(u);
+      if (t === null)
+        return;
+      e.stopPropagation(), e.preventDefault();
+      const { clientX: i, clientY: o } = e, n = t.split(" "), a = this.rectangleBeforeResizing;
+      if (n.includes("left")) {
+        const s = Math.max(0, i);
+        this.setFloatingResizeDirectionProps("left", s, a.left - s + a.width);
+      }
+      if (n.includes("right")) {
+        const s = Math.max(0, i);
+        this.setFloatingResizeDirectionProps("right", s, s - a.right + a.width);
+      }
+      if (n.includes("top")) {
+        const s = Math.max(0, o), p = a.top - s + a.height;
+        this.setFloatingResizeDirectionProps("top", s, void 0, p);
+      }
+      if (n.includes("bottom")) {
+        const s = Math.max(0, o), p = s - a.bottom + a.height;
+        this.setFloatingResizeDirectionProps("bottom", s, void 0, p);
+      }
+    }, this.setFloatingResizeDirectionProps = (e, t, i, o) => {
+      i && i > Number.parseFloat(window.getComputedStyle(this).getPropertyValue("--min-width")) && (this.style.setProperty(`--${e}`, `${t}px`), this.style.setProperty("width", `${i}px`));
+      const n = window.getComputedStyle(this), a = Number.parseFloat(n.getPropertyValue("--header-height")), s = Number.parseFloat(n.getPropertyValue("--floating-offset-resize-threshold")) / 2;
+      o && o > a + s && (this.style.setProperty(`--${e}`, `${t}px`), this.style.setProperty("height", `${o}px`), this.container.style.setProperty("margin-top", "calc(var(--floating-offset-resize-threshold) / 4)"), this.container.style.height = `calc(${o}px - var(--floating-offset-resize-threshold) / 2)`);
+    }, this.floatingResizingMouseUpListener = (e) => {
+      if (!this.floatingResizingStarted || !this.panelInfo?.floating)
+        return;
+      e.stopPropagation(), e.preventDefault(), this.floatingResizingStarted = !1, _(() => {
+        r.sectionPanelResizing = !1;
+      });
+      const { width: t, height: i } = this.getBoundingClientRect(), { left: o, top: n, bottom: a, right: s } = w.anchor(this), p = window.getComputedStyle(this.container), f = Number.parseInt(p.borderTopWidth, 10), $ = Number.parseInt(p.borderTopWidth, 10);
+      d.updatePanel(this.panelInfo.tag, {
+        width: t,
+        height: i - (f + $),
+        floatingPosition: {
+          ...this.panelInfo.floatingPosition,
+          left: o,
+          top: n,
+          bottom: a,
+          right: s
+        }
+      }), this.style.removeProperty("width"), this.style.removeProperty("height"), this.container.style.removeProperty("height"), this.container.style.removeProperty("margin-top"), this.setCssSizePositionProperties(), this.toggleAttribute("dragging", !1);
+    }, this.transitionEndEventListener = () => {
+      this.toggling && (this.toggling = !1, w.anchor(this));
+    }, this.resizeInDrawerMouseDownListener = (e) => {
+      e.button === 0 && (this.resizingInDrawerStarted = !0, this.setAttribute("resizing", ""), g.emit("user-select", { allowSelection: !1 }));
+    }, this.resizeInDrawerMouseMoveListener = (e) => {
+      if (!this.resizingInDrawerStarted)
+        return;
+      const { y: t } = e;
+      e.stopPropagation(), e.preventDefault();
+      const i = t - this.getBoundingClientRect().top;
+      this.style.setProperty("--section-height", `${i}px`), d.updatePanel(this.panelInfo.tag, {
+        height: i
+      });
+    }, this.resizeInDrawerMouseUpListener = () => {
+      this.resizingInDrawerStarted && (this.panelInfo?.floating || (this.resizingInDrawerStarted = !1, this.removeAttribute("resizing"), g.emit("user-select", { allowSelection: !0 }), this.style.setProperty("--section-height", `${this.getBoundingClientRect().height}px`)));
+    }, this.sectionPanelMouseEnterListener = () => {
+      this.hasAttribute(x) && (this.removeAttribute(x), d.clearAttention());
+    }, this.contentAreaMouseDownListener = () => {
+      d.bringToFront(this.panelInfo.tag);
+    }, this.documentMouseUpEventListener = () => {
+      document.removeEventListener("mousemove", this.draggingEventListener), this.panelInfo?.floating && (this.toggleAttribute("dragging", !1), r.setSectionPanelDragging(!1));
+    }, this.panelHeaderMouseDownEventListener = (e) => {
+      e.button === 0 && (d.bringToFront(this.panelInfo.tag), !this.hasAttribute(u) && (e.target instanceof HTMLButtonElement && e.target.getAttribute("part") === "title-button" ? this.startDraggingDebounce(e) : this.startDragging(e)));
+    }, this.panelHeaderMouseUpEventListener = (e) => {
+      e.button === 0 && this.startDraggingDebounce.clear();
+    }, this.startDragging = (e) => {
+      w.draggingStarts(this, e), document.addEventListener("mousemove", this.draggingEventListener), r.setSectionPanelDragging(!0), this.panelInfo?.floating ? this.toggleAttribute("dragging", !0) : this.parentElement.sectionPanelDraggingStarted(this, e), e.preventDefault(), e.stopPropagation();
+    }, this.startDraggingDebounce = ee(this.startDragging, 200), this.draggingEventListener = (e) => {
+      const t = w.dragging(this, e);
+      if (this.panelInfo?.floating && this.panelInfo?.floatingPosition) {
+        e.preventDefault();
+        const { left: i, top: o, bottom: n, right: a } = t;
+        d.updatePanel(this.panelInfo.tag, {
+          floatingPosition: {
+            ...this.panelInfo.floatingPosition,
+            left: i,
+            top: o,
+            bottom: n,
+            right: a
+          }
+        });
+      }
+    }, this.setCssSizePositionProperties = () => {
+      const e = d.getPanelByTag(this.panelTag);
+      if (e && (e.height !== void 0 && (this.panelInfo?.floating || e.panel === "left" || e.panel === "right" ? this.style.setProperty("--section-height", `${e.height}px`) : this.style.removeProperty("--section-height")), e.width !== void 0 && (e.floating || e.panel === "bottom" ? this.style.setProperty("--section-width", `${e.width}px`) : this.style.removeProperty("--section-width")), e.floating && e.floatingPosition && !this.toggling)) {
+        const { left: t, top: i, bottom: o, right: n } = e.floatingPosition;
+        this.style.setProperty("--left", t !== void 0 ? `${t}px` : "auto"), this.style.setProperty("--top", i !== void 0 ? `${i}px` : "auto"), this.style.setProperty("--bottom", o !== void 0 ? `${o}px` : ""), this.style.setProperty("--right", n !== void 0 ? `${n}px` : "");
+      }
+    }, this.renderPopupButton = () => {
+      if (!this.panelInfo)
+        return h;
+      let e;
+      return this.panelInfo.panel === void 0 ? e = "Close the popup" : e = this.panelInfo.floating ? `Dock ${this.panelInfo.header} to ${this.panelInfo.panel}` : `Open ${this.panelInfo.header} as a popup`, l`
+      <vaadin-context-menu .items=${this.dockingItems} @item-selected="${this.changeDockingPanel}">
+        <button
+          part="popup-button"
+          @click="${(t) => this.changePanelFloating(t)}"
+          @mousedown="${(t) => t.stopPropagation()}"
+          title="${e}"
+          aria-label=${e}>
+          ${this.getPopupButtonIcon()}
+        </button>
+      </vaadin-context-menu>
+    `;
+    }, this.changePanelFloating = (e) => {
+      if (this.panelInfo)
+        if (e.stopPropagation(), Y(this), this.panelInfo?.floating)
+          d.updatePanel(this.panelInfo.tag, { floating: !1 });
+        else {
+          let t;
+          if (this.panelInfo.floatingPosition)
+            t = this.panelInfo.floatingPosition;
+          else {
+            const { left: n, top: a } = this.getBoundingClientRect();
+            t = {
+              left: n,
+              top: a
+            };
+          }
+          let i = this.panelInfo?.height;
+          i === void 0 && this.panelInfo.expanded && (i = Number.parseInt(window.getComputedStyle(this).height, 10)), this.parentElement.forceClose(), d.updatePanel(this.panelInfo.tag, {
+            floating: !0,
+            expanded: !0,
+            width: this.panelInfo?.width || Number.parseInt(window.getComputedStyle(this).width, 10),
+            height: i,
+            floatingPosition: t
+          }), d.bringToFront(this.panelInfo.tag);
+        }
+    }, this.toggleExpand = (e) => {
+      this.panelInfo && (e.stopPropagation(), w.anchorLeftTop(this), d.updatePanel(this.panelInfo.tag, {
+        expanded: !this.panelInfo.expanded
+      }), this.toggling = !0, this.toggleAttribute("expanded", this.panelInfo.expanded));
+    };
+  }
+  static get styles() {
+    return [
+      L(F),
+      S`
+        * {
+          box-sizing: border-box;
+        }
+
+        :host {
+          flex: none;
+          display: grid;
+          align-content: start;
+          grid-template-rows: auto 1fr;
+          transition: grid-template-rows var(--duration-2);
+          overflow: hidden;
+          position: relative;
+          --min-width: 160px;
+          --resize-div-size: 10px;
+          --header-height: 37px;
+          --content-height: calc(var(--section-height) - var(--header-height));
+          --content-width: var(--content-width, 100%);
+          --floating-border-width: 1px;
+          --floating-offset-resize-threshold: 8px;
+          cursor: var(--cursor, var(--resize-cursor, default));
+        }
+
+        :host(:not([expanded])) {
+          grid-template-rows: auto 0fr;
+          --content-height: 0px !important;
+        }
+
+        [part='header'] {
+          align-items: center;
+          color: var(--color-high-contrast);
+          display: flex;
+          flex: none;
+          font: var(--font-small-bold);
+          justify-content: space-between;
+          min-width: 100%;
+          user-select: none;
+          -webkit-user-select: none;
+          width: var(--min-width);
+          height: var(--header-height);
+        }
+
+        :host([floating]:not([expanded])) [part='header'] {
+          --min-width: unset;
+        }
+
+        [part='header'] {
+          border-bottom: 1px solid var(--border-color);
+        }
+
+        :host([floating]) [part='header'] {
+          transition: border-color var(--duration-2);
+        }
+
+        :host([floating]:not([expanded])) [part='header'] {
+          border-color: transparent;
+        }
+
+        [part='title'] {
+          flex: auto;
+          margin: 0;
+          overflow: hidden;
+          text-overflow: ellipsis;
+        }
+
+        [part='content'] {
+          height: var(--content-height);
+          overflow: auto;
+          transition:
+            height var(--duration-2),
+            width var(--duration-2),
+            opacity var(--duration-2),
+            visibility calc(var(--duration-2) * 2);
+        }
+
+        [part='drawer-resize'] {
+          resize: vertical;
+          cursor: row-resize;
+          position: absolute;
+          bottom: -5px;
+          left: 0;
+          width: 100%;
+          height: 10px;
+        }
+
+        :host([floating]) [part='drawer-resize'] {
+          display: none;
+        }
+
+        :host(:not([expanded])) [part='drawer-resize'] {
+          display: none;
+        }
+
+        :host(:not([floating]):not(:last-child)) {
+          border-bottom: 1px solid var(--border-color);
+        }
+
+        :host(:not([expanded])) [part='content'] {
+          opacity: 0;
+          visibility: hidden;
+        }
+
+        :host([floating]:not([expanded])) [part='content'] {
+          width: 0;
+          height: 0;
+        }
+
+        :host(:not([expanded])) [part='content'][style*='height'] {
+          height: 0 !important;
+        }
+
+        :host(:not([expanded])) [part='content'][style*='width'] {
+          width: 0 !important;
+        }
+
+        :host([floating]) {
+          position: fixed;
+          min-width: 0;
+          min-height: 0;
+          z-index: calc(var(--z-index-floating-panel) + var(--z-index-focus, 0));
+          top: clamp(0px, var(--top), calc(100vh - var(--section-height, var(--header-height)) * 0.5));
+          left: clamp(calc(var(--section-width) * -0.5), var(--left), calc(100vw - var(--section-width) * 0.5));
+          bottom: clamp(
+            calc(var(--section-height, var(--header-height)) * -0.5),
+            var(--bottom),
+            calc(100vh - var(--section-height, var(--header-height)) * 0.5)
+          );
+          right: clamp(calc(var(--section-width) * -0.5), var(--right), calc(100vw - var(--section-width) * 0.5));
+          width: var(--section-width);
+          overflow: visible;
+        }
+        :host([floating]) [part='container'] {
+          background: var(--surface);
+          border: var(--floating-border-width) solid var(--surface-border-color);
+          -webkit-backdrop-filter: var(--surface-backdrop-filter);
+          backdrop-filter: var(--surface-backdrop-filter);
+          border-radius: var(--radius-2);
+          margin: auto;
+          box-shadow: var(--surface-box-shadow-2);
+          overflow: hidden;
+        }
+        :host([floating][expanded]) [part='container'] {
+          height: calc(100% - var(--floating-offset-resize-threshold) / 2);
+          width: calc(100% - var(--floating-offset-resize-threshold) / 2);
+        }
+
+        :host([floating]:not([expanded])) {
+          width: unset;
+        }
+
+        :host([floating]) .drag-handle {
+          cursor: var(--resize-cursor, move);
+        }
+
+        :host([floating][expanded]) [part='content'] {
+          min-width: var(--min-width);
+          min-height: 0;
+          max-height: 85vh;
+          max-width: 90vw;
+          width: var(--content-width);
+        }
+
+        /* :hover for Firefox, :active for others */
+
+        :host([floating][expanded]) [part='content']:is(:hover, :active) {
+          transition: none;
+        }
+
+        [part='header'] button {
+          align-items: center;
+          appearance: none;
+          background: transparent;
+          border: 0px;
+          border-radius: var(--radius-1);
+          color: var(--color);
+          display: flex;
+          flex: 0 0 auto;
+          height: 2.25rem;
+          justify-content: center;
+          padding: 0px;
+          width: 16px;
+          margin-left: 10px;
+          margin-right: 10px;
+        }
+
+        div.actions {
+          width: auto;
+        }
+
+        :host(:not([expanded])) div.actions {
+          display: none;
+        }
+
+        [part='title'] button {
+          color: var(--color-high-contrast);
+          font: var(--font-xsmall-strong);
+          width: auto;
+        }
+
+        [part='header'] button:hover {
+          color: var(--color-high-contrast);
+        }
+
+        [part='header'] button:focus-visible {
+          outline: 2px solid var(--blue-500);
+          outline-offset: -2px;
+        }
+
+        [part='header'] button svg {
+          display: block;
+        }
+
+        [part='header'] .actions:empty {
+          display: none;
+        }
+
+        ::slotted(*) {
+          box-sizing: border-box;
+          display: block;
+          height: var(--content-height, var(--default-content-height, 100%));
+          /* padding: var(--space-150); */
+          width: 100%;
+        }
+
+        :host(:not([floating])) ::slotted(*) {
+          /* padding-top: var(--space-50); */
+        }
+        /*workaround for outline to have a explicit height while floating by default. 
+          may be removed after https://github.com/vaadin/web-components/issues/7620 is solved
+        */
+        :host([floating][expanded][paneltag='copilot-outline-panel']) {
+          --grid-default-height: 400px;
+        }
+
+        :host([dragging]) {
+          opacity: 0.4;
+        }
+
+        :host([dragging]) [part='content'] {
+          pointer-events: none;
+        }
+
+        :host([attention-required]) {
+          --pulse-animation-duration: 2s;
+          --pulse-first-color: var(--red-500);
+          --pulse-second-color: var(--red-800);
+          --pulse-size: 12px;
+          animation: pulse 2s infinite;
+        }
+
+        :host([resizing]),
+        :host([resizing]) [part='content'] {
+          transition: none;
+        }
+        :host([resizing]) [part='content'] {
+          height: 100%;
+        }
+
+        :host([hiding-while-drag-and-drop]) {
+          display: none;
+        }
+
+        // dragging in drawer
+
+        :host(:not([floating])) .drag-handle {
+          cursor: grab;
+        }
+
+        :host(:not([floating])[dragging]) .drag-handle {
+          cursor: grabbing;
+        }
+      `
+    ];
+  }
+  connectedCallback() {
+    super.connectedCallback(), this.setAttribute("role", "region"), this.reaction(
+      () => d.getAttentionRequiredPanelConfiguration(),
+      () => {
+        const e = d.getAttentionRequiredPanelConfiguration();
+        this.toggleAttribute(x, e?.tag === this.panelTag && e?.floating);
+      }
+    ), this.addEventListener("mouseenter", this.sectionPanelMouseEnterListener), document.addEventListener("mousemove", this.resizeInDrawerMouseMoveListener), document.addEventListener("mouseup", this.resizeInDrawerMouseUpListener), this.reaction(
+      () => r.operationInProgress,
+      () => {
+        requestAnimationFrame(() => {
+          this.toggleAttribute(
+            "hiding-while-drag-and-drop",
+            r.operationInProgress === Q.DragAndDrop && this.panelInfo?.floating && !this.panelInfo.showWhileDragging
+          );
+        });
+      }
+    ), this.reaction(
+      () => d.floatingPanelsZIndexOrder,
+      () => {
+        this.style.setProperty("--z-index-focus", `${d.getFloatingPanelZIndex(this.panelTag)}`);
+      },
+      { fireImmediately: !0 }
+    ), this.addEventListener("transitionend", this.transitionEndEventListener), this.addEventListener("mousemove", this.floatingResizeHandlerMouseMoveListener), this.addEventListener("mousedown", this.floatingResizingMouseDownListener), this.addEventListener("mouseleave", this.floatingResizingMouseLeaveListener), document.addEventListener("mousemove", this.floatingResizingMouseMoveListener), document.addEventListener("mouseup", this.floatingResizingMouseUpListener);
+  }
+  disconnectedCallback() {
+    super.disconnectedCallback(), this.removeEventListener("mouseenter", this.sectionPanelMouseEnterListener), this.drawerResizeElement.removeEventListener("mousedown", this.resizeInDrawerMouseDownListener), document.removeEventListener("mousemove", this.resizeInDrawerMouseMoveListener), document.removeEventListener("mouseup", this.resizeInDrawerMouseUpListener), this.removeEventListener("mousemove", this.floatingResizeHandlerMouseMoveListener), this.removeEventListener("mousedown", this.floatingResizingMouseDownListener), document.removeEventListener("mousemove", this.floatingResizingMouseMoveListener), document.removeEventListener("mouseup", this.floatingResizingMouseUpListener);
+  }
+  willUpdate(e) {
+    super.willUpdate(e), e.has("panelTag") && (this.panelInfo = d.getPanelByTag(this.panelTag), this.setAttribute("aria-labelledby", this.panelInfo.tag.concat("-title"))), this.toggleAttribute("floating", this.panelInfo?.floating);
+  }
+  updated(e) {
+    super.updated(e), this.setCssSizePositionProperties();
+  }
+  firstUpdated(e) {
+    super.firstUpdated(e), document.addEventListener("mouseup", this.documentMouseUpEventListener), this.headerDraggableArea.addEventListener("mousedown", this.panelHeaderMouseDownEventListener), this.headerDraggableArea.addEventListener("mouseup", this.panelHeaderMouseUpEventListener), this.toggleAttribute("expanded", this.panelInfo?.expanded), this.toggleAttribute("individual", this.panelInfo?.individual ?? !1), be(this), this.setCssSizePositionProperties(), this.contentArea.addEventListener("mousedown", this.contentAreaMouseDownListener), this.drawerResizeElement.addEventListener("mousedown", this.resizeInDrawerMouseDownListener), oe(this.shadowRoot);
+  }
+  render() {
+    return this.panelInfo ? l`
+      <div part="container">
+        <div part="header" class="drag-handle">
+          ${this.panelInfo.expandable !== !1 ? l` <button
+                part="toggle-button"
+                @mousedown="${(e) => e.stopPropagation()}"
+                @click="${(e) => this.toggleExpand(e)}"
+                aria-expanded="${this.panelInfo.expanded}"
+                aria-controls="content"
+                aria-label="Expand ${this.panelInfo.header}">
+                ${this.panelInfo.expanded ? c.chevronDown : c.chevronRight}
+              </button>` : h}
+          <h2 id="${this.panelInfo.tag}-title" part="title">
+            <button
+              part="title-button"
+              @dblclick="${(e) => {
+      this.toggleExpand(e), this.startDraggingDebounce.clear();
+    }}">
+              ${this.panelInfo.header}
+            </button>
+          </h2>
+          <div class="actions" @mousedown="${(e) => e.stopPropagation()}">${this.renderActions()}</div>
+          ${this.renderHelpButton()} ${this.renderPopupButton()}
+        </div>
+        <div part="content" id="content">
+          <slot name="content"></slot>
+        </div>
+        <div part="drawer-resize"></div>
+      </div>
+    ` : h;
+  }
+  getPopupButtonIcon() {
+    return this.panelInfo ? this.panelInfo.panel === void 0 ? c.close : this.panelInfo.floating ? this.panelInfo.panel === "bottom" ? c.dockBottom : this.panelInfo.panel === "left" ? c.dockLeft : this.panelInfo.panel === "right" ? c.dockRight : h : c.popup : h;
+  }
+  renderHelpButton() {
+    return this.panelInfo?.helpUrl ? l` <button
+      @click="${() => window.open(this.panelInfo.helpUrl, "_blank")}"
+      @mousedown="${(e) => e.stopPropagation()}"
+      title="More information about ${this.panelInfo.header}"
+      aria-label="More information about ${this.panelInfo.header}">
+      ${c.help}
+    </button>` : h;
+  }
+  renderActions() {
+    if (!this.panelInfo?.actionsTag)
+      return h;
+    const e = this.panelInfo.actionsTag;
+    return we(`<${e}></${e}>`);
+  }
+  changeDockingPanel(e) {
+    const t = e.detail.value.panel;
+    if (this.panelInfo?.panel !== t) {
+      const i = d.panels.filter((o) => o.panel === t).map((o) => o.panelOrder).sort((o, n) => n - o)[0];
+      Y(this), d.updatePanel(this.panelInfo.tag, { panel: t, panelOrder: i + 1 });
+    }
+    this.panelInfo.floating && this.changePanelFloating(e);
+  }
+};
+C([
+  R()
+], P.prototype, "panelTag", 2);
+C([
+  z(".drag-handle")
+], P.prototype, "headerDraggableArea", 2);
+C([
+  z("#content")
+], P.prototype, "contentArea", 2);
+C([
+  z('[part="drawer-resize"]')
+], P.prototype, "drawerResizeElement", 2);
+C([
+  z('[part="container"]')
+], P.prototype, "container", 2);
+C([
+  A()
+], P.prototype, "dockingItems", 2);
+P = C([
+  k("copilot-section-panel-wrapper")
+], P);
+g.on("undoRedo", (e) => {
+  const i = { files: e.detail.files ?? ze(), uiId: Ie() }, o = e.detail.undo ? "copilot-plugin-undo" : "copilot-plugin-redo";
+  te(e.detail.undo ? "undo" : "redo"), g.send(o, i);
+});
+var Ne = Object.defineProperty, Ue = Object.getOwnPropertyDescriptor, Ve = (e, t, i, o) => {
+  for (var n = o > 1 ? void 0 : o ? Ue(t, i) : t, a = e.length - 1, s; a >= 0; a--)
+    (s = e[a]) && (n = (o ? s(t, i, n) : s(n)) || n);
+  return o && n && Ne(t, i, n), n;
+};
+let K = class extends M {
+  static get styles() {
+    return [
+      L(ye),
+      L(xe),
+      S`
+        :host {
+          --lumo-secondary-text-color: var(--dev-tools-text-color);
+          --lumo-contrast-80pct: var(--dev-tools-text-color-emphasis);
+          --lumo-contrast-60pct: var(--dev-tools-text-color-secondary);
+          --lumo-font-size-m: 14px;
+
+          position: fixed;
+          bottom: 2.5rem;
+          right: 0rem;
+          visibility: visible; /* Always show, even if copilot is off */
+          user-select: none;
+          z-index: 10000;
+
+          --dev-tools-text-color: rgba(255, 255, 255, 0.8);
+
+          --dev-tools-text-color-secondary: rgba(255, 255, 255, 0.65);
+          --dev-tools-text-color-emphasis: rgba(255, 255, 255, 0.95);
+          --dev-tools-text-color-active: rgba(255, 255, 255, 1);
+
+          --dev-tools-background-color-inactive: rgba(45, 45, 45, 0.25);
+          --dev-tools-background-color-active: rgba(45, 45, 45, 0.98);
+          --dev-tools-background-color-active-blurred: rgba(45, 45, 45, 0.85);
+
+          --dev-tools-border-radius: 0.5rem;
+          --dev-tools-box-shadow: 0 0 0 1px rgba(255, 255, 255, 0.05), 0 4px 12px -2px rgba(0, 0, 0, 0.4);
+
+          --dev-tools-blue-hsl: 206, 100%, 70%;
+          --dev-tools-blue-color: hsl(var(--dev-tools-blue-hsl));
+          --dev-tools-green-hsl: 145, 80%, 42%;
+          --dev-tools-green-color: hsl(var(--dev-tools-green-hsl));
+          --dev-tools-grey-hsl: 0, 0%, 50%;
+          --dev-tools-grey-color: hsl(var(--dev-tools-grey-hsl));
+          --dev-tools-yellow-hsl: 38, 98%, 64%;
+          --dev-tools-yellow-color: hsl(var(--dev-tools-yellow-hsl));
+          --dev-tools-red-hsl: 355, 100%, 68%;
+          --dev-tools-red-color: hsl(var(--dev-tools-red-hsl));
+
+          /* Needs to be in ms, used in JavaScript as well */
+          --dev-tools-transition-duration: 180ms;
+        }
+
+        .notification-tray {
+          display: flex;
+          flex-direction: column-reverse;
+          align-items: flex-end;
+          margin: 0.5rem;
+          flex: none;
+        }
+
+        @supports (backdrop-filter: blur(1px)) {
+          .notification-tray div.message {
+            backdrop-filter: blur(8px);
+          }
+
+          .notification-tray div.message {
+            background-color: var(--dev-tools-background-color-active-blurred);
+          }
+        }
+
+        .notification-tray .message {
+          pointer-events: auto;
+          background-color: var(--dev-tools-background-color-active);
+          color: var(--dev-tools-text-color);
+          max-width: 40rem;
+          box-sizing: border-box;
+          border-radius: var(--dev-tools-border-radius);
+          margin-top: 0.5rem;
+          transition: var(--dev-tools-transition-duration);
+          transform-origin: bottom right;
+          animation: slideIn var(--dev-tools-transition-duration);
+          box-shadow: var(--dev-tools-box-shadow);
+          padding-top: 0.25rem;
+          padding-bottom: 0.25rem;
+        }
+
+        .notification-tray .message.animate-out {
+          animation: slideOut forwards var(--dev-tools-transition-duration);
+        }
+
+        .notification-tray .message .message-details {
+          word-break: break-all;
+        }
+
+        .message.information {
+          --dev-tools-notification-color: var(--dev-tools-blue-color);
+        }
+
+        .message.warning {
+          --dev-tools-notification-color: var(--dev-tools-yellow-color);
+        }
+
+        .message.error {
+          --dev-tools-notification-color: var(--dev-tools-red-color);
+        }
+
+        .message {
+          display: flex;
+          padding: 0.1875rem 0.75rem 0.1875rem 2rem;
+          background-clip: padding-box;
+        }
+
+        .message.log {
+          padding-left: 0.75rem;
+        }
+
+        .message-content {
+          max-width: 100%;
+          margin-right: 0.5rem;
+          -webkit-user-select: text;
+          -moz-user-select: text;
+          user-select: text;
+        }
+
+        .message-heading {
+          position: relative;
+          display: flex;
+          align-items: center;
+          margin: 0.125rem 0;
+        }
+
+        .message .message-details {
+          font-weight: 400;
+          color: var(--dev-tools-text-color-secondary);
+          margin: 0.25rem 0;
+          display: flex;
+          flex-direction: column;
+        }
+
+        .message .message-details[hidden] {
+          display: none;
+        }
+
+        .message .message-details p {
+          display: inline;
+          margin: 0;
+          margin-right: 0.375em;
+          word-break: break-word;
+        }
+
+        .message .persist {
+          color: var(--dev-tools-text-color-secondary);
+          white-space: nowrap;
+          margin: 0.375rem 0;
+          display: flex;
+          align-items: center;
+          position: relative;
+          -webkit-user-select: none;
+          -moz-user-select: none;
+          user-select: none;
+        }
+
+        .message .persist::before {
+          content: '';
+          width: 1em;
+          height: 1em;
+          border-radius: 0.2em;
+          margin-right: 0.375em;
+          background-color: rgba(255, 255, 255, 0.3);
+        }
+
+        .message .persist:hover::before {
+          background-color: rgba(255, 255, 255, 0.4);
+        }
+
+        .message .persist.on::before {
+          background-color: rgba(255, 255, 255, 0.9);
+        }
+
+        .message .persist.on::after {
+          content: '';
+          order: -1;
+          position: absolute;
+          width: 0.75em;
+          height: 0.25em;
+          border: 2px solid var(--dev-tools-background-color-active);
+          border-width: 0 0 2px 2px;
+          transform: translate(0.05em, -0.05em) rotate(-45deg) scale(0.8, 0.9);
+        }
+
+        .message .dismiss-message {
+          font-weight: 600;
+          align-self: stretch;
+          display: flex;
+          align-items: center;
+          padding: 0 0.25rem;
+          margin-left: 0.5rem;
+          color: var(--dev-tools-text-color-secondary);
+        }
+
+        .message .dismiss-message:hover {
+          color: var(--dev-tools-text-color);
+        }
+
+        .message.log {
+          color: var(--dev-tools-text-color-secondary);
+        }
+
+        .message:not(.log) .message-heading {
+          font-weight: 500;
+        }
+
+        .message.has-details .message-heading {
+          color: var(--dev-tools-text-color-emphasis);
+          font-weight: 600;
+        }
+
+        .message-heading::before {
+          position: absolute;
+          margin-left: -1.5rem;
+          display: inline-block;
+          text-align: center;
+          font-size: 0.875em;
+          font-weight: 600;
+          line-height: calc(1.25em - 2px);
+          width: 14px;
+          height: 14px;
+          box-sizing: border-box;
+          border: 1px solid transparent;
+          border-radius: 50%;
+        }
+
+        .message.information .message-heading::before {
+          content: 'i';
+          border-color: currentColor;
+          color: var(--dev-tools-notification-color);
+        }
+
+        .message.warning .message-heading::before,
+        .message.error .message-heading::before {
+          content: '!';
+          color: var(--dev-tools-background-color-active);
+          background-color: var(--dev-tools-notification-color);
+        }
+
+        .ahreflike {
+          font-weight: 500;
+          color: var(--dev-tools-text-color-secondary);
+          text-decoration: underline;
+          cursor: pointer;
+        }
+
+        @keyframes slideIn {
+          from {
+            transform: translateX(100%);
+            opacity: 0;
+          }
+          to {
+            transform: translateX(0%);
+            opacity: 1;
+          }
+        }
+
+        @keyframes slideOut {
+          from {
+            transform: translateX(0%);
+            opacity: 1;
+          }
+          to {
+            transform: translateX(100%);
+            opacity: 0;
+          }
+        }
+
+        @keyframes fade-in {
+          0% {
+            opacity: 0;
+          }
+        }
+
+        @keyframes bounce {
+          0% {
+            transform: scale(0.8);
+          }
+          50% {
+            transform: scale(1.5);
+            background-color: hsla(var(--dev-tools-red-hsl), 1);
+          }
+          100% {
+            transform: scale(1);
+          }
+        }
+      `
+    ];
+  }
+  render() {
+    return l`<div class="notification-tray">
+      ${r.notifications.map((e) => this.renderNotification(e))}
+    </div>`;
+  }
+  renderNotification(e) {
+    return l`
+      <div
+        class="message ${e.type} ${e.animatingOut ? "animate-out" : ""} ${e.details || e.link ? "has-details" : ""}"
+        data-testid="message">
+        <div class="message-content">
+          <div class="message-heading">${e.message}</div>
+          <div class="message-details" ?hidden="${!e.details && !e.link}">
+            ${Pe(e.details)}
+            ${e.link ? l`<a class="ahreflike" href="${e.link}" target="_blank">Learn more</a>` : ""}
+          </div>
+          ${e.dismissId ? l`<div
+                class="persist ${e.dontShowAgain ? "on" : "off"}"
+                @click=${() => {
+      this.toggleDontShowAgain(e);
+    }}>
+                ${Fe(e)}
+              </div>` : ""}
+        </div>
+        <div
+          class="dismiss-message"
+          @click=${(t) => {
+      Ae(e), t.stopPropagation();
+    }}>
+          Dismiss
+        </div>
+      </div>
+    `;
+  }
+  toggleDontShowAgain(e) {
+    e.dontShowAgain = !e.dontShowAgain, this.requestUpdate();
+  }
+};
+K = Ve([
+  k("copilot-notifications-container")
+], K);
+function Fe(e) {
+  return e.dontShowAgainMessage ? e.dontShowAgainMessage : "Do not show this again";
+}
+ne({
+  type: ie.WARNING,
+  message: "Development Mode",
+  details: "This application is running in development mode.",
+  dismissId: "devmode"
+});
+const se = ee(() => {
+  g.emit("component-tree-updated", {});
+});
+g.on("vite-after-update", () => {
+  se();
+});
+const Z = window?.Vaadin?.connectionState?.stateChangeListeners;
+Z ? Z.add((e, t) => {
+  e === "loading" && t === "connected" && r.active && se();
+}) : console.warn("Unable to add listener for connection state changes");
+g.on("copilot-plugin-state", (e) => {
+  r.setIdePluginState(e.detail), e.detail.active && te("plugin-active", { pluginVersion: e.detail.version, ide: e.detail.ide }), e.preventDefault();
+});
+g.on("copilot-ide-notification", (e) => {
+  ne({
+    type: ie[e.detail.type],
+    message: e.detail.message,
+    dismissId: e.detail.dismissId
+  }), e.preventDefault();
+});
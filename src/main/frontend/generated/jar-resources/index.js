@@ -0,0 +1,2 @@
+export * from './Flow';
+//# sourceMappingURL=index.js.map
\ No newline at end of file
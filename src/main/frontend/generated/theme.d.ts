@@ -0,0 +1 @@
+export declare const applyTheme: (target: Node) => void;
\ No newline at end of file
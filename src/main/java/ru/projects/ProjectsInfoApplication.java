@@ -1,6 +1,7 @@
 package ru.projects;
 
 import com.vaadin.flow.component.page.AppShellConfigurator;
+import com.vaadin.flow.component.page.Push;
 import com.vaadin.flow.theme.Theme;
 import com.vaadin.flow.theme.lumo.Lumo;
 import org.springframework.boot.SpringApplication;
@@ -9,6 +10,7 @@ import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableScheduling
+@Push
 @Theme(value = "my-app", variant = Lumo.DARK)
 public class ProjectsInfoApplication implements AppShellConfigurator {
 
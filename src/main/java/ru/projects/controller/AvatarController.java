@@ -0,0 +1,129 @@
+package ru.projects.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+import ru.projects.model.Photo;
+import ru.projects.service.PhotoService;
+import ru.projects.storage.BlobStore;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+/**
+ * Serves avatars from the blob store as cacheable, zero-copy responses, in the smallest stored size that fits.
+ *
+ * @author Artem Chernikov
+ * @version 1.0
+ * @since 17.10.2026
+ */
+@RestController
+@RequestMapping("/api/avatars")
+public class AvatarController {
+
+    private static final String SENDFILE_SUPPORT_ATTRIBUTE = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME_ATTRIBUTE = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START_ATTRIBUTE = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END_ATTRIBUTE = "org.apache.tomcat.sendfile.end";
+
+    private final PhotoService photoService;
+    private final BlobStore blobStore;
+    private final CacheControl cacheControl;
+
+    public AvatarController(PhotoService photoService, BlobStore blobStore,
+                            @Value("${avatar.cache-max-age:7d}") Duration cacheMaxAge) {
+        this.photoService = photoService;
+        this.blobStore = blobStore;
+        this.cacheControl = CacheControl.maxAge(cacheMaxAge).cachePublic();
+    }
+
+    @GetMapping("/{photoId}")
+    public void getAvatar(@PathVariable Long photoId, @RequestParam(required = false) Integer size,
+                          HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Optional<Photo> photo = photoService.findPhoto(photoId).filter(value -> value.getBlobKey() != null);
+        if (photo.isEmpty()) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        String blobKey = photoService.getVariantKey(photo.get(), size);
+        OptionalLong contentLength = blobStore.size(blobKey);
+        if (contentLength.isEmpty()) {
+            photoService.unlinkIfContentMissing(photo.get());
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        long lastModified = getLastModified(photo.get());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+        if (new ServletWebRequest(request, response).checkNotModified("\"" + blobKey + "\"", lastModified)) {
+            return;
+        }
+
+        MediaType contentType = blobKey.equals(photo.get().getBlobKey())
+                ? MediaTypeFactory.getMediaType(photo.get().getFileName()).orElse(MediaType.APPLICATION_OCTET_STREAM)
+                : MediaType.IMAGE_JPEG;
+        response.setContentType(contentType.toString());
+        response.setContentLengthLong(contentLength.getAsLong());
+        if ("HEAD".equals(request.getMethod())) {
+            return;
+        }
+        Optional<Path> localFile = blobStore.findLocalFile(blobKey);
+        if (localFile.isPresent()) {
+            sendFile(localFile.get(), contentLength.getAsLong(), request, response);
+        } else {
+            try (InputStream inputStream = blobStore.open(blobKey)) {
+                inputStream.transferTo(response.getOutputStream());
+            }
+        }
+    }
+
+    private void sendFile(Path file, long size, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT_ATTRIBUTE))) {
+            request.setAttribute(SENDFILE_FILENAME_ATTRIBUTE, file.toRealPath().toString());
+            request.setAttribute(SENDFILE_START_ATTRIBUTE, 0L);
+            request.setAttribute(SENDFILE_END_ATTRIBUTE, size);
+            return;
+        }
+        try (FileChannel fileChannel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel responseChannel = Channels.newChannel(response.getOutputStream());
+            long position = 0;
+            while (position < size) {
+                long transferred = fileChannel.transferTo(position, size - position, responseChannel);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+            }
+        }
+    }
+
+    /**
+     * Upload time truncated to whole seconds, the precision of the Last-Modified header.
+     */
+    private long getLastModified(Photo photo) {
+        long uploadedAt = photo.getUploadedAt() == null
+                ? 0
+                : photo.getUploadedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return uploadedAt / 1000 * 1000;
+    }
+}
@@ -2,12 +2,18 @@ package ru.projects.controller;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import ru.projects.model.dto.backup.BackupProgressDto;
 import ru.projects.service.BackupService;
 
 import java.io.IOException;
+import java.time.LocalDateTime;
 
 /**
  * @author Artem Chernikov
@@ -29,8 +35,16 @@ public class BackupDatabaseController {
     }
 
     @PostMapping("/restore")
-    public void restore() throws IOException {
-        log.info("Restore started");
-        backupService.restoreBackup();
+    public ResponseEntity<Void> restore(@RequestParam(required = false)
+                                        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime pointInTime)
+            throws IOException {
+        log.info("Restore started, point in time: {}", pointInTime == null ? "latest backup" : pointInTime);
+        backupService.startRestore(pointInTime);
+        return ResponseEntity.accepted().build();
+    }
+
+    @GetMapping("/progress")
+    public ResponseEntity<BackupProgressDto> progress() {
+        return ResponseEntity.of(backupService.getProgress());
     }
 }
@@ -0,0 +1,37 @@
+package ru.projects.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import ru.projects.model.dto.security.BcryptCalibrationDto;
+import ru.projects.service.BcryptCalibrationService;
+
+import java.time.Duration;
+
+/**
+ * @author Artem Chernikov
+ * @version 1.0
+ * @since 17.10.2026
+ */
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/security")
+public class BcryptCalibrationController {
+
+    private final BcryptCalibrationService bcryptCalibrationService;
+
+    @GetMapping("/bcrypt-calibration")
+    public BcryptCalibrationDto calibrate(@RequestParam(defaultValue = "250") long targetMillis) {
+        return bcryptCalibrationService.calibrate(Duration.ofMillis(targetMillis));
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleIllegalArgument(IllegalArgumentException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+    }
+}
@@ -0,0 +1,28 @@
+package ru.projects.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import ru.projects.model.dto.database.IndexAdvisorEntryDto;
+import ru.projects.service.IndexAdvisorService;
+
+import java.util.List;
+
+/**
+ * @author Artem Chernikov
+ * @version 1.0
+ * @since 17.10.2026
+ */
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/database")
+public class IndexAdvisorController {
+
+    private final IndexAdvisorService indexAdvisorService;
+
+    @GetMapping("/index-advisor")
+    public List<IndexAdvisorEntryDto> indexAdvisor() {
+        return indexAdvisorService.getReport();
+    }
+}
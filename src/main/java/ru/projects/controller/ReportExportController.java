@@ -1,7 +1,6 @@
 package ru.projects.controller;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.core.io.InputStreamResource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -9,12 +8,17 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import ru.projects.model.enums.ReportType;
 import ru.projects.service.BugsExportService;
+import ru.projects.service.ReportCacheService;
+import ru.projects.service.ReportCacheService.ReportWriter;
 import ru.projects.service.TasksExportService;
 
-import java.io.ByteArrayInputStream;
 import java.util.List;
 
+import static ru.projects.util.ExcelReportWriter.NO_PROGRESS;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/report")
@@ -22,71 +26,47 @@ public class ReportExportController {
 
     private final TasksExportService tasksExportService;
     private final BugsExportService bugsExportService;
+    private final ReportCacheService reportCacheService;
 
     @GetMapping("/all-tasks")
-    public ResponseEntity<InputStreamResource> downloadTasks() {
-        ByteArrayInputStream excelStream = tasksExportService.generateTasksReport();
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.add(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=tasks_report.xlsx");
-
-        return ResponseEntity.ok()
-                .headers(headers)
-                .contentType(MediaType.APPLICATION_OCTET_STREAM)
-                .body(new InputStreamResource(excelStream));
+    public ResponseEntity<StreamingResponseBody> downloadTasks() {
+        return createReportResponse(ReportType.ALL_TASKS, List.of(), tasksExportService::writeTasksReport);
     }
 
     @GetMapping("/all-tasks-by-projects")
-    public ResponseEntity<InputStreamResource> downloadTasksByProjects(@RequestParam List<Long> projectIds) {
-        ByteArrayInputStream excelStream = tasksExportService.generateTasksReportByProjectIds(projectIds);
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.add(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=tasks_report.xlsx");
-
-        return ResponseEntity.ok()
-                .headers(headers)
-                .contentType(MediaType.APPLICATION_OCTET_STREAM)
-                .body(new InputStreamResource(excelStream));
+    public ResponseEntity<StreamingResponseBody> downloadTasksByProjects(@RequestParam List<Long> projectIds) {
+        return createReportResponse(ReportType.TASKS_BY_PROJECTS, projectIds, (outputStream, onRowWritten) ->
+                tasksExportService.writeTasksReportByProjectIds(projectIds, outputStream, onRowWritten));
     }
 
     @GetMapping("/active-tasks-by-projects")
-    public ResponseEntity<InputStreamResource> downloadActiveTasksByProjects(@RequestParam List<Long> projectIds) {
-        ByteArrayInputStream excelStream = tasksExportService.generateActiveTasksReportByProjectIds(projectIds);
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.add(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=active_tasks_report.xlsx");
-
-        return ResponseEntity.ok()
-                .headers(headers)
-                .contentType(MediaType.APPLICATION_OCTET_STREAM)
-                .body(new InputStreamResource(excelStream));
+    public ResponseEntity<StreamingResponseBody> downloadActiveTasksByProjects(@RequestParam List<Long> projectIds) {
+        return createReportResponse(ReportType.ACTIVE_TASKS_BY_PROJECTS, projectIds, (outputStream, onRowWritten) ->
+                tasksExportService.writeActiveTasksReportByProjectIds(projectIds, outputStream, onRowWritten));
     }
 
     @GetMapping("/finished-tasks-by-projects")
-    public ResponseEntity<InputStreamResource> downloadFinishedTasksByProjects(@RequestParam List<Long> projectIds) {
-        ByteArrayInputStream excelStream = tasksExportService.generateFinishedTasksReportByProjectIds(projectIds);
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.add(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=finished_tasks_report.xlsx");
-
-        return ResponseEntity.ok()
-                .headers(headers)
-                .contentType(MediaType.APPLICATION_OCTET_STREAM)
-                .body(new InputStreamResource(excelStream));
+    public ResponseEntity<StreamingResponseBody> downloadFinishedTasksByProjects(@RequestParam List<Long> projectIds) {
+        return createReportResponse(ReportType.FINISHED_TASKS_BY_PROJECTS, projectIds, (outputStream, onRowWritten) ->
+                tasksExportService.writeFinishedTasksReportByProjectIds(projectIds, outputStream, onRowWritten));
     }
 
     @GetMapping("/bugs-by-projects")
-    public ResponseEntity<InputStreamResource> downloadBugsByProjects(@RequestParam List<Long> projectIds) {
-        ByteArrayInputStream excelStream = bugsExportService.generateBugReportByProjectIds(projectIds);
+    public ResponseEntity<StreamingResponseBody> downloadBugsByProjects(@RequestParam List<Long> projectIds) {
+        return createReportResponse(ReportType.BUGS_BY_PROJECTS, projectIds, (outputStream, onRowWritten) ->
+                bugsExportService.writeBugReportByProjectIds(projectIds, outputStream, onRowWritten));
+    }
 
+    private ResponseEntity<StreamingResponseBody> createReportResponse(ReportType reportType, List<Long> projectIds,
+                                                                       ReportWriter reportWriter) {
         HttpHeaders headers = new HttpHeaders();
-        headers.add(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=bugs_report.xlsx");
+        headers.add(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + reportType.getFileName());
 
         return ResponseEntity.ok()
                 .headers(headers)
                 .contentType(MediaType.APPLICATION_OCTET_STREAM)
-                .body(new InputStreamResource(excelStream));
+                .body(outputStream -> reportCacheService.writeReport(reportType, projectIds, outputStream,
+                        NO_PROGRESS, reportWriter));
     }
 
-
 }
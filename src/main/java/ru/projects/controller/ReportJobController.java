@@ -0,0 +1,78 @@
+package ru.projects.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import ru.projects.model.dto.report.ReportJobDto;
+import ru.projects.model.enums.ReportType;
+import ru.projects.service.ReportJobService;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.Principal;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * @author Artem Chernikov
+ * @version 1.0
+ * @since 17.10.2026
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/report/jobs")
+public class ReportJobController {
+
+    private final ReportJobService reportJobService;
+
+    @PostMapping
+    public ResponseEntity<ReportJobDto> submit(@RequestParam ReportType reportType,
+                                               @RequestParam(required = false, defaultValue = "") List<Long> projectIds,
+                                               Principal principal) {
+        ReportJobDto job = reportJobService.submit(reportType, projectIds, principal.getName());
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+    }
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ReportJobDto> getStatus(@PathVariable UUID jobId, Principal principal) {
+        return ResponseEntity.of(reportJobService.getJob(jobId, principal.getName()));
+    }
+
+    @GetMapping("/{jobId}/file")
+    public ResponseEntity<Resource> download(@PathVariable UUID jobId, Principal principal) throws IOException {
+        Optional<ReportJobDto> job = reportJobService.getJob(jobId, principal.getName());
+        if (job.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        Optional<InputStream> file = reportJobService.openReportFile(jobId, principal.getName());
+        if (file.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.add(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + job.get().getFileName());
+
+        return ResponseEntity.ok()
+                .headers(headers)
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .body(new InputStreamResource(file.get()));
+    }
+
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<String> handleQueueFull(RejectedExecutionException e) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(e.getMessage());
+    }
+}
@@ -0,0 +1,40 @@
+package ru.projects.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import ru.projects.model.dto.search.SearchPageDto;
+import ru.projects.service.SearchService;
+
+import java.security.Principal;
+
+/**
+ * @author Artem Chernikov
+ * @version 1.0
+ * @since 17.10.2026
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/search")
+public class SearchController {
+
+    private final SearchService searchService;
+
+    @GetMapping
+    public SearchPageDto search(@RequestParam String text,
+                                @RequestParam(defaultValue = "0") int page,
+                                @RequestParam(defaultValue = "20") int size,
+                                Principal principal) {
+        return searchService.search(text, principal.getName(), page, size);
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleIllegalArgument(IllegalArgumentException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+    }
+}
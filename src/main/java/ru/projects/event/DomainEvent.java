@@ -0,0 +1,32 @@
+package ru.projects.event;
+
+/**
+ * Change of a task, bug or project, published by the services after the write.
+ *
+ * @param projectId project the changed entity belongs to, the project itself for project events
+ * @author Artem Chernikov
+ * @version 1.0
+ * @since 17.10.2026
+ */
+public record DomainEvent(EntityType entityType, ChangeType changeType, Long entityId, Long projectId) {
+
+    public enum EntityType {
+        TASK, BUG, PROJECT
+    }
+
+    public enum ChangeType {
+        CREATED, UPDATED, DELETED
+    }
+
+    public static DomainEvent task(ChangeType changeType, Long taskId, Long projectId) {
+        return new DomainEvent(EntityType.TASK, changeType, taskId, projectId);
+    }
+
+    public static DomainEvent bug(ChangeType changeType, Long bugId, Long projectId) {
+        return new DomainEvent(EntityType.BUG, changeType, bugId, projectId);
+    }
+
+    public static DomainEvent project(ChangeType changeType, Long projectId) {
+        return new DomainEvent(EntityType.PROJECT, changeType, projectId, projectId);
+    }
+}
@@ -0,0 +1,57 @@
+package ru.projects.event;
+
+import com.vaadin.flow.shared.Registration;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ru.projects.util.ThreadFactories;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * Delivers domain events to the open views on a background thread once the publishing transaction commits.
+ *
+ * @author Artem Chernikov
+ * @version 1.0
+ * @since 17.10.2026
+ */
+@Component
+@Slf4j
+public class DomainEventBus {
+
+    private final List<Consumer<DomainEvent>> listeners = new CopyOnWriteArrayList<>();
+    private final ExecutorService executor;
+
+    public DomainEventBus(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.executor = Executors.newSingleThreadExecutor(ThreadFactories.create("domain-event-", virtualThreads));
+    }
+
+    public Registration register(Consumer<DomainEvent> listener) {
+        listeners.add(listener);
+        return () -> listeners.remove(listener);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDomainEvent(DomainEvent event) {
+        for (Consumer<DomainEvent> listener : listeners) {
+            executor.execute(() -> {
+                try {
+                    listener.accept(event);
+                } catch (RuntimeException e) {
+                    log.warn("Domain event listener failed on {}: {}", event, e.getMessage());
+                }
+            });
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
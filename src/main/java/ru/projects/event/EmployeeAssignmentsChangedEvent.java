@@ -0,0 +1,25 @@
+package ru.projects.event;
+
+import java.util.Set;
+
+/**
+ * Employees added to or removed from a project, or all of them after a restore.
+ *
+ * @author Artem Chernikov
+ * @version 1.0
+ * @since 17.10.2026
+ */
+public record EmployeeAssignmentsChangedEvent(Set<Long> employeeIds, boolean allEmployees) {
+
+    public EmployeeAssignmentsChangedEvent {
+        employeeIds = Set.copyOf(employeeIds);
+    }
+
+    public EmployeeAssignmentsChangedEvent(Set<Long> employeeIds) {
+        this(employeeIds, false);
+    }
+
+    public static EmployeeAssignmentsChangedEvent forAllEmployees() {
+        return new EmployeeAssignmentsChangedEvent(Set.of(), true);
+    }
+}
@@ -11,8 +11,6 @@ import ru.projects.model.enums.Priority;
 import ru.projects.model.enums.Status;
 import ru.projects.model.enums.TaskType;
 
-import java.util.List;
-
 @Mapper(componentModel = "spring", uses = {EmployeeMapper.class, ProjectMapper.class},
         imports = {TaskType.class, Priority.class, Status.class})
 public abstract class TaskMapper {
@@ -30,8 +28,6 @@ public abstract class TaskMapper {
     @Mapping(target = "status", expression = "java(task.getStatus().getDisplayName())")
     public abstract TaskFullDto taskToTaskFullDto(Task task);
 
-    public abstract List<TaskFullDto> tasksToTaskFullDtos(List<Task> tasks);
-
     @Mapping(target = "taskType", expression = "java(TaskType.fromDisplayName(taskFullDto.getTaskType()))")
     @Mapping(target = "priority", expression = "java(Priority.fromDisplayName(taskFullDto.getPriority()))")
     @Mapping(target = "status", expression = "java(Status.fromDisplayName(taskFullDto.getStatus()))")
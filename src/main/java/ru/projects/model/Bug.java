@@ -8,6 +8,8 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
@@ -31,6 +33,7 @@ import ru.projects.model.enums.Status;
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 @Entity
 @Table(name = "bugs")
+@NamedEntityGraph(name = "Bug.project", attributeNodes = @NamedAttributeNode("project"))
 public class Bug {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
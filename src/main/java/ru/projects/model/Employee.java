@@ -9,6 +9,8 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
@@ -40,14 +42,22 @@ import java.util.Set;
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 @Entity
 @Table(name = "employees")
+@NamedEntityGraph(name = "Employee.gridPage",
+        attributeNodes = {@NamedAttributeNode("user"), @NamedAttributeNode("specialization")})
+@NamedEntityGraph(name = "Employee.userAndProjects",
+        attributeNodes = {@NamedAttributeNode("user"), @NamedAttributeNode("projects")})
+@NamedEntityGraph(name = "Employee.specialization", attributeNodes = @NamedAttributeNode("specialization"))
+@NamedEntityGraph(name = "Employee.editForm", attributeNodes = {@NamedAttributeNode("user"),
+        @NamedAttributeNode("specialization"), @NamedAttributeNode("projects")})
 public class Employee {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @EqualsAndHashCode.Include
     private Long employeeId;
 
-    @OneToOne(fetch = FetchType.EAGER, cascade = CascadeType.ALL, orphanRemoval = true)
+    @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
     @JoinColumn(name = "user_id")
+    @ToString.Exclude
     private User user;
 
     @ManyToOne
@@ -67,8 +77,10 @@ public class Employee {
     private String email;
 
     @OneToMany(mappedBy = "employee", fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
+    @ToString.Exclude
     private List<Task> tasks = new ArrayList<>();
 
-    @ManyToMany(mappedBy = "employees", fetch = FetchType.EAGER)
+    @ManyToMany(mappedBy = "employees", fetch = FetchType.LAZY)
+    @ToString.Exclude
     private Set<Project> projects = new HashSet<>();
 }
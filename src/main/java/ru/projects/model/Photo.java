@@ -10,6 +10,8 @@ import lombok.Setter;
 import lombok.ToString;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
 
 @AllArgsConstructor
 @NoArgsConstructor
@@ -20,6 +22,7 @@ import java.time.LocalDateTime;
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 @Entity
 @Table(name = "photos")
+@NamedEntityGraph(name = "Photo.variants", attributeNodes = @NamedAttributeNode("variants"))
 public class Photo {
 
     @Id
@@ -29,8 +32,28 @@ public class Photo {
 
     private String fileName;
 
+    /**
+     * Location of photos uploaded before the blob store, imported into the store on startup.
+     */
     private String filePath;
 
+    /**
+     * Key of the original image in the {@link ru.projects.storage.BlobStore}.
+     */
+    private String blobKey;
+
+    @Builder.Default
     private LocalDateTime uploadedAt = LocalDateTime.now();
 
+    /**
+     * Blob keys of the thumbnails keyed by their size in pixels.
+     */
+    @ElementCollection
+    @CollectionTable(name = "photo_variants", joinColumns = @JoinColumn(name = "photo_id"))
+    @MapKeyColumn(name = "size")
+    @Column(name = "blob_key")
+    @Builder.Default
+    @ToString.Exclude
+    private Map<Integer, String> variants = new HashMap<>();
+
 }
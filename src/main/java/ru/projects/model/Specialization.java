@@ -1,5 +1,6 @@
 package ru.projects.model;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -11,6 +12,10 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import static ru.projects.util.Constants.SPECIALIZATION_CACHE_REGION;
 
 /**
  * @author Artem Chernikov
@@ -24,6 +29,8 @@ import lombok.ToString;
 @ToString
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SPECIALIZATION_CACHE_REGION)
 @Table(name = "specializations")
 public class Specialization {
     @Id
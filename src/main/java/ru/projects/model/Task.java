@@ -8,6 +8,8 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -34,6 +36,8 @@ import ru.projects.model.enums.TaskType;
 @Entity
 @Builder
 @Table(name = "tasks")
+@NamedEntityGraph(name = "Task.projectAndEmployee",
+        attributeNodes = {@NamedAttributeNode("project"), @NamedAttributeNode("employee")})
 public class Task {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -8,6 +8,8 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
@@ -25,6 +27,8 @@ import lombok.ToString;
  */
 @Entity
 @Table(name = "users")
+@NamedEntityGraph(name = "User.security",
+        attributeNodes = {@NamedAttributeNode("role"), @NamedAttributeNode("photo")})
 @AllArgsConstructor
 @NoArgsConstructor
 @Getter
@@ -46,8 +50,9 @@ public class User {
 
     private String password;
 
-    @OneToOne(fetch = FetchType.EAGER, cascade = CascadeType.ALL, orphanRemoval = true)
+    @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
     @JoinColumn(name = "photo_id")
+    @ToString.Exclude
     private Photo photo;
 
 }
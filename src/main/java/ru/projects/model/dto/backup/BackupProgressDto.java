@@ -0,0 +1,40 @@
+package ru.projects.model.dto.backup;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * @author Artem Chernikov
+ * @version 1.0
+ * @since 17.10.2026
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@ToString
+@Builder
+public class BackupProgressDto {
+
+    private String operation;
+
+    private String status;
+
+    private String backupName;
+
+    private String phase;
+
+    private long tablesDone;
+
+    private long tablesTotal;
+
+    private long bytesProcessed;
+
+    private long bytesPerSecond;
+
+    private String error;
+}
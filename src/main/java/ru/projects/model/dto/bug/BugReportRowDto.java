@@ -0,0 +1,36 @@
+package ru.projects.model.dto.bug;
+
+import lombok.Getter;
+import lombok.ToString;
+import ru.projects.model.enums.Priority;
+import ru.projects.model.enums.Status;
+
+/**
+ * Flat read model of a bug report row, filled by a JPQL constructor expression so no entity graph is loaded.
+ *
+ * @author Artem Chernikov
+ * @version 1.0
+ * @since 17.10.2026
+ */
+@Getter
+@ToString
+public class BugReportRowDto {
+
+    private final String project;
+
+    private final String name;
+
+    private final String description;
+
+    private final String priority;
+
+    private final String status;
+
+    public BugReportRowDto(String project, String name, String description, Priority priority, Status status) {
+        this.project = project;
+        this.name = name;
+        this.description = description;
+        this.priority = priority.getDisplayName();
+        this.status = status.getDisplayName();
+    }
+}
@@ -0,0 +1,31 @@
+package ru.projects.model.dto.grid;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Number of rows behind a grid, either counted or estimated by the query planner.
+ *
+ * @author Artem Chernikov
+ * @version 1.0
+ * @since 17.10.2026
+ */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+@ToString
+public class RowCountDto {
+
+    private final long count;
+
+    private final boolean exact;
+
+    public static RowCountDto exact(long count) {
+        return new RowCountDto(count, true);
+    }
+
+    public static RowCountDto estimate(long count) {
+        return new RowCountDto(count, false);
+    }
+}
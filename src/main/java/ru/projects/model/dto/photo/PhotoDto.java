@@ -7,6 +7,9 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
 
+import java.io.IOException;
+import java.io.InputStream;
+
 /**
  * @author Artem Chernikov
  * @version 1.0
@@ -22,5 +25,19 @@ public class PhotoDto {
 
     private String fileName;
 
-    private byte[] content;
+    /**
+     * Size in bytes taken from the file metadata, 0 if the file is missing.
+     */
+    private long size;
+
+    /**
+     * Opens the image content on demand, the caller closes the stream.
+     */
+    @ToString.Exclude
+    private ContentSupplier content;
+
+    @FunctionalInterface
+    public interface ContentSupplier {
+        InputStream open() throws IOException;
+    }
 }
@@ -0,0 +1,38 @@
+package ru.projects.model.dto.report;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.util.UUID;
+
+/**
+ * @author Artem Chernikov
+ * @version 1.0
+ * @since 17.10.2026
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@ToString
+@Builder
+public class ReportJobDto {
+
+    private UUID jobId;
+
+    private String reportType;
+
+    private String status;
+
+    private long rowsWritten;
+
+    private long totalRows;
+
+    private String fileName;
+
+    private String error;
+}
@@ -0,0 +1,32 @@
+package ru.projects.model.dto.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * @author Artem Chernikov
+ * @version 1.0
+ * @since 17.10.2026
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@ToString
+@Builder
+public class SearchPageDto {
+
+    private List<SearchResultDto> results;
+
+    private int page;
+
+    private int size;
+
+    private boolean hasNext;
+}
@@ -0,0 +1,37 @@
+package ru.projects.model.dto.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import ru.projects.model.enums.SearchResultType;
+
+/**
+ * @author Artem Chernikov
+ * @version 1.0
+ * @since 17.10.2026
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@ToString
+@Builder
+public class SearchResultDto {
+
+    private SearchResultType type;
+
+    private Long id;
+
+    private Long projectId;
+
+    private String projectName;
+
+    private String title;
+
+    private String snippet;
+
+    private double rank;
+}
@@ -0,0 +1,30 @@
+package ru.projects.model.dto.security;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.util.Map;
+
+/**
+ * @author Artem Chernikov
+ * @version 1.0
+ * @since 17.10.2026
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@ToString
+@Builder
+public class BcryptCalibrationDto {
+
+    private long targetMillis;
+
+    private int recommendedStrength;
+
+    private Map<Integer, Long> verificationMillisByStrength;
+}
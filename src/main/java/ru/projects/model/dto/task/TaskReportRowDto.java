@@ -0,0 +1,45 @@
+package ru.projects.model.dto.task;
+
+import lombok.Getter;
+import lombok.ToString;
+import ru.projects.model.enums.Priority;
+import ru.projects.model.enums.Status;
+import ru.projects.model.enums.TaskType;
+
+/**
+ * Flat read model of a task report row, filled by a JPQL constructor expression so no entity graph is loaded.
+ *
+ * @author Artem Chernikov
+ * @version 1.0
+ * @since 17.10.2026
+ */
+@Getter
+@ToString
+public class TaskReportRowDto {
+
+    private final String project;
+
+    private final String employee;
+
+    private final String name;
+
+    private final String description;
+
+    private final String taskType;
+
+    private final String priority;
+
+    private final String status;
+
+    public TaskReportRowDto(String project, String employeeLastName, String employeeFirstName,
+                            String employeePatronymicName, String name, String description, TaskType taskType,
+                            Priority priority, Status status) {
+        this.project = project;
+        this.employee = String.join(" ", employeeLastName, employeeFirstName, employeePatronymicName);
+        this.name = name;
+        this.description = description;
+        this.taskType = taskType.getDisplayName();
+        this.priority = priority.getDisplayName();
+        this.status = status.getDisplayName();
+    }
+}
@@ -0,0 +1,15 @@
+package ru.projects.model.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum BackupOperation {
+    BACKUP("Backup"),
+    RESTORE("Restore");
+
+    private final String displayName;
+
+    BackupOperation(String displayName) {
+        this.displayName = displayName;
+    }
+}
@@ -0,0 +1,16 @@
+package ru.projects.model.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum BackupStatus {
+    RUNNING("Running"),
+    FINISHED("Finished"),
+    FAILED("Failed");
+
+    private final String displayName;
+
+    BackupStatus(String displayName) {
+        this.displayName = displayName;
+    }
+}
@@ -0,0 +1,17 @@
+package ru.projects.model.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum ReportJobStatus {
+    QUEUED("Queued"),
+    RUNNING("Running"),
+    FINISHED("Finished"),
+    FAILED("Failed");
+
+    private final String displayName;
+
+    ReportJobStatus(String displayName) {
+        this.displayName = displayName;
+    }
+}
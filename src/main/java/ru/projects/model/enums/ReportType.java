@@ -0,0 +1,18 @@
+package ru.projects.model.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum ReportType {
+    ALL_TASKS("tasks_report.xlsx"),
+    TASKS_BY_PROJECTS("tasks_report.xlsx"),
+    ACTIVE_TASKS_BY_PROJECTS("active_tasks_report.xlsx"),
+    FINISHED_TASKS_BY_PROJECTS("finished_tasks_report.xlsx"),
+    BUGS_BY_PROJECTS("bugs_report.xlsx");
+
+    private final String fileName;
+
+    ReportType(String fileName) {
+        this.fileName = fileName;
+    }
+}
@@ -0,0 +1,16 @@
+package ru.projects.model.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum SearchResultType {
+    TASK("Task"),
+    BUG("Bug"),
+    PROJECT("Project");
+
+    private final String displayName;
+
+    SearchResultType(String displayName) {
+        this.displayName = displayName;
+    }
+}
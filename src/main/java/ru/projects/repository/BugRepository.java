@@ -1,20 +1,39 @@
 package ru.projects.repository;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import ru.projects.model.Bug;
+import ru.projects.model.dto.bug.BugReportRowDto;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static ru.projects.util.Constants.REPORT_FETCH_SIZE;
 
 @Repository
 public interface BugRepository extends JpaRepository<Bug, Long> {
 
-    Page<Bug> findAllByProject_ProjectIdIn(Pageable pageable, List<Long> projectIds);
+    @EntityGraph("Bug.project")
+    Window<Bug> findAllByProject_ProjectIdIn(List<Long> projectIds, ScrollPosition position, Sort sort, Limit limit);
+
+    @EntityGraph("Bug.project")
+    Optional<Bug> findWithProjectByBugId(Long bugId);
+
+    long countByProject_ProjectIdIn(List<Long> projectIds);
 
-    @Query("SELECT b FROM Bug b WHERE b.project.projectId IN :projectIds ORDER BY b.project.name")
-    List<Bug> findAllByProjectIdsOrderByProjectName(List<Long> projectIds);
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = REPORT_FETCH_SIZE))
+    @Query("SELECT new ru.projects.model.dto.bug.BugReportRowDto(p.name, b.name, b.description, b.priority, b.status)" +
+            " FROM Bug b JOIN b.project p WHERE p.projectId IN :projectIds ORDER BY p.name")
+    Stream<BugReportRowDto> streamReportRowsByProjectIdsOrderByProjectName(List<Long> projectIds);
 
 }
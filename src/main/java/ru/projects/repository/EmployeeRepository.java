@@ -1,5 +1,10 @@
 package ru.projects.repository;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
@@ -8,6 +13,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import ru.projects.model.Employee;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -15,12 +21,29 @@ import java.util.Set;
 @Repository
 public interface EmployeeRepository extends JpaRepository<Employee, Long>, JpaSpecificationExecutor<Employee> {
 
+    @Override
+    @EntityGraph("Employee.specialization")
+    List<Employee> findAll();
+
+    @EntityGraph("Employee.gridPage")
+    Window<Employee> findAllBy(ScrollPosition position, Sort sort, Limit limit);
+
+    @EntityGraph("Employee.userAndProjects")
+    List<Employee> findWithUserAndProjectsByEmployeeIdIn(Collection<Long> employeeIds);
+
+    @EntityGraph("Employee.editForm")
+    Optional<Employee> findForEditByEmployeeId(Long employeeId);
+
     @Query("SELECT e FROM Employee e JOIN e.projects p WHERE p.projectId = :projectId" +
             " and e.specialization.specializationName IN :specializations")
     Set<Employee> findByProjectIdAndSpecialization(@Param("projectId") Long projectId,
                                                    @Param("specializations") List<String> specializations);
 
-    Optional<Employee> findByUser_Username(String username);
+    @Query("SELECT e.employeeId FROM Employee e WHERE e.user.username = :username")
+    Optional<Long> findEmployeeIdByUsername(@Param("username") String username);
+
+    @Query("SELECT p.projectId FROM Employee e JOIN e.projects p WHERE e.employeeId = :employeeId")
+    Set<Long> findProjectIdsByEmployeeId(@Param("employeeId") Long employeeId);
 
     @Modifying
     @Query(value = "DELETE FROM projects_employees WHERE employee_id = :employeeId", nativeQuery = true)
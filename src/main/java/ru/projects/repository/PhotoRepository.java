@@ -1,9 +1,31 @@
 package ru.projects.repository;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import ru.projects.model.Photo;
 
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface PhotoRepository extends JpaRepository<Photo, Long> {
+
+    @EntityGraph("Photo.variants")
+    Optional<Photo> findWithVariantsByPhotoId(Long photoId);
+
+    List<Photo> findAllByBlobKeyIsNull();
+
+    @Query(value = "SELECT (SELECT count(*) FROM photos WHERE blob_key = :blobKey)"
+            + " + (SELECT count(*) FROM photo_variants WHERE blob_key = :blobKey)", nativeQuery = true)
+    long countBlobReferences(@Param("blobKey") String blobKey);
+
+    /**
+     * Takes a transaction-scoped advisory lock on the blob key, held until the surrounding transaction ends.
+     */
+    @Query(value = "SELECT 1 FROM (SELECT pg_advisory_xact_lock(hashtextextended(:blobKey, 0))) l",
+            nativeQuery = true)
+    int lockBlobKey(@Param("blobKey") String blobKey);
 }
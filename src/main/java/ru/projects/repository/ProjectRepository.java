@@ -1,19 +1,40 @@
 package ru.projects.repository;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import ru.projects.model.Project;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Long> {
 
     boolean existsByProjectId(Long id);
 
-    Page<Project> findByEmployees_EmployeeId(Pageable pageable, Long employeeId);
+    Window<Project> findAllBy(ScrollPosition position, Sort sort, Limit limit);
+
+    Window<Project> findByEmployees_EmployeeId(Long employeeId, ScrollPosition position, Sort sort, Limit limit);
 
     List<Project> findByEmployees_EmployeeId(Long employeeId);
+
+    long countByEmployees_EmployeeId(Long employeeId);
+
+    @Query("SELECT e.employeeId FROM Project p JOIN p.employees e WHERE p.projectId = :projectId")
+    Set<Long> findEmployeeIdsByProjectId(@Param("projectId") Long projectId);
+
+    @EntityGraph("Project.employees")
+    List<Project> findWithEmployeesByProjectIdIn(Collection<Long> projectIds);
+
+    @EntityGraph("Project.employees")
+    Optional<Project> findWithEmployeesByProjectId(Long projectId);
 }
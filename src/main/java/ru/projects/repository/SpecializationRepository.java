@@ -1,12 +1,26 @@
 package ru.projects.repository;
 
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import ru.projects.model.Specialization;
 
+import java.util.List;
 import java.util.Optional;
 
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_CACHE_REGION;
+import static ru.projects.util.Constants.REFERENCE_DATA_QUERY_CACHE_REGION;
+
 @Repository
 public interface SpecializationRepository extends JpaRepository<Specialization, Long> {
+    @QueryHints({@QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = REFERENCE_DATA_QUERY_CACHE_REGION)})
     Optional<Specialization> findBySpecializationName(String specializationName);
+
+    @Override
+    @QueryHints({@QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = REFERENCE_DATA_QUERY_CACHE_REGION)})
+    List<Specialization> findAll();
 }
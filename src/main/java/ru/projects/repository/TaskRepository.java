@@ -1,30 +1,79 @@
 package ru.projects.repository;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import ru.projects.model.Task;
+import ru.projects.model.dto.task.TaskReportRowDto;
+import ru.projects.model.enums.Status;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static ru.projects.util.Constants.REPORT_FETCH_SIZE;
 
 @Repository
 public interface TaskRepository extends JpaRepository<Task, Long> {
-    Page<Task> findAllByEmployee_EmployeeId(Pageable pageable, Long employeeId);
+    @EntityGraph("Task.projectAndEmployee")
+    Window<Task> findAllBy(ScrollPosition position, Sort sort, Limit limit);
+
+    @EntityGraph("Task.projectAndEmployee")
+    Optional<Task> findWithProjectAndEmployeeByTaskId(Long taskId);
+
+    @EntityGraph("Task.projectAndEmployee")
+    Window<Task> findAllByEmployee_EmployeeId(Long employeeId, ScrollPosition position, Sort sort, Limit limit);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = REPORT_FETCH_SIZE))
+    @Query("SELECT new ru.projects.model.dto.task.TaskReportRowDto(p.name, e.lastName, e.firstName, e.patronymicName," +
+            " t.name, t.description, t.taskType, t.priority, t.status) FROM Task t JOIN t.project p JOIN t.employee e" +
+            " ORDER BY p.name")
+    Stream<TaskReportRowDto> streamReportRowsOrderByProjectName();
+
+    @EntityGraph("Task.projectAndEmployee")
+    Window<Task> findAllByProject_ProjectIdIn(List<Long> projectIds, ScrollPosition position, Sort sort, Limit limit);
+
+    long countByEmployee_EmployeeId(Long employeeId);
+
+    long countByProject_ProjectIdIn(List<Long> projectIds);
+
+    @Query("SELECT count(t) FROM Task t JOIN t.project p JOIN t.employee e")
+    long countReportRows();
 
-    List<Task> findAllByOrderByProject_Name();
+    @Query("SELECT count(t) FROM Task t JOIN t.project p JOIN t.employee e WHERE p.projectId IN :projectIds")
+    long countReportRowsByProjectIds(@Param("projectIds") List<Long> projectIds);
 
-    @Query("SELECT t FROM Task t WHERE t.project.projectId IN :projectIds")
-    Page<Task> findAllByProjectIds(Pageable pageable, @Param("projectIds") List<Long> projectIds);
+    @Query("SELECT count(t) FROM Task t JOIN t.project p JOIN t.employee e" +
+            " WHERE p.projectId IN :projectIds AND t.status IN :statuses")
+    long countReportRowsByProjectIdsAndStatusIn(@Param("projectIds") List<Long> projectIds,
+                                                @Param("statuses") List<Status> statuses);
 
-    @Query("SELECT t FROM Task t WHERE t.project.projectId IN :projectIds ORDER BY t.project.name")
-    List<Task> findAllByProjectIdsOrderByProjectName(@Param("projectIds") List<Long> projectIds);
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = REPORT_FETCH_SIZE))
+    @Query("SELECT new ru.projects.model.dto.task.TaskReportRowDto(p.name, e.lastName, e.firstName, e.patronymicName," +
+            " t.name, t.description, t.taskType, t.priority, t.status) FROM Task t JOIN t.project p JOIN t.employee e" +
+            " WHERE p.projectId IN :projectIds ORDER BY p.name")
+    Stream<TaskReportRowDto> streamReportRowsByProjectIdsOrderByProjectName(@Param("projectIds") List<Long> projectIds);
 
-    @Query("SELECT t FROM Task t WHERE t.project.projectId IN :projectIds AND t.status IN ('NEW', 'IN_PROGRESS') ORDER BY t.project.name")
-    List<Task> findAllActiveByProjectIdsOrderByProjectName(@Param("projectIds") List<Long> projectIds);
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = REPORT_FETCH_SIZE))
+    @Query("SELECT new ru.projects.model.dto.task.TaskReportRowDto(p.name, e.lastName, e.firstName, e.patronymicName," +
+            " t.name, t.description, t.taskType, t.priority, t.status) FROM Task t JOIN t.project p JOIN t.employee e" +
+            " WHERE p.projectId IN :projectIds AND t.status IN ('NEW', 'IN_PROGRESS') ORDER BY p.name")
+    Stream<TaskReportRowDto> streamActiveReportRowsByProjectIdsOrderByProjectName(
+            @Param("projectIds") List<Long> projectIds);
 
-    @Query("SELECT t FROM Task t WHERE t.project.projectId IN :projectIds AND t.status = 'FINISHED' ORDER BY t.project.name")
-    List<Task> findAllFinishedByProjectIdsOrderByProjectName(@Param("projectIds") List<Long> projectIds);
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = REPORT_FETCH_SIZE))
+    @Query("SELECT new ru.projects.model.dto.task.TaskReportRowDto(p.name, e.lastName, e.firstName, e.patronymicName," +
+            " t.name, t.description, t.taskType, t.priority, t.status) FROM Task t JOIN t.project p JOIN t.employee e" +
+            " WHERE p.projectId IN :projectIds AND t.status = 'FINISHED' ORDER BY p.name")
+    Stream<TaskReportRowDto> streamFinishedReportRowsByProjectIdsOrderByProjectName(
+            @Param("projectIds") List<Long> projectIds);
 }
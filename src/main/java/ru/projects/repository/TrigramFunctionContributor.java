@@ -0,0 +1,25 @@
+package ru.projects.repository;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registers the pg_trgm {@code a % b} operator, the form the trigram indexes serve, for criteria queries.
+ *
+ * @author Artem Chernikov
+ * @version 1.0
+ * @since 17.10.2026
+ */
+public class TrigramFunctionContributor implements FunctionContributor {
+
+    public static final String TRIGRAM_SIMILAR = "trgm_similar";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        BasicType<Boolean> booleanType = functionContributions.getTypeConfiguration().getBasicTypeRegistry()
+                .resolve(StandardBasicTypes.BOOLEAN);
+        functionContributions.getFunctionRegistry().registerPattern(TRIGRAM_SIMILAR, "(?1 % ?2)", booleanType);
+    }
+}
@@ -1,5 +1,6 @@
 package ru.projects.repository;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 import ru.projects.model.User;
@@ -9,6 +10,7 @@ import java.util.Optional;
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
 
+    @EntityGraph("User.security")
     Optional<User> findByUsername(String username);
 
     Optional<User> findByPhoto_photoId(Long photoId);
@@ -0,0 +1,118 @@
+package ru.projects.security;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * BCrypt password encoder that hashes on a bounded pool of its own instead of the request threads.
+ *
+ * @author Artem Chernikov
+ * @version 1.0
+ * @since 17.10.2026
+ */
+@Component
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final BCryptPasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final Duration timeout;
+
+    public BoundedPasswordEncoder(@Value("${security.password-hashing.strength:10}") int strength,
+                                  @Value("${security.password-hashing.threads:2}") int threads,
+                                  @Value("${security.password-hashing.queue-capacity:100}") int queueCapacity,
+                                  @Value("${security.password-hashing.timeout:10s}") Duration timeout) {
+        this.delegate = new BCryptPasswordEncoder(strength);
+        this.timeout = timeout;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("password-hashing-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return authenticationHash(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return authenticationHash(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * Runs other BCrypt work, such as a calibration, on the hashing pool.
+     */
+    public <T> T runHashing(Callable<T> task) {
+        return hash(task);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * A hash that cannot run fails the sign in with an authentication error, which the login form shows.
+     */
+    private <T> T authenticationHash(Callable<T> task) {
+        try {
+            return hash(task);
+        } catch (RejectedExecutionException | IllegalStateException e) {
+            throw new AuthenticationServiceException(e.getMessage(), e);
+        }
+    }
+
+    private <T> T hash(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            log.warn("Password hashing queue is full ({} waiting)", executor.getQueue().size());
+            throw new RejectedExecutionException("Password hashing queue is full, try again later", e);
+        }
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            cancel(future);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+        } catch (TimeoutException e) {
+            cancel(future);
+            throw new IllegalStateException("Password hashing timed out after " + timeout, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
+    /**
+     * A queued hash never starts and its queue slot is freed, a running hash cannot be stopped and finishes.
+     */
+    private void cancel(Future<?> future) {
+        future.cancel(false);
+        executor.purge();
+    }
+}
@@ -0,0 +1,17 @@
+package ru.projects.security;
+
+import java.util.Set;
+
+/**
+ * Snapshot of the signed in employee, the role and the projects of the employee.
+ *
+ * @author Artem Chernikov
+ * @version 1.0
+ * @since 17.10.2026
+ */
+public record CurrentEmployee(Long employeeId, String username, String role, Set<Long> projectIds) {
+
+    public CurrentEmployee {
+        projectIds = Set.copyOf(projectIds);
+    }
+}
@@ -0,0 +1,47 @@
+package ru.projects.security;
+
+import com.vaadin.flow.spring.annotation.VaadinSessionScope;
+import com.vaadin.flow.spring.security.AuthenticationContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import ru.projects.service.EmployeeService;
+
+/**
+ * The signed in employee of the session, reloaded only after the project assignments of the employee changed.
+ *
+ * @author Artem Chernikov
+ * @version 1.0
+ * @since 17.10.2026
+ */
+@Component
+@VaadinSessionScope
+@RequiredArgsConstructor
+public class CurrentEmployeeContext {
+
+    private final AuthenticationContext authenticationContext;
+    private final EmployeeService employeeService;
+    private final EmployeeAssignmentTracker assignmentTracker;
+
+    private CurrentEmployee currentEmployee;
+    private long loadedVersion;
+
+    public synchronized CurrentEmployee get() {
+        UserDetails userDetails = authenticationContext.getAuthenticatedUser(UserDetails.class)
+                .orElseThrow(() -> new RuntimeException("User is not authenticated"));
+        if (currentEmployee == null || !currentEmployee.username().equals(userDetails.getUsername())
+                || assignmentTracker.isChangedSince(currentEmployee.employeeId(), loadedVersion)) {
+            loadedVersion = assignmentTracker.getVersion();
+            currentEmployee = employeeService.getCurrentEmployee(userDetails.getUsername(), getRole(userDetails));
+        }
+        return currentEmployee;
+    }
+
+    private String getRole(UserDetails userDetails) {
+        return userDetails.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .findFirst()
+                .orElse(null);
+    }
+}
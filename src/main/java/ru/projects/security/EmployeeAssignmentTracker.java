@@ -0,0 +1,45 @@
+package ru.projects.security;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ru.projects.event.EmployeeAssignmentsChangedEvent;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Versions of the project assignments of every employee, to tell a stale {@link CurrentEmployee} in memory.
+ *
+ * @author Artem Chernikov
+ * @version 1.0
+ * @since 17.10.2026
+ */
+@Component
+public class EmployeeAssignmentTracker {
+
+    private final AtomicLong version = new AtomicLong();
+    private final Map<Long, Long> changedAt = new ConcurrentHashMap<>();
+    private volatile long allChangedAt;
+
+    /**
+     * Counted after the commit, a snapshot reloaded right away already sees the new assignments.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAssignmentsChanged(EmployeeAssignmentsChangedEvent event) {
+        long changeVersion = version.incrementAndGet();
+        if (event.allEmployees()) {
+            allChangedAt = changeVersion;
+            changedAt.clear();
+        }
+        event.employeeIds().forEach(employeeId -> changedAt.put(employeeId, changeVersion));
+    }
+
+    public long getVersion() {
+        return version.get();
+    }
+
+    public boolean isChangedSince(Long employeeId, long sinceVersion) {
+        return allChangedAt > sinceVersion || changedAt.getOrDefault(employeeId, 0L) > sinceVersion;
+    }
+}
@@ -0,0 +1,91 @@
+package ru.projects.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.event.AuthenticationFailureBadCredentialsEvent;
+import org.springframework.security.authentication.event.AuthenticationSuccessEvent;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counts failed sign ins per username and per client address within {@code security.login.failure-window}.
+ *
+ * @author Artem Chernikov
+ * @version 1.0
+ * @since 17.10.2026
+ */
+@Component
+public class LoginThrottle {
+
+    private static final String USERNAME_KEY_PREFIX = "username:";
+    private static final String ADDRESS_KEY_PREFIX = "address:";
+
+    private final int maxFailuresPerUsername;
+    private final int maxFailuresPerAddress;
+    private final Duration failureWindow;
+    private final Map<String, Failures> failures = new ConcurrentHashMap<>();
+
+    public LoginThrottle(@Value("${security.login.max-failures-per-username:5}") int maxFailuresPerUsername,
+                         @Value("${security.login.max-failures-per-ip:20}") int maxFailuresPerAddress,
+                         @Value("${security.login.failure-window:15m}") Duration failureWindow) {
+        this.maxFailuresPerUsername = maxFailuresPerUsername;
+        this.maxFailuresPerAddress = maxFailuresPerAddress;
+        this.failureWindow = failureWindow;
+    }
+
+    public boolean isBlocked(String username, String remoteAddress) {
+        Instant now = Instant.now();
+        return (username != null && isBlocked(toUsernameKey(username), maxFailuresPerUsername, now))
+                || (remoteAddress != null && isBlocked(ADDRESS_KEY_PREFIX + remoteAddress, maxFailuresPerAddress, now));
+    }
+
+    @EventListener
+    public void onFailure(AuthenticationFailureBadCredentialsEvent event) {
+        Instant now = Instant.now();
+        recordFailure(toUsernameKey(event.getAuthentication().getName()), now);
+        if (event.getAuthentication().getDetails() instanceof WebAuthenticationDetails details) {
+            recordFailure(ADDRESS_KEY_PREFIX + details.getRemoteAddress(), now);
+        }
+    }
+
+    @EventListener
+    public void onSuccess(AuthenticationSuccessEvent event) {
+        failures.remove(toUsernameKey(event.getAuthentication().getName()));
+    }
+
+    @Scheduled(fixedDelay = 1, timeUnit = TimeUnit.MINUTES)
+    public void removeExpiredFailures() {
+        Instant now = Instant.now();
+        failures.values().removeIf(entry -> entry.isExpired(now, failureWindow));
+    }
+
+    private boolean isBlocked(String key, int maxFailures, Instant now) {
+        Failures entry = failures.get(key);
+        return entry != null && !entry.isExpired(now, failureWindow) && entry.count() >= maxFailures;
+    }
+
+    private void recordFailure(String key, Instant now) {
+        failures.compute(key, (ignored, entry) -> entry == null || entry.isExpired(now, failureWindow)
+                ? new Failures(now, 1)
+                : new Failures(entry.firstFailureAt(), entry.count() + 1));
+    }
+
+    private String toUsernameKey(String username) {
+        return USERNAME_KEY_PREFIX + username.toLowerCase(Locale.ROOT);
+    }
+
+    private record Failures(Instant firstFailureAt, int count) {
+
+        private boolean isExpired(Instant now, Duration window) {
+            return !now.isBefore(firstFailureAt.plus(window));
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package ru.projects.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Refuses a sign in throttled by {@link LoginThrottle} before any password is hashed.
+ *
+ * @author Artem Chernikov
+ * @version 1.0
+ * @since 17.10.2026
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class LoginThrottleFilter extends OncePerRequestFilter {
+
+    private static final AntPathRequestMatcher LOGIN_REQUEST = new AntPathRequestMatcher("/login", "POST");
+    private static final String THROTTLED_URL = "/login?error&throttled";
+
+    private final LoginThrottle loginThrottle;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (LOGIN_REQUEST.matches(request)
+                && loginThrottle.isBlocked(request.getParameter("username"), request.getRemoteAddr())) {
+            log.warn("Throttled sign in of {} from {}", request.getParameter("username"), request.getRemoteAddr());
+            response.sendRedirect(request.getContextPath() + THROTTLED_URL);
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+}
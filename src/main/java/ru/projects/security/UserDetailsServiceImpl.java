@@ -5,6 +5,7 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -15,7 +16,7 @@ import java.util.List;
 
 @RequiredArgsConstructor
 @Service
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
 
@@ -28,6 +29,19 @@ public class UserDetailsServiceImpl implements UserDetailsService {
                 getAuthorities(user));
     }
 
+    /**
+     * Stores the password re-hashed with the configured strength on a sign in with a hash of a lower strength.
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        ru.projects.model.User user = userRepository.findByUsername(userDetails.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("No user present with username: "
+                        + userDetails.getUsername()));
+        user.setPassword(newPassword);
+        return new User(user.getUsername(), user.getPassword(), getAuthorities(user));
+    }
+
     private static List<GrantedAuthority> getAuthorities(ru.projects.model.User user) {
         return List.of(new SimpleGrantedAuthority(user.getRole().getRoleName()));
     }
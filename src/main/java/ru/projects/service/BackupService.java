@@ -1,14 +1,57 @@
 package ru.projects.service;
 
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import ru.projects.event.EmployeeAssignmentsChangedEvent;
+import ru.projects.model.dto.backup.BackupProgressDto;
+import ru.projects.model.enums.BackupOperation;
+import ru.projects.model.enums.BackupStatus;
+import ru.projects.util.ThreadFactories;
 
-import java.io.File;
+import java.io.BufferedReader;
 import java.io.IOException;
-import java.util.concurrent.TimeUnit;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 /**
+ * Full backups in parallel directory format, and resumable restores to a backup or to a point in time.
+ *
  * @author Artem Chernikov
  * @version 1.0
  * @since 19.11.2024
@@ -17,70 +60,633 @@ import java.util.concurrent.TimeUnit;
 @Slf4j
 public class BackupService {
 
-    @Scheduled(cron = "* * 8 * * ?")
+    private static final String BACKUP_NAME_PREFIX = "backup-";
+    private static final DateTimeFormatter BACKUP_NAME_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    private static final String CHECKSUMS_FILE_NAME = "SHA256SUMS";
+    private static final String DUMP_TABLE_MARKER = "dumping contents of table";
+    private static final String CHECKPOINT_FILE_TEMPLATE = "restore-%s.checkpoint";
+    private static final String SCHEMA_CHECKPOINT = "schema";
+    private static final String DATA_CHECKPOINT = "data";
+    private static final String POST_DATA_CHECKPOINT = "post-data";
+    private static final String TARGET_CHECKPOINT_PREFIX = "target ";
+    private static final String BUSY_MESSAGE = "Another backup or restore is already running";
+
+    private final ReferenceDataCacheService referenceDataCacheService;
+    private final ReportCacheService reportCacheService;
+    private final ChangeLogService changeLogService;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Path backupDir;
+    private final int jobs;
+    private final int compressionLevel;
+    private final int retention;
+    private final Duration replayOverlap;
+    private final String databaseUri;
+    private final String username;
+    private final String password;
+    private final ThreadFactory threadFactory;
+    /**
+     * Claimed on the request thread and released by the restore thread, so a flag rather than a lock.
+     */
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final ExecutorService restoreExecutor;
+    private volatile Progress progress;
+
+    public BackupService(ReferenceDataCacheService referenceDataCacheService, ReportCacheService reportCacheService,
+                         ChangeLogService changeLogService, JdbcTemplate jdbcTemplate,
+                         ApplicationEventPublisher eventPublisher,
+                         @Value("${backup.dir:./backups}") Path backupDir,
+                         @Value("${backup.jobs:4}") int jobs,
+                         @Value("${backup.compression-level:6}") int compressionLevel,
+                         @Value("${backup.retention:7}") int retention,
+                         @Value("${backup.replay-overlap:1h}") Duration replayOverlap,
+                         @Value("${spring.datasource.url}") String datasourceUrl,
+                         @Value("${spring.datasource.username}") String username,
+                         @Value("${spring.datasource.password}") String password,
+                         @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.referenceDataCacheService = referenceDataCacheService;
+        this.reportCacheService = reportCacheService;
+        this.changeLogService = changeLogService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.backupDir = backupDir;
+        this.jobs = jobs;
+        this.compressionLevel = compressionLevel;
+        this.retention = retention;
+        this.replayOverlap = replayOverlap;
+        this.databaseUri = datasourceUrl.replaceFirst("^jdbc:", "");
+        this.username = username;
+        this.password = password;
+        this.threadFactory = ThreadFactories.create("restore-", virtualThreads);
+        this.restoreExecutor = Executors.newSingleThreadExecutor(threadFactory);
+    }
+
+    /**
+     * Takes the daily full backup unless one was already taken today.
+     */
+    @Scheduled(cron = "${backup.full-cron:0 0 8 * * *}")
+    public void createScheduledBackup() throws IOException {
+        Optional<Path> latest = listBackups().stream().reduce((first, second) -> second);
+        if (latest.isPresent() && getBackupTime(latest.get()).toLocalDate().equals(LocalDate.now())) {
+            log.info("Skipping scheduled backup, {} was taken today", latest.get().getFileName());
+            return;
+        }
+        createBackup();
+    }
+
     public void createBackup() throws IOException {
-        log.info("Service Create backup");
-        ProcessBuilder processBuilder = new ProcessBuilder(
-                "pg_dump",
-                "-U", "postgres",
-                "-h", "localhost",
-                "-p", "5432",
-                "--clean",
-                "projects-info"
-        );
-
-        processBuilder.redirectOutput(new File("./backup.sql"));
+        runExclusively(() -> {
+            changeLogService.exportChanges();
+            String backupName = BACKUP_NAME_PREFIX + LocalDateTime.now().format(BACKUP_NAME_FORMATTER);
+            Path target = backupDir.resolve(backupName);
+            if (Files.exists(target)) {
+                throw new IOException("Backup " + backupName + " already exists");
+            }
+            Files.createDirectories(backupDir);
+            Progress current = startProgress(BackupOperation.BACKUP, backupName, target, countTables());
+            log.info("Backup {} started with {} jobs", backupName, jobs);
+            try {
+                runProcess(List.of("pg_dump",
+                        "--dbname=" + databaseUri,
+                        "--username=" + username,
+                        "--format=directory",
+                        "--jobs=" + jobs,
+                        "--compress=" + compressionLevel,
+                        "--verbose",
+                        "--file=" + target), line -> onOutputLine(current, line, DUMP_TABLE_MARKER));
+                writeChecksums(target);
+                finishProgress(current);
+                log.info("Backup {} created: {} tables, {} bytes, {} bytes/s", backupName, current.tablesDone.get(),
+                        current.bytesProcessed.get(), current.bytesPerSecond());
+            } catch (IOException | RuntimeException e) {
+                failProgress(current, e);
+                deleteDirectory(target);
+                throw e;
+            }
+            removeOldBackups();
+        });
+    }
+
+    public void startRestore(LocalDateTime pointInTime) throws IOException {
+        claim();
+        try {
+            Path source = findRestoreSource(pointInTime);
+            startProgress(BackupOperation.RESTORE, source.getFileName().toString(), source, 0);
+            restoreExecutor.execute(() -> {
+                try {
+                    restore(pointInTime);
+                } catch (IOException | RuntimeException e) {
+                    log.error("Restore failed: {}", e.getMessage());
+                } finally {
+                    running.set(false);
+                }
+            });
+        } catch (IOException | RuntimeException e) {
+            running.set(false);
+            throw e;
+        }
+    }
+
+    public void startRestore() throws IOException {
+        startRestore(null);
+    }
+
+    /**
+     * Restores the newest backup taken before the point in time and replays the changes made up to it.
+     */
+    public void restoreBackup(LocalDateTime pointInTime) throws IOException {
+        runExclusively(() -> restore(pointInTime));
+    }
+
+    public void restoreBackup() throws IOException {
+        restoreBackup(null);
+    }
+
+    public Optional<BackupProgressDto> getProgress() {
+        return Optional.ofNullable(progress).map(Progress::toDto);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        restoreExecutor.shutdownNow();
+    }
+
+    private void restore(LocalDateTime pointInTime) throws IOException {
+        Path source = findRestoreSource(pointInTime);
+        String backupName = source.getFileName().toString();
+        Path checkpointFile = getCheckpointFile(backupName);
+        Set<String> checkpoints = readCheckpoints(checkpointFile);
+        LocalDateTime target = checkpoints.isEmpty() ? pointInTime : readTarget(checkpoints);
+        Progress current = startProgress(BackupOperation.RESTORE, backupName, source, 0);
+        log.info("Restore from {} {} with {} jobs", backupName, checkpoints.isEmpty() ? "started" : "resumed", jobs);
+        try {
+            if (target != null) {
+                changeLogService.checkReplayPrivilege();
+            }
+            verifyChecksums(source);
+            if (checkpoints.isEmpty()) {
+                changeLogService.exportChanges();
+                Files.writeString(checkpointFile, target == null ? "" : TARGET_CHECKPOINT_PREFIX + target
+                        + System.lineSeparator(), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            }
+            restoreSchema(source, checkpointFile, checkpoints, current);
+            restoreData(source, checkpointFile, checkpoints, current);
+            restorePostData(source, checkpointFile, checkpoints, current);
+            changeLogService.clearChangeLog();
+            if (target != null) {
+                current.phase = "Change log replay";
+                changeLogService.replayChanges(getBackupTime(source).minus(replayOverlap), target);
+            }
+            jdbcTemplate.execute("ANALYZE");
+            Files.delete(checkpointFile);
+            finishProgress(current);
+            log.info("Database restored from {}: {} tables, {} bytes/s", backupName, current.tablesDone.get(),
+                    current.bytesPerSecond());
+        } catch (IOException | RuntimeException e) {
+            failProgress(current, e);
+            throw e;
+        }
+        referenceDataCacheService.evictAll();
+        reportCacheService.invalidateAll();
+        eventPublisher.publishEvent(EmployeeAssignmentsChangedEvent.forAllEmployees());
+    }
+
+    private void runExclusively(BackupAction action) throws IOException {
+        claim();
+        try {
+            action.run();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private void claim() throws IOException {
+        if (!running.compareAndSet(false, true)) {
+            throw new IOException(BUSY_MESSAGE);
+        }
+    }
+
+    private void runProcess(List<String> command, Consumer<String> onOutputLine) throws IOException {
+        ProcessBuilder processBuilder = new ProcessBuilder(command);
         processBuilder.redirectErrorStream(true);
-        processBuilder.environment().put("PGPASSWORD", "2236");
+        processBuilder.environment().put("PGPASSWORD", password);
 
         Process process = processBuilder.start();
-        try {
-            boolean isSuccess = process.waitFor(60, TimeUnit.SECONDS);
-            if (isSuccess) {
-                System.out.println("Backup created successfully at " + "./db/backup.sql");
-            } else {
-                System.err.println("Backup failed");
+        process.getOutputStream().close();
+        String lastLine = "";
+        try (BufferedReader reader = process.inputReader()) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                log.debug(line);
+                onOutputLine.accept(line);
+                lastLine = line;
+            }
+            int exitCode = process.waitFor();
+            if (exitCode != 0) {
+                throw new IOException(command.get(0) + " failed with exit code " + exitCode + ": " + lastLine);
             }
         } catch (InterruptedException e) {
+            process.destroy();
             Thread.currentThread().interrupt();
-            throw new IOException("Backup process was interrupted", e);
+            throw new IOException(command.get(0) + " was interrupted", e);
         }
-        process.getInputStream().close();
-        process.getErrorStream().close();
-        process.getOutputStream().close();
     }
 
-    public void restoreBackup() throws IOException {
-        ProcessBuilder processBuilder = new ProcessBuilder(
-                "psql",
-                "-U", "postgres",
-                "-h", "localhost",
-                "-p", "5432",
-                "projects-info"
-        );
-
-        processBuilder.redirectInput(new File("./backup.sql"));
-        processBuilder.redirectErrorStream(true);
-        processBuilder.environment().put("PGPASSWORD", "2236");
+    private void restoreSchema(Path source, Path checkpointFile, Set<String> checkpoints, Progress current)
+            throws IOException {
+        if (checkpoints.contains(SCHEMA_CHECKPOINT)) {
+            return;
+        }
+        current.phase = "Schema";
+        List<String> tables = listToc(source, "pre-data").stream()
+                .filter(TocEntry::isTable)
+                .map(TocEntry::qualifiedTableName)
+                .toList();
+        if (!tables.isEmpty()) {
+            jdbcTemplate.execute("DROP TABLE IF EXISTS " + String.join(", ", tables) + " CASCADE");
+        }
+        runPgRestore(source, List.of("--section=pre-data", "--clean", "--if-exists"));
+        checkpoint(checkpointFile, SCHEMA_CHECKPOINT);
+    }
 
-        Process process = processBuilder.start();
-        try {
-            boolean isSuccess = process.waitFor(60, TimeUnit.SECONDS); // Увеличен таймаут
+    private void restoreData(Path source, Path checkpointFile, Set<String> checkpoints, Progress current)
+            throws IOException {
+        current.phase = "Data";
+        List<TocEntry> entries = listToc(source, "data");
+        List<TocEntry> tables = entries.stream().filter(TocEntry::isTableData).toList();
+        current.tablesTotal = tables.size();
 
-            if (isSuccess) {
-                System.out.println("Database restored successfully from " + "./backup.sql");
+        List<TocEntry> pendingTables = new ArrayList<>();
+        for (TocEntry table : tables) {
+            if (checkpoints.contains(table.checkpoint())) {
+                onTableRestored(source, table, current);
             } else {
-                throw new IOException("Restore failed.");
+                pendingTables.add(table);
             }
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new IOException("Restore process was interrupted", e);
+        }
+        runInParallel(pendingTables, table -> {
+            jdbcTemplate.execute("TRUNCATE TABLE " + table.qualifiedTableName());
+            runPgRestore(source, List.of(table), List.of("--single-transaction"));
+            checkpoint(checkpointFile, table.checkpoint());
+            onTableRestored(source, table, current);
+        });
+
+        if (!checkpoints.contains(DATA_CHECKPOINT)) {
+            List<TocEntry> otherData = entries.stream().filter(entry -> !entry.isTableData()).toList();
+            if (!otherData.isEmpty()) {
+                runPgRestore(source, otherData, List.of("--single-transaction"));
+            }
+            checkpoint(checkpointFile, DATA_CHECKPOINT);
+        }
+    }
+
+    private void restorePostData(Path source, Path checkpointFile, Set<String> checkpoints, Progress current)
+            throws IOException {
+        current.phase = "Indexes and constraints";
+        List<TocEntry> entries = listToc(source, "post-data");
+        List<TocEntry> pendingIndexes = entries.stream()
+                .filter(TocEntry::isIndex)
+                .filter(index -> !checkpoints.contains(index.checkpoint()))
+                .toList();
+        runInParallel(pendingIndexes, index -> {
+            runPgRestore(source, List.of(index), List.of("--single-transaction"));
+            checkpoint(checkpointFile, index.checkpoint());
+        });
+
+        if (!checkpoints.contains(POST_DATA_CHECKPOINT)) {
+            List<TocEntry> otherPostData = entries.stream().filter(entry -> !entry.isIndex()).toList();
+            if (!otherPostData.isEmpty()) {
+                runPgRestore(source, otherPostData, List.of("--single-transaction"));
+            }
+            checkpoint(checkpointFile, POST_DATA_CHECKPOINT);
+        }
+    }
+
+    private void onTableRestored(Path source, TocEntry table, Progress current) {
+        current.tablesDone.incrementAndGet();
+        current.bytesProcessed.addAndGet(dataFileSize(source, table));
+    }
+
+    private List<TocEntry> listToc(Path source, String section) throws IOException {
+        List<TocEntry> entries = new ArrayList<>();
+        runProcess(List.of("pg_restore", "--list", "--section=" + section, source.toString()),
+                line -> TocEntry.parse(line).ifPresent(entries::add));
+        return entries;
+    }
+
+    private void runPgRestore(Path source, List<String> options) throws IOException {
+        List<String> command = new ArrayList<>(List.of("pg_restore",
+                "--dbname=" + databaseUri,
+                "--username=" + username));
+        command.addAll(options);
+        command.add(source.toString());
+        runProcess(command, line -> {
+        });
+    }
+
+    private void runPgRestore(Path source, List<TocEntry> entries, List<String> options) throws IOException {
+        Path listFile = Files.createTempFile("restore-", ".list");
+        try {
+            Files.write(listFile, entries.stream().map(TocEntry::line).toList());
+            List<String> listOptions = new ArrayList<>(options);
+            listOptions.add("--use-list=" + listFile);
+            runPgRestore(source, listOptions);
         } finally {
-            process.getInputStream().close();
-            process.getErrorStream().close();
-            process.getOutputStream().close();
+            Files.deleteIfExists(listFile);
         }
     }
-}
 
+    private void runInParallel(List<TocEntry> entries, RestoreAction action) throws IOException {
+        List<Future<Void>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(jobs, threadFactory)) {
+            for (TocEntry entry : entries) {
+                futures.add(executor.submit(() -> {
+                    action.run(entry);
+                    return null;
+                }));
+            }
+        }
+        for (Future<Void> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof IOException ioException) {
+                    throw ioException;
+                }
+                throw new IOException(e.getCause().getMessage(), e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Restore was interrupted", e);
+            }
+        }
+    }
+
+    private long dataFileSize(Path source, TocEntry table) {
+        Path compressed = source.resolve(table.dumpId() + ".dat.gz");
+        Path file = Files.exists(compressed) ? compressed : source.resolve(table.dumpId() + ".dat");
+        return file.toFile().length();
+    }
+
+    private Path findRestoreSource(LocalDateTime pointInTime) throws IOException {
+        List<Path> backups = listBackups();
+        Optional<Path> interrupted = backups.stream()
+                .filter(backup -> Files.exists(getCheckpointFile(backup.getFileName().toString())))
+                .reduce((first, second) -> second);
+        if (interrupted.isPresent()) {
+            return interrupted.get();
+        }
+        return backups.stream()
+                .filter(backup -> pointInTime == null || !getBackupTime(backup).isAfter(pointInTime))
+                .reduce((first, second) -> second)
+                .orElseThrow(() -> new IOException(pointInTime == null
+                        ? "No backup found in " + backupDir
+                        : "No backup taken before " + pointInTime + " found in " + backupDir));
+    }
+
+    private LocalDateTime getBackupTime(Path backup) {
+        return LocalDateTime.parse(backup.getFileName().toString().substring(BACKUP_NAME_PREFIX.length()),
+                BACKUP_NAME_FORMATTER);
+    }
+
+    private LocalDateTime readTarget(Set<String> checkpoints) {
+        return checkpoints.stream()
+                .filter(checkpoint -> checkpoint.startsWith(TARGET_CHECKPOINT_PREFIX))
+                .map(checkpoint -> LocalDateTime.parse(checkpoint.substring(TARGET_CHECKPOINT_PREFIX.length())))
+                .findFirst()
+                .orElse(null);
+    }
+
+    private Path getCheckpointFile(String backupName) {
+        return backupDir.resolve(String.format(CHECKPOINT_FILE_TEMPLATE, backupName));
+    }
+
+    private Set<String> readCheckpoints(Path checkpointFile) throws IOException {
+        return Files.exists(checkpointFile) ? new HashSet<>(Files.readAllLines(checkpointFile)) : new HashSet<>();
+    }
+
+    private synchronized void checkpoint(Path checkpointFile, String checkpoint) throws IOException {
+        Files.writeString(checkpointFile, checkpoint + System.lineSeparator(),
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    private Progress startProgress(BackupOperation operation, String backupName, Path dir, long tablesTotal) {
+        Progress current = new Progress(operation, backupName, dir, tablesTotal);
+        progress = current;
+        return current;
+    }
+
+    private void onOutputLine(Progress current, String line, String tableMarker) {
+        if (line.contains(tableMarker)) {
+            current.tablesDone.incrementAndGet();
+            current.bytesProcessed.set(directorySize(current.dir));
+        }
+    }
+
+    private void finishProgress(Progress current) {
+        current.bytesProcessed.set(directorySize(current.dir));
+        current.finishedAt = Instant.now();
+        current.status = BackupStatus.FINISHED;
+    }
+
+    private void failProgress(Progress current, Exception e) {
+        log.error("{} {} failed: {}", current.operation.getDisplayName(), current.backupName, e.getMessage(), e);
+        current.error = e.getMessage();
+        current.finishedAt = Instant.now();
+        current.status = BackupStatus.FAILED;
+    }
+
+    private long countTables() {
+        Long tables = jdbcTemplate.queryForObject("SELECT count(*) FROM pg_tables"
+                + " WHERE schemaname NOT IN ('pg_catalog', 'information_schema')", Long.class);
+        return tables == null ? 0 : tables;
+    }
+
+    private void writeChecksums(Path dir) throws IOException {
+        List<String> lines = new ArrayList<>();
+        for (Map.Entry<String, String> checksum : calculateChecksums(dir).entrySet()) {
+            lines.add(checksum.getValue() + "  " + checksum.getKey());
+        }
+        Files.write(dir.resolve(CHECKSUMS_FILE_NAME), lines);
+    }
 
+    private void verifyChecksums(Path dir) throws IOException {
+        Path checksumsFile = dir.resolve(CHECKSUMS_FILE_NAME);
+        if (!Files.exists(checksumsFile)) {
+            throw new IOException("Backup " + dir.getFileName() + " has no " + CHECKSUMS_FILE_NAME);
+        }
+        Map<String, String> expected = new LinkedHashMap<>();
+        for (String line : Files.readAllLines(checksumsFile)) {
+            String[] parts = line.split(" {2}", 2);
+            expected.put(parts[1], parts[0]);
+        }
+        if (!expected.equals(calculateChecksums(dir))) {
+            throw new IOException("Backup " + dir.getFileName() + " is corrupted, checksums do not match");
+        }
+    }
+
+    private Map<String, String> calculateChecksums(Path dir) throws IOException {
+        Map<String, String> checksums = new LinkedHashMap<>();
+        try (Stream<Path> files = Files.list(dir)) {
+            for (Path file : files.filter(Files::isRegularFile).sorted().toList()) {
+                String fileName = file.getFileName().toString();
+                if (!fileName.equals(CHECKSUMS_FILE_NAME)) {
+                    checksums.put(fileName, sha256(file));
+                }
+            }
+        }
+        return checksums;
+    }
+
+    private String sha256(Path file) throws IOException {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            try (InputStream inputStream = new DigestInputStream(Files.newInputStream(file), digest)) {
+                inputStream.transferTo(OutputStream.nullOutputStream());
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void removeOldBackups() throws IOException {
+        List<Path> backups = listBackups();
+        for (Path backup : backups.subList(0, Math.max(0, backups.size() - retention))) {
+            log.info("Removing old backup {}", backup.getFileName());
+            deleteDirectory(backup);
+            Files.deleteIfExists(getCheckpointFile(backup.getFileName().toString()));
+        }
+        Optional<Path> oldest = listBackups().stream().findFirst();
+        if (oldest.isPresent()) {
+            changeLogService.removeChangesBefore(getBackupTime(oldest.get()).minus(replayOverlap));
+        }
+    }
+
+    private List<Path> listBackups() throws IOException {
+        if (!Files.isDirectory(backupDir)) {
+            return List.of();
+        }
+        try (Stream<Path> dirs = Files.list(backupDir)) {
+            return dirs.filter(Files::isDirectory)
+                    .filter(dir -> dir.getFileName().toString().startsWith(BACKUP_NAME_PREFIX))
+                    .filter(dir -> Files.exists(dir.resolve(CHECKSUMS_FILE_NAME)))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private long directorySize(Path dir) {
+        try (Stream<Path> files = Files.walk(dir)) {
+            return files.filter(Files::isRegularFile)
+                    .mapToLong(file -> file.toFile().length())
+                    .sum();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private void deleteDirectory(Path dir) {
+        if (!Files.exists(dir)) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(dir)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(file);
+            }
+        } catch (IOException e) {
+            log.warn("Could not delete backup directory {}: {}", dir, e.getMessage());
+        }
+    }
+
+    @FunctionalInterface
+    private interface BackupAction {
+        void run() throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface RestoreAction {
+        void run(TocEntry entry) throws IOException;
+    }
+
+    /**
+     * Line of the {@code pg_restore --list} table of contents.
+     */
+    private record TocEntry(String line, String dumpId, String description) {
+        private static final Pattern TOC_LINE_PATTERN = Pattern.compile("^(\\d+); \\d+ \\d+ (.+)$");
+
+        private static Optional<TocEntry> parse(String line) {
+            Matcher matcher = TOC_LINE_PATTERN.matcher(line);
+            return matcher.matches()
+                    ? Optional.of(new TocEntry(line, matcher.group(1), matcher.group(2)))
+                    : Optional.empty();
+        }
+
+        private boolean isTable() {
+            return description.startsWith("TABLE ") && !description.startsWith("TABLE ATTACH ");
+        }
+
+        private boolean isTableData() {
+            return description.startsWith("TABLE DATA ");
+        }
+
+        private boolean isIndex() {
+            return description.startsWith("CONSTRAINT ")
+                    || description.startsWith("INDEX ") && !description.startsWith("INDEX ATTACH ");
+        }
+
+        private String checkpoint() {
+            return "entry " + dumpId;
+        }
+
+        private String qualifiedTableName() {
+            String[] parts = description.split(" ");
+            int schemaIdx = isTableData() ? 2 : 1;
+            return quote(parts[schemaIdx]) + "." + quote(parts[schemaIdx + 1]);
+        }
+
+        private static String quote(String identifier) {
+            return "\"" + identifier.replace("\"", "\"\"") + "\"";
+        }
+    }
+
+    private static class Progress {
+        private final BackupOperation operation;
+        private final String backupName;
+        private final Path dir;
+        private final Instant startedAt = Instant.now();
+        private final AtomicLong tablesDone = new AtomicLong();
+        private final AtomicLong bytesProcessed = new AtomicLong();
+        private volatile long tablesTotal;
+        private volatile String phase;
+        private volatile BackupStatus status = BackupStatus.RUNNING;
+        private volatile String error;
+        private volatile Instant finishedAt;
+
+        private Progress(BackupOperation operation, String backupName, Path dir, long tablesTotal) {
+            this.operation = operation;
+            this.backupName = backupName;
+            this.dir = dir;
+            this.tablesTotal = tablesTotal;
+        }
+
+        private long bytesPerSecond() {
+            Instant end = finishedAt == null ? Instant.now() : finishedAt;
+            long millis = Math.max(1, Duration.between(startedAt, end).toMillis());
+            return bytesProcessed.get() * 1000 / millis;
+        }
+
+        private BackupProgressDto toDto() {
+            return BackupProgressDto.builder()
+                    .operation(operation.getDisplayName())
+                    .status(status.getDisplayName())
+                    .backupName(backupName)
+                    .phase(phase)
+                    .tablesDone(tablesDone.get())
+                    .tablesTotal(tablesTotal)
+                    .bytesProcessed(bytesProcessed.get())
+                    .bytesPerSecond(bytesPerSecond())
+                    .error(error)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package ru.projects.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+import ru.projects.model.dto.security.BcryptCalibrationDto;
+import ru.projects.security.BoundedPasswordEncoder;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Picks the highest BCrypt strength whose verification still fits the target time on this host.
+ *
+ * @author Artem Chernikov
+ * @version 1.0
+ * @since 17.10.2026
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class BcryptCalibrationService {
+
+    private static final int MIN_STRENGTH = 4;
+    private static final int MAX_STRENGTH = 16;
+    private static final int RUNS_PER_STRENGTH = 3;
+    private static final Duration MAX_TARGET = Duration.ofSeconds(2);
+
+    private final BoundedPasswordEncoder passwordEncoder;
+
+    public BcryptCalibrationDto calibrate(Duration target) {
+        if (target.isNegative() || target.isZero() || target.compareTo(MAX_TARGET) > 0) {
+            throw new IllegalArgumentException("Target must be positive and at most " + MAX_TARGET.toMillis() + " ms");
+        }
+        String password = UUID.randomUUID().toString();
+        Map<Integer, Long> verificationMillis = new LinkedHashMap<>();
+        int recommendedStrength = MIN_STRENGTH;
+        for (int strength = MIN_STRENGTH; strength <= MAX_STRENGTH; strength++) {
+            long millis = measureVerification(new BCryptPasswordEncoder(strength), password);
+            verificationMillis.put(strength, millis);
+            if (millis > target.toMillis()) {
+                break;
+            }
+            recommendedStrength = strength;
+        }
+        log.info("BCrypt calibration for {} ms: strength {}, measured {}", target.toMillis(), recommendedStrength,
+                verificationMillis);
+        return BcryptCalibrationDto.builder()
+                .targetMillis(target.toMillis())
+                .recommendedStrength(recommendedStrength)
+                .verificationMillisByStrength(verificationMillis)
+                .build();
+    }
+
+    /**
+     * The fastest of several runs, the slower ones measure other load on the host rather than the hash.
+     */
+    private long measureVerification(BCryptPasswordEncoder encoder, String password) {
+        String hash = passwordEncoder.runHashing(() -> encoder.encode(password));
+        long fastestNanos = Long.MAX_VALUE;
+        for (int run = 0; run < RUNS_PER_STRENGTH; run++) {
+            long nanos = passwordEncoder.runHashing(() -> {
+                long start = System.nanoTime();
+                encoder.matches(password, hash);
+                return System.nanoTime() - start;
+            });
+            fastestNanos = Math.min(fastestNanos, nanos);
+        }
+        return Duration.ofNanos(fastestNanos).toMillis();
+    }
+}
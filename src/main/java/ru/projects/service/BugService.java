@@ -1,22 +1,33 @@
 package ru.projects.service;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.projects.event.DomainEvent;
+import ru.projects.event.DomainEvent.ChangeType;
 import ru.projects.mapper.BugMapper;
 import ru.projects.model.Bug;
-import ru.projects.model.Project;
 import ru.projects.model.dto.bug.BugCreateDto;
+import ru.projects.model.dto.bug.BugReportRowDto;
 import ru.projects.model.dto.bug.BugUpdateDto;
 import ru.projects.model.dto.bug.BugViewDto;
+import ru.projects.model.dto.grid.RowCountDto;
 import ru.projects.model.enums.Priority;
 import ru.projects.model.enums.Status;
 import ru.projects.repository.BugRepository;
+import ru.projects.util.KeysetUtils;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * @author Artem Chernikov
@@ -27,12 +38,22 @@ import java.util.Set;
 @RequiredArgsConstructor
 public class BugService {
 
+    /**
+     * Entity properties behind the sortable grid columns that are not plain bug columns.
+     */
+    private static final Map<String, String> SORT_PROPERTIES = Map.of("project", "project.name");
+    private static final String ID_PROPERTY = "bugId";
+
     private final BugRepository bugRepository;
     private final BugMapper bugMapper;
+    private final ReportCacheService reportCacheService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RowCountService rowCountService;
 
     public void save(BugCreateDto bugCreateDto) {
         Bug bug = bugMapper.bugCreateDtoToBug(bugCreateDto);
-        bugRepository.save(bug);
+        Bug savedBug = bugRepository.save(bug);
+        onBugChanged(ChangeType.CREATED, savedBug);
     }
 
     public Bug update(BugUpdateDto bugUpdateDto) {
@@ -41,7 +62,9 @@ public class BugService {
         bug.setName(bugUpdateDto.getName());
         bug.setDescription(bugUpdateDto.getDescription());
         bug.setPriority(Priority.fromDisplayName(bugUpdateDto.getPriority()));
-        return bugRepository.save(bug);
+        Bug updatedBug = bugRepository.save(bug);
+        onBugChanged(ChangeType.UPDATED, updatedBug);
+        return updatedBug;
     }
 
     public Optional<BugUpdateDto> getByIdForUpdate(Long bugId) {
@@ -54,16 +77,33 @@ public class BugService {
         return Optional.of(bugUpdateDto);
     }
 
-    public Page<BugViewDto> getAllByProjects(Pageable pageable, Set<Project> projects) {
-        List<Long> projectIds = projects.stream()
-                .map(Project::getProjectId)
-                .toList();
-        return bugRepository.findAllByProject_ProjectIdIn(pageable, projectIds)
+    public Optional<BugViewDto> getViewById(Long bugId) {
+        return bugRepository.findWithProjectByBugId(bugId)
+                .map(bugMapper::bugToBugViewDto);
+    }
+
+    public Window<BugViewDto> getAllByProjects(ScrollPosition position, Sort sort, Limit limit,
+                                               Set<Long> projectIds) {
+        Sort keysetSort = KeysetUtils.toKeysetSort(sort, SORT_PROPERTIES, ID_PROPERTY);
+        return KeysetUtils.toKeysetWindow(bugRepository.findAllByProject_ProjectIdIn(List.copyOf(projectIds),
+                        position, keysetSort, limit), keysetSort)
                 .map(bugMapper::bugToBugViewDto);
     }
 
-    public List<BugViewDto> getAllByProjectIds(List<Long> projectIds) {
-        return bugMapper.bugsToBugViewDtos(bugRepository.findAllByProjectIdsOrderByProjectName(projectIds));
+    public RowCountDto getRowCountByProjects(Set<Long> projectIds) {
+        return rowCountService.count(() -> bugRepository.countByProject_ProjectIdIn(List.copyOf(projectIds)),
+                "SELECT 1 FROM bugs WHERE project_id = ANY (?)", (Object) projectIds.toArray(Long[]::new));
+    }
+
+    @Transactional(readOnly = true)
+    public void forEachByProjectIds(List<Long> projectIds, Consumer<BugReportRowDto> action) {
+        try (Stream<BugReportRowDto> rows = bugRepository.streamReportRowsByProjectIdsOrderByProjectName(projectIds)) {
+            rows.forEach(action);
+        }
+    }
+
+    public long countByProjectIds(List<Long> projectIds) {
+        return bugRepository.countByProject_ProjectIdIn(projectIds);
     }
 
     public void updateStatusById(Long bugId, String status) {
@@ -71,17 +111,19 @@ public class BugService {
         Status newStatus = Status.fromDisplayName(status);
         bug.setStatus(newStatus);
         bugRepository.save(bug);
+        onBugChanged(ChangeType.UPDATED, bug);
     }
 
     public void deleteById(Long bugId) {
-        checkExistsById(bugId);
-        bugRepository.deleteById(bugId);
+        Bug bug = bugRepository.findById(bugId).orElseThrow(() -> new RuntimeException("Bug not found"));
+        bugRepository.delete(bug);
+        onBugChanged(ChangeType.DELETED, bug);
     }
 
-    private void checkExistsById(Long bugId) {
-        if (!bugRepository.existsById(bugId)) {
-            throw new RuntimeException("Bug not found");
-        }
+    private void onBugChanged(ChangeType changeType, Bug bug) {
+        Long projectId = bug.getProject().getProjectId();
+        reportCacheService.invalidateBugReports(projectId);
+        eventPublisher.publishEvent(DomainEvent.bug(changeType, bug.getBugId(), projectId));
     }
 
 }
@@ -1,71 +1,39 @@
 package ru.projects.service;
 
 import lombok.RequiredArgsConstructor;
-import org.apache.poi.ss.usermodel.Cell;
-import org.apache.poi.ss.usermodel.CellStyle;
-import org.apache.poi.ss.usermodel.Font;
-import org.apache.poi.ss.usermodel.Row;
-import org.apache.poi.ss.usermodel.Sheet;
-import org.apache.poi.ss.usermodel.Workbook;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.springframework.stereotype.Service;
-import ru.projects.model.dto.bug.BugViewDto;
+import ru.projects.util.ExcelReportWriter;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 
+import static ru.projects.util.ExcelReportWriter.NO_PROGRESS;
+
 @Service
 @RequiredArgsConstructor
 public class BugsExportService {
 
+    private static final String SHEET_NAME = "Bugs";
+    private static final String[] HEADERS = {"Project", "Name", "Description", "Priority", "Status"};
+
     private final BugService bugService;
 
-    public ByteArrayInputStream generateBugReportByProjectIds(List<Long> projectIds) {
-        List<BugViewDto> bugs = bugService.getAllByProjectIds(projectIds);
-        return generateExcelReport(bugs);
+    public void writeBugReportByProjectIds(List<Long> projectIds, OutputStream outputStream) {
+        writeBugReportByProjectIds(projectIds, outputStream, NO_PROGRESS);
     }
 
-    private ByteArrayInputStream generateExcelReport(List<BugViewDto> bugs) {
-        try (Workbook workbook = new XSSFWorkbook();
-             ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
-            Sheet sheet = workbook.createSheet("Bugs");
-
-            Row headerRow = sheet.createRow(0);
-            String[] headers = {"Project", "Name", "Description", "Priority", "Status"};
-            for (int i = 0; i < headers.length; i++) {
-                Cell cell = headerRow.createCell(i);
-                cell.setCellValue(headers[i]);
-                cell.setCellStyle(createHeaderStyle(workbook));
-            }
-
-            int rowIdx = 1;
-            for (BugViewDto bug : bugs) {
-                Row row = sheet.createRow(rowIdx++);
-                row.createCell(0).setCellValue(bug.getProject());
-                row.createCell(1).setCellValue(bug.getName());
-                row.createCell(2).setCellValue(bug.getDescription());
-                row.createCell(3).setCellValue(bug.getPriority());
-                row.createCell(4).setCellValue(bug.getStatus());
-            }
-
-            for (int i = 0; i < headers.length; i++) {
-                sheet.autoSizeColumn(i);
-            }
-
-            workbook.write(outputStream);
-            return new ByteArrayInputStream(outputStream.toByteArray());
+    public void writeBugReportByProjectIds(List<Long> projectIds, OutputStream outputStream, Runnable onRowWritten) {
+        try (ExcelReportWriter writer = new ExcelReportWriter(SHEET_NAME, HEADERS)) {
+            bugService.forEachByProjectIds(projectIds, row -> {
+                writer.writeRow(row.getProject(), row.getName(), row.getDescription(), row.getPriority(),
+                        row.getStatus());
+                onRowWritten.run();
+            });
+            writer.writeTo(outputStream);
         } catch (IOException e) {
-            throw new RuntimeException(e);
+            throw new UncheckedIOException(e);
         }
     }
-
-    private CellStyle createHeaderStyle(Workbook workbook) {
-        CellStyle style = workbook.createCellStyle();
-        Font font = workbook.createFont();
-        font.setBold(true);
-        style.setFont(font);
-        return style;
-    }
 }
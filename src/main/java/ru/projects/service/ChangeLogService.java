@@ -0,0 +1,239 @@
+package ru.projects.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Array;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Exports the row changes captured in {@code change_log} to files and replays them after a restore.
+ *
+ * @author Artem Chernikov
+ * @version 1.0
+ * @since 17.10.2026
+ */
+@Service
+@Slf4j
+public class ChangeLogService {
+
+    private static final String CHANGES_DIR_NAME = "changes";
+    private static final String CHANGES_FILE_PREFIX = "changes-";
+    private static final String CHANGES_FILE_SUFFIX = ".jsonl.gz";
+    private static final String CHANGES_FILE_TIME_PATTERN = "yyyyMMdd-HHmmss";
+    private static final DateTimeFormatter CHANGES_FILE_FORMATTER = DateTimeFormatter
+            .ofPattern(CHANGES_FILE_TIME_PATTERN);
+    private static final int EXPORT_BATCH_SIZE = 10_000;
+    private static final String DELETE_OPERATION = "D";
+
+    /**
+     * Captured tables and their primary keys.
+     */
+    private static final Map<String, String> CAPTURED_TABLE_KEYS = Map.of(
+            "tasks", "task_id",
+            "bugs", "bug_id",
+            "projects", "project_id",
+            "employees", "employee_id",
+            "projects_employees", "id");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Path changesDir;
+
+    public ChangeLogService(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                            ObjectMapper objectMapper, @Value("${backup.dir:./backups}") Path backupDir) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.changesDir = backupDir.resolve(CHANGES_DIR_NAME);
+    }
+
+    /**
+     * Rows are deleted only after the file is written, a change committed meanwhile goes to the next export.
+     */
+    @Scheduled(cron = "${backup.incremental-cron:0 */15 * * * *}")
+    public synchronized void exportChanges() throws IOException {
+        Files.createDirectories(changesDir);
+        LocalDateTime exportTime = LocalDateTime.now();
+        Path tempFile = Files.createTempFile(changesDir, CHANGES_FILE_PREFIX, ".tmp");
+        List<Long> exportedIds = new ArrayList<>();
+        String fileName;
+        try {
+            try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(
+                    new GZIPOutputStream(Files.newOutputStream(tempFile)), StandardCharsets.UTF_8))) {
+                long lastId = 0;
+                List<Map<String, Object>> rows;
+                do {
+                    rows = jdbcTemplate.queryForList("SELECT change_id, json_build_object('id', change_id,"
+                            + " 'table', table_name, 'op', operation, 'at', changed_at, 'row', row_data)::text AS line"
+                            + " FROM change_log WHERE change_id > ? ORDER BY change_id LIMIT ?",
+                            lastId, EXPORT_BATCH_SIZE);
+                    for (Map<String, Object> row : rows) {
+                        writer.write((String) row.get("line"));
+                        writer.newLine();
+                        lastId = ((Number) row.get("change_id")).longValue();
+                        exportedIds.add(lastId);
+                    }
+                } while (rows.size() == EXPORT_BATCH_SIZE);
+            }
+            if (exportedIds.isEmpty()) {
+                return;
+            }
+            fileName = CHANGES_FILE_PREFIX + exportTime.format(CHANGES_FILE_FORMATTER) + "-" + exportedIds.get(0)
+                    + "-" + exportedIds.get(exportedIds.size() - 1) + CHANGES_FILE_SUFFIX;
+            Files.move(tempFile, changesDir.resolve(fileName));
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+        deleteExported(exportedIds);
+        log.info("Exported {} row changes to {}", exportedIds.size(), fileName);
+    }
+
+    /**
+     * Every change carries the whole row, so {@code from} may lie before the backup was taken.
+     *
+     * @return number of replayed changes
+     */
+    public synchronized int replayChanges(LocalDateTime from, LocalDateTime to) throws IOException {
+        NavigableMap<Long, JsonNode> changes = readChanges(from, to);
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.execute("SET LOCAL session_replication_role = replica");
+            changes.values().forEach(this::applyChange);
+            CAPTURED_TABLE_KEYS.forEach((table, key) -> jdbcTemplate.queryForObject(
+                    "SELECT setval(pg_get_serial_sequence(?, ?), COALESCE(max(" + key + "), 1)) FROM " + table,
+                    Long.class, table, key));
+        });
+        log.info("Replayed {} row changes from {} to {}", changes.size(), from, to);
+        return changes.size();
+    }
+
+    /**
+     * Checked before a restore drops any table, the replay switches off triggers.
+     */
+    public void checkReplayPrivilege() {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.execute("SET LOCAL session_replication_role = replica");
+                status.setRollbackOnly();
+            });
+        } catch (DataAccessException e) {
+            throw new IllegalStateException("Replaying changes needs a database user allowed to set"
+                    + " session_replication_role: " + e.getMostSpecificCause().getMessage(), e);
+        }
+    }
+
+    /**
+     * Drops the captured changes left in a restored database, they were exported before the restore.
+     */
+    public void clearChangeLog() {
+        jdbcTemplate.execute("TRUNCATE TABLE change_log");
+    }
+
+    /**
+     * Deletes changes files that only contain changes made before the given time.
+     */
+    public synchronized void removeChangesBefore(LocalDateTime time) throws IOException {
+        for (Path file : listChangesFiles()) {
+            if (!getChangesEnd(file).isAfter(time)) {
+                log.info("Removing old changes file {}", file.getFileName());
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    private void deleteExported(List<Long> exportedIds) {
+        for (int from = 0; from < exportedIds.size(); from += EXPORT_BATCH_SIZE) {
+            List<Long> batch = exportedIds.subList(from, Math.min(from + EXPORT_BATCH_SIZE, exportedIds.size()));
+            jdbcTemplate.update(connection -> {
+                Array ids = connection.createArrayOf("bigint", batch.toArray());
+                var statement = connection.prepareStatement("DELETE FROM change_log WHERE change_id = ANY (?)");
+                statement.setArray(1, ids);
+                return statement;
+            });
+        }
+    }
+
+    private NavigableMap<Long, JsonNode> readChanges(LocalDateTime from, LocalDateTime to) throws IOException {
+        NavigableMap<Long, JsonNode> changes = new TreeMap<>();
+        for (Path file : listChangesFiles()) {
+            if (!getChangesEnd(file).isAfter(from)) {
+                continue;
+            }
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                    new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    JsonNode change = objectMapper.readTree(line);
+                    LocalDateTime changedAt = LocalDateTime.parse(change.get("at").asText());
+                    if (changedAt.isAfter(from) && !changedAt.isAfter(to)) {
+                        changes.put(change.get("id").asLong(), change);
+                    }
+                }
+            }
+        }
+        return changes;
+    }
+
+    private void applyChange(JsonNode change) {
+        String table = change.get("table").asText();
+        String key = CAPTURED_TABLE_KEYS.get(table);
+        if (key == null) {
+            log.warn("Skipping change {} of unknown table {}", change.get("id"), table);
+            return;
+        }
+        String row = change.get("row").toString();
+        jdbcTemplate.update("DELETE FROM " + table + " t USING jsonb_populate_record(NULL::" + table + ", ?::jsonb) r"
+                + " WHERE t." + key + " = r." + key, row);
+        if (!DELETE_OPERATION.equals(change.get("op").asText())) {
+            jdbcTemplate.update("INSERT INTO " + table + " SELECT * FROM jsonb_populate_record(NULL::" + table
+                    + ", ?::jsonb)", row);
+        }
+    }
+
+    private List<Path> listChangesFiles() throws IOException {
+        if (!Files.isDirectory(changesDir)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(changesDir)) {
+            return files.filter(file -> file.getFileName().toString().startsWith(CHANGES_FILE_PREFIX))
+                    .filter(file -> file.getFileName().toString().endsWith(CHANGES_FILE_SUFFIX))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * The first part of the name is the export time in whole seconds.
+     */
+    private LocalDateTime getChangesEnd(Path file) {
+        String time = file.getFileName().toString().substring(CHANGES_FILE_PREFIX.length(),
+                CHANGES_FILE_PREFIX.length() + CHANGES_FILE_TIME_PATTERN.length());
+        return LocalDateTime.parse(time, CHANGES_FILE_FORMATTER).plusSeconds(1);
+    }
+}
@@ -1,24 +1,29 @@
 package ru.projects.service;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.OffsetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ru.projects.event.EmployeeAssignmentsChangedEvent;
 import ru.projects.mapper.EmployeeMapper;
 import ru.projects.model.Employee;
 import ru.projects.model.User;
 import ru.projects.model.dto.employee.EmployeeDto;
 import ru.projects.model.dto.employee.EmployeeFullDto;
 import ru.projects.model.dto.employee.EmployeeShortDto;
+import ru.projects.model.dto.grid.RowCountDto;
 import ru.projects.model.enums.TaskType;
 import ru.projects.repository.EmployeeRepository;
 import ru.projects.repository.UserRepository;
+import ru.projects.security.CurrentEmployee;
+import ru.projects.util.KeysetUtils;
 
 import java.util.List;
 import java.util.Map;
@@ -35,11 +40,30 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class EmployeeService {
 
+    /**
+     * Entity properties behind the sortable grid columns that are not plain employee columns.
+     */
+    private static final Map<String, String> SORT_PROPERTIES = Map.of(
+            "specialization", "specialization.specializationName",
+            "username", "user.username");
+    private static final String ID_PROPERTY = "employeeId";
+    /**
+     * Associations fetched with a filtered grid window, the same as the {@code Employee.gridPage} entity graph.
+     */
+    private static final List<String> GRID_PAGE_PROPERTIES = List.of("user", "specialization");
+    /**
+     * Most employees a search returns, the ranked result is ordered by similarity and cannot be paged by keyset.
+     */
+    private static final int SEARCH_LIMIT = 100;
+
     private final EmployeeRepository employeeRepository;
     private final UserRepository userRepository;
     private final SpecializationService specializationService;
     private final PasswordEncoder passwordEncoder;
     private final EmployeeMapper employeeMapper;
+    private final ReportCacheService reportCacheService;
+    private final RowCountService rowCountService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public void save(EmployeeDto employeeDto) {
         checkIfDataExists(employeeDto.getUsername(), employeeDto.getPhone(), employeeDto.getEmail());
@@ -48,7 +72,7 @@ public class EmployeeService {
     }
 
     public Optional<EmployeeFullDto> getById(Long id) {
-        Optional<Employee> optionalEmployee = employeeRepository.findById(id);
+        Optional<Employee> optionalEmployee = employeeRepository.findForEditByEmployeeId(id);
         if (optionalEmployee.isEmpty()) {
             return Optional.empty();
         }
@@ -59,7 +83,7 @@ public class EmployeeService {
 
     public Employee update(EmployeeFullDto employeeFullDto) {
         Employee oldEmployee = employeeRepository
-                .findById(employeeFullDto.getEmployeeId())
+                .findForEditByEmployeeId(employeeFullDto.getEmployeeId())
                 .orElseThrow(() -> new RuntimeException("Employee not found"));
         checkEmployeeFields(oldEmployee, employeeFullDto.getUsername(),
                 employeeFullDto.getPhone(), employeeFullDto.getEmail());
@@ -70,7 +94,9 @@ public class EmployeeService {
         user.setUsername(employeeFullDto.getUsername());
         user.setPassword(getPasswordForUpdate(employeeFullDto.getPassword(), oldEmployee.getUser().getPassword()));
         employeeForUpdate.setUser(user);
-        return employeeRepository.save(employeeForUpdate);
+        Employee updatedEmployee = employeeRepository.save(employeeForUpdate);
+        reportCacheService.invalidateAll();
+        return updatedEmployee;
     }
 
     private void checkEmployeeFields(Employee oldEmployee, String usernameForUpdate, String phoneForUpdate,
@@ -94,20 +120,67 @@ public class EmployeeService {
         }
         employeeRepository.deleteEmployeeProjects(id);
         employeeRepository.deleteById(id);
+        reportCacheService.invalidateAll();
+        eventPublisher.publishEvent(new EmployeeAssignmentsChangedEvent(Set.of(id)));
     }
 
-    public Page<EmployeeFullDto> getAll(Pageable pageable) {
-        return employeeRepository.findAll(pageable)
-                .map(employeeMapper::employeeToEmployeeFullDto);
+    @Transactional(readOnly = true)
+    public Window<EmployeeFullDto> getAll(ScrollPosition position, Sort sort, Limit limit) {
+        Sort keysetSort = toKeysetSort(sort);
+        return toEmployeeFullDtos(KeysetUtils.toKeysetWindow(employeeRepository.findAllBy(position, keysetSort,
+                limit), keysetSort));
     }
 
+    @Transactional(readOnly = true)
     public List<EmployeeFullDto> getAll() {
         return employeeMapper.employeesToEmployeesFullDto(employeeRepository.findAll());
     }
 
-    public Page<EmployeeFullDto> getAllByFilter(Pageable pageable, Specification<Employee> filter) {
-        return employeeRepository.findAll(filter, pageable)
-                .map(employeeMapper::employeeToEmployeeFullDto);
+    @Transactional(readOnly = true)
+    public Window<EmployeeFullDto> getAllByFilter(ScrollPosition position, Sort sort, Limit limit,
+                                                  Specification<Employee> filter) {
+        Sort keysetSort = toKeysetSort(sort);
+        return toEmployeeFullDtos(KeysetUtils.toKeysetWindow(employeeRepository.findBy(filter, query -> query
+                .sortBy(keysetSort)
+                .limit(limit.max())
+                .scroll(position)), keysetSort));
+    }
+
+    /**
+     * Employees of a search filter in its rank order, read by offset.
+     */
+    @Transactional(readOnly = true)
+    public Window<EmployeeFullDto> searchByFilter(ScrollPosition position, Limit limit,
+                                                  Specification<Employee> filter) {
+        int start = position instanceof OffsetScrollPosition offsetPosition && !offsetPosition.isInitial()
+                ? Math.toIntExact(offsetPosition.getOffset() + 1) : 0;
+        int end = Math.min(start + limit.max(), SEARCH_LIMIT);
+        List<Employee> employees = start < end
+                ? employeeRepository.findBy(filter, query -> query
+                        .project(GRID_PAGE_PROPERTIES)
+                        .limit(end)
+                        .all())
+                : List.of();
+        List<Employee> window = employees.subList(Math.min(start, employees.size()), employees.size());
+        boolean hasNext = employees.size() == end && end < SEARCH_LIMIT;
+        return toEmployeeFullDtos(Window.from(window, index -> ScrollPosition.offset(start + (long) index), hasNext));
+    }
+
+    public RowCountDto getRowCount() {
+        return rowCountService.count(employeeRepository::count, "SELECT 1 FROM employees");
+    }
+
+    /**
+     * The estimate ignores the filter.
+     */
+    public RowCountDto getRowCountByFilter(Specification<Employee> filter) {
+        return rowCountService.count(() -> employeeRepository.count(filter), "SELECT 1 FROM employees");
+    }
+
+    public RowCountDto getRowCountBySearch(Specification<Employee> filter) {
+        RowCountDto count = getRowCountByFilter(filter);
+        long searchCount = Math.min(count.getCount(), SEARCH_LIMIT);
+        return count.isExact() ? RowCountDto.exact(searchCount) : RowCountDto.estimate(searchCount);
     }
 
     public Map<String, List<EmployeeShortDto>> getAllEmployeesBySpecialization() {
@@ -129,17 +202,24 @@ public class EmployeeService {
                         Collectors.mapping(employeeMapper::employeeToEmployeeShortDto, Collectors.toList())));
     }
 
-    public Employee getCurrentEmployee() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication != null && authentication.isAuthenticated()) {
-            Object principal = authentication.getPrincipal();
-            if (principal instanceof UserDetails userDetails) {
-                String username = userDetails.getUsername();
-                return employeeRepository.findByUser_Username(username)
-                        .orElseThrow(() -> new RuntimeException("Employee not found"));
-            }
-        }
-        return null;
+    @Transactional(readOnly = true)
+    public CurrentEmployee getCurrentEmployee(String username, String role) {
+        Long employeeId = employeeRepository.findEmployeeIdByUsername(username)
+                .orElseThrow(() -> new RuntimeException("Employee not found"));
+        return new CurrentEmployee(employeeId, username, role,
+                employeeRepository.findProjectIdsByEmployeeId(employeeId));
+    }
+
+    /**
+     * A collection fetch join would cut the window in memory.
+     */
+    private Window<EmployeeFullDto> toEmployeeFullDtos(Window<Employee> employees) {
+        employeeRepository.findWithUserAndProjectsByEmployeeIdIn(employees.map(Employee::getEmployeeId).getContent());
+        return employees.map(employeeMapper::employeeToEmployeeFullDto);
+    }
+
+    private Sort toKeysetSort(Sort sort) {
+        return KeysetUtils.toKeysetSort(sort, SORT_PROPERTIES, ID_PROPERTY);
     }
 
     private String getPasswordForUpdate(String newPassword, String encodeOldPassword) {
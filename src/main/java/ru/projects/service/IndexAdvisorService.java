@@ -0,0 +1,138 @@
+package ru.projects.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import ru.projects.model.dto.database.IndexAdvisorEntryDto;
+import ru.projects.model.enums.Status;
+import ru.projects.repository.BugRepository;
+import ru.projects.repository.EmployeeRepository;
+import ru.projects.repository.PhotoRepository;
+import ru.projects.repository.ProjectRepository;
+import ru.projects.repository.TaskRepository;
+import ru.projects.repository.UserRepository;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static ru.projects.util.Constants.BACKEND_DEVELOPER_SPECIALIZATION_NAME;
+import static ru.projects.util.Constants.FULLSTACK_DEVELOPER_SPECIALIZATION_NAME;
+
+/**
+ * Plans the SQL of the hot repository queries without running it and reports the sequential scans.
+ *
+ * @author Artem Chernikov
+ * @version 1.0
+ * @since 17.10.2026
+ */
+@Service
+@RequiredArgsConstructor
+public class IndexAdvisorService {
+
+    private static final Pattern SEQUENTIAL_SCAN = Pattern.compile("Seq Scan on (\\w+)");
+    private static final int SAMPLE_PROJECTS = 10;
+    private static final Limit GRID_WINDOW = Limit.of(50);
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final QueryPlanCapture queryPlanCapture;
+    private final TaskRepository taskRepository;
+    private final BugRepository bugRepository;
+    private final ProjectRepository projectRepository;
+    private final EmployeeRepository employeeRepository;
+    private final UserRepository userRepository;
+    private final PhotoRepository photoRepository;
+
+    public List<IndexAdvisorEntryDto> getReport() {
+        return getQueryShapes(findSampleParameters()).stream()
+                .map(this::explain)
+                .toList();
+    }
+
+    private List<QueryShape> getQueryShapes(SampleParameters sample) {
+        return List.of(
+                new QueryShape("TaskRepository.findAllByProject_ProjectIdIn", () -> taskRepository
+                        .findAllByProject_ProjectIdIn(sample.projectIds(), ScrollPosition.keyset(),
+                                Sort.by("taskId"), GRID_WINDOW)),
+                new QueryShape("TaskRepository.findAllByEmployee_EmployeeId", () -> taskRepository
+                        .findAllByEmployee_EmployeeId(sample.employeeId(), ScrollPosition.keyset(),
+                                Sort.by("taskId"), GRID_WINDOW)),
+                new QueryShape("TaskRepository.countReportRowsByProjectIdsAndStatusIn", () -> taskRepository
+                        .countReportRowsByProjectIdsAndStatusIn(sample.projectIds(),
+                                List.of(Status.NEW, Status.IN_PROGRESS))),
+                new QueryShape("TaskRepository.streamActiveReportRowsByProjectIdsOrderByProjectName",
+                        () -> taskRepository.streamActiveReportRowsByProjectIdsOrderByProjectName(sample.projectIds())
+                                .close()),
+                new QueryShape("BugRepository.findAllByProject_ProjectIdIn", () -> bugRepository
+                        .findAllByProject_ProjectIdIn(sample.projectIds(), ScrollPosition.keyset(),
+                                Sort.by("bugId"), GRID_WINDOW)),
+                new QueryShape("ProjectRepository.findByEmployees_EmployeeId", () -> projectRepository
+                        .findByEmployees_EmployeeId(sample.employeeId(), ScrollPosition.keyset(),
+                                Sort.by("projectId"), GRID_WINDOW)),
+                new QueryShape("EmployeeRepository.findEmployeeIdByUsername", () -> employeeRepository
+                        .findEmployeeIdByUsername(sample.username())),
+                new QueryShape("EmployeeRepository.findProjectIdsByEmployeeId", () -> employeeRepository
+                        .findProjectIdsByEmployeeId(sample.employeeId())),
+                new QueryShape("EmployeeRepository.findByProjectIdAndSpecialization", () -> employeeRepository
+                        .findByProjectIdAndSpecialization(sample.projectIds().get(0),
+                                List.of(BACKEND_DEVELOPER_SPECIALIZATION_NAME,
+                                        FULLSTACK_DEVELOPER_SPECIALIZATION_NAME))),
+                new QueryShape("UserRepository.findByPhoto_photoId", () -> userRepository
+                        .findByPhoto_photoId(sample.photoId())),
+                new QueryShape("PhotoRepository.countBlobReferences", () -> photoRepository
+                        .countBlobReferences(sample.blobKey())));
+    }
+
+    private IndexAdvisorEntryDto explain(QueryShape shape) {
+        QueryPlanCapture.CapturedPlan plan;
+        try {
+            plan = queryPlanCapture.explain(shape.repositoryCall());
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to plan " + shape.method(), e);
+        }
+        List<String> sequentialScans = plan.planLines().stream()
+                .map(SEQUENTIAL_SCAN::matcher)
+                .filter(Matcher::find)
+                .map(matcher -> matcher.group(1))
+                .distinct()
+                .toList();
+        return IndexAdvisorEntryDto.builder()
+                .query(shape.method())
+                .sql(plan.sql())
+                .plan(String.join("\n", plan.planLines()))
+                .sequentialScans(sequentialScans)
+                .build();
+    }
+
+    /**
+     * Parameter values from existing rows, a value that matches nothing could be planned as an empty result.
+     */
+    private SampleParameters findSampleParameters() {
+        Map<String, Object> noParameters = Map.of();
+        List<Long> projectIds = jdbcTemplate.queryForList(
+                "SELECT project_id FROM projects ORDER BY project_id LIMIT " + SAMPLE_PROJECTS, noParameters,
+                Long.class);
+        return new SampleParameters(
+                projectIds.isEmpty() ? List.of(0L) : projectIds,
+                jdbcTemplate.queryForObject("SELECT coalesce(min(employee_id), 0) FROM employees", noParameters,
+                        Long.class),
+                jdbcTemplate.queryForObject("SELECT coalesce(min(username), '') FROM users", noParameters,
+                        String.class),
+                jdbcTemplate.queryForObject("SELECT coalesce(min(photo_id), 0) FROM photos", noParameters,
+                        Long.class),
+                jdbcTemplate.queryForObject("SELECT coalesce(min(blob_key), '') FROM photos", noParameters,
+                        String.class));
+    }
+
+    private record QueryShape(String method, Runnable repositoryCall) {
+    }
+
+    private record SampleParameters(List<Long> projectIds, Long employeeId, String username, Long photoId,
+                                    String blobKey) {
+    }
+}
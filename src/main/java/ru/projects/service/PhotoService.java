@@ -1,63 +1,170 @@
 package ru.projects.service;
 
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
-import ru.projects.mapper.PhotoMapper;
+import org.springframework.transaction.annotation.Transactional;
 import ru.projects.model.Photo;
 import ru.projects.model.User;
 import ru.projects.model.dto.photo.PhotoDto;
 import ru.projects.repository.PhotoRepository;
-import ru.projects.util.FileUtils;
+import ru.projects.storage.BlobStore;
+import ru.projects.util.ImageUtils;
 
-import java.io.File;
+import java.awt.image.BufferedImage;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
 
 @Service
+@Slf4j
 public class PhotoService {
 
     private final PhotoRepository photoRepository;
     private final UserService userService;
-    private final PhotoMapper photoMapper;
-    private static final String UPLOAD_DIR = "src/main/resources/META-INF/resources/avatars/";
+    private final BlobStore blobStore;
+    private final List<Integer> thumbnailSizes;
 
-    public PhotoService(PhotoRepository photoRepository, UserService userService, PhotoMapper photoMapper) {
+    public PhotoService(PhotoRepository photoRepository, UserService userService, BlobStore blobStore,
+                        @Value("${photo.thumbnail-sizes:32,64,256}") List<Integer> thumbnailSizes) {
         this.photoRepository = photoRepository;
         this.userService = userService;
-        this.photoMapper = photoMapper;
-        File uploadDir = new File(UPLOAD_DIR);
-        if (!uploadDir.exists()) {
-            uploadDir.mkdirs();
-        }
+        this.blobStore = blobStore;
+        this.thumbnailSizes = thumbnailSizes;
     }
 
+    /**
+     * Locks the blobs of the new and the replaced photo first, in key order.
+     */
+    @Transactional(rollbackFor = IOException.class)
     public void savePhoto(PhotoDto photoDto, User user) throws IOException {
-        Photo oldPhoto = user.getPhoto();
-        if (oldPhoto != null) {
-            FileUtils.deleteFile(oldPhoto.getFilePath());
+        byte[] content;
+        try (InputStream inputStream = photoDto.getContent().open()) {
+            content = inputStream.readAllBytes();
         }
+        Map<Integer, byte[]> thumbnails = createThumbnails(ImageUtils.decode(content));
+        Optional<Photo> oldPhoto = Optional.ofNullable(user.getPhoto())
+                .flatMap(photo -> photoRepository.findWithVariantsByPhotoId(photo.getPhotoId()));
 
-        String fileName = System.currentTimeMillis() + "_" + photoDto.getFileName();
-        Path filePath = Paths.get(UPLOAD_DIR + fileName);
-
-        Files.write(filePath, photoDto.getContent());
+        Set<String> blobKeys = new TreeSet<>();
+        blobKeys.add(BlobStore.keyOf(content));
+        thumbnails.values().forEach(thumbnail -> blobKeys.add(BlobStore.keyOf(thumbnail)));
+        oldPhoto.ifPresent(photo -> blobKeys.addAll(getBlobKeys(photo)));
+        blobKeys.forEach(photoRepository::lockBlobKey);
 
         Photo newPhoto = Photo.builder()
-                .fileName(fileName)
-                .filePath(filePath.toString())
+                .fileName(System.currentTimeMillis() + "_" + photoDto.getFileName())
+                .blobKey(blobStore.put(content))
+                .variants(storeThumbnails(thumbnails))
                 .build();
         Photo savedPhoto = photoRepository.save(newPhoto);
         userService.addPhotoToUser(user, savedPhoto);
+
+        if (oldPhoto.isPresent()) {
+            deletePhoto(oldPhoto.get());
+        }
+    }
+
+    public Optional<Photo> findPhoto(Long photoId) {
+        return photoRepository.findWithVariantsByPhotoId(photoId);
+    }
+
+    /**
+     * Blob key of the smallest thumbnail at least {@code size} pixels wide, the original if none is large enough.
+     */
+    public String getVariantKey(Photo photo, Integer size) {
+        if (size == null) {
+            return photo.getBlobKey();
+        }
+        return photo.getVariants().entrySet().stream()
+                .filter(variant -> variant.getKey() >= size)
+                .min(Map.Entry.comparingByKey())
+                .map(Map.Entry::getValue)
+                .orElse(photo.getBlobKey());
+    }
+
+    /**
+     * The user then gets the default avatar instead of a broken image.
+     *
+     * @return whether the content was missing
+     */
+    public boolean unlinkIfContentMissing(Photo photo) throws IOException {
+        if (photo.getBlobKey() != null && blobStore.size(photo.getBlobKey()).isPresent()) {
+            return false;
+        }
+        log.warn("Content of photo {} is missing, removing it from its user", photo.getPhotoId());
+        userService.removePhotoByPhotoId(photo.getPhotoId());
+        return true;
     }
 
+    /**
+     * Moves photos uploaded before the blob store into the store.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void importLegacyPhotos() {
+        for (Photo photo : photoRepository.findAllByBlobKeyIsNull()) {
+            if (photo.getFilePath() == null || !Files.isRegularFile(Path.of(photo.getFilePath()))) {
+                log.warn("File of photo {} is missing, removing it from its user", photo.getPhotoId());
+                userService.removePhotoByPhotoId(photo.getPhotoId());
+                continue;
+            }
+            try {
+                byte[] content = Files.readAllBytes(Path.of(photo.getFilePath()));
+                photo.setVariants(storeThumbnails(createThumbnails(ImageUtils.decode(content))));
+                photo.setBlobKey(blobStore.put(content));
+                photoRepository.save(photo);
+                log.info("Photo {} imported into the blob store", photo.getPhotoId());
+            } catch (IOException e) {
+                log.warn("Could not import photo {}: {}", photo.getPhotoId(), e.getMessage());
+            }
+        }
+    }
+
+    private Map<Integer, byte[]> createThumbnails(BufferedImage image) throws IOException {
+        Map<Integer, byte[]> thumbnails = new HashMap<>();
+        for (Integer size : thumbnailSizes) {
+            thumbnails.put(size, ImageUtils.encodeJpeg(ImageUtils.createThumbnail(image, size)));
+        }
+        return thumbnails;
+    }
+
+    private Map<Integer, String> storeThumbnails(Map<Integer, byte[]> thumbnails) throws IOException {
+        Map<Integer, String> variants = new HashMap<>();
+        for (Map.Entry<Integer, byte[]> thumbnail : thumbnails.entrySet()) {
+            variants.put(thumbnail.getKey(), blobStore.put(thumbnail.getValue()));
+        }
+        return variants;
+    }
+
+    private Set<String> getBlobKeys(Photo photo) {
+        Set<String> blobKeys = new HashSet<>(photo.getVariants().values());
+        if (photo.getBlobKey() != null) {
+            blobKeys.add(photo.getBlobKey());
+        }
+        return blobKeys;
+    }
 
-    public PhotoDto getPhotoById(Long photoId) {
-        Photo photo = photoRepository.findById(photoId).orElseThrow(() -> new RuntimeException("Photo not found"));
-        PhotoDto photoDto = photoMapper.photoToPhotoDto(photo);
-        if (photoDto.getContent().length == 0) {
-            userService.removePhotoByPhotoId(photoId);
+    /**
+     * The blobs are deleted last, the blob store is not transactional.
+     */
+    private void deletePhoto(Photo photo) throws IOException {
+        Set<String> blobKeys = getBlobKeys(photo);
+        photoRepository.delete(photo);
+        photoRepository.flush();
+        for (String blobKey : blobKeys) {
+            if (photoRepository.countBlobReferences(blobKey) == 0) {
+                blobStore.delete(blobKey);
+            }
         }
-        return photoDto;
     }
 }
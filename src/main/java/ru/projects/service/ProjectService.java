@@ -1,19 +1,31 @@
 package ru.projects.service;
 
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.projects.event.DomainEvent;
+import ru.projects.event.DomainEvent.ChangeType;
+import ru.projects.event.EmployeeAssignmentsChangedEvent;
 import ru.projects.mapper.ProjectMapper;
+import ru.projects.model.Employee;
 import ru.projects.model.Project;
+import ru.projects.model.dto.grid.RowCountDto;
 import ru.projects.model.dto.project.ProjectCreateDto;
 import ru.projects.model.dto.project.ProjectFullDto;
 import ru.projects.model.dto.project.ProjectShortDto;
 import ru.projects.repository.ProjectRepository;
+import ru.projects.util.KeysetUtils;
 
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * @author Artem Chernikov
@@ -24,17 +36,24 @@ import java.util.Set;
 @RequiredArgsConstructor
 public class ProjectService {
 
+    private static final String ID_PROPERTY = "projectId";
+
     private final ProjectRepository projectRepository;
     private final ProjectMapper projectMapper;
+    private final ReportCacheService reportCacheService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RowCountService rowCountService;
 
     @Transactional
     public void save(ProjectCreateDto projectCreateDto) {
         Project newProject = projectMapper.projectCreateDtoToProject(projectCreateDto);
-        projectRepository.save(newProject);
+        Project savedProject = projectRepository.save(newProject);
+        eventPublisher.publishEvent(DomainEvent.project(ChangeType.CREATED, savedProject.getProjectId()));
+        publishAssignmentsChanged(Set.of(), getEmployeeIds(newProject));
     }
 
     public Optional<ProjectFullDto> getById(Long id) {
-        Optional<Project> optionalProject = projectRepository.findById(id);
+        Optional<Project> optionalProject = projectRepository.findWithEmployeesByProjectId(id);
         if (optionalProject.isEmpty()) {
             return Optional.empty();
         }
@@ -45,25 +64,48 @@ public class ProjectService {
 
     public Project update(ProjectFullDto projectFullDto) {
         Project oldProject = getProjectById(projectFullDto.getProjectId());
+        Set<Long> oldEmployeeIds = projectRepository.findEmployeeIdsByProjectId(oldProject.getProjectId());
         Project project = projectMapper.projectFullDtoToProject(projectFullDto);
         project.setTasks(oldProject.getTasks());
         project.setBugs(oldProject.getBugs());
-        return projectRepository.save(project);
+        Project updatedProject = projectRepository.save(project);
+        invalidateReports(updatedProject.getProjectId());
+        eventPublisher.publishEvent(DomainEvent.project(ChangeType.UPDATED, updatedProject.getProjectId()));
+        publishAssignmentsChanged(oldEmployeeIds, getEmployeeIds(project));
+        return updatedProject;
     }
 
     public void deleteById(Long projectId) {
         getProjectById(projectId);
+        Set<Long> oldEmployeeIds = projectRepository.findEmployeeIdsByProjectId(projectId);
         projectRepository.deleteById(projectId);
+        invalidateReports(projectId);
+        eventPublisher.publishEvent(DomainEvent.project(ChangeType.DELETED, projectId));
+        publishAssignmentsChanged(oldEmployeeIds, Set.of());
+    }
+
+    @Transactional(readOnly = true)
+    public Window<ProjectFullDto> getAll(ScrollPosition position, Sort sort, Limit limit) {
+        Sort keysetSort = toKeysetSort(sort);
+        return toProjectFullDtos(KeysetUtils.toKeysetWindow(projectRepository.findAllBy(position, keysetSort, limit),
+                keysetSort));
+    }
+
+    @Transactional(readOnly = true)
+    public Window<ProjectFullDto> getAllByEmployeeId(ScrollPosition position, Sort sort, Limit limit,
+                                                     Long employeeId) {
+        Sort keysetSort = toKeysetSort(sort);
+        return toProjectFullDtos(KeysetUtils.toKeysetWindow(projectRepository.findByEmployees_EmployeeId(employeeId,
+                position, keysetSort, limit), keysetSort));
     }
 
-    public Page<ProjectFullDto> getAll(Pageable pageable) {
-        return projectRepository.findAll(pageable)
-                .map(projectMapper::projectToProjectFullDto);
+    public RowCountDto getRowCount() {
+        return rowCountService.count(projectRepository::count, "SELECT 1 FROM projects");
     }
 
-    public Page<ProjectFullDto> getAllByEmployeeId(Pageable pageable, Long employeeId) {
-        return projectRepository.findByEmployees_EmployeeId(pageable, employeeId)
-                .map(projectMapper::projectToProjectFullDto);
+    public RowCountDto getRowCountByEmployeeId(Long employeeId) {
+        return rowCountService.count(() -> projectRepository.countByEmployees_EmployeeId(employeeId),
+                "SELECT 1 FROM projects_employees WHERE employee_id = ?", employeeId);
     }
 
     public Set<ProjectShortDto> getAllProjectsShortDto() {
@@ -74,6 +116,42 @@ public class ProjectService {
         return projectMapper.projectsToProjectsShortDto(projectRepository.findByEmployees_EmployeeId(employeeId));
     }
 
+    /**
+     * A collection fetch join would cut the window in memory.
+     */
+    private Window<ProjectFullDto> toProjectFullDtos(Window<Project> projects) {
+        projectRepository.findWithEmployeesByProjectIdIn(projects.map(Project::getProjectId).getContent());
+        return projects.map(projectMapper::projectToProjectFullDto);
+    }
+
+    private Sort toKeysetSort(Sort sort) {
+        return KeysetUtils.toKeysetSort(sort, Map.of(), ID_PROPERTY);
+    }
+
+    private void publishAssignmentsChanged(Set<Long> oldEmployeeIds, Set<Long> newEmployeeIds) {
+        Set<Long> changedEmployeeIds = new HashSet<>(oldEmployeeIds);
+        changedEmployeeIds.addAll(newEmployeeIds);
+        changedEmployeeIds.removeIf(employeeId -> oldEmployeeIds.contains(employeeId)
+                && newEmployeeIds.contains(employeeId));
+        if (!changedEmployeeIds.isEmpty()) {
+            eventPublisher.publishEvent(new EmployeeAssignmentsChangedEvent(changedEmployeeIds));
+        }
+    }
+
+    private Set<Long> getEmployeeIds(Project project) {
+        if (project.getEmployees() == null) {
+            return Set.of();
+        }
+        return project.getEmployees().stream()
+                .map(Employee::getEmployeeId)
+                .collect(Collectors.toSet());
+    }
+
+    private void invalidateReports(Long projectId) {
+        reportCacheService.invalidateTaskReports(projectId);
+        reportCacheService.invalidateBugReports(projectId);
+    }
+
     private Project getProjectById(Long projectId) {
         return projectRepository.findById(projectId).orElseThrow(() -> new RuntimeException("Project Not Found."));
     }
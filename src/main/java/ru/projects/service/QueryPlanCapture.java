@@ -0,0 +1,154 @@
+package ru.projects.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Plans the first query a repository call sends with {@code EXPLAIN} instead of running it.
+ *
+ * @author Artem Chernikov
+ * @version 1.0
+ * @since 17.10.2026
+ */
+@Component
+@RequiredArgsConstructor
+class QueryPlanCapture {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final DataSource dataSource;
+    private final PlatformTransactionManager transactionManager;
+
+    CapturedPlan explain(Runnable repositoryCall) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            ExplainingConnection explainingConnection = new ExplainingConnection(connection);
+            SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+            try (Session session = sessionFactory.withOptions().connection(explainingConnection.proxy())
+                    .openSession()) {
+                TransactionSynchronizationManager.bindResource(entityManagerFactory, new EntityManagerHolder(session));
+                TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+                transactionTemplate.setReadOnly(true);
+                transactionTemplate.executeWithoutResult(status -> repositoryCall.run());
+            } catch (RuntimeException e) {
+                if (explainingConnection.plan == null) {
+                    throw e;
+                }
+            } finally {
+                TransactionSynchronizationManager.unbindResourceIfPossible(entityManagerFactory);
+            }
+            if (explainingConnection.plan == null) {
+                throw new IllegalStateException("The repository call sent no query");
+            }
+            return explainingConnection.plan;
+        }
+    }
+
+    record CapturedPlan(String sql, List<String> planLines) {
+    }
+
+    /**
+     * Explains the first prepared statement with its bound parameters.
+     */
+    private static final class ExplainingConnection implements InvocationHandler {
+
+        private final Connection connection;
+        private CapturedPlan plan;
+        private boolean prepared;
+
+        private ExplainingConnection(Connection connection) {
+            this.connection = connection;
+        }
+
+        private Connection proxy() {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class}, this);
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if ("prepareStatement".equals(method.getName()) && !prepared) {
+                prepared = true;
+                return explainingStatement((String) args[0]);
+            }
+            if ("close".equals(method.getName())) {
+                return null;
+            }
+            return invokeOn(connection, method, args);
+        }
+
+        private PreparedStatement explainingStatement(String sql) {
+            List<Invocation> bindings = new ArrayList<>();
+            InvocationHandler handler = (proxy, method, args) -> {
+                String name = method.getName();
+                if (name.startsWith("set")) {
+                    bindings.add(new Invocation(method, args));
+                    return null;
+                }
+                if (name.startsWith("execute")) {
+                    plan = new CapturedPlan(sql, explain(sql, bindings));
+                    throw new SQLException("The query is only planned, not run");
+                }
+                return defaultValue(method.getReturnType());
+            };
+            return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class}, handler);
+        }
+
+        private List<String> explain(String sql, List<Invocation> bindings) throws Throwable {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                for (Invocation binding : bindings) {
+                    invokeOn(statement, binding.method(), binding.args());
+                }
+                List<String> planLines = new ArrayList<>();
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        planLines.add(resultSet.getString(1));
+                    }
+                }
+                return planLines;
+            }
+        }
+
+        private static Object invokeOn(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+
+        private static Object defaultValue(Class<?> type) {
+            if (type == boolean.class) {
+                return false;
+            }
+            if (type == int.class) {
+                return 0;
+            }
+            if (type == long.class) {
+                return 0L;
+            }
+            return null;
+        }
+    }
+
+    private record Invocation(Method method, Object[] args) {
+    }
+}
@@ -0,0 +1,57 @@
+package ru.projects.service;
+
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Service;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.util.List;
+
+import static ru.projects.util.Constants.REFERENCE_DATA_QUERY_CACHE_REGION;
+import static ru.projects.util.Constants.ROLE_CACHE_REGION;
+import static ru.projects.util.Constants.SPECIALIZATION_CACHE_REGION;
+
+/**
+ * Second-level cache metrics of the reference data, and its eviction after changes outside of Hibernate.
+ *
+ * @author Artem Chernikov
+ * @version 1.0
+ * @since 17.10.2026
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReferenceDataCacheService {
+
+    private static final List<String> CACHE_REGIONS = List.of(SPECIALIZATION_CACHE_REGION, ROLE_CACHE_REGION,
+            REFERENCE_DATA_QUERY_CACHE_REGION);
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final MeterRegistry meterRegistry;
+
+    @PostConstruct
+    public void bindMetrics() {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager();
+        for (String region : CACHE_REGIONS) {
+            Cache<Object, Object> cache = cacheManager.getCache(region);
+            if (cache != null) {
+                JCacheMetrics.monitor(meterRegistry, cache);
+            }
+        }
+    }
+
+    public void evictAll() {
+        entityManagerFactory.getCache().evictAll();
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictQueryRegions();
+        log.info("Second-level cache evicted");
+    }
+}
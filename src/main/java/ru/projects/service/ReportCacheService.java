@@ -0,0 +1,221 @@
+package ru.projects.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.io.output.TeeOutputStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+import ru.projects.model.enums.ReportType;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Keeps finished reports on disk by report type and project ids until one of their projects changes.
+ *
+ * @author Artem Chernikov
+ * @version 1.0
+ * @since 17.10.2026
+ */
+@Service
+@Slf4j
+public class ReportCacheService {
+
+    private static final Set<ReportType> TASK_REPORTS = EnumSet.of(ReportType.ALL_TASKS, ReportType.TASKS_BY_PROJECTS,
+            ReportType.ACTIVE_TASKS_BY_PROJECTS, ReportType.FINISHED_TASKS_BY_PROJECTS);
+    private static final Set<ReportType> BUG_REPORTS = EnumSet.of(ReportType.BUGS_BY_PROJECTS);
+
+    private final Path cacheDir;
+    private final long maxSizeBytes;
+    private final boolean enabled;
+    private final Map<ReportKey, CachedReport> reports = new LinkedHashMap<>(16, 0.75f, true);
+    private final AtomicLong invalidations = new AtomicLong();
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+    private long sizeBytes;
+
+    public ReportCacheService(@Value("${report.cache.dir}") Path cacheDir,
+                              @Value("${report.cache.max-size:256MB}") DataSize maxSize,
+                              @Value("${report.cache.enabled:true}") boolean enabled,
+                              MeterRegistry meterRegistry) {
+        this.cacheDir = cacheDir;
+        this.maxSizeBytes = maxSize.toBytes();
+        this.enabled = enabled;
+        this.hits = meterRegistry.counter("report.cache.requests", "result", "hit");
+        this.misses = meterRegistry.counter("report.cache.requests", "result", "miss");
+        this.evictions = meterRegistry.counter("report.cache.evictions");
+        Gauge.builder("report.cache.size", this, ReportCacheService::getSizeBytes)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("report.cache.entries", this, ReportCacheService::getEntryCount)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void init() throws IOException {
+        Files.createDirectories(cacheDir);
+        try (Stream<Path> staleFiles = Files.list(cacheDir)) {
+            staleFiles.forEach(this::deleteFile);
+        }
+    }
+
+    @FunctionalInterface
+    public interface ReportWriter {
+        void write(OutputStream outputStream, Runnable onRowWritten);
+    }
+
+    /**
+     * Writes the report from the cache if present, otherwise runs the writer and caches a copy of its output.
+     *
+     * @return number of rows in the report
+     */
+    public long writeReport(ReportType reportType, Collection<Long> projectIds, OutputStream outputStream,
+                            Runnable onRowWritten, ReportWriter reportWriter) throws IOException {
+        if (!enabled) {
+            AtomicLong rows = new AtomicLong();
+            reportWriter.write(outputStream, () -> {
+                rows.incrementAndGet();
+                onRowWritten.run();
+            });
+            return rows.get();
+        }
+        ReportKey key = ReportKey.of(reportType, projectIds);
+        Optional<CachedReport> cachedReport = get(key);
+        if (cachedReport.isPresent()) {
+            try {
+                Files.copy(cachedReport.get().file, outputStream);
+                hits.increment();
+                return cachedReport.get().rows;
+            } catch (NoSuchFileException e) {
+                log.debug("Cached report {} was evicted while reading", key);
+            }
+        }
+        misses.increment();
+
+        long invalidationsBefore = invalidations.get();
+        Path file = Files.createTempFile(cacheDir, "report-", ".xlsx");
+        AtomicLong rows = new AtomicLong();
+        try {
+            try (OutputStream fileOutputStream = new BufferedOutputStream(Files.newOutputStream(file))) {
+                reportWriter.write(new TeeOutputStream(outputStream, fileOutputStream), () -> {
+                    rows.incrementAndGet();
+                    onRowWritten.run();
+                });
+            }
+        } catch (RuntimeException | IOException e) {
+            deleteFile(file);
+            throw e;
+        }
+        put(key, new CachedReport(file, Files.size(file), rows.get()), invalidationsBefore);
+        return rows.get();
+    }
+
+    public OptionalLong findRowCount(ReportType reportType, Collection<Long> projectIds) {
+        return get(ReportKey.of(reportType, projectIds))
+                .map(cachedReport -> OptionalLong.of(cachedReport.rows))
+                .orElseGet(OptionalLong::empty);
+    }
+
+    public void invalidateTaskReports(Long projectId) {
+        invalidate(TASK_REPORTS, projectId);
+    }
+
+    public void invalidateBugReports(Long projectId) {
+        invalidate(BUG_REPORTS, projectId);
+    }
+
+    public synchronized void invalidateAll() {
+        invalidations.incrementAndGet();
+        reports.values().forEach(cachedReport -> deleteFile(cachedReport.file));
+        reports.clear();
+        sizeBytes = 0;
+    }
+
+    public synchronized long getSizeBytes() {
+        return sizeBytes;
+    }
+
+    public synchronized int getEntryCount() {
+        return reports.size();
+    }
+
+    private synchronized Optional<CachedReport> get(ReportKey key) {
+        return Optional.ofNullable(reports.get(key));
+    }
+
+    private synchronized void put(ReportKey key, CachedReport cachedReport, long invalidationsBefore) {
+        if (invalidations.get() != invalidationsBefore || cachedReport.size > maxSizeBytes) {
+            deleteFile(cachedReport.file);
+            return;
+        }
+        CachedReport replaced = reports.put(key, cachedReport);
+        if (replaced != null) {
+            sizeBytes -= replaced.size;
+            deleteFile(replaced.file);
+        }
+        sizeBytes += cachedReport.size;
+
+        Iterator<CachedReport> leastRecentlyUsed = reports.values().iterator();
+        while (sizeBytes > maxSizeBytes && leastRecentlyUsed.hasNext()) {
+            CachedReport evicted = leastRecentlyUsed.next();
+            leastRecentlyUsed.remove();
+            sizeBytes -= evicted.size;
+            deleteFile(evicted.file);
+            evictions.increment();
+        }
+    }
+
+    private synchronized void invalidate(Set<ReportType> reportTypes, Long projectId) {
+        invalidations.incrementAndGet();
+        Iterator<Map.Entry<ReportKey, CachedReport>> entries = reports.entrySet().iterator();
+        while (entries.hasNext()) {
+            Map.Entry<ReportKey, CachedReport> entry = entries.next();
+            ReportKey key = entry.getKey();
+            if (reportTypes.contains(key.reportType())
+                    && (key.reportType() == ReportType.ALL_TASKS || key.projectIds().contains(projectId))) {
+                entries.remove();
+                sizeBytes -= entry.getValue().size;
+                deleteFile(entry.getValue().file);
+            }
+        }
+    }
+
+    private void deleteFile(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete cached report {}: {}", file, e.getMessage());
+        }
+    }
+
+    private record ReportKey(ReportType reportType, SortedSet<Long> projectIds) {
+        private static ReportKey of(ReportType reportType, Collection<Long> projectIds) {
+            return new ReportKey(reportType, reportType == ReportType.ALL_TASKS
+                    ? new TreeSet<>() : new TreeSet<>(projectIds));
+        }
+    }
+
+    private record CachedReport(Path file, long size, long rows) {
+    }
+}
@@ -0,0 +1,241 @@
+package ru.projects.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import ru.projects.model.dto.report.ReportJobDto;
+import ru.projects.model.enums.ReportJobStatus;
+import ru.projects.model.enums.ReportType;
+import ru.projects.util.ThreadFactories;
+
+import java.io.BufferedOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs report exports in the background on a bounded pool and keeps the files for {@code report.jobs.ttl}.
+ *
+ * @author Artem Chernikov
+ * @version 1.0
+ * @since 17.10.2026
+ */
+@Service
+@Slf4j
+public class ReportJobService {
+
+    private final TasksExportService tasksExportService;
+    private final BugsExportService bugsExportService;
+    private final TaskService taskService;
+    private final BugService bugService;
+    private final ReportCacheService reportCacheService;
+    private final ThreadPoolExecutor executor;
+    private final Duration jobTtl;
+    private final Map<UUID, ReportJob> jobs = new ConcurrentHashMap<>();
+
+    public ReportJobService(TasksExportService tasksExportService, BugsExportService bugsExportService,
+                            TaskService taskService, BugService bugService, ReportCacheService reportCacheService,
+                            @Value("${report.jobs.pool-size:2}") int poolSize,
+                            @Value("${report.jobs.queue-capacity:20}") int queueCapacity,
+                            @Value("${report.jobs.ttl:1h}") Duration jobTtl,
+                            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.tasksExportService = tasksExportService;
+        this.bugsExportService = bugsExportService;
+        this.taskService = taskService;
+        this.bugService = bugService;
+        this.reportCacheService = reportCacheService;
+        this.jobTtl = jobTtl;
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), ThreadFactories.create("report-job-", virtualThreads),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public ReportJobDto submit(ReportType reportType, List<Long> projectIds, String username) {
+        ReportJob job = new ReportJob(UUID.randomUUID(), reportType, List.copyOf(projectIds), username);
+        jobs.put(job.jobId, job);
+        try {
+            executor.execute(() -> run(job));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.jobId);
+            throw new RejectedExecutionException("Report queue is full, try again later", e);
+        }
+        log.info("Report job {} ({}) submitted by {}", job.jobId, reportType, username);
+        return toDto(job);
+    }
+
+    public Optional<ReportJobDto> getJob(UUID jobId, String username) {
+        return findJob(jobId, username).map(this::toDto);
+    }
+
+    /**
+     * The file is not deleted while the returned stream is open.
+     */
+    public Optional<InputStream> openReportFile(UUID jobId, String username) throws IOException {
+        Optional<ReportJob> finishedJob = findJob(jobId, username)
+                .filter(job -> job.status == ReportJobStatus.FINISHED);
+        if (finishedJob.isEmpty()) {
+            return Optional.empty();
+        }
+        ReportJob job = finishedJob.get();
+        synchronized (job) {
+            if (job.file == null) {
+                return Optional.empty();
+            }
+            InputStream inputStream = Files.newInputStream(job.file);
+            job.openDownloads++;
+            return Optional.of(new FilterInputStream(inputStream) {
+                private boolean closed;
+
+                @Override
+                public void close() throws IOException {
+                    synchronized (job) {
+                        if (!closed) {
+                            closed = true;
+                            job.openDownloads--;
+                        }
+                    }
+                    super.close();
+                }
+            });
+        }
+    }
+
+    @Scheduled(fixedDelay = 10, timeUnit = TimeUnit.MINUTES)
+    public void removeExpiredJobs() {
+        Instant expiredBefore = Instant.now().minus(jobTtl);
+        jobs.values().removeIf(job -> {
+            if (job.finishedAt == null || !job.finishedAt.isBefore(expiredBefore)) {
+                return false;
+            }
+            synchronized (job) {
+                if (job.openDownloads > 0) {
+                    return false;
+                }
+                deleteFile(job);
+                return true;
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+        jobs.values().forEach(this::deleteFile);
+    }
+
+    private Optional<ReportJob> findJob(UUID jobId, String username) {
+        return Optional.ofNullable(jobs.get(jobId))
+                .filter(job -> job.username.equals(username));
+    }
+
+    private void run(ReportJob job) {
+        job.status = ReportJobStatus.RUNNING;
+        try {
+            job.totalRows = reportCacheService.findRowCount(job.reportType, job.projectIds)
+                    .orElseGet(() -> countRows(job));
+            job.file = Files.createTempFile("report-", ".xlsx");
+            try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(job.file))) {
+                long rows = reportCacheService.writeReport(job.reportType, job.projectIds, outputStream,
+                        job.rowsWritten::incrementAndGet, (reportOutputStream, onRowWritten) ->
+                                writeReport(job, reportOutputStream, onRowWritten));
+                job.rowsWritten.set(rows);
+            }
+            job.status = ReportJobStatus.FINISHED;
+            log.info("Report job {} finished, {} rows written", job.jobId, job.rowsWritten.get());
+        } catch (Exception e) {
+            log.error("Report job {} failed: {}", job.jobId, e.getMessage(), e);
+            deleteFile(job);
+            job.error = e.getMessage();
+            job.status = ReportJobStatus.FAILED;
+        } finally {
+            job.finishedAt = Instant.now();
+        }
+    }
+
+    private long countRows(ReportJob job) {
+        return switch (job.reportType) {
+            case ALL_TASKS -> taskService.countReportRows();
+            case TASKS_BY_PROJECTS -> taskService.countReportRowsByProjectIds(job.projectIds);
+            case ACTIVE_TASKS_BY_PROJECTS -> taskService.countActiveReportRowsByProjectIds(job.projectIds);
+            case FINISHED_TASKS_BY_PROJECTS -> taskService.countFinishedReportRowsByProjectIds(job.projectIds);
+            case BUGS_BY_PROJECTS -> bugService.countByProjectIds(job.projectIds);
+        };
+    }
+
+    private void writeReport(ReportJob job, OutputStream outputStream, Runnable onRowWritten) {
+        switch (job.reportType) {
+            case ALL_TASKS -> tasksExportService.writeTasksReport(outputStream, onRowWritten);
+            case TASKS_BY_PROJECTS -> tasksExportService
+                    .writeTasksReportByProjectIds(job.projectIds, outputStream, onRowWritten);
+            case ACTIVE_TASKS_BY_PROJECTS -> tasksExportService
+                    .writeActiveTasksReportByProjectIds(job.projectIds, outputStream, onRowWritten);
+            case FINISHED_TASKS_BY_PROJECTS -> tasksExportService
+                    .writeFinishedTasksReportByProjectIds(job.projectIds, outputStream, onRowWritten);
+            case BUGS_BY_PROJECTS -> bugsExportService
+                    .writeBugReportByProjectIds(job.projectIds, outputStream, onRowWritten);
+        }
+    }
+
+    private void deleteFile(ReportJob job) {
+        Path file = job.file;
+        if (file == null) {
+            return;
+        }
+        job.file = null;
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete report file {}: {}", file, e.getMessage());
+        }
+    }
+
+    private ReportJobDto toDto(ReportJob job) {
+        return ReportJobDto.builder()
+                .jobId(job.jobId)
+                .reportType(job.reportType.name())
+                .status(job.status.getDisplayName())
+                .rowsWritten(job.rowsWritten.get())
+                .totalRows(job.totalRows)
+                .fileName(job.reportType.getFileName())
+                .error(job.error)
+                .build();
+    }
+
+    private static class ReportJob {
+        private final UUID jobId;
+        private final ReportType reportType;
+        private final List<Long> projectIds;
+        private final String username;
+        private final AtomicLong rowsWritten = new AtomicLong();
+        private volatile ReportJobStatus status = ReportJobStatus.QUEUED;
+        private volatile long totalRows;
+        private volatile Path file;
+        private volatile String error;
+        private volatile Instant finishedAt;
+        private int openDownloads;
+
+        private ReportJob(UUID jobId, ReportType reportType, List<Long> projectIds, String username) {
+            this.jobId = jobId;
+            this.reportType = reportType;
+            this.projectIds = projectIds;
+            this.username = username;
+        }
+    }
+}
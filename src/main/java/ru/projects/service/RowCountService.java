@@ -0,0 +1,52 @@
+package ru.projects.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import ru.projects.model.dto.grid.RowCountDto;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Row counts for the grids, the planner estimate unless {@code grid.exact-count} is set.
+ *
+ * @author Artem Chernikov
+ * @version 1.0
+ * @since 17.10.2026
+ */
+@Service
+public class RowCountService {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final boolean exactCount;
+
+    public RowCountService(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper,
+                           @Value("${grid.exact-count:false}") boolean exactCount) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.exactCount = exactCount;
+    }
+
+    /**
+     * @param counter     exact count, only called with {@code grid.exact-count}
+     * @param estimateSql native query returning the counted rows, only planned
+     */
+    public RowCountDto count(LongSupplier counter, String estimateSql, Object... args) {
+        if (exactCount) {
+            return RowCountDto.exact(counter.getAsLong());
+        }
+        return RowCountDto.estimate(estimate(estimateSql, args));
+    }
+
+    private long estimate(String sql, Object... args) {
+        String plan = jdbcTemplate.queryForObject("EXPLAIN (FORMAT JSON) " + sql, String.class, args);
+        try {
+            return objectMapper.readTree(plan).path(0).path("Plan").path("Plan Rows").asLong();
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Could not read query plan", e);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package ru.projects.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import ru.projects.model.dto.search.SearchPageDto;
+import ru.projects.model.dto.search.SearchResultDto;
+import ru.projects.model.enums.SearchResultType;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Full-text prefix search over the tasks, bugs and projects of the projects of an employee.
+ *
+ * @author Artem Chernikov
+ * @version 1.0
+ * @since 17.10.2026
+ */
+@Service
+@RequiredArgsConstructor
+public class SearchService {
+
+    public static final int MAX_PAGE_SIZE = 50;
+
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final String MATCHES_SQL_TEMPLATE = "SELECT '%s' AS type, %s AS id, %s.project_id AS project_id,"
+            + " ts_rank(%3$s.search_vector, sq.query) AS rank FROM %s %3$s, search_query sq"
+            + " WHERE %3$s.search_vector @@ sq.query AND %3$s.project_id IN (SELECT project_id FROM member_projects)";
+    private static final String SEARCH_SQL = "WITH search_query AS (SELECT to_tsquery('simple', :query) AS query),"
+            + " member_projects AS (SELECT pe.project_id FROM projects_employees pe"
+            + " JOIN employees e ON e.employee_id = pe.employee_id JOIN users u ON u.user_id = e.user_id"
+            + " WHERE u.username = :username),"
+            + " matches AS (" + String.format(MATCHES_SQL_TEMPLATE, "TASK", "t.task_id", "t", "tasks")
+            + " UNION ALL " + String.format(MATCHES_SQL_TEMPLATE, "BUG", "b.bug_id", "b", "bugs")
+            + " UNION ALL " + String.format(MATCHES_SQL_TEMPLATE, "PROJECT", "p.project_id", "p", "projects") + "),"
+            + " result_page AS (SELECT * FROM matches ORDER BY rank DESC, type, id LIMIT :limit OFFSET :offset)"
+            + " SELECT rp.type, rp.id, rp.project_id, rp.rank, p.name AS project_name,"
+            + " coalesce(t.name, b.name, p.name) AS title,"
+            + " ts_headline('simple', coalesce(t.description, b.description, ''), sq.query,"
+            + " 'MaxFragments=1, MinWords=5, MaxWords=20, StartSel=[, StopSel=]') AS snippet"
+            + " FROM result_page rp CROSS JOIN search_query sq JOIN projects p ON p.project_id = rp.project_id"
+            + " LEFT JOIN tasks t ON rp.type = 'TASK' AND t.task_id = rp.id"
+            + " LEFT JOIN bugs b ON rp.type = 'BUG' AND b.bug_id = rp.id"
+            + " ORDER BY rp.rank DESC, rp.type, rp.id";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * @param page zero-based page number
+     * @param size page size, at most {@value #MAX_PAGE_SIZE}
+     */
+    public SearchPageDto search(String text, String username, int page, int size) {
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page must not be negative and size must be between 1 and "
+                    + MAX_PAGE_SIZE);
+        }
+        String query = toPrefixQuery(text);
+        if (query.isEmpty()) {
+            return new SearchPageDto(List.of(), page, size, false);
+        }
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("query", query)
+                .addValue("username", username)
+                .addValue("limit", size + 1)
+                .addValue("offset", (long) page * size);
+        List<SearchResultDto> results = jdbcTemplate.query(SEARCH_SQL, parameters, (rs, rowNum) ->
+                SearchResultDto.builder()
+                        .type(SearchResultType.valueOf(rs.getString("type")))
+                        .id(rs.getLong("id"))
+                        .projectId(rs.getLong("project_id"))
+                        .projectName(rs.getString("project_name"))
+                        .title(rs.getString("title"))
+                        .snippet(rs.getString("snippet"))
+                        .rank(rs.getDouble("rank"))
+                        .build());
+        boolean hasNext = results.size() > size;
+        return new SearchPageDto(hasNext ? results.subList(0, size) : results, page, size, hasNext);
+    }
+
+    /**
+     * Only letters and digits are kept, so the text is never a malformed tsquery.
+     */
+    private String toPrefixQuery(String text) {
+        return Arrays.stream(WORD_SEPARATOR.split(text == null ? "" : text.toLowerCase()))
+                .filter(word -> !word.isEmpty())
+                .map(word -> word + ":*")
+                .collect(Collectors.joining(" & "));
+    }
+}
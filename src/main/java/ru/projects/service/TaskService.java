@@ -1,21 +1,32 @@
 package ru.projects.service;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.projects.event.DomainEvent;
+import ru.projects.event.DomainEvent.ChangeType;
 import ru.projects.mapper.TaskMapper;
-import ru.projects.model.Project;
 import ru.projects.model.Task;
+import ru.projects.model.dto.grid.RowCountDto;
 import ru.projects.model.dto.task.TaskCreateDto;
 import ru.projects.model.dto.task.TaskFullDto;
+import ru.projects.model.dto.task.TaskReportRowDto;
 import ru.projects.model.dto.task.TaskViewDto;
 import ru.projects.model.enums.Status;
 import ru.projects.repository.TaskRepository;
+import ru.projects.util.KeysetUtils;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * @author Artem Chernikov
@@ -25,29 +36,43 @@ import java.util.Set;
 @Service
 @RequiredArgsConstructor
 public class TaskService {
+
+    /**
+     * Entity properties behind the sortable grid columns that are not plain task columns.
+     */
+    private static final Map<String, String> SORT_PROPERTIES = Map.of(
+            "project", "project.name",
+            "employee", "employee.lastName");
+    private static final String ID_PROPERTY = "taskId";
+
     private final TaskRepository taskRepository;
     private final TaskMapper taskMapper;
+    private final ReportCacheService reportCacheService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RowCountService rowCountService;
 
     public void save(TaskCreateDto taskCreateDto) {
         Task task = taskMapper.taskCreateDtoToTask(taskCreateDto);
-        taskRepository.save(task);
+        Task savedTask = taskRepository.save(task);
+        onTaskChanged(ChangeType.CREATED, savedTask);
     }
 
     public Task update(TaskFullDto taskFullDto) {
         checkTaskExistsById(taskFullDto.getTaskId());
         Task task = taskMapper.taskFullDtoToTask(taskFullDto);
-        return taskRepository.save(task);
+        Task updatedTask = taskRepository.save(task);
+        onTaskChanged(ChangeType.UPDATED, updatedTask);
+        return updatedTask;
     }
 
     public void deleteById(Long id) {
-        if (!taskRepository.existsById(id)) {
-            throw new RuntimeException("Task not found");
-        }
-        taskRepository.deleteById(id);
+        Task task = taskRepository.findById(id).orElseThrow(() -> new RuntimeException("Task not found"));
+        taskRepository.delete(task);
+        onTaskChanged(ChangeType.DELETED, task);
     }
 
     public Optional<TaskFullDto> getById(Long id) {
-        Optional<Task> optionalTask = taskRepository.findById(id);
+        Optional<Task> optionalTask = taskRepository.findWithProjectAndEmployeeByTaskId(id);
         if (optionalTask.isEmpty()) {
             return Optional.empty();
         }
@@ -56,38 +81,94 @@ public class TaskService {
         return Optional.of(taskFullDto);
     }
 
-    public Page<TaskViewDto> getAll(Pageable pageable) {
-        return taskRepository.findAll(pageable)
+    public Optional<TaskViewDto> getViewById(Long id) {
+        return taskRepository.findWithProjectAndEmployeeByTaskId(id)
                 .map(taskMapper::taskToTaskViewDto);
     }
 
-    public Page<TaskViewDto> getAllByEmployeeId(Pageable pageable, Long employeeId) {
-        return taskRepository.findAllByEmployee_EmployeeId(pageable, employeeId)
+    public Window<TaskViewDto> getAll(ScrollPosition position, Sort sort, Limit limit) {
+        Sort keysetSort = toKeysetSort(sort);
+        return KeysetUtils.toKeysetWindow(taskRepository.findAllBy(position, keysetSort, limit), keysetSort)
                 .map(taskMapper::taskToTaskViewDto);
     }
 
-    public Page<TaskViewDto> getAllByProjects(Pageable pageable, Set<Project> projects) {
-        List<Long> projectIds = projects.stream()
-                .map(Project::getProjectId)
-                .toList();
-        return taskRepository.findAllByProjectIds(pageable, projectIds)
+    public Window<TaskViewDto> getAllByEmployeeId(ScrollPosition position, Sort sort, Limit limit, Long employeeId) {
+        Sort keysetSort = toKeysetSort(sort);
+        return KeysetUtils.toKeysetWindow(taskRepository.findAllByEmployee_EmployeeId(employeeId, position,
+                        keysetSort, limit), keysetSort)
                 .map(taskMapper::taskToTaskViewDto);
     }
 
-    public List<TaskFullDto> getAllByOrderProjectName() {
-        return taskMapper.tasksToTaskFullDtos(taskRepository.findAllByOrderByProject_Name());
+    public Window<TaskViewDto> getAllByProjects(ScrollPosition position, Sort sort, Limit limit,
+                                                Set<Long> projectIds) {
+        Sort keysetSort = toKeysetSort(sort);
+        return KeysetUtils.toKeysetWindow(taskRepository.findAllByProject_ProjectIdIn(List.copyOf(projectIds),
+                        position, keysetSort, limit), keysetSort)
+                .map(taskMapper::taskToTaskViewDto);
+    }
+
+    public RowCountDto getRowCount() {
+        return rowCountService.count(taskRepository::count, "SELECT 1 FROM tasks");
     }
 
-    public List<TaskFullDto> getAllByProjectIdsAndOrderProjectName(List<Long> projectIds) {
-        return taskMapper.tasksToTaskFullDtos(taskRepository.findAllByProjectIdsOrderByProjectName(projectIds));
+    public RowCountDto getRowCountByEmployeeId(Long employeeId) {
+        return rowCountService.count(() -> taskRepository.countByEmployee_EmployeeId(employeeId),
+                "SELECT 1 FROM tasks WHERE employee_id = ?", employeeId);
     }
 
-    public List<TaskFullDto> getAllActiveByProjectIdsAndOrderProjectName(List<Long> projectIds) {
-        return taskMapper.tasksToTaskFullDtos(taskRepository.findAllActiveByProjectIdsOrderByProjectName(projectIds));
+    public RowCountDto getRowCountByProjects(Set<Long> projectIds) {
+        return rowCountService.count(() -> taskRepository.countByProject_ProjectIdIn(List.copyOf(projectIds)),
+                "SELECT 1 FROM tasks WHERE project_id = ANY (?)", (Object) projectIds.toArray(Long[]::new));
     }
 
-    public List<TaskFullDto> getAllFinishedByProjectIdsAndOrderProjectName(List<Long> projectIds) {
-        return taskMapper.tasksToTaskFullDtos(taskRepository.findAllFinishedByProjectIdsOrderByProjectName(projectIds));
+    @Transactional(readOnly = true)
+    public void forEachByOrderProjectName(Consumer<TaskReportRowDto> action) {
+        try (Stream<TaskReportRowDto> rows = taskRepository.streamReportRowsOrderByProjectName()) {
+            rows.forEach(action);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void forEachByProjectIdsAndOrderProjectName(List<Long> projectIds, Consumer<TaskReportRowDto> action) {
+        try (Stream<TaskReportRowDto> rows = taskRepository.streamReportRowsByProjectIdsOrderByProjectName(projectIds)) {
+            rows.forEach(action);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void forEachActiveByProjectIdsAndOrderProjectName(List<Long> projectIds, Consumer<TaskReportRowDto> action) {
+        try (Stream<TaskReportRowDto> rows = taskRepository
+                .streamActiveReportRowsByProjectIdsOrderByProjectName(projectIds)) {
+            rows.forEach(action);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void forEachFinishedByProjectIdsAndOrderProjectName(List<Long> projectIds, Consumer<TaskReportRowDto> action) {
+        try (Stream<TaskReportRowDto> rows = taskRepository
+                .streamFinishedReportRowsByProjectIdsOrderByProjectName(projectIds)) {
+            rows.forEach(action);
+        }
+    }
+
+    /**
+     * Same joins as the report queries, tasks without an employee are not counted.
+     */
+    public long countReportRows() {
+        return taskRepository.countReportRows();
+    }
+
+    public long countReportRowsByProjectIds(List<Long> projectIds) {
+        return taskRepository.countReportRowsByProjectIds(projectIds);
+    }
+
+    public long countActiveReportRowsByProjectIds(List<Long> projectIds) {
+        return taskRepository.countReportRowsByProjectIdsAndStatusIn(projectIds,
+                List.of(Status.NEW, Status.IN_PROGRESS));
+    }
+
+    public long countFinishedReportRowsByProjectIds(List<Long> projectIds) {
+        return taskRepository.countReportRowsByProjectIdsAndStatusIn(projectIds, List.of(Status.FINISHED));
     }
 
     public void updateStatusById(Long taskId, String status) {
@@ -95,6 +176,17 @@ public class TaskService {
         Status newStatus = Status.fromDisplayName(status);
         task.setStatus(newStatus);
         taskRepository.save(task);
+        onTaskChanged(ChangeType.UPDATED, task);
+    }
+
+    private void onTaskChanged(ChangeType changeType, Task task) {
+        Long projectId = task.getProject().getProjectId();
+        reportCacheService.invalidateTaskReports(projectId);
+        eventPublisher.publishEvent(DomainEvent.task(changeType, task.getTaskId(), projectId));
+    }
+
+    private Sort toKeysetSort(Sort sort) {
+        return KeysetUtils.toKeysetSort(sort, SORT_PROPERTIES, ID_PROPERTY);
     }
 
     private void checkTaskExistsById(Long taskId) {
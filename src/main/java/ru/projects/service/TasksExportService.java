@@ -1,88 +1,77 @@
 package ru.projects.service;
 
 import lombok.RequiredArgsConstructor;
-import org.apache.poi.ss.usermodel.Cell;
-import org.apache.poi.ss.usermodel.CellStyle;
-import org.apache.poi.ss.usermodel.Font;
-import org.apache.poi.ss.usermodel.Row;
-import org.apache.poi.ss.usermodel.Sheet;
-import org.apache.poi.ss.usermodel.Workbook;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.springframework.stereotype.Service;
-import ru.projects.model.dto.task.TaskFullDto;
+import ru.projects.model.dto.task.TaskReportRowDto;
+import ru.projects.util.ExcelReportWriter;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.function.Consumer;
+
+import static ru.projects.util.ExcelReportWriter.NO_PROGRESS;
 
 @Service
 @RequiredArgsConstructor
 public class TasksExportService {
 
+    private static final String SHEET_NAME = "Tasks and employees";
+    private static final String[] HEADERS = {"Project", "Employee", "Task", "Description", "Task type", "Priority",
+            "Status"};
+
     private final TaskService taskService;
 
-    public ByteArrayInputStream generateTasksReport() {
-        List<TaskFullDto> tasks = taskService.getAllByOrderProjectName();
-        return generateExcelReport(tasks);
+    public void writeTasksReport(OutputStream outputStream) {
+        writeTasksReport(outputStream, NO_PROGRESS);
     }
 
-    public ByteArrayInputStream generateTasksReportByProjectIds(List<Long> projectIds) {
-        List<TaskFullDto> tasks = taskService.getAllByProjectIdsAndOrderProjectName(projectIds);
-        return generateExcelReport(tasks);
+    public void writeTasksReport(OutputStream outputStream, Runnable onRowWritten) {
+        writeExcelReport(taskService::forEachByOrderProjectName, outputStream, onRowWritten);
     }
 
-    public ByteArrayInputStream generateActiveTasksReportByProjectIds(List<Long> projectIds) {
-        List<TaskFullDto> tasks = taskService.getAllActiveByProjectIdsAndOrderProjectName(projectIds);
-        return generateExcelReport(tasks);
+    public void writeTasksReportByProjectIds(List<Long> projectIds, OutputStream outputStream) {
+        writeTasksReportByProjectIds(projectIds, outputStream, NO_PROGRESS);
     }
 
-    public ByteArrayInputStream generateFinishedTasksReportByProjectIds(List<Long> projectIds) {
-        List<TaskFullDto> tasks = taskService.getAllFinishedByProjectIdsAndOrderProjectName(projectIds);
-        return generateExcelReport(tasks);
+    public void writeTasksReportByProjectIds(List<Long> projectIds, OutputStream outputStream,
+                                             Runnable onRowWritten) {
+        writeExcelReport(action -> taskService.forEachByProjectIdsAndOrderProjectName(projectIds, action),
+                outputStream, onRowWritten);
     }
 
-    private ByteArrayInputStream generateExcelReport(List<TaskFullDto> tasks) {
-        try (Workbook workbook = new XSSFWorkbook();
-             ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
-            Sheet sheet = workbook.createSheet("Tasks and employees");
+    public void writeActiveTasksReportByProjectIds(List<Long> projectIds, OutputStream outputStream) {
+        writeActiveTasksReportByProjectIds(projectIds, outputStream, NO_PROGRESS);
+    }
 
-            Row headerRow = sheet.createRow(0);
-            String[] headers = {"Project", "Employee", "Task", "Description", "Task type", "Priority", "Status"};
-            for (int i = 0; i < headers.length; i++) {
-                Cell cell = headerRow.createCell(i);
-                cell.setCellValue(headers[i]);
-                cell.setCellStyle(createHeaderStyle(workbook));
-            }
+    public void writeActiveTasksReportByProjectIds(List<Long> projectIds, OutputStream outputStream,
+                                                   Runnable onRowWritten) {
+        writeExcelReport(action -> taskService.forEachActiveByProjectIdsAndOrderProjectName(projectIds, action),
+                outputStream, onRowWritten);
+    }
 
-            int rowIdx = 1;
-            for (TaskFullDto task : tasks) {
-                Row row = sheet.createRow(rowIdx++);
-                row.createCell(0).setCellValue(task.getProject().getName());
-                row.createCell(1).setCellValue(task.getEmployee().getName());
-                row.createCell(2).setCellValue(task.getName());
-                row.createCell(3).setCellValue(task.getDescription());
-                row.createCell(4).setCellValue(task.getTaskType());
-                row.createCell(5).setCellValue(task.getPriority());
-                row.createCell(6).setCellValue(task.getStatus());
-            }
+    public void writeFinishedTasksReportByProjectIds(List<Long> projectIds, OutputStream outputStream) {
+        writeFinishedTasksReportByProjectIds(projectIds, outputStream, NO_PROGRESS);
+    }
 
-            for (int i = 0; i < headers.length; i++) {
-                sheet.autoSizeColumn(i);
-            }
+    public void writeFinishedTasksReportByProjectIds(List<Long> projectIds, OutputStream outputStream,
+                                                     Runnable onRowWritten) {
+        writeExcelReport(action -> taskService.forEachFinishedByProjectIdsAndOrderProjectName(projectIds, action),
+                outputStream, onRowWritten);
+    }
 
-            workbook.write(outputStream);
-            return new ByteArrayInputStream(outputStream.toByteArray());
+    private void writeExcelReport(Consumer<Consumer<TaskReportRowDto>> rows, OutputStream outputStream,
+                                  Runnable onRowWritten) {
+        try (ExcelReportWriter writer = new ExcelReportWriter(SHEET_NAME, HEADERS)) {
+            rows.accept(row -> {
+                writer.writeRow(row.getProject(), row.getEmployee(), row.getName(), row.getDescription(),
+                        row.getTaskType(), row.getPriority(), row.getStatus());
+                onRowWritten.run();
+            });
+            writer.writeTo(outputStream);
         } catch (IOException e) {
-            throw new RuntimeException(e);
+            throw new UncheckedIOException(e);
         }
     }
-
-    private CellStyle createHeaderStyle(Workbook workbook) {
-        CellStyle style = workbook.createCellStyle();
-        Font font = workbook.createFont();
-        font.setBold(true);
-        style.setFont(font);
-        return style;
-    }
 }
@@ -21,12 +21,14 @@ public class UserService {
         userRepository.save(user);
     }
 
+    /**
+     * Does nothing if no user has the photo.
+     */
     public void removePhotoByPhotoId(Long photoId) {
-        User user = userRepository
-                .findByPhoto_photoId(photoId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        user.setPhoto(null);
-        userRepository.save(user);
+        userRepository.findByPhoto_photoId(photoId).ifPresent(user -> {
+            user.setPhoto(null);
+            userRepository.save(user);
+        });
     }
 
 }
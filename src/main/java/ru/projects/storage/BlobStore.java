@@ -0,0 +1,62 @@
+package ru.projects.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+/**
+ * Content-addressed storage of binary files, keyed by the SHA-256 of the content.
+ *
+ * @author Artem Chernikov
+ * @version 1.0
+ * @since 17.10.2026
+ */
+public interface BlobStore {
+
+    /**
+     * Stores the content unless a blob with the same content already exists.
+     *
+     * @return key of the blob
+     */
+    String put(byte[] content) throws IOException;
+
+    /**
+     * @throws java.nio.file.NoSuchFileException if there is no blob with the given key
+     */
+    InputStream open(String key) throws IOException;
+
+    /**
+     * Size of the blob read from the store metadata, empty if there is no blob with the given key.
+     */
+    OptionalLong size(String key) throws IOException;
+
+    /**
+     * Local file of the blob for zero-copy transfers, empty if the store is not backed by the local file system.
+     */
+    Optional<Path> findLocalFile(String key);
+
+    void delete(String key) throws IOException;
+
+    static String keyOf(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Sharded by the first two bytes of the key, e.g. {@code 3f/a2/3fa2...}.
+     */
+    static String shardedPath(String key) {
+        if (!key.matches("[0-9a-f]{64}")) {
+            throw new IllegalArgumentException("Invalid blob key: " + key);
+        }
+        return key.substring(0, 2) + "/" + key.substring(2, 4) + "/" + key;
+    }
+}
@@ -0,0 +1,77 @@
+package ru.projects.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+/**
+ * {@link BlobStore} in a directory tree under {@code blob-store.local.dir}.
+ *
+ * @author Artem Chernikov
+ * @version 1.0
+ * @since 17.10.2026
+ */
+@Component
+@ConditionalOnProperty(name = "blob-store.type", havingValue = "local", matchIfMissing = true)
+@Slf4j
+public class FileSystemBlobStore implements BlobStore {
+
+    private final Path rootDir;
+
+    public FileSystemBlobStore(@Value("${blob-store.local.dir:./blobs}") Path rootDir) throws IOException {
+        this.rootDir = Files.createDirectories(rootDir);
+    }
+
+    @Override
+    public String put(byte[] content) throws IOException {
+        String key = BlobStore.keyOf(content);
+        Path file = resolve(key);
+        if (Files.exists(file)) {
+            log.debug("Blob {} already stored", key);
+            return key;
+        }
+        Files.createDirectories(file.getParent());
+        Path tempFile = Files.createTempFile(rootDir, "blob-", ".tmp");
+        try {
+            Files.write(tempFile, content);
+            Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+        return key;
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        return Files.newInputStream(resolve(key));
+    }
+
+    @Override
+    public OptionalLong size(String key) throws IOException {
+        Path file = resolve(key);
+        return Files.isRegularFile(file) ? OptionalLong.of(Files.size(file)) : OptionalLong.empty();
+    }
+
+    @Override
+    public Optional<Path> findLocalFile(String key) {
+        return Optional.of(resolve(key)).filter(Files::isRegularFile);
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        Files.deleteIfExists(resolve(key));
+    }
+
+    private Path resolve(String key) {
+        return rootDir.resolve(BlobStore.shardedPath(key));
+    }
+}
@@ -0,0 +1,125 @@
+package ru.projects.storage;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.NoSuchBucketException;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+/**
+ * {@link BlobStore} in an S3-compatible bucket.
+ *
+ * @author Artem Chernikov
+ * @version 1.0
+ * @since 17.10.2026
+ */
+@Component
+@ConditionalOnProperty(name = "blob-store.type", havingValue = "s3")
+@Slf4j
+public class S3BlobStore implements BlobStore {
+
+    private static final int NOT_FOUND = 404;
+
+    private final S3Client client;
+    private final String bucket;
+
+    public S3BlobStore(@Value("${blob-store.s3.endpoint}") URI endpoint,
+                       @Value("${blob-store.s3.region:us-east-1}") String region,
+                       @Value("${blob-store.s3.bucket}") String bucket,
+                       @Value("${blob-store.s3.access-key}") String accessKey,
+                       @Value("${blob-store.s3.secret-key}") String secretKey) {
+        this.bucket = bucket;
+        this.client = S3Client.builder()
+                .endpointOverride(endpoint)
+                .region(Region.of(region))
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey)))
+                .forcePathStyle(true)
+                .build();
+    }
+
+    @PostConstruct
+    public void createBucket() {
+        try {
+            client.headBucket(request -> request.bucket(bucket));
+        } catch (NoSuchBucketException e) {
+            log.info("Creating blob bucket {}", bucket);
+            client.createBucket(request -> request.bucket(bucket));
+        }
+    }
+
+    @Override
+    public String put(byte[] content) throws IOException {
+        String key = BlobStore.keyOf(content);
+        if (size(key).isPresent()) {
+            log.debug("Blob {} already stored", key);
+            return key;
+        }
+        try {
+            client.putObject(request -> request.bucket(bucket).key(BlobStore.shardedPath(key)),
+                    RequestBody.fromBytes(content));
+        } catch (S3Exception e) {
+            throw new IOException("Could not store blob " + key, e);
+        }
+        return key;
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        try {
+            return client.getObject(request -> request.bucket(bucket).key(BlobStore.shardedPath(key)));
+        } catch (NoSuchKeyException e) {
+            throw new NoSuchFileException(key);
+        } catch (S3Exception e) {
+            throw new IOException("Could not read blob " + key, e);
+        }
+    }
+
+    @Override
+    public OptionalLong size(String key) throws IOException {
+        try {
+            return OptionalLong.of(client.headObject(request -> request.bucket(bucket)
+                    .key(BlobStore.shardedPath(key))).contentLength());
+        } catch (S3Exception e) {
+            if (e.statusCode() == NOT_FOUND) {
+                return OptionalLong.empty();
+            }
+            throw new IOException("Could not read blob metadata " + key, e);
+        }
+    }
+
+    @Override
+    public Optional<Path> findLocalFile(String key) {
+        return Optional.empty();
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        try {
+            client.deleteObject(request -> request.bucket(bucket).key(BlobStore.shardedPath(key)));
+        } catch (S3Exception e) {
+            throw new IOException("Could not delete blob " + key, e);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        client.close();
+    }
+}
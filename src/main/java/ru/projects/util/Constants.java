@@ -23,4 +23,10 @@ public class Constants {
     public static final String DEVELOPER_ROLE_NAME = "ROLE_DEV";
     public static final String TESTER_ROLE_NAME = "ROLE_TEST";
 
+    public static final String REPORT_FETCH_SIZE = "500";
+
+    public static final String SPECIALIZATION_CACHE_REGION = "specializations";
+    public static final String ROLE_CACHE_REGION = "roles";
+    public static final String REFERENCE_DATA_QUERY_CACHE_REGION = "reference-data-queries";
+
 }
@@ -0,0 +1,96 @@
+package ru.projects.util;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes a single-sheet .xlsx report through a windowed {@link SXSSFWorkbook}.
+ *
+ * @author Artem Chernikov
+ * @version 1.0
+ * @since 17.10.2026
+ */
+public class ExcelReportWriter implements Closeable {
+
+    public static final int ROW_ACCESS_WINDOW_SIZE = 100;
+    public static final Runnable NO_PROGRESS = () -> {
+    };
+
+    private final SXSSFWorkbook workbook;
+    private final SXSSFSheet sheet;
+    private final int columnCount;
+    private int rowIdx;
+    private boolean columnsSized;
+
+    public ExcelReportWriter(String sheetName, String... headers) {
+        this.workbook = new SXSSFWorkbook(ROW_ACCESS_WINDOW_SIZE);
+        this.workbook.setCompressTempFiles(true);
+        this.sheet = workbook.createSheet(sheetName);
+        this.sheet.trackAllColumnsForAutoSizing();
+        this.columnCount = headers.length;
+
+        CellStyle headerStyle = createHeaderStyle();
+        Row headerRow = sheet.createRow(rowIdx++);
+        for (int i = 0; i < headers.length; i++) {
+            Cell cell = headerRow.createCell(i);
+            cell.setCellValue(headers[i]);
+            cell.setCellStyle(headerStyle);
+        }
+    }
+
+    public void writeRow(String... values) {
+        Row row = sheet.createRow(rowIdx++);
+        for (int i = 0; i < values.length; i++) {
+            row.createCell(i).setCellValue(values[i]);
+        }
+        if (rowIdx == ROW_ACCESS_WINDOW_SIZE) {
+            sizeColumns();
+        }
+    }
+
+    public int getRowsWritten() {
+        return rowIdx - 1;
+    }
+
+    public void writeTo(OutputStream outputStream) throws IOException {
+        sizeColumns();
+        workbook.write(outputStream);
+        outputStream.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        workbook.dispose();
+        workbook.close();
+    }
+
+    /**
+     * Sizes the columns from the rows written so far, all of them still in the window, and stops tracking widths.
+     */
+    private void sizeColumns() {
+        if (columnsSized) {
+            return;
+        }
+        for (int i = 0; i < columnCount; i++) {
+            sheet.autoSizeColumn(i);
+        }
+        sheet.untrackAllColumnsForAutoSizing();
+        columnsSized = true;
+    }
+
+    private CellStyle createHeaderStyle() {
+        CellStyle style = workbook.createCellStyle();
+        Font font = workbook.createFont();
+        font.setBold(true);
+        style.setFont(font);
+        return style;
+    }
+}
@@ -14,11 +14,14 @@ import java.nio.file.Path;
 @UtilityClass
 public class FileUtils {
 
-    public byte[] readFileAsBytes(String path) {
+    /**
+     * Size of the file from its metadata, 0 if the file does not exist.
+     */
+    public long getSize(String path) {
         try {
-            return Files.readAllBytes(Path.of(path));
+            return path == null ? 0 : Files.size(Path.of(path));
         } catch (IOException e) {
-            return new byte[0];
+            return 0;
         }
     }
 
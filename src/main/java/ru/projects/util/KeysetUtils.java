@@ -0,0 +1,54 @@
+package ru.projects.util;
+
+import lombok.experimental.UtilityClass;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.data.domain.OffsetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * @author Artem Chernikov
+ * @version 1.0
+ * @since 17.10.2026
+ */
+@UtilityClass
+public class KeysetUtils {
+
+    /**
+     * Maps the grid columns to entity properties and appends the id in the direction of the last order.
+     */
+    public Sort toKeysetSort(Sort sort, Map<String, String> properties, String idProperty) {
+        List<Sort.Order> orders = sort.stream()
+                .map(order -> order.withProperty(properties.getOrDefault(order.getProperty(), order.getProperty())))
+                .collect(Collectors.toCollection(ArrayList::new));
+        Sort.Direction direction = orders.isEmpty() ? Sort.Direction.ASC : orders.get(orders.size() - 1).getDirection();
+        orders.add(new Sort.Order(direction, idProperty));
+        return Sort.by(orders);
+    }
+
+    /**
+     * Turns the offset positions of a window into keyset positions.
+     */
+    public <T> Window<T> toKeysetWindow(Window<T> window, Sort keysetSort) {
+        if (window.isEmpty() || !(window.positionAt(0) instanceof OffsetScrollPosition)) {
+            return window;
+        }
+        List<T> content = window.getContent();
+        return Window.from(content, index -> toKeysetPosition(content.get(index), keysetSort), window.hasNext());
+    }
+
+    private ScrollPosition toKeysetPosition(Object row, Sort keysetSort) {
+        BeanWrapper wrapper = new BeanWrapperImpl(row);
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keysetSort.forEach(order -> keys.put(order.getProperty(), wrapper.getPropertyValue(order.getProperty())));
+        return ScrollPosition.forward(keys);
+    }
+}
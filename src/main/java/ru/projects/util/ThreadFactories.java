@@ -0,0 +1,24 @@
+package ru.projects.util;
+
+import lombok.experimental.UtilityClass;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * @author Artem Chernikov
+ * @version 1.0
+ * @since 17.10.2026
+ */
+@UtilityClass
+public class ThreadFactories {
+
+    /**
+     * Virtual threads with {@code spring.threads.virtual.enabled} set, platform threads otherwise.
+     */
+    public ThreadFactory create(String namePrefix, boolean virtualThreads) {
+        return virtualThreads
+                ? Thread.ofVirtual().name(namePrefix, 0).factory()
+                : new CustomizableThreadFactory(namePrefix);
+    }
+}
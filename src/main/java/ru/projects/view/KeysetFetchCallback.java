@@ -0,0 +1,120 @@
+package ru.projects.view;
+
+import com.vaadin.flow.component.grid.Grid;
+import com.vaadin.flow.component.grid.dataview.GridLazyDataView;
+import com.vaadin.flow.data.provider.CallbackDataProvider;
+import com.vaadin.flow.data.provider.DataChangeEvent;
+import com.vaadin.flow.data.provider.Query;
+import com.vaadin.flow.spring.data.VaadinSpringDataHelpers;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import ru.projects.model.dto.grid.RowCountDto;
+
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Grid fetch callback that pages by keyset, and by offset for jumps of more than {@value #MAX_KEYSET_SKIP} rows.
+ *
+ * @author Artem Chernikov
+ * @version 1.0
+ * @since 17.10.2026
+ */
+public class KeysetFetchCallback<T> implements CallbackDataProvider.FetchCallback<T, Void> {
+
+    /**
+     * Most rows read and thrown away to continue from a remembered keyset, a longer jump is fetched by offset.
+     */
+    static final int MAX_KEYSET_SKIP = 500;
+
+    private final WindowFetcher<T> fetcher;
+    private final NavigableMap<Integer, ScrollPosition> positions = new TreeMap<>();
+    private Sort sort = Sort.unsorted();
+    private Supplier<RowCountDto> rowCount;
+    private RowCountDto pendingCount;
+
+    public KeysetFetchCallback(WindowFetcher<T> fetcher) {
+        this.fetcher = fetcher;
+        reset();
+    }
+
+    public KeysetFetchCallback<T> withRowCount(Supplier<RowCountDto> rowCount) {
+        this.rowCount = rowCount;
+        return this;
+    }
+
+    /**
+     * Sets this callback as the items of the grid, single item refreshes keep the remembered positions.
+     */
+    public GridLazyDataView<T> bind(Grid<T> grid) {
+        GridLazyDataView<T> dataView = grid.setItems(this);
+        if (rowCount != null) {
+            RowCountDto count = rowCount.get();
+            if (count.isExact()) {
+                pendingCount = count;
+                dataView.setItemCountCallback(query -> countRows());
+            } else {
+                dataView.setItemCountEstimate(Math.toIntExact(Math.max(1, count.getCount())));
+            }
+        }
+        grid.getDataProvider().addDataProviderListener(event -> {
+            if (!(event instanceof DataChangeEvent.DataRefreshEvent)) {
+                reset();
+            }
+        });
+        return dataView;
+    }
+
+    @Override
+    public Stream<T> fetch(Query<T, Void> query) {
+        Sort querySort = VaadinSpringDataHelpers.toSpringDataSort(query);
+        if (!querySort.equals(sort)) {
+            sort = querySort;
+            reset();
+        }
+        int offset = query.getOffset();
+        Map.Entry<Integer, ScrollPosition> start = positions.floorEntry(offset);
+        int skip = offset - start.getKey();
+        if (skip > MAX_KEYSET_SKIP) {
+            Window<T> window = fetcher.fetch(ScrollPosition.offset(offset - 1L), sort, Limit.of(query.getLimit()));
+            remember(offset, window);
+            return window.getContent().stream();
+        }
+        Window<T> window = fetcher.fetch(start.getValue(), sort, Limit.of(skip + query.getLimit()));
+        remember(start.getKey(), window);
+        return window.getContent().stream().skip(skip);
+    }
+
+    public void reset() {
+        positions.clear();
+        positions.put(0, ScrollPosition.keyset());
+    }
+
+    /**
+     * Remembers the position of the last row of a window that starts at the given row offset.
+     */
+    private void remember(int windowOffset, Window<T> window) {
+        if (!window.isEmpty()) {
+            positions.put(windowOffset + window.size(), window.positionAt(window.size() - 1));
+        }
+    }
+
+    /**
+     * The count taken when binding answers the first count request, later refreshes count again.
+     */
+    private int countRows() {
+        RowCountDto count = pendingCount != null ? pendingCount : rowCount.get();
+        pendingCount = null;
+        return Math.toIntExact(count.getCount());
+    }
+
+    @FunctionalInterface
+    public interface WindowFetcher<T> {
+        Window<T> fetch(ScrollPosition position, Sort sort, Limit limit);
+    }
+}
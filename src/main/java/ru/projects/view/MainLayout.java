@@ -4,24 +4,28 @@ import com.vaadin.flow.component.applayout.AppLayout;
 import com.vaadin.flow.component.applayout.DrawerToggle;
 import com.vaadin.flow.component.avatar.Avatar;
 import com.vaadin.flow.component.button.Button;
+import com.vaadin.flow.component.combobox.ComboBox;
 import com.vaadin.flow.component.contextmenu.MenuItem;
+import com.vaadin.flow.component.dialog.Dialog;
 import com.vaadin.flow.component.html.Anchor;
 import com.vaadin.flow.component.html.Div;
 import com.vaadin.flow.component.html.Footer;
 import com.vaadin.flow.component.html.H1;
 import com.vaadin.flow.component.html.Header;
+import com.vaadin.flow.component.html.Paragraph;
 import com.vaadin.flow.component.html.Span;
 import com.vaadin.flow.component.icon.Icon;
 import com.vaadin.flow.component.icon.SvgIcon;
+import com.vaadin.flow.component.icon.VaadinIcon;
 import com.vaadin.flow.component.menubar.MenuBar;
 import com.vaadin.flow.component.orderedlayout.Scroller;
 import com.vaadin.flow.component.sidenav.SideNav;
 import com.vaadin.flow.component.sidenav.SideNavItem;
 import com.vaadin.flow.component.upload.Upload;
 import com.vaadin.flow.component.upload.receivers.MemoryBuffer;
+import com.vaadin.flow.data.renderer.ComponentRenderer;
 import com.vaadin.flow.router.Layout;
 import com.vaadin.flow.router.PageTitle;
-import com.vaadin.flow.server.StreamResource;
 import com.vaadin.flow.server.VaadinSession;
 import com.vaadin.flow.server.auth.AnonymousAllowed;
 import com.vaadin.flow.server.menu.MenuConfiguration;
@@ -31,11 +35,13 @@ import ru.projects.exception.VaadinErrorHandler;
 import ru.projects.model.Photo;
 import ru.projects.model.User;
 import ru.projects.model.dto.photo.PhotoDto;
+import ru.projects.model.dto.search.SearchResultDto;
 import ru.projects.security.AuthenticatedUser;
 import ru.projects.service.PhotoService;
+import ru.projects.service.SearchService;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.time.ZoneOffset;
 import java.util.List;
 import java.util.Optional;
 
@@ -43,15 +49,23 @@ import java.util.Optional;
 @AnonymousAllowed
 public class MainLayout extends AppLayout {
 
+    private static final String AVATAR_URL_TEMPLATE = "/api/avatars/%d?size=%d&v=%d";
+    /**
+     * The xsmall avatar is 24 CSS pixels wide, doubled for high density screens.
+     */
+    private static final int AVATAR_SIZE = 48;
+
     private final PhotoService photoService;
+    private final SearchService searchService;
 
     private H1 viewTitle;
 
     private AuthenticatedUser authenticatedUser;
 
-    public MainLayout(AuthenticatedUser authenticatedUser, PhotoService photoService) {
+    public MainLayout(AuthenticatedUser authenticatedUser, PhotoService photoService, SearchService searchService) {
         this.authenticatedUser = authenticatedUser;
         this.photoService = photoService;
+        this.searchService = searchService;
         VaadinSession.getCurrent().setErrorHandler(new VaadinErrorHandler());
         setPrimarySection(Section.DRAWER);
         addDrawerContent();
@@ -66,6 +80,47 @@ public class MainLayout extends AppLayout {
         viewTitle.addClassNames(LumoUtility.FontSize.LARGE, LumoUtility.Margin.NONE);
 
         addToNavbar(true, toggle, viewTitle);
+        authenticatedUser.get().ifPresent(user -> addToNavbar(true, createSearchBox(user.getUsername())));
+    }
+
+    private ComboBox<SearchResultDto> createSearchBox(String username) {
+        ComboBox<SearchResultDto> searchBox = new ComboBox<>();
+        searchBox.setPlaceholder("Search tasks, bugs and projects");
+        searchBox.setPrefixComponent(VaadinIcon.SEARCH.create());
+        searchBox.setAriaLabel("Search");
+        searchBox.setWidth("24em");
+        searchBox.addClassNames(LumoUtility.Margin.Left.AUTO, LumoUtility.Margin.Right.MEDIUM);
+        searchBox.setPageSize(SearchService.MAX_PAGE_SIZE);
+        searchBox.setItems(query -> searchService
+                .search(query.getFilter().orElse(""), username, query.getPage(), query.getPageSize())
+                .getResults()
+                .stream());
+        searchBox.setItemLabelGenerator(result -> result.getType().getDisplayName() + ": " + result.getTitle());
+        searchBox.setRenderer(new ComponentRenderer<>(result -> {
+            Span title = new Span(result.getType().getDisplayName() + ": " + result.getTitle());
+            title.addClassName(LumoUtility.FontWeight.SEMIBOLD);
+            Span details = new Span(result.getProjectName() + " " + result.getSnippet());
+            details.addClassNames(LumoUtility.FontSize.XSMALL, LumoUtility.TextColor.SECONDARY);
+            return new Div(title, new Div(details));
+        }));
+        searchBox.addValueChangeListener(event -> {
+            if (event.getValue() != null) {
+                openSearchResultDialog(event.getValue());
+                searchBox.clear();
+            }
+        });
+        return searchBox;
+    }
+
+    private void openSearchResultDialog(SearchResultDto result) {
+        Dialog dialog = new Dialog();
+        dialog.setHeaderTitle(result.getType().getDisplayName() + ": " + result.getTitle());
+        dialog.add(new Paragraph("Project: " + result.getProjectName()));
+        if (!result.getSnippet().isEmpty()) {
+            dialog.add(new Paragraph(result.getSnippet()));
+        }
+        dialog.getFooter().add(new Button("Close", e -> dialog.close()));
+        dialog.open();
     }
 
     private void addDrawerContent() {
@@ -102,10 +157,9 @@ public class MainLayout extends AppLayout {
             Avatar avatar = new Avatar(user.getUsername());
             Photo photo = user.getPhoto();
             if (photo != null) {
-                PhotoDto photoDto = photoService.getPhotoById(photo.getPhotoId());
-                StreamResource resource = new StreamResource("profile-pic",
-                        () -> new ByteArrayInputStream(photoDto.getContent()));
-                avatar.setImageResource(resource);
+                long version = photo.getUploadedAt() == null
+                        ? 0 : photo.getUploadedAt().toEpochSecond(ZoneOffset.UTC);
+                avatar.setImage(String.format(AVATAR_URL_TEMPLATE, photo.getPhotoId(), AVATAR_SIZE, version));
                 avatar.setThemeName("xsmall");
                 avatar.getElement().setAttribute("tabindex", "-1");
             }
@@ -153,11 +207,12 @@ public class MainLayout extends AppLayout {
         upload.setAcceptedFileTypes("image/*");
         upload.setUploadButton(new Button("Download avatar"));
         upload.addSucceededListener(event -> {
-            String fileName = event.getFileName();
+            PhotoDto photoDto = PhotoDto.builder()
+                    .fileName(event.getFileName())
+                    .size(event.getContentLength())
+                    .content(buffer::getInputStream)
+                    .build();
             try {
-                byte[] fileBytes = buffer.getInputStream().readAllBytes();
-                PhotoDto photoDto = new PhotoDto(fileName, fileBytes);
-
                 photoService.savePhoto(photoDto, user);
             } catch (IOException e) {
                 throw new RuntimeException(e);
@@ -22,12 +22,12 @@ import com.vaadin.flow.router.Route;
 import com.vaadin.flow.theme.lumo.LumoUtility.Gap;
 import jakarta.annotation.security.RolesAllowed;
 import lombok.extern.slf4j.Slf4j;
-import ru.projects.model.Employee;
 import ru.projects.model.dto.bug.BugCreateDto;
 import ru.projects.model.dto.project.ProjectShortDto;
 import ru.projects.model.enums.Priority;
+import ru.projects.security.CurrentEmployee;
+import ru.projects.security.CurrentEmployeeContext;
 import ru.projects.service.BugService;
-import ru.projects.service.EmployeeService;
 import ru.projects.service.ProjectService;
 import ru.projects.view.MainLayout;
 
@@ -49,7 +49,7 @@ public class CreateBugView extends Composite<VerticalLayout> {
     private final BugService bugService;
     private final ProjectService projectService;
 
-    private Employee authenticatedEmployee;
+    private CurrentEmployee currentEmployee;
 
     private TextField name;
     private TextArea description;
@@ -62,10 +62,10 @@ public class CreateBugView extends Composite<VerticalLayout> {
     private BugCreateDto bugCreateDto;
 
     public CreateBugView(BugService bugService, ProjectService projectService,
-                         EmployeeService employeeService) {
+                         CurrentEmployeeContext currentEmployeeContext) {
         this.bugService = bugService;
         this.projectService = projectService;
-        authenticatedEmployee = employeeService.getCurrentEmployee();
+        currentEmployee = currentEmployeeContext.get();
 
         getContent().setWidth("100%");
         getContent().setHeight("100%");
@@ -158,7 +158,7 @@ public class CreateBugView extends Composite<VerticalLayout> {
 
     private void setProjectsToComboBox() {
         Set<ProjectShortDto> projectShortDtos = projectService
-                .getAllProjectShortDtoByEmployeeId(authenticatedEmployee.getEmployeeId());
+                .getAllProjectShortDtoByEmployeeId(currentEmployee.employeeId());
         project.setItems(projectShortDtos);
         project.setItemLabelGenerator(ProjectShortDto::getName);
     }
@@ -10,15 +10,14 @@ import com.vaadin.flow.component.splitlayout.SplitLayout;
 import com.vaadin.flow.router.Menu;
 import com.vaadin.flow.router.PageTitle;
 import com.vaadin.flow.router.Route;
-import com.vaadin.flow.spring.data.VaadinSpringDataHelpers;
 import jakarta.annotation.security.RolesAllowed;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.PageRequest;
-import ru.projects.model.Employee;
 import ru.projects.model.dto.bug.BugViewDto;
 import ru.projects.model.enums.Status;
+import ru.projects.security.CurrentEmployee;
+import ru.projects.security.CurrentEmployeeContext;
 import ru.projects.service.BugService;
-import ru.projects.service.EmployeeService;
+import ru.projects.view.KeysetFetchCallback;
 import ru.projects.view.MainLayout;
 
 @PageTitle("Bugs")
@@ -32,11 +31,11 @@ public class DeveloperBugsView extends Div  {
 
     private final BugService bugService;
 
-    private Employee authenticatedEmployee;
+    private CurrentEmployee currentEmployee;
 
-    public DeveloperBugsView(BugService bugService, EmployeeService employeeService) {
+    public DeveloperBugsView(BugService bugService, CurrentEmployeeContext currentEmployeeContext) {
         this.bugService = bugService;
-        authenticatedEmployee = employeeService.getCurrentEmployee();
+        currentEmployee = currentEmployeeContext.get();
         addClassNames("employee-bugs-view");
         createUI();
     }
@@ -82,10 +81,10 @@ public class DeveloperBugsView extends Div  {
 
     private void refreshGrid() {
         log.info("VIEW: Get all bugs by projects.");
-        grid.setItems(query -> bugService.getAllByProjects(
-                PageRequest.of(query.getPage(), query.getPageSize(), VaadinSpringDataHelpers.toSpringDataSort(query)),
-                authenticatedEmployee.getProjects()
-        ).stream());
+        new KeysetFetchCallback<BugViewDto>((position, sort, limit) -> bugService.getAllByProjects(
+                position, sort, limit, currentEmployee.projectIds()))
+                .withRowCount(() -> bugService.getRowCountByProjects(currentEmployee.projectIds()))
+                .bind(grid);
         grid.getDataProvider().refreshAll();
     }
 
@@ -1,20 +1,26 @@
 package ru.projects.view.bugs;
 
+import com.vaadin.flow.component.AttachEvent;
+import com.vaadin.flow.component.DetachEvent;
+import com.vaadin.flow.component.UI;
 import com.vaadin.flow.component.grid.Grid;
 import com.vaadin.flow.component.grid.GridVariant;
+import com.vaadin.flow.component.grid.dataview.GridLazyDataView;
 import com.vaadin.flow.component.html.Div;
 import com.vaadin.flow.component.splitlayout.SplitLayout;
 import com.vaadin.flow.router.Menu;
 import com.vaadin.flow.router.PageTitle;
 import com.vaadin.flow.router.Route;
-import com.vaadin.flow.spring.data.VaadinSpringDataHelpers;
+import com.vaadin.flow.shared.Registration;
 import jakarta.annotation.security.RolesAllowed;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.PageRequest;
-import ru.projects.model.Employee;
+import ru.projects.event.DomainEvent;
+import ru.projects.event.DomainEventBus;
 import ru.projects.model.dto.bug.BugViewDto;
+import ru.projects.security.CurrentEmployee;
+import ru.projects.security.CurrentEmployeeContext;
 import ru.projects.service.BugService;
-import ru.projects.service.EmployeeService;
+import ru.projects.view.KeysetFetchCallback;
 import ru.projects.view.MainLayout;
 
 @PageTitle("Bugs")
@@ -26,17 +32,53 @@ public class PMBugsView extends Div  {
 
     private final Grid<BugViewDto> grid = new Grid<>(BugViewDto.class, false);
 
+    private GridLazyDataView<BugViewDto> dataView;
+
     private final BugService bugService;
+    private final DomainEventBus domainEventBus;
+
+    private CurrentEmployee currentEmployee;
 
-    private Employee authenticatedEmployee;
+    private Registration eventBusRegistration;
 
-    public PMBugsView(BugService bugService, EmployeeService employeeService) {
+    public PMBugsView(BugService bugService, CurrentEmployeeContext currentEmployeeContext,
+                      DomainEventBus domainEventBus) {
         this.bugService = bugService;
-        authenticatedEmployee = employeeService.getCurrentEmployee();
+        this.domainEventBus = domainEventBus;
+        currentEmployee = currentEmployeeContext.get();
         addClassNames("employee-bugs-view");
         createUI();
     }
 
+    @Override
+    protected void onAttach(AttachEvent attachEvent) {
+        super.onAttach(attachEvent);
+        UI ui = attachEvent.getUI();
+        eventBusRegistration = domainEventBus.register(event -> ui.access(() -> onDomainEvent(event)));
+    }
+
+    @Override
+    protected void onDetach(DetachEvent detachEvent) {
+        eventBusRegistration.remove();
+        eventBusRegistration = null;
+        super.onDetach(detachEvent);
+    }
+
+    /**
+     * An updated bug re-renders only its row.
+     */
+    private void onDomainEvent(DomainEvent event) {
+        if (event.entityType() == DomainEvent.EntityType.TASK
+                || !currentEmployee.projectIds().contains(event.projectId())) {
+            return;
+        }
+        if (event.entityType() == DomainEvent.EntityType.BUG && event.changeType() == DomainEvent.ChangeType.UPDATED) {
+            bugService.getViewById(event.entityId()).ifPresent(dataView::refreshItem);
+        } else {
+            dataView.refreshAll();
+        }
+    }
+
     private void createUI() {
         SplitLayout splitLayout = new SplitLayout();
         createGridLayout(splitLayout);
@@ -60,11 +102,12 @@ public class PMBugsView extends Div  {
 
     private void refreshGrid() {
         log.info("VIEW: Get all bugs by projects.");
-        grid.setItems(query -> bugService.getAllByProjects(
-                PageRequest.of(query.getPage(), query.getPageSize(), VaadinSpringDataHelpers.toSpringDataSort(query)),
-                authenticatedEmployee.getProjects()
-        ).stream());
-        grid.getDataProvider().refreshAll();
+        dataView = new KeysetFetchCallback<BugViewDto>((position, sort, limit) -> bugService.getAllByProjects(
+                position, sort, limit, currentEmployee.projectIds()))
+                .withRowCount(() -> bugService.getRowCountByProjects(currentEmployee.projectIds()))
+                .bind(grid);
+        dataView.setIdentifierProvider(BugViewDto::getBugId);
+        dataView.refreshAll();
     }
 
     private void createGridLayout(SplitLayout splitLayout) {
@@ -22,17 +22,16 @@ import com.vaadin.flow.router.BeforeEnterObserver;
 import com.vaadin.flow.router.Menu;
 import com.vaadin.flow.router.PageTitle;
 import com.vaadin.flow.router.Route;
-import com.vaadin.flow.spring.data.VaadinSpringDataHelpers;
 import jakarta.annotation.security.RolesAllowed;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
-import ru.projects.model.Employee;
 import ru.projects.model.dto.bug.BugUpdateDto;
 import ru.projects.model.dto.bug.BugViewDto;
 import ru.projects.model.enums.Priority;
+import ru.projects.security.CurrentEmployee;
+import ru.projects.security.CurrentEmployeeContext;
 import ru.projects.service.BugService;
-import ru.projects.service.EmployeeService;
+import ru.projects.view.KeysetFetchCallback;
 import ru.projects.view.MainLayout;
 
 import java.util.List;
@@ -62,13 +61,13 @@ public class QABugsView extends Div implements BeforeEnterObserver {
 
     private BugUpdateDto bugUpdateDto;
 
-    private Employee authenticatedEmployee;
+    private CurrentEmployee currentEmployee;
 
     private final BugService bugService;
 
-    public QABugsView(BugService bugService, EmployeeService employeeService) {
+    public QABugsView(BugService bugService, CurrentEmployeeContext currentEmployeeContext) {
         this.bugService = bugService;
-        authenticatedEmployee = employeeService.getCurrentEmployee();
+        currentEmployee = currentEmployeeContext.get();
         addClassNames("tasks-view");
         createUI();
     }
@@ -192,10 +191,10 @@ public class QABugsView extends Div implements BeforeEnterObserver {
         grid.setDetailsVisibleOnClick(false);
         grid.setItemDetailsRenderer(BugDescriptionDetails.createBugDetailsRenderer());
 
-        grid.setItems(query -> bugService.getAllByProjects(
-                        PageRequest.of(query.getPage(), query.getPageSize(),
-                                VaadinSpringDataHelpers.toSpringDataSort(query)), authenticatedEmployee.getProjects())
-                .stream());
+        new KeysetFetchCallback<BugViewDto>((position, sort, limit) -> bugService.getAllByProjects(
+                position, sort, limit, currentEmployee.projectIds()))
+                .withRowCount(() -> bugService.getRowCountByProjects(currentEmployee.projectIds()))
+                .bind(grid);
         grid.addThemeVariants(GridVariant.LUMO_NO_BORDER);
 
         grid.asSingleSelect().addValueChangeListener(event -> {
@@ -10,14 +10,13 @@ import com.vaadin.flow.component.orderedlayout.VerticalLayout;
 import com.vaadin.flow.router.Menu;
 import com.vaadin.flow.router.PageTitle;
 import com.vaadin.flow.router.Route;
-import com.vaadin.flow.spring.data.VaadinSpringDataHelpers;
 import com.vaadin.flow.theme.lumo.LumoUtility;
 import jakarta.annotation.security.RolesAllowed;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.PageRequest;
 import ru.projects.model.dto.employee.EmployeeFullDto;
 import ru.projects.service.EmployeeService;
 import ru.projects.service.SpecializationService;
+import ru.projects.view.KeysetFetchCallback;
 import ru.projects.view.MainLayout;
 import ru.projects.view.employees.filter.EmployeeFilter;
 
@@ -56,17 +55,21 @@ public class AllEmployeesView extends Div {
         grid = new Grid<>(EmployeeFullDto.class, false);
         grid.addColumn("firstName").setAutoWidth(true);
         grid.addColumn("lastName").setAutoWidth(true);
-        grid.addColumn("patronymicName").setAutoWidth(true);
+        grid.addColumn("patronymicName").setAutoWidth(true).setSortable(false);
         grid.addColumn("email").setAutoWidth(true);
         grid.addColumn("phone").setAutoWidth(true);
         grid.addColumn("dateOfBirth").setAutoWidth(true);
         grid.addColumn("specialization").setAutoWidth(true);
-        grid.addColumn("projects").setAutoWidth(true);
+        grid.addColumn("projects").setAutoWidth(true).setSortable(false);
 
         log.info("VIEW: Get employees.");
-        grid.setItems(query -> employeeService.getAllByFilter(
-                PageRequest.of(query.getPage(), query.getPageSize(), VaadinSpringDataHelpers.toSpringDataSort(query)),
-                employeeFilter).stream());
+        new KeysetFetchCallback<EmployeeFullDto>((position, sort, limit) -> employeeFilter.isSearch()
+                ? employeeService.searchByFilter(position, limit, employeeFilter)
+                : employeeService.getAllByFilter(position, sort, limit, employeeFilter))
+                .withRowCount(() -> employeeFilter.isSearch()
+                        ? employeeService.getRowCountBySearch(employeeFilter)
+                        : employeeService.getRowCountByFilter(employeeFilter))
+                .bind(grid);
         grid.addThemeVariants(GridVariant.LUMO_NO_BORDER);
         grid.addClassNames(LumoUtility.Border.TOP, LumoUtility.BorderColor.CONTRAST_10);
 
@@ -24,14 +24,13 @@ import com.vaadin.flow.router.BeforeEnterObserver;
 import com.vaadin.flow.router.Menu;
 import com.vaadin.flow.router.PageTitle;
 import com.vaadin.flow.router.Route;
-import com.vaadin.flow.spring.data.VaadinSpringDataHelpers;
 import jakarta.annotation.security.RolesAllowed;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import ru.projects.model.dto.employee.EmployeeFullDto;
 import ru.projects.service.EmployeeService;
 import ru.projects.service.SpecializationService;
+import ru.projects.view.KeysetFetchCallback;
 import ru.projects.view.MainLayout;
 
 import java.time.LocalDate;
@@ -221,16 +220,16 @@ public class EditEmployeesView extends Div implements BeforeEnterObserver {
     private void configureGrid() {
         grid.addColumn("firstName").setAutoWidth(true);
         grid.addColumn("lastName").setAutoWidth(true);
-        grid.addColumn("patronymicName").setAutoWidth(true);
+        grid.addColumn("patronymicName").setAutoWidth(true).setSortable(false);
         grid.addColumn("dateOfBirth").setAutoWidth(true);
         grid.addColumn("phone").setAutoWidth(true);
         grid.addColumn("email").setAutoWidth(true);
         grid.addColumn("username").setAutoWidth(true);
         grid.addColumn("specialization").setAutoWidth(true);
-        grid.addColumn("projects").setAutoWidth(true);
-        grid.setItems(query -> employeeService.getAll(
-                        PageRequest.of(query.getPage(), query.getPageSize(), VaadinSpringDataHelpers.toSpringDataSort(query)))
-                .stream());
+        grid.addColumn("projects").setAutoWidth(true).setSortable(false);
+        new KeysetFetchCallback<EmployeeFullDto>(employeeService::getAll)
+                .withRowCount(employeeService::getRowCount)
+                .bind(grid);
         grid.addThemeVariants(GridVariant.LUMO_NO_BORDER);
 
         grid.asSingleSelect().addValueChangeListener(event -> {
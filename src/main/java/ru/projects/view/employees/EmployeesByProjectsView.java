@@ -10,14 +10,14 @@ import com.vaadin.flow.component.orderedlayout.VerticalLayout;
 import com.vaadin.flow.router.Menu;
 import com.vaadin.flow.router.PageTitle;
 import com.vaadin.flow.router.Route;
-import com.vaadin.flow.spring.data.VaadinSpringDataHelpers;
 import com.vaadin.flow.theme.lumo.LumoUtility;
 import jakarta.annotation.security.RolesAllowed;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.PageRequest;
 import ru.projects.model.dto.employee.EmployeeFullDto;
+import ru.projects.security.CurrentEmployeeContext;
 import ru.projects.service.EmployeeService;
 import ru.projects.service.SpecializationService;
+import ru.projects.view.KeysetFetchCallback;
 import ru.projects.view.MainLayout;
 import ru.projects.view.employees.filter.EmployeeByProjectsFilter;
 
@@ -39,12 +39,14 @@ public class EmployeesByProjectsView extends Div {
     private EmployeeByProjectsFilter employeeFilter;
     private final EmployeeService employeeService;
 
-    public EmployeesByProjectsView(EmployeeService employeeService, SpecializationService specializationService) {
+    public EmployeesByProjectsView(EmployeeService employeeService, SpecializationService specializationService,
+                                   CurrentEmployeeContext currentEmployeeContext) {
         this.employeeService = employeeService;
         setSizeFull();
         addClassNames("employees-view");
 
-        this.employeeFilter = new EmployeeByProjectsFilter(specializationService, employeeService, this::refreshGrid);
+        this.employeeFilter = new EmployeeByProjectsFilter(specializationService,
+                currentEmployeeContext.get().projectIds(), this::refreshGrid);
         VerticalLayout layout = new VerticalLayout(employeeFilter, createGrid());
         layout.setSizeFull();
         layout.setPadding(false);
@@ -56,17 +58,21 @@ public class EmployeesByProjectsView extends Div {
         grid = new Grid<>(EmployeeFullDto.class, false);
         grid.addColumn("firstName").setAutoWidth(true);
         grid.addColumn("lastName").setAutoWidth(true);
-        grid.addColumn("patronymicName").setAutoWidth(true);
+        grid.addColumn("patronymicName").setAutoWidth(true).setSortable(false);
         grid.addColumn("email").setAutoWidth(true);
         grid.addColumn("phone").setAutoWidth(true);
         grid.addColumn("dateOfBirth").setAutoWidth(true);
         grid.addColumn("specialization").setAutoWidth(true);
-        grid.addColumn("projects").setAutoWidth(true);
+        grid.addColumn("projects").setAutoWidth(true).setSortable(false);
 
         log.info("VIEW: get employees by projects");
-        grid.setItems(query -> employeeService.getAllByFilter(
-                PageRequest.of(query.getPage(), query.getPageSize(), VaadinSpringDataHelpers.toSpringDataSort(query)),
-                employeeFilter).stream());
+        new KeysetFetchCallback<EmployeeFullDto>((position, sort, limit) -> employeeFilter.isSearch()
+                ? employeeService.searchByFilter(position, limit, employeeFilter)
+                : employeeService.getAllByFilter(position, sort, limit, employeeFilter))
+                .withRowCount(() -> employeeFilter.isSearch()
+                        ? employeeService.getRowCountBySearch(employeeFilter)
+                        : employeeService.getRowCountByFilter(employeeFilter))
+                .bind(grid);
         grid.addThemeVariants(GridVariant.LUMO_NO_BORDER);
         grid.addClassNames(LumoUtility.Border.TOP, LumoUtility.BorderColor.CONTRAST_10);
 
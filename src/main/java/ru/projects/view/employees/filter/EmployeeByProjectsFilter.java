@@ -10,50 +10,52 @@ import com.vaadin.flow.component.html.Div;
 import com.vaadin.flow.component.orderedlayout.FlexComponent;
 import com.vaadin.flow.component.orderedlayout.FlexLayout;
 import com.vaadin.flow.component.textfield.TextField;
+import com.vaadin.flow.data.value.ValueChangeMode;
 import com.vaadin.flow.theme.lumo.LumoUtility;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
 import org.springframework.data.jpa.domain.Specification;
 import ru.projects.model.Employee;
 import ru.projects.model.Project;
 import ru.projects.model.Specialization;
-import ru.projects.service.EmployeeService;
 import ru.projects.service.SpecializationService;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 public class EmployeeByProjectsFilter extends Div implements Specification<Employee> {
 
-    private Employee authenticatedEmployee;
+    private static final int SEARCH_TIMEOUT_MILLIS = 300;
 
-    private final TextField name = new TextField("Name");
-    private final TextField phone = new TextField("Phone");
+    private final TextField search = new TextField("Search");
     private final DatePicker startDate = new DatePicker("Date of birth");
     private final DatePicker endDate = new DatePicker();
     private final MultiSelectComboBox<String> specializations = new MultiSelectComboBox<>("Specialization");
-    private final List<Long> projectIds;
+    private final Set<Long> projectIds;
 
-    public EmployeeByProjectsFilter(SpecializationService specializationService, EmployeeService employeeService,
+    public EmployeeByProjectsFilter(SpecializationService specializationService, Set<Long> projectIds,
                                     Runnable onSearch) {
-        authenticatedEmployee = employeeService.getCurrentEmployee();
-        projectIds = authenticatedEmployee.getProjects().stream()
-                .map(Project::getProjectId)
-                .toList();
+        this.projectIds = projectIds;
         setWidthFull();
         addClassName("filter-layout");
         addClassNames(LumoUtility.Padding.Horizontal.LARGE, LumoUtility.Padding.Vertical.MEDIUM,
                 LumoUtility.BoxSizing.BORDER);
 
-        configureFilters(specializationService);
+        configureFilters(specializationService, onSearch);
         addComponents(onSearch);
     }
 
-    private void configureFilters(SpecializationService specializationService) {
-        name.setPlaceholder("First or last name");
+    private void configureFilters(SpecializationService specializationService, Runnable onSearch) {
+        search.setPlaceholder("Name or phone");
+        search.setClearButtonVisible(true);
+        search.setValueChangeMode(ValueChangeMode.LAZY);
+        search.setValueChangeTimeout(SEARCH_TIMEOUT_MILLIS);
+        search.addValueChangeListener(e -> onSearch.run());
         List<String> allSpecializationsNames = specializationService.getAllSpecializationsNames();
         this.specializations.setItems(allSpecializationsNames);
     }
@@ -69,7 +71,7 @@ public class EmployeeByProjectsFilter extends Div implements Specification<Emplo
         actions.addClassName(LumoUtility.Gap.SMALL);
         actions.addClassName("actions");
 
-        add(name, phone, createDateRangeFilter(), specializations, actions);
+        add(search, createDateRangeFilter(), specializations, actions);
     }
 
     private Component createDateRangeFilter() {
@@ -84,28 +86,26 @@ public class EmployeeByProjectsFilter extends Div implements Specification<Emplo
     }
 
     private void resetFilters(Runnable onSearch) {
-        name.clear();
-        phone.clear();
+        search.clear();
         startDate.clear();
         endDate.clear();
         specializations.clear();
         onSearch.run();
     }
 
+    /**
+     * Whether a search term is entered, the employees are then ranked by similarity instead of the grid sort.
+     */
+    public boolean isSearch() {
+        return !search.getValue().isBlank();
+    }
+
     @Override
     public Predicate toPredicate(Root<Employee> root, CriteriaQuery<?> query, CriteriaBuilder criteriaBuilder) {
         List<Predicate> predicates = new ArrayList<>();
 
-        if (!name.isEmpty()) {
-            String lowerCaseFilter = name.getValue().toLowerCase();
-            predicates.add(criteriaBuilder.or(
-                    criteriaBuilder.like(criteriaBuilder.lower(root.get("firstName")), lowerCaseFilter + "%"),
-                    criteriaBuilder.like(criteriaBuilder.lower(root.get("lastName")), lowerCaseFilter + "%")
-            ));
-        }
-        if (!phone.isEmpty()) {
-            predicates.add(criteriaBuilder.like(criteriaBuilder.lower(root.get("phone")),
-                    "%" + phone.getValue().toLowerCase() + "%"));
+        if (isSearch()) {
+            predicates.add(new EmployeeSearch(search.getValue()).toPredicate(root, query, criteriaBuilder));
         }
         if (startDate.getValue() != null) {
             predicates.add(criteriaBuilder.greaterThanOrEqualTo(root.get("dateOfBirth"), startDate.getValue()));
@@ -124,9 +124,19 @@ public class EmployeeByProjectsFilter extends Div implements Specification<Emplo
             }
             predicates.add(criteriaBuilder.or(specializationPredicates.toArray(Predicate[]::new)));
         }
-        Join<Employee, Project> projectJoin = root.join("projects");
-        predicates.add(projectJoin.get("projectId").in(projectIds));
+        predicates.add(root.get("employeeId").in(createProjectEmployeesSubquery(query)));
 
         return criteriaBuilder.and(predicates.toArray(Predicate[]::new));
     }
-}
\ No newline at end of file
+
+    /**
+     * A subquery rather than a join, so an employee on several of the projects is still one row.
+     */
+    private Subquery<Long> createProjectEmployeesSubquery(CriteriaQuery<?> query) {
+        Subquery<Long> subquery = query.subquery(Long.class);
+        Root<Project> project = subquery.from(Project.class);
+        Join<Project, Employee> employee = project.join("employees");
+        return subquery.select(employee.get("employeeId"))
+                .where(project.get("projectId").in(projectIds));
+    }
+}
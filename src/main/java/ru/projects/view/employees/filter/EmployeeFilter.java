@@ -10,6 +10,7 @@ import com.vaadin.flow.component.html.Div;
 import com.vaadin.flow.component.orderedlayout.FlexComponent;
 import com.vaadin.flow.component.orderedlayout.FlexLayout;
 import com.vaadin.flow.component.textfield.TextField;
+import com.vaadin.flow.data.value.ValueChangeMode;
 import com.vaadin.flow.theme.lumo.LumoUtility;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
@@ -26,8 +27,9 @@ import java.util.List;
 
 public class EmployeeFilter extends Div implements Specification<Employee> {
 
-    private final TextField name = new TextField("Name");
-    private final TextField phone = new TextField("Phone");
+    private static final int SEARCH_TIMEOUT_MILLIS = 300;
+
+    private final TextField search = new TextField("Search");
     private final DatePicker startDate = new DatePicker("Date of birth");
     private final DatePicker endDate = new DatePicker();
     private final MultiSelectComboBox<String> specializations = new MultiSelectComboBox<>("Specialization");
@@ -38,12 +40,16 @@ public class EmployeeFilter extends Div implements Specification<Employee> {
         addClassNames(LumoUtility.Padding.Horizontal.LARGE, LumoUtility.Padding.Vertical.MEDIUM,
                 LumoUtility.BoxSizing.BORDER);
 
-        configureFilters(specializationService);
+        configureFilters(specializationService, onSearch);
         addComponents(onSearch);
     }
 
-    private void configureFilters(SpecializationService specializationService) {
-        name.setPlaceholder("First or last name");
+    private void configureFilters(SpecializationService specializationService, Runnable onSearch) {
+        search.setPlaceholder("Name or phone");
+        search.setClearButtonVisible(true);
+        search.setValueChangeMode(ValueChangeMode.LAZY);
+        search.setValueChangeTimeout(SEARCH_TIMEOUT_MILLIS);
+        search.addValueChangeListener(e -> onSearch.run());
         List<String> allSpecializationsNames = specializationService.getAllSpecializationsNames();
         this.specializations.setItems(allSpecializationsNames);
     }
@@ -59,7 +65,7 @@ public class EmployeeFilter extends Div implements Specification<Employee> {
         actions.addClassName(LumoUtility.Gap.SMALL);
         actions.addClassName("actions");
 
-        add(name, phone, createDateRangeFilter(), specializations, actions);
+        add(search, createDateRangeFilter(), specializations, actions);
     }
 
     private Component createDateRangeFilter() {
@@ -74,28 +80,26 @@ public class EmployeeFilter extends Div implements Specification<Employee> {
     }
 
     private void resetFilters(Runnable onSearch) {
-        name.clear();
-        phone.clear();
+        search.clear();
         startDate.clear();
         endDate.clear();
         specializations.clear();
         onSearch.run();
     }
 
+    /**
+     * Whether a search term is entered, the employees are then ranked by similarity instead of the grid sort.
+     */
+    public boolean isSearch() {
+        return !search.getValue().isBlank();
+    }
+
     @Override
     public Predicate toPredicate(Root<Employee> root, CriteriaQuery<?> query, CriteriaBuilder criteriaBuilder) {
         List<Predicate> predicates = new ArrayList<>();
 
-        if (!name.isEmpty()) {
-            String lowerCaseFilter = name.getValue().toLowerCase();
-            predicates.add(criteriaBuilder.or(
-                    criteriaBuilder.like(criteriaBuilder.lower(root.get("firstName")), lowerCaseFilter + "%"),
-                    criteriaBuilder.like(criteriaBuilder.lower(root.get("lastName")), lowerCaseFilter + "%")
-            ));
-        }
-        if (!phone.isEmpty()) {
-            predicates.add(criteriaBuilder.like(criteriaBuilder.lower(root.get("phone")),
-                    "%" + phone.getValue().toLowerCase() + "%"));
+        if (isSearch()) {
+            predicates.add(new EmployeeSearch(search.getValue()).toPredicate(root, query, criteriaBuilder));
         }
         if (startDate.getValue() != null) {
             predicates.add(criteriaBuilder.greaterThanOrEqualTo(root.get("dateOfBirth"), startDate.getValue()));
@@ -0,0 +1,69 @@
+package ru.projects.view.employees.filter;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+import ru.projects.model.Employee;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static ru.projects.repository.TrigramFunctionContributor.TRIGRAM_SIMILAR;
+
+/**
+ * Search of employees by phone digits or by similar first and last names, served by trigram indexes.
+ *
+ * @author Artem Chernikov
+ * @version 1.0
+ * @since 17.10.2026
+ */
+public class EmployeeSearch implements Specification<Employee> {
+
+    private static final Pattern PHONE_TERM = Pattern.compile("[+\\d][\\d\\s()-]*");
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("\\s+");
+    private static final char LIKE_ESCAPE = '\\';
+
+    private final String term;
+
+    public EmployeeSearch(String term) {
+        this.term = term.trim().toLowerCase();
+    }
+
+    @Override
+    public Predicate toPredicate(Root<Employee> root, CriteriaQuery<?> query, CriteriaBuilder criteriaBuilder) {
+        if (PHONE_TERM.matcher(term).matches()) {
+            return criteriaBuilder.like(root.get("phone"), toContainsPattern(term), LIKE_ESCAPE);
+        }
+        Expression<String> firstName = criteriaBuilder.lower(root.get("firstName"));
+        Expression<String> lastName = criteriaBuilder.lower(root.get("lastName"));
+        List<Predicate> predicates = new ArrayList<>();
+        Expression<Double> rank = criteriaBuilder.literal(0.0);
+        for (String word : WORD_SEPARATOR.split(term)) {
+            predicates.add(criteriaBuilder.or(
+                    criteriaBuilder.like(firstName, toContainsPattern(word), LIKE_ESCAPE),
+                    criteriaBuilder.like(lastName, toContainsPattern(word), LIKE_ESCAPE),
+                    criteriaBuilder.isTrue(criteriaBuilder.function(TRIGRAM_SIMILAR, Boolean.class, firstName,
+                            criteriaBuilder.literal(word))),
+                    criteriaBuilder.isTrue(criteriaBuilder.function(TRIGRAM_SIMILAR, Boolean.class, lastName,
+                            criteriaBuilder.literal(word)))));
+            rank = criteriaBuilder.sum(rank, criteriaBuilder.function("greatest", Double.class,
+                    similarity(criteriaBuilder, firstName, word), similarity(criteriaBuilder, lastName, word)));
+        }
+        if (!Long.class.equals(query.getResultType())) {
+            query.orderBy(criteriaBuilder.desc(rank), criteriaBuilder.asc(root.get("employeeId")));
+        }
+        return criteriaBuilder.and(predicates.toArray(Predicate[]::new));
+    }
+
+    private Expression<Double> similarity(CriteriaBuilder criteriaBuilder, Expression<String> name, String word) {
+        return criteriaBuilder.function("similarity", Double.class, name, criteriaBuilder.literal(word));
+    }
+
+    private String toContainsPattern(String value) {
+        return "%" + value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+    }
+}
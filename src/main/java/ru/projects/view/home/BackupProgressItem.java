@@ -0,0 +1,54 @@
+package ru.projects.view.home;
+
+import com.vaadin.flow.component.html.Span;
+import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
+import com.vaadin.flow.component.progressbar.ProgressBar;
+import lombok.Getter;
+import org.apache.commons.io.FileUtils;
+import ru.projects.model.dto.backup.BackupProgressDto;
+import ru.projects.model.enums.BackupStatus;
+
+/**
+ * Progress row of a running database backup or restore on the home page.
+ *
+ * @author Artem Chernikov
+ * @version 1.0
+ * @since 17.10.2026
+ */
+public class BackupProgressItem extends HorizontalLayout {
+
+    @Getter
+    private boolean done;
+
+    private final Span label = new Span();
+    private final ProgressBar progressBar = new ProgressBar();
+
+    public BackupProgressItem() {
+        progressBar.setWidth("200px");
+        progressBar.setIndeterminate(true);
+        label.setText("Starting...");
+
+        setAlignItems(Alignment.CENTER);
+        add(label, progressBar);
+    }
+
+    public void update(BackupProgressDto progress) {
+        String phase = progress.getPhase() == null ? "" : " " + progress.getPhase();
+        label.setText(String.format("%s %s:%s %s (%d / %d tables, %s/s)", progress.getOperation(),
+                progress.getBackupName(), phase, progress.getStatus(), progress.getTablesDone(),
+                progress.getTablesTotal(), FileUtils.byteCountToDisplaySize(progress.getBytesPerSecond())));
+
+        if (BackupStatus.FINISHED.getDisplayName().equals(progress.getStatus())) {
+            done = true;
+            progressBar.setVisible(false);
+        } else if (BackupStatus.FAILED.getDisplayName().equals(progress.getStatus())) {
+            done = true;
+            progressBar.setVisible(false);
+            label.setText(String.format("%s %s: %s (%s)", progress.getOperation(), progress.getBackupName(),
+                    progress.getStatus(), progress.getError()));
+        } else if (progress.getTablesTotal() > 0) {
+            progressBar.setIndeterminate(false);
+            progressBar.setValue(Math.min(1.0, (double) progress.getTablesDone() / progress.getTablesTotal()));
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package ru.projects.view.home;
 
+import com.vaadin.flow.component.AttachEvent;
+import com.vaadin.flow.component.DetachEvent;
 import com.vaadin.flow.component.UI;
 import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.html.H2;
@@ -11,16 +13,24 @@ import com.vaadin.flow.component.orderedlayout.VerticalLayout;
 import com.vaadin.flow.router.Menu;
 import com.vaadin.flow.router.PageTitle;
 import com.vaadin.flow.router.Route;
+import com.vaadin.flow.shared.Registration;
 import com.vaadin.flow.theme.lumo.LumoUtility.Margin;
 import jakarta.annotation.security.RolesAllowed;
 import org.springframework.security.core.context.SecurityContextHolder;
-import ru.projects.model.Employee;
-import ru.projects.model.Project;
+import ru.projects.model.dto.report.ReportJobDto;
+import ru.projects.model.enums.ReportType;
+import ru.projects.security.CurrentEmployee;
+import ru.projects.security.CurrentEmployeeContext;
 import ru.projects.service.BackupService;
-import ru.projects.service.EmployeeService;
+import ru.projects.service.ReportJobService;
 
 import java.io.IOException;
-import java.util.stream.Collectors;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * @author Artem Chernikov
@@ -33,12 +43,22 @@ import java.util.stream.Collectors;
 @RolesAllowed(value = {"ROLE_ADMIN", "ROLE_USER", "ROLE_PM", "ROLE_DEV", "ROLE_TEST"})
 public class HomeView extends VerticalLayout {
 
+    private static final int PROGRESS_POLL_INTERVAL = 1000;
+
     private final BackupService backupService;
+    private final ReportJobService reportJobService;
+
+    private final VerticalLayout reportJobsLayout = new VerticalLayout();
+    private final Map<UUID, ReportJobItem> reportJobItems = new LinkedHashMap<>();
+    private Registration pollRegistration;
+    private BackupProgressItem backupProgressItem;
 
-    private Employee authenticatedEmployee;
+    private CurrentEmployee currentEmployee;
 
-    public HomeView(BackupService backupService, EmployeeService employeeService) {
+    public HomeView(BackupService backupService, CurrentEmployeeContext currentEmployeeContext,
+                    ReportJobService reportJobService) {
         this.backupService = backupService;
+        this.reportJobService = reportJobService;
         setSpacing(false);
 
         Image img = new Image("images/empty-plant.png", "placeholder plant");
@@ -54,28 +74,28 @@ public class HomeView extends VerticalLayout {
             Button backupDatabaseButton = createButton("Create backup database", this::createBackupDatabase);
             Button restoreDatabaseButton = createButton("Restore database", this::restoreDatabase);
             Button downloadButton = createButton("Download tasks report",
-                    () -> UI.getCurrent().getPage().open("/api/report/all-tasks"));
+                    () -> submitReportJob(ReportType.ALL_TASKS, List.of()));
 
             add(backupDatabaseButton, restoreDatabaseButton, downloadButton);
         }
         if (isUserInRole("ROLE_PM")) {
-            authenticatedEmployee = employeeService.getCurrentEmployee();
-            String projectIds = authenticatedEmployee.getProjects().stream()
-                    .map(Project::getProjectId)
-                    .map(String::valueOf)
-                    .collect(Collectors.joining(","));
+            currentEmployee = currentEmployeeContext.get();
+            List<Long> projectIds = List.copyOf(currentEmployee.projectIds());
 
             Button tasksReportButton = createButton("Download tasks report",
-                    () -> UI.getCurrent().getPage().open("/api/report/all-tasks-by-projects?projectIds=" + projectIds));
+                    () -> submitReportJob(ReportType.TASKS_BY_PROJECTS, projectIds));
             Button activeTasksReportButton = createButton("Download active tasks report",
-                    () -> UI.getCurrent().getPage().open("/api/report/active-tasks-by-projects?projectIds=" + projectIds));
+                    () -> submitReportJob(ReportType.ACTIVE_TASKS_BY_PROJECTS, projectIds));
             Button finishedTasksReportButton = createButton("Download finished tasks report",
-                    () -> UI.getCurrent().getPage().open("/api/report/finished-tasks-by-projects?projectIds=" + projectIds));
+                    () -> submitReportJob(ReportType.FINISHED_TASKS_BY_PROJECTS, projectIds));
             Button bugsReportButton = createButton("Download bugs report",
-                    () -> UI.getCurrent().getPage().open("/api/report/bugs-by-projects?projectIds=" + projectIds));
+                    () -> submitReportJob(ReportType.BUGS_BY_PROJECTS, projectIds));
 
             add(tasksReportButton, activeTasksReportButton, finishedTasksReportButton, bugsReportButton);
         }
+        reportJobsLayout.setPadding(false);
+        reportJobsLayout.setDefaultHorizontalComponentAlignment(Alignment.CENTER);
+        add(reportJobsLayout);
 
         setSizeFull();
         setJustifyContentMode(JustifyContentMode.CENTER);
@@ -83,6 +103,54 @@ public class HomeView extends VerticalLayout {
         getStyle().set("text-align", "center");
     }
 
+    @Override
+    protected void onAttach(AttachEvent attachEvent) {
+        super.onAttach(attachEvent);
+        pollRegistration = attachEvent.getUI().addPollListener(event -> refreshProgress());
+    }
+
+    @Override
+    protected void onDetach(DetachEvent detachEvent) {
+        super.onDetach(detachEvent);
+        pollRegistration.remove();
+        detachEvent.getUI().setPollInterval(-1);
+    }
+
+    private void submitReportJob(ReportType reportType, List<Long> projectIds) {
+        try {
+            ReportJobDto job = reportJobService.submit(reportType, projectIds, getUsername());
+            ReportJobItem item = new ReportJobItem(job);
+            reportJobItems.put(job.getJobId(), item);
+            reportJobsLayout.add(item);
+            UI.getCurrent().setPollInterval(PROGRESS_POLL_INTERVAL);
+        } catch (RejectedExecutionException e) {
+            Notification.show(e.getMessage(), 3000, Notification.Position.TOP_CENTER)
+                    .addThemeVariants(NotificationVariant.LUMO_ERROR);
+        }
+    }
+
+    private void refreshProgress() {
+        if (backupProgressItem != null && !backupProgressItem.isDone()) {
+            backupService.getProgress().ifPresent(backupProgressItem::update);
+        }
+        reportJobItems.values().removeIf(item -> {
+            if (item.isDone()) {
+                return false;
+            }
+            Optional<ReportJobDto> job = reportJobService.getJob(item.getJobId(), getUsername());
+            job.ifPresentOrElse(item::update, () -> reportJobsLayout.remove(item));
+            return job.isEmpty();
+        });
+        if (reportJobItems.values().stream().allMatch(ReportJobItem::isDone)
+                && (backupProgressItem == null || backupProgressItem.isDone())) {
+            UI.getCurrent().setPollInterval(-1);
+        }
+    }
+
+    private String getUsername() {
+        return SecurityContextHolder.getContext().getAuthentication().getName();
+    }
+
     private Button createButton(String label, Runnable action) {
         Button button = new Button(label);
         button.addClickListener(event -> action.run());
@@ -96,9 +164,13 @@ public class HomeView extends VerticalLayout {
 
     private void restoreDatabase() {
         try {
-            backupService.restoreBackup();
-            Notification.show("Database restored successfully!", 3000, Notification.Position.TOP_CENTER)
-                    .addThemeVariants(NotificationVariant.LUMO_SUCCESS);
+            backupService.startRestore();
+            if (backupProgressItem != null) {
+                reportJobsLayout.remove(backupProgressItem);
+            }
+            backupProgressItem = new BackupProgressItem();
+            reportJobsLayout.addComponentAsFirst(backupProgressItem);
+            UI.getCurrent().setPollInterval(PROGRESS_POLL_INTERVAL);
         } catch (IOException e) {
             Notification.show("Error during database restore: " + e.getMessage(), 3000,
                     Notification.Position.TOP_CENTER).addThemeVariants(NotificationVariant.LUMO_ERROR);
@@ -0,0 +1,67 @@
+package ru.projects.view.home;
+
+import com.vaadin.flow.component.html.Anchor;
+import com.vaadin.flow.component.html.Span;
+import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
+import com.vaadin.flow.component.progressbar.ProgressBar;
+import lombok.Getter;
+import ru.projects.model.dto.report.ReportJobDto;
+import ru.projects.model.enums.ReportJobStatus;
+
+import java.util.UUID;
+
+/**
+ * Progress row of a background report job on the home page; turns into a download link once the file is ready.
+ *
+ * @author Artem Chernikov
+ * @version 1.0
+ * @since 17.10.2026
+ */
+public class ReportJobItem extends HorizontalLayout {
+
+    private static final String DOWNLOAD_URL_TEMPLATE = "/api/report/jobs/%s/file";
+
+    @Getter
+    private final UUID jobId;
+
+    @Getter
+    private boolean done;
+
+    private final Span label = new Span();
+    private final ProgressBar progressBar = new ProgressBar();
+    private final Anchor downloadLink = new Anchor();
+
+    public ReportJobItem(ReportJobDto job) {
+        this.jobId = job.getJobId();
+        progressBar.setWidth("200px");
+        downloadLink.setHref(String.format(DOWNLOAD_URL_TEMPLATE, jobId));
+        downloadLink.setText("Download");
+        downloadLink.setRouterIgnore(true);
+        downloadLink.getElement().setAttribute("download", true);
+        downloadLink.setVisible(false);
+
+        setAlignItems(Alignment.CENTER);
+        add(label, progressBar, downloadLink);
+        update(job);
+    }
+
+    public void update(ReportJobDto job) {
+        label.setText(String.format("%s: %s (%d / %d rows)", job.getFileName(), job.getStatus(),
+                job.getRowsWritten(), job.getTotalRows()));
+
+        if (ReportJobStatus.FINISHED.getDisplayName().equals(job.getStatus())) {
+            done = true;
+            progressBar.setVisible(false);
+            downloadLink.setVisible(true);
+        } else if (ReportJobStatus.FAILED.getDisplayName().equals(job.getStatus())) {
+            done = true;
+            progressBar.setVisible(false);
+            label.setText(String.format("%s: %s (%s)", job.getFileName(), job.getStatus(), job.getError()));
+        } else if (job.getTotalRows() > 0) {
+            progressBar.setIndeterminate(false);
+            progressBar.setValue(Math.min(1.0, (double) job.getRowsWritten() / job.getTotalRows()));
+        } else {
+            progressBar.setIndeterminate(true);
+        }
+    }
+}
@@ -11,18 +11,21 @@ import com.vaadin.flow.server.VaadinService;
 import com.vaadin.flow.server.auth.AnonymousAllowed;
 import ru.projects.security.AuthenticatedUser;
 
+import java.util.List;
+import java.util.Map;
+
 @AnonymousAllowed
 @PageTitle("Login")
 @Route(value = "login")
 public class LoginView extends LoginOverlay implements BeforeEnterObserver {
 
     private final AuthenticatedUser authenticatedUser;
+    private final LoginI18n i18n = LoginI18n.createDefault();
 
     public LoginView(AuthenticatedUser authenticatedUser) {
         this.authenticatedUser = authenticatedUser;
         setAction(RouteUtil.getRoutePath(VaadinService.getCurrent().getContext(), getClass()));
 
-        LoginI18n i18n = LoginI18n.createDefault();
         i18n.setHeader(new LoginI18n.Header());
         i18n.getHeader().setTitle("Projects info");
         i18n.setAdditionalInformation(null);
@@ -39,6 +42,12 @@ public class LoginView extends LoginOverlay implements BeforeEnterObserver {
             event.forwardTo("");
         }
 
-        setError(event.getLocation().getQueryParameters().getParameters().containsKey("error"));
+        Map<String, List<String>> parameters = event.getLocation().getQueryParameters().getParameters();
+        if (parameters.containsKey("throttled")) {
+            i18n.getErrorMessage().setTitle("Too many sign in attempts");
+            i18n.getErrorMessage().setMessage("Sign in is paused after repeated failures, try again in a few minutes.");
+            setI18n(i18n);
+        }
+        setError(parameters.containsKey("error"));
     }
 }
@@ -23,16 +23,15 @@ import com.vaadin.flow.router.BeforeEnterObserver;
 import com.vaadin.flow.router.Menu;
 import com.vaadin.flow.router.PageTitle;
 import com.vaadin.flow.router.Route;
-import com.vaadin.flow.spring.data.VaadinSpringDataHelpers;
 import jakarta.annotation.security.RolesAllowed;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import ru.projects.model.dto.employee.EmployeeShortDto;
 import ru.projects.model.dto.project.ProjectFullDto;
 import ru.projects.model.enums.Status;
 import ru.projects.service.EmployeeService;
 import ru.projects.service.ProjectService;
+import ru.projects.view.KeysetFetchCallback;
 import ru.projects.view.MainLayout;
 
 import java.time.LocalDate;
@@ -166,16 +165,16 @@ public class EditAllProjectsView extends Div implements BeforeEnterObserver {
     private void configureGrid() {
         grid.addColumn("name").setAutoWidth(true);
         grid.addColumn("startDate").setAutoWidth(true);
-        grid.addColumn("endDate").setAutoWidth(true);
+        grid.addColumn("endDate").setAutoWidth(true).setSortable(false);
         grid.addColumn("status").setAutoWidth(true);
 
         grid.addColumn(ProjectEmployeeDetails.createToggleDetailsRenderer(grid));
         grid.setDetailsVisibleOnClick(false);
         grid.setItemDetailsRenderer(ProjectEmployeeDetails.createProjectDetailsRenderer());
 
-        grid.setItems(query -> projectService.getAll(
-                        PageRequest.of(query.getPage(), query.getPageSize(), VaadinSpringDataHelpers.toSpringDataSort(query)))
-                .stream());
+        new KeysetFetchCallback<ProjectFullDto>(projectService::getAll)
+                .withRowCount(projectService::getRowCount)
+                .bind(grid);
 
         grid.addThemeVariants(GridVariant.LUMO_ROW_STRIPES);
 
@@ -23,17 +23,17 @@ import com.vaadin.flow.router.BeforeEnterObserver;
 import com.vaadin.flow.router.Menu;
 import com.vaadin.flow.router.PageTitle;
 import com.vaadin.flow.router.Route;
-import com.vaadin.flow.spring.data.VaadinSpringDataHelpers;
 import jakarta.annotation.security.RolesAllowed;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
-import ru.projects.model.Employee;
 import ru.projects.model.dto.employee.EmployeeShortDto;
 import ru.projects.model.dto.project.ProjectFullDto;
 import ru.projects.model.enums.Status;
+import ru.projects.security.CurrentEmployee;
+import ru.projects.security.CurrentEmployeeContext;
 import ru.projects.service.EmployeeService;
 import ru.projects.service.ProjectService;
+import ru.projects.view.KeysetFetchCallback;
 import ru.projects.view.MainLayout;
 
 import java.util.List;
@@ -60,7 +60,7 @@ public class EditMyProjectsView extends Div implements BeforeEnterObserver {
     private static final String PROJECT_ID = "projectID";
     private static final String PROJECT_EDIT_ROUTE_TEMPLATE = "my-projects/%s/edit";
 
-    private Employee authenticatedEmployee;
+    private CurrentEmployee currentEmployee;
 
     private final Grid<ProjectFullDto> grid = new Grid<>(ProjectFullDto.class, false);
 
@@ -89,10 +89,11 @@ public class EditMyProjectsView extends Div implements BeforeEnterObserver {
     private final ProjectService projectService;
     private final EmployeeService employeeService;
 
-    public EditMyProjectsView(ProjectService projectService, EmployeeService employeeService) {
+    public EditMyProjectsView(ProjectService projectService, EmployeeService employeeService,
+                              CurrentEmployeeContext currentEmployeeContext) {
         this.projectService = projectService;
         this.employeeService = employeeService;
-        authenticatedEmployee = employeeService.getCurrentEmployee();
+        currentEmployee = currentEmployeeContext.get();
         addClassNames("projects-view");
         createUI();
     }
@@ -156,17 +157,17 @@ public class EditMyProjectsView extends Div implements BeforeEnterObserver {
     private void configureGrid() {
         grid.addColumn("name").setAutoWidth(true);
         grid.addColumn("startDate").setAutoWidth(true);
-        grid.addColumn("endDate").setAutoWidth(true);
+        grid.addColumn("endDate").setAutoWidth(true).setSortable(false);
         grid.addColumn("status").setAutoWidth(true);
 
         grid.addColumn(ProjectEmployeeDetails.createToggleDetailsRenderer(grid));
         grid.setDetailsVisibleOnClick(false);
         grid.setItemDetailsRenderer(ProjectEmployeeDetails.createProjectDetailsRenderer());
 
-        grid.setItems(query -> projectService.getAllByEmployeeId(
-                        PageRequest.of(query.getPage(), query.getPageSize(), VaadinSpringDataHelpers.toSpringDataSort(query)),
-                        authenticatedEmployee.getEmployeeId())
-                .stream());
+        new KeysetFetchCallback<ProjectFullDto>((position, sort, limit) -> projectService.getAllByEmployeeId(
+                position, sort, limit, currentEmployee.employeeId()))
+                .withRowCount(() -> projectService.getRowCountByEmployeeId(currentEmployee.employeeId()))
+                .bind(grid);
 
         grid.addThemeVariants(GridVariant.LUMO_ROW_STRIPES);
 
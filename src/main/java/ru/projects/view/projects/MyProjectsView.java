@@ -7,14 +7,13 @@ import com.vaadin.flow.component.splitlayout.SplitLayout;
 import com.vaadin.flow.router.Menu;
 import com.vaadin.flow.router.PageTitle;
 import com.vaadin.flow.router.Route;
-import com.vaadin.flow.spring.data.VaadinSpringDataHelpers;
 import jakarta.annotation.security.RolesAllowed;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.PageRequest;
-import ru.projects.model.Employee;
 import ru.projects.model.dto.project.ProjectFullDto;
-import ru.projects.service.EmployeeService;
+import ru.projects.security.CurrentEmployee;
+import ru.projects.security.CurrentEmployeeContext;
 import ru.projects.service.ProjectService;
+import ru.projects.view.KeysetFetchCallback;
 import ru.projects.view.MainLayout;
 
 @PageTitle("My projects")
@@ -26,13 +25,13 @@ public class MyProjectsView extends Div  {
 
     private final Grid<ProjectFullDto> grid = new Grid<>(ProjectFullDto.class, false);
 
-    private Employee authenticatedEmployee;
+    private CurrentEmployee currentEmployee;
 
     private final ProjectService projectService;
 
-    public MyProjectsView(ProjectService projectService, EmployeeService employeeService) {
+    public MyProjectsView(ProjectService projectService, CurrentEmployeeContext currentEmployeeContext) {
         this.projectService = projectService;
-        authenticatedEmployee = employeeService.getCurrentEmployee();
+        currentEmployee = currentEmployeeContext.get();
         addClassNames("employee-projects-view");
         createUI();
     }
@@ -47,7 +46,7 @@ public class MyProjectsView extends Div  {
     private void configureGrid() {
         grid.addColumn("name").setAutoWidth(true);
         grid.addColumn("startDate").setAutoWidth(true);
-        grid.addColumn("endDate").setAutoWidth(true);
+        grid.addColumn("endDate").setAutoWidth(true).setSortable(false);
         grid.addColumn("status").setAutoWidth(true);
 
         grid.addColumn(ProjectEmployeeDetails.createToggleDetailsRenderer(grid));
@@ -55,10 +54,10 @@ public class MyProjectsView extends Div  {
         grid.setItemDetailsRenderer(ProjectEmployeeDetails.createProjectDetailsRenderer());
 
         log.info("VIEW: get all projects by employee");
-        grid.setItems(query -> projectService.getAllByEmployeeId(
-                        PageRequest.of(query.getPage(), query.getPageSize(), VaadinSpringDataHelpers.toSpringDataSort(query)),
-                        authenticatedEmployee.getEmployeeId())
-                .stream());
+        new KeysetFetchCallback<ProjectFullDto>((position, sort, limit) -> projectService.getAllByEmployeeId(
+                position, sort, limit, currentEmployee.employeeId()))
+                .withRowCount(() -> projectService.getRowCountByEmployeeId(currentEmployee.employeeId()))
+                .bind(grid);
 
         grid.addThemeVariants(GridVariant.LUMO_NO_BORDER);
     }
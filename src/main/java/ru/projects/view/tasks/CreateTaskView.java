@@ -22,12 +22,13 @@ import com.vaadin.flow.router.Route;
 import com.vaadin.flow.theme.lumo.LumoUtility.Gap;
 import jakarta.annotation.security.RolesAllowed;
 import lombok.extern.slf4j.Slf4j;
-import ru.projects.model.Employee;
 import ru.projects.model.dto.employee.EmployeeShortDto;
 import ru.projects.model.dto.project.ProjectShortDto;
 import ru.projects.model.dto.task.TaskCreateDto;
 import ru.projects.model.enums.Priority;
 import ru.projects.model.enums.TaskType;
+import ru.projects.security.CurrentEmployee;
+import ru.projects.security.CurrentEmployeeContext;
 import ru.projects.service.EmployeeService;
 import ru.projects.service.ProjectService;
 import ru.projects.service.TaskService;
@@ -52,7 +53,7 @@ public class CreateTaskView extends Composite<VerticalLayout> {
     private final ProjectService projectService;
     private final EmployeeService employeeService;
 
-    private Employee authenticatedEmployee;
+    private CurrentEmployee currentEmployee;
 
     private TextField name;
     private TextArea description;
@@ -66,11 +67,12 @@ public class CreateTaskView extends Composite<VerticalLayout> {
 
     private TaskCreateDto taskCreateDto;
 
-    public CreateTaskView(TaskService taskService, ProjectService projectService, EmployeeService employeeService) {
+    public CreateTaskView(TaskService taskService, ProjectService projectService, EmployeeService employeeService,
+                          CurrentEmployeeContext currentEmployeeContext) {
         this.taskService = taskService;
         this.projectService = projectService;
         this.employeeService = employeeService;
-        authenticatedEmployee = employeeService.getCurrentEmployee();
+        currentEmployee = currentEmployeeContext.get();
 
         getContent().setWidth("100%");
         getContent().setHeight("100%");
@@ -205,7 +207,7 @@ public class CreateTaskView extends Composite<VerticalLayout> {
 
     private void setProjectsToComboBox() {
         Set<ProjectShortDto> projectShortDtos = projectService
-                .getAllProjectShortDtoByEmployeeId(authenticatedEmployee.getEmployeeId());
+                .getAllProjectShortDtoByEmployeeId(currentEmployee.employeeId());
         project.setItems(projectShortDtos);
         project.setItemLabelGenerator(ProjectShortDto::getName);
     }
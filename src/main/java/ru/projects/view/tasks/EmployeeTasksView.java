@@ -10,15 +10,14 @@ import com.vaadin.flow.component.splitlayout.SplitLayout;
 import com.vaadin.flow.router.Menu;
 import com.vaadin.flow.router.PageTitle;
 import com.vaadin.flow.router.Route;
-import com.vaadin.flow.spring.data.VaadinSpringDataHelpers;
 import jakarta.annotation.security.RolesAllowed;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.PageRequest;
-import ru.projects.model.Employee;
 import ru.projects.model.dto.task.TaskViewDto;
 import ru.projects.model.enums.Status;
-import ru.projects.service.EmployeeService;
+import ru.projects.security.CurrentEmployee;
+import ru.projects.security.CurrentEmployeeContext;
 import ru.projects.service.TaskService;
+import ru.projects.view.KeysetFetchCallback;
 import ru.projects.view.MainLayout;
 
 @PageTitle("My tasks")
@@ -30,13 +29,13 @@ public class EmployeeTasksView extends Div  {
 
     private final Grid<TaskViewDto> grid = new Grid<>(TaskViewDto.class, false);
 
-    private Employee authenticatedEmployee;
+    private CurrentEmployee currentEmployee;
 
     private final TaskService taskService;
 
-    public EmployeeTasksView(TaskService taskService, EmployeeService employeeService) {
+    public EmployeeTasksView(TaskService taskService, CurrentEmployeeContext currentEmployeeContext) {
         this.taskService = taskService;
-        authenticatedEmployee = employeeService.getCurrentEmployee();
+        currentEmployee = currentEmployeeContext.get();
         addClassNames("employee-tasks-view");
         createUI();
     }
@@ -84,10 +83,10 @@ public class EmployeeTasksView extends Div  {
     }
 
     private void refreshGrid() {
-        grid.setItems(query -> taskService.getAllByEmployeeId(
-                PageRequest.of(query.getPage(), query.getPageSize(), VaadinSpringDataHelpers.toSpringDataSort(query)),
-                authenticatedEmployee.getEmployeeId()
-        ).stream());
+        new KeysetFetchCallback<TaskViewDto>((position, sort, limit) -> taskService.getAllByEmployeeId(
+                position, sort, limit, currentEmployee.employeeId()))
+                .withRowCount(() -> taskService.getRowCountByEmployeeId(currentEmployee.employeeId()))
+                .bind(grid);
         grid.getDataProvider().refreshAll();
     }
 
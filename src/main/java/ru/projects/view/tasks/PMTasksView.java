@@ -1,5 +1,7 @@
 package ru.projects.view.tasks;
 
+import com.vaadin.flow.component.AttachEvent;
+import com.vaadin.flow.component.DetachEvent;
 import com.vaadin.flow.component.UI;
 import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.button.ButtonVariant;
@@ -7,6 +9,7 @@ import com.vaadin.flow.component.combobox.ComboBox;
 import com.vaadin.flow.component.formlayout.FormLayout;
 import com.vaadin.flow.component.grid.Grid;
 import com.vaadin.flow.component.grid.GridVariant;
+import com.vaadin.flow.component.grid.dataview.GridLazyDataView;
 import com.vaadin.flow.component.html.Div;
 import com.vaadin.flow.component.notification.Notification;
 import com.vaadin.flow.component.notification.Notification.Position;
@@ -22,19 +25,22 @@ import com.vaadin.flow.router.BeforeEnterObserver;
 import com.vaadin.flow.router.Menu;
 import com.vaadin.flow.router.PageTitle;
 import com.vaadin.flow.router.Route;
-import com.vaadin.flow.spring.data.VaadinSpringDataHelpers;
+import com.vaadin.flow.shared.Registration;
 import jakarta.annotation.security.RolesAllowed;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
-import ru.projects.model.Employee;
+import ru.projects.event.DomainEvent;
+import ru.projects.event.DomainEventBus;
 import ru.projects.model.dto.employee.EmployeeShortDto;
 import ru.projects.model.dto.task.TaskFullDto;
 import ru.projects.model.dto.task.TaskViewDto;
 import ru.projects.model.enums.Priority;
 import ru.projects.model.enums.Status;
+import ru.projects.security.CurrentEmployee;
+import ru.projects.security.CurrentEmployeeContext;
 import ru.projects.service.EmployeeService;
 import ru.projects.service.TaskService;
+import ru.projects.view.KeysetFetchCallback;
 import ru.projects.view.MainLayout;
 
 import java.util.List;
@@ -53,6 +59,8 @@ public class PMTasksView extends Div implements BeforeEnterObserver {
 
     private final Grid<TaskViewDto> grid = new Grid<>(TaskViewDto.class, false);
 
+    private GridLazyDataView<TaskViewDto> dataView;
+
     private TextField name;
     private TextArea description;
     private ComboBox<EmployeeShortDto> employee;
@@ -67,15 +75,20 @@ public class PMTasksView extends Div implements BeforeEnterObserver {
 
     private TaskFullDto task;
 
-    private Employee authenticatedEmployee;
+    private CurrentEmployee currentEmployee;
+
+    private Registration eventBusRegistration;
 
     private final TaskService taskService;
     private final EmployeeService employeeService;
+    private final DomainEventBus domainEventBus;
 
-    public PMTasksView(TaskService taskService, EmployeeService employeeService) {
+    public PMTasksView(TaskService taskService, EmployeeService employeeService,
+                       CurrentEmployeeContext currentEmployeeContext, DomainEventBus domainEventBus) {
         this.taskService = taskService;
         this.employeeService = employeeService;
-        authenticatedEmployee = employeeService.getCurrentEmployee();
+        this.domainEventBus = domainEventBus;
+        currentEmployee = currentEmployeeContext.get();
         addClassNames("tasks-view");
         createUI();
     }
@@ -97,6 +110,35 @@ public class PMTasksView extends Div implements BeforeEnterObserver {
         delete.addClickListener(clickEvent -> deleteTask());
     }
 
+    @Override
+    protected void onAttach(AttachEvent attachEvent) {
+        super.onAttach(attachEvent);
+        UI ui = attachEvent.getUI();
+        eventBusRegistration = domainEventBus.register(event -> ui.access(() -> onDomainEvent(event)));
+    }
+
+    @Override
+    protected void onDetach(DetachEvent detachEvent) {
+        eventBusRegistration.remove();
+        eventBusRegistration = null;
+        super.onDetach(detachEvent);
+    }
+
+    /**
+     * An updated task re-renders only its row.
+     */
+    private void onDomainEvent(DomainEvent event) {
+        if (event.entityType() == DomainEvent.EntityType.BUG
+                || !currentEmployee.projectIds().contains(event.projectId())) {
+            return;
+        }
+        if (event.entityType() == DomainEvent.EntityType.TASK && event.changeType() == DomainEvent.ChangeType.UPDATED) {
+            taskService.getViewById(event.entityId()).ifPresent(dataView::refreshItem);
+        } else {
+            dataView.refreshAll();
+        }
+    }
+
     private void updateTask() {
         log.info("VIEW: Updating task");
         try {
@@ -211,10 +253,11 @@ public class PMTasksView extends Div implements BeforeEnterObserver {
         grid.setDetailsVisibleOnClick(false);
         grid.setItemDetailsRenderer(TaskDescriptionDetails.createTaskDetailsRenderer());
 
-        grid.setItems(query -> taskService.getAllByProjects(
-                        PageRequest.of(query.getPage(), query.getPageSize(),
-                                VaadinSpringDataHelpers.toSpringDataSort(query)), authenticatedEmployee.getProjects())
-                .stream());
+        dataView = new KeysetFetchCallback<TaskViewDto>((position, sort, limit) -> taskService.getAllByProjects(
+                position, sort, limit, currentEmployee.projectIds()))
+                .withRowCount(() -> taskService.getRowCountByProjects(currentEmployee.projectIds()))
+                .bind(grid);
+        dataView.setIdentifierProvider(TaskViewDto::getTaskId);
         grid.addThemeVariants(GridVariant.LUMO_NO_BORDER);
 
         grid.asSingleSelect().addValueChangeListener(event -> {
@@ -22,10 +22,8 @@ import com.vaadin.flow.router.BeforeEnterObserver;
 import com.vaadin.flow.router.Menu;
 import com.vaadin.flow.router.PageTitle;
 import com.vaadin.flow.router.Route;
-import com.vaadin.flow.spring.data.VaadinSpringDataHelpers;
 import jakarta.annotation.security.RolesAllowed;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import ru.projects.model.dto.employee.EmployeeShortDto;
 import ru.projects.model.dto.task.TaskFullDto;
@@ -34,6 +32,7 @@ import ru.projects.model.enums.Priority;
 import ru.projects.model.enums.Status;
 import ru.projects.service.EmployeeService;
 import ru.projects.service.TaskService;
+import ru.projects.view.KeysetFetchCallback;
 import ru.projects.view.MainLayout;
 
 import java.util.List;
@@ -207,9 +206,9 @@ public class TasksView extends Div implements BeforeEnterObserver {
         grid.setDetailsVisibleOnClick(false);
         grid.setItemDetailsRenderer(TaskDescriptionDetails.createTaskDetailsRenderer());
 
-        grid.setItems(query -> taskService.getAll(
-                        PageRequest.of(query.getPage(), query.getPageSize(), VaadinSpringDataHelpers.toSpringDataSort(query)))
-                .stream());
+        new KeysetFetchCallback<TaskViewDto>(taskService::getAll)
+                .withRowCount(taskService::getRowCount)
+                .bind(grid);
         grid.addThemeVariants(GridVariant.LUMO_NO_BORDER);
 
         grid.asSingleSelect().addValueChangeListener(event -> {
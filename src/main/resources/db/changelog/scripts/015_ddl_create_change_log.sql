@@ -0,0 +1,50 @@
+CREATE TABLE IF NOT EXISTS change_log
+(
+    change_id  BIGSERIAL PRIMARY KEY,
+    table_name VARCHAR(50) NOT NULL,
+    operation  CHAR(1)     NOT NULL,
+    row_data   JSONB       NOT NULL,
+    changed_at TIMESTAMP   NOT NULL DEFAULT now()
+);
+
+CREATE OR REPLACE FUNCTION capture_row_change()
+    RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        INSERT INTO change_log (table_name, operation, row_data) VALUES (TG_TABLE_NAME, 'D', to_jsonb(OLD));
+        RETURN OLD;
+    END IF;
+    INSERT INTO change_log (table_name, operation, row_data) VALUES (TG_TABLE_NAME, left(TG_OP, 1), to_jsonb(NEW));
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trigger_tasks_change_log
+    AFTER INSERT OR UPDATE OR DELETE
+    ON tasks
+    FOR EACH ROW
+EXECUTE FUNCTION capture_row_change();
+
+CREATE TRIGGER trigger_bugs_change_log
+    AFTER INSERT OR UPDATE OR DELETE
+    ON bugs
+    FOR EACH ROW
+EXECUTE FUNCTION capture_row_change();
+
+CREATE TRIGGER trigger_projects_change_log
+    AFTER INSERT OR UPDATE OR DELETE
+    ON projects
+    FOR EACH ROW
+EXECUTE FUNCTION capture_row_change();
+
+CREATE TRIGGER trigger_employees_change_log
+    AFTER INSERT OR UPDATE OR DELETE
+    ON employees
+    FOR EACH ROW
+EXECUTE FUNCTION capture_row_change();
+
+CREATE TRIGGER trigger_projects_employees_change_log
+    AFTER INSERT OR UPDATE OR DELETE
+    ON projects_employees
+    FOR EACH ROW
+EXECUTE FUNCTION capture_row_change();
@@ -0,0 +1,8 @@
+CREATE TABLE IF NOT EXISTS photo_variants
+(
+    photo_id  BIGINT       NOT NULL,
+    size      INT          NOT NULL,
+    file_path VARCHAR(500) NOT NULL,
+    PRIMARY KEY (photo_id, size),
+    CONSTRAINT fk_photo_id FOREIGN KEY (photo_id) REFERENCES photos (photo_id) ON DELETE CASCADE
+);
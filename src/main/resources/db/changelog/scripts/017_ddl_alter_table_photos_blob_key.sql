@@ -0,0 +1,20 @@
+ALTER TABLE photos
+    ADD COLUMN blob_key VARCHAR(64);
+
+ALTER TABLE photos
+    ALTER COLUMN file_path DROP NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_photos_blob_key ON photos (blob_key);
+
+DROP TABLE IF EXISTS photo_variants;
+
+CREATE TABLE IF NOT EXISTS photo_variants
+(
+    photo_id BIGINT      NOT NULL,
+    size     INT         NOT NULL,
+    blob_key VARCHAR(64) NOT NULL,
+    PRIMARY KEY (photo_id, size),
+    CONSTRAINT fk_photo_id FOREIGN KEY (photo_id) REFERENCES photos (photo_id) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS idx_photo_variants_blob_key ON photo_variants (blob_key);
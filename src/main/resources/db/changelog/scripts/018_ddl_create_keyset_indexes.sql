@@ -0,0 +1,23 @@
+CREATE INDEX IF NOT EXISTS idx_tasks_name_task_id ON tasks (name, task_id);
+CREATE INDEX IF NOT EXISTS idx_tasks_task_type_task_id ON tasks (task_type, task_id);
+CREATE INDEX IF NOT EXISTS idx_tasks_priority_task_id ON tasks (priority, task_id);
+CREATE INDEX IF NOT EXISTS idx_tasks_status_task_id ON tasks (status, task_id);
+CREATE INDEX IF NOT EXISTS idx_tasks_project_id_task_id ON tasks (project_id, task_id);
+CREATE INDEX IF NOT EXISTS idx_tasks_employee_id_task_id ON tasks (employee_id, task_id);
+
+CREATE INDEX IF NOT EXISTS idx_bugs_name_bug_id ON bugs (name, bug_id);
+CREATE INDEX IF NOT EXISTS idx_bugs_priority_bug_id ON bugs (priority, bug_id);
+CREATE INDEX IF NOT EXISTS idx_bugs_status_bug_id ON bugs (status, bug_id);
+CREATE INDEX IF NOT EXISTS idx_bugs_project_id_bug_id ON bugs (project_id, bug_id);
+
+CREATE INDEX IF NOT EXISTS idx_projects_name_project_id ON projects (name, project_id);
+CREATE INDEX IF NOT EXISTS idx_projects_start_date_project_id ON projects (start_date, project_id);
+CREATE INDEX IF NOT EXISTS idx_projects_status_project_id ON projects (status, project_id);
+
+CREATE INDEX IF NOT EXISTS idx_employees_first_name_employee_id ON employees (first_name, employee_id);
+CREATE INDEX IF NOT EXISTS idx_employees_last_name_employee_id ON employees (last_name, employee_id);
+CREATE INDEX IF NOT EXISTS idx_employees_email_employee_id ON employees (email, employee_id);
+CREATE INDEX IF NOT EXISTS idx_employees_phone_employee_id ON employees (phone, employee_id);
+CREATE INDEX IF NOT EXISTS idx_employees_date_of_birth_employee_id ON employees (date_of_birth, employee_id);
+
+CREATE INDEX IF NOT EXISTS idx_projects_employees_employee_id ON projects_employees (employee_id, project_id);
@@ -0,0 +1,6 @@
+CREATE INDEX IF NOT EXISTS idx_tasks_project_id_status ON tasks (project_id, status);
+
+CREATE INDEX IF NOT EXISTS idx_employees_user_id ON employees (user_id);
+CREATE INDEX IF NOT EXISTS idx_employees_specialization_id ON employees (specialization_id);
+
+CREATE INDEX IF NOT EXISTS idx_users_photo_id ON users (photo_id);
@@ -0,0 +1,73 @@
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS search_vector TSVECTOR;
+ALTER TABLE bugs ADD COLUMN IF NOT EXISTS search_vector TSVECTOR;
+ALTER TABLE projects ADD COLUMN IF NOT EXISTS search_vector TSVECTOR;
+
+CREATE OR REPLACE FUNCTION update_name_description_search_vector()
+    RETURNS TRIGGER AS $$
+BEGIN
+    NEW.search_vector := setweight(to_tsvector('simple', coalesce(NEW.name, '')), 'A')
+                             || setweight(to_tsvector('simple', coalesce(NEW.description, '')), 'B');
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION update_name_search_vector()
+    RETURNS TRIGGER AS $$
+BEGIN
+    NEW.search_vector := setweight(to_tsvector('simple', coalesce(NEW.name, '')), 'A');
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trigger_tasks_search_vector
+    BEFORE INSERT OR UPDATE OF name, description
+    ON tasks
+    FOR EACH ROW
+EXECUTE FUNCTION update_name_description_search_vector();
+
+CREATE TRIGGER trigger_bugs_search_vector
+    BEFORE INSERT OR UPDATE OF name, description
+    ON bugs
+    FOR EACH ROW
+EXECUTE FUNCTION update_name_description_search_vector();
+
+CREATE TRIGGER trigger_projects_search_vector
+    BEFORE INSERT OR UPDATE OF name
+    ON projects
+    FOR EACH ROW
+EXECUTE FUNCTION update_name_search_vector();
+
+CREATE OR REPLACE FUNCTION capture_row_change()
+    RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        INSERT INTO change_log (table_name, operation, row_data)
+        VALUES (TG_TABLE_NAME, 'D', to_jsonb(OLD) - 'search_vector');
+        RETURN OLD;
+    END IF;
+    INSERT INTO change_log (table_name, operation, row_data)
+    VALUES (TG_TABLE_NAME, left(TG_OP, 1), to_jsonb(NEW) - 'search_vector');
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+ALTER TABLE tasks DISABLE TRIGGER trigger_tasks_change_log;
+UPDATE tasks
+SET search_vector = setweight(to_tsvector('simple', coalesce(name, '')), 'A')
+                        || setweight(to_tsvector('simple', coalesce(description, '')), 'B');
+ALTER TABLE tasks ENABLE TRIGGER trigger_tasks_change_log;
+
+ALTER TABLE bugs DISABLE TRIGGER trigger_bugs_change_log;
+UPDATE bugs
+SET search_vector = setweight(to_tsvector('simple', coalesce(name, '')), 'A')
+                        || setweight(to_tsvector('simple', coalesce(description, '')), 'B');
+ALTER TABLE bugs ENABLE TRIGGER trigger_bugs_change_log;
+
+ALTER TABLE projects DISABLE TRIGGER trigger_projects_change_log;
+UPDATE projects
+SET search_vector = setweight(to_tsvector('simple', coalesce(name, '')), 'A');
+ALTER TABLE projects ENABLE TRIGGER trigger_projects_change_log;
+
+CREATE INDEX IF NOT EXISTS idx_tasks_search_vector ON tasks USING gin (search_vector);
+CREATE INDEX IF NOT EXISTS idx_bugs_search_vector ON bugs USING gin (search_vector);
+CREATE INDEX IF NOT EXISTS idx_projects_search_vector ON projects USING gin (search_vector);
@@ -0,0 +1,23 @@
+ALTER TABLE tasks ENABLE ALWAYS TRIGGER trigger_tasks_search_vector;
+ALTER TABLE bugs ENABLE ALWAYS TRIGGER trigger_bugs_search_vector;
+ALTER TABLE projects ENABLE ALWAYS TRIGGER trigger_projects_search_vector;
+
+ALTER TABLE tasks DISABLE TRIGGER trigger_tasks_change_log;
+UPDATE tasks
+SET search_vector = setweight(to_tsvector('simple', coalesce(name, '')), 'A')
+                        || setweight(to_tsvector('simple', coalesce(description, '')), 'B')
+WHERE search_vector IS NULL;
+ALTER TABLE tasks ENABLE TRIGGER trigger_tasks_change_log;
+
+ALTER TABLE bugs DISABLE TRIGGER trigger_bugs_change_log;
+UPDATE bugs
+SET search_vector = setweight(to_tsvector('simple', coalesce(name, '')), 'A')
+                        || setweight(to_tsvector('simple', coalesce(description, '')), 'B')
+WHERE search_vector IS NULL;
+ALTER TABLE bugs ENABLE TRIGGER trigger_bugs_change_log;
+
+ALTER TABLE projects DISABLE TRIGGER trigger_projects_change_log;
+UPDATE projects
+SET search_vector = setweight(to_tsvector('simple', coalesce(name, '')), 'A')
+WHERE search_vector IS NULL;
+ALTER TABLE projects ENABLE TRIGGER trigger_projects_change_log;
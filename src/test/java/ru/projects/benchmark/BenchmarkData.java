@@ -0,0 +1,114 @@
+package ru.projects.benchmark;
+
+import lombok.experimental.UtilityClass;
+import ru.projects.model.Employee;
+import ru.projects.model.Project;
+import ru.projects.model.Specialization;
+import ru.projects.model.Task;
+import ru.projects.model.User;
+import ru.projects.model.dto.bug.BugReportRowDto;
+import ru.projects.model.dto.task.TaskReportRowDto;
+import ru.projects.model.enums.Priority;
+import ru.projects.model.enums.Status;
+import ru.projects.model.enums.TaskType;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static ru.projects.util.Constants.AQA_ENGINEER_SPECIALIZATION_NAME;
+import static ru.projects.util.Constants.BACKEND_DEVELOPER_SPECIALIZATION_NAME;
+import static ru.projects.util.Constants.DATA_ANALYST_SPECIALIZATION_NAME;
+import static ru.projects.util.Constants.DATA_SCIENTIST_SPECIALIZATION_NAME;
+import static ru.projects.util.Constants.DEV_OPS_SPECIALIZATION_NAME;
+import static ru.projects.util.Constants.FRONTEND_DEVELOPER_SPECIALIZATION_NAME;
+import static ru.projects.util.Constants.FULLSTACK_DEVELOPER_SPECIALIZATION_NAME;
+import static ru.projects.util.Constants.PROJECT_MANAGER_SPECIALIZATION_NAME;
+import static ru.projects.util.Constants.QA_ENGINEER_SPECIALIZATION_NAME;
+
+/**
+ * Detached entities and report rows shaped like the production data, names and descriptions of realistic length.
+ *
+ * @author Artem Chernikov
+ * @version 1.0
+ * @since 17.10.2026
+ */
+@UtilityClass
+public class BenchmarkData {
+
+    public static final List<String> SPECIALIZATION_NAMES = List.of(PROJECT_MANAGER_SPECIALIZATION_NAME,
+            BACKEND_DEVELOPER_SPECIALIZATION_NAME, FRONTEND_DEVELOPER_SPECIALIZATION_NAME,
+            FULLSTACK_DEVELOPER_SPECIALIZATION_NAME, QA_ENGINEER_SPECIALIZATION_NAME,
+            AQA_ENGINEER_SPECIALIZATION_NAME, DEV_OPS_SPECIALIZATION_NAME, DATA_SCIENTIST_SPECIALIZATION_NAME,
+            DATA_ANALYST_SPECIALIZATION_NAME);
+
+    private static final String DESCRIPTION = "Check the behaviour described in the requirements, update the related"
+            + " documentation and cover the change with tests before handing it over to QA.";
+
+    public List<Employee> employees(int count, Set<Project> projects) {
+        return IntStream.range(0, count)
+                .mapToObj(index -> employee(index, projects))
+                .toList();
+    }
+
+    public Employee employee(int index, Set<Project> projects) {
+        String specializationName = SPECIALIZATION_NAMES.get(index % SPECIALIZATION_NAMES.size());
+        return Employee.builder()
+                .employeeId((long) index)
+                .user(User.builder().userId((long) index).username("user" + index).password("{noop}secret").build())
+                .specialization(new Specialization((long) SPECIALIZATION_NAMES.indexOf(specializationName) + 1,
+                        specializationName))
+                .firstName("Firstname" + index)
+                .lastName("Lastname" + index)
+                .patronymicName("Patronymic" + index)
+                .dateOfBirth(LocalDate.of(1980, 1, 1).plusDays(index % 10_000))
+                .phone("+7900" + String.format("%07d", index))
+                .email("user" + index + "@projects.ru")
+                .projects(projects)
+                .build();
+    }
+
+    public Project project(int index, int employeeCount) {
+        Project project = Project.builder()
+                .projectId((long) index)
+                .name("Project " + index)
+                .startDate(LocalDate.of(2024, 1, 1))
+                .status(Status.IN_PROGRESS)
+                .build();
+        project.setEmployees(new HashSet<>(employees(employeeCount, Set.of(project))));
+        return project;
+    }
+
+    public Task task(int index, Project project, Employee employee) {
+        return Task.builder()
+                .taskId((long) index)
+                .project(project)
+                .employee(employee)
+                .name("Task " + index)
+                .description(DESCRIPTION)
+                .taskType(TaskType.values()[index % TaskType.values().length])
+                .priority(Priority.values()[index % Priority.values().length])
+                .status(Status.values()[index % Status.values().length])
+                .build();
+    }
+
+    public List<TaskReportRowDto> taskReportRows(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(index -> new TaskReportRowDto("Project " + index / 100, "Lastname" + index,
+                        "Firstname" + index, "Patronymic" + index, "Task " + index, DESCRIPTION,
+                        TaskType.values()[index % TaskType.values().length],
+                        Priority.values()[index % Priority.values().length],
+                        Status.values()[index % Status.values().length]))
+                .toList();
+    }
+
+    public List<BugReportRowDto> bugReportRows(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(index -> new BugReportRowDto("Project " + index / 100, "Bug " + index, DESCRIPTION,
+                        Priority.values()[index % Priority.values().length],
+                        Status.values()[index % Status.values().length]))
+                .toList();
+    }
+}
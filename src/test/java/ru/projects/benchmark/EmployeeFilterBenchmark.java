@@ -0,0 +1,121 @@
+package ru.projects.benchmark;
+
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.combobox.MultiSelectComboBox;
+import com.vaadin.flow.component.datepicker.DatePicker;
+import com.vaadin.flow.component.textfield.TextField;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.projects.model.Bug;
+import ru.projects.model.Employee;
+import ru.projects.model.Photo;
+import ru.projects.model.Project;
+import ru.projects.model.Role;
+import ru.projects.model.Specialization;
+import ru.projects.model.Task;
+import ru.projects.model.User;
+import ru.projects.service.SpecializationService;
+import ru.projects.view.employees.filter.EmployeeFilter;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Criteria building of the employee grid filter, on the criteria builder of a session factory without a database.
+ *
+ * @author Artem Chernikov
+ * @version 1.0
+ * @since 17.10.2026
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmployeeFilterBenchmark {
+
+    /**
+     * No search term, a name search and a phone search, each with the date range and specializations set.
+     */
+    @Param({"", "jon smiht", "+7900"})
+    public String searchTerm;
+
+    private SessionFactory sessionFactory;
+    private CriteriaBuilder criteriaBuilder;
+    private EmployeeFilter employeeFilter;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(Employee.class)
+                .addAnnotatedClass(User.class)
+                .addAnnotatedClass(Role.class)
+                .addAnnotatedClass(Photo.class)
+                .addAnnotatedClass(Specialization.class)
+                .addAnnotatedClass(Project.class)
+                .addAnnotatedClass(Task.class)
+                .addAnnotatedClass(Bug.class)
+                .setProperty("hibernate.dialect", "org.hibernate.dialect.PostgreSQLDialect")
+                .setProperty("hibernate.boot.allow_jdbc_metadata_access", "false")
+                .setProperty("hibernate.cache.use_second_level_cache", "false")
+                .buildSessionFactory();
+        criteriaBuilder = sessionFactory.getCriteriaBuilder();
+
+        SpecializationService specializationService = mock(SpecializationService.class);
+        when(specializationService.getAllSpecializationsNames()).thenReturn(BenchmarkData.SPECIALIZATION_NAMES);
+        employeeFilter = new EmployeeFilter(specializationService, () -> {
+        });
+        findFields(TextField.class).get(0).setValue(searchTerm);
+        List<DatePicker> dateRange = findFields(DatePicker.class);
+        dateRange.get(0).setValue(LocalDate.of(1980, 1, 1));
+        dateRange.get(1).setValue(LocalDate.of(2000, 1, 1));
+        ((MultiSelectComboBox<String>) findFields(MultiSelectComboBox.class).get(0))
+                .setValue(Set.copyOf(BenchmarkData.SPECIALIZATION_NAMES.subList(1, 4)));
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public CriteriaQuery<Employee> toPredicate() {
+        CriteriaQuery<Employee> query = criteriaBuilder.createQuery(Employee.class);
+        Root<Employee> root = query.from(Employee.class);
+        return query.where(employeeFilter.toPredicate(root, query, criteriaBuilder));
+    }
+
+    /**
+     * Fields of the filter in the order they are shown, set as a user would fill them in.
+     */
+    private <T extends Component> List<T> findFields(Class<T> type) {
+        return descendants(employeeFilter).filter(type::isInstance).map(type::cast).toList();
+    }
+
+    private static Stream<Component> descendants(Component component) {
+        return component.getChildren().flatMap(child -> Stream.concat(Stream.of(child), descendants(child)));
+    }
+}
@@ -0,0 +1,97 @@
+package ru.projects.benchmark;
+
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.projects.model.dto.bug.BugReportRowDto;
+import ru.projects.model.dto.task.TaskReportRowDto;
+import ru.projects.service.BugService;
+import ru.projects.service.BugsExportService;
+import ru.projects.service.TaskService;
+import ru.projects.service.TasksExportService;
+
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * Workbook generation of the Tasks and Bugs exports from report rows held in memory.
+ *
+ * @author Artem Chernikov
+ * @version 1.0
+ * @since 17.10.2026
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExportBenchmark {
+
+    private static final List<Long> PROJECT_IDS = List.of(1L);
+
+    @Param({"1000", "10000", "100000"})
+    public int rows;
+
+    @Mock
+    private TaskService taskService;
+
+    @Mock
+    private BugService bugService;
+
+    @InjectMocks
+    private TasksExportService tasksExportService;
+
+    @InjectMocks
+    private BugsExportService bugsExportService;
+
+    private AutoCloseable mocks;
+
+    @Setup
+    public void setUp() {
+        mocks = MockitoAnnotations.openMocks(this);
+        List<TaskReportRowDto> taskRows = BenchmarkData.taskReportRows(rows);
+        List<BugReportRowDto> bugRows = BenchmarkData.bugReportRows(rows);
+        doAnswer(invocation -> {
+            taskRows.forEach(invocation.<Consumer<TaskReportRowDto>>getArgument(0));
+            return null;
+        }).when(taskService).forEachByOrderProjectName(any());
+        doAnswer(invocation -> {
+            bugRows.forEach(invocation.<Consumer<BugReportRowDto>>getArgument(1));
+            return null;
+        }).when(bugService).forEachByProjectIds(eq(PROJECT_IDS), any());
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        mocks.close();
+    }
+
+    @Benchmark
+    public void tasksReport() {
+        tasksExportService.writeTasksReport(OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public void bugsReport() {
+        bugsExportService.writeBugReportByProjectIds(PROJECT_IDS, OutputStream.nullOutputStream());
+    }
+}
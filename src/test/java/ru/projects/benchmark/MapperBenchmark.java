@@ -0,0 +1,122 @@
+package ru.projects.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import ru.projects.mapper.EmployeeMapper;
+import ru.projects.mapper.EmployeeMapperImpl;
+import ru.projects.mapper.ProjectMapper;
+import ru.projects.mapper.ProjectMapperImpl;
+import ru.projects.mapper.TaskMapper;
+import ru.projects.mapper.TaskMapperImpl;
+import ru.projects.model.Employee;
+import ru.projects.model.Project;
+import ru.projects.model.Task;
+import ru.projects.model.dto.employee.EmployeeFullDto;
+import ru.projects.model.dto.employee.EmployeeShortDto;
+import ru.projects.model.dto.project.ProjectFullDto;
+import ru.projects.model.dto.task.TaskViewDto;
+import ru.projects.repository.EmployeeRepository;
+import ru.projects.repository.UserRepository;
+import ru.projects.service.EmployeeService;
+import ru.projects.service.ReportCacheService;
+import ru.projects.service.RoleService;
+import ru.projects.service.RowCountService;
+import ru.projects.service.SpecializationService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Entity to grid DTO conversions of the mappers and the grouping of project members by specialization.
+ *
+ * @author Artem Chernikov
+ * @version 1.0
+ * @since 17.10.2026
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    @Param({"10", "100"})
+    public int projectMembers;
+
+    private AnnotationConfigApplicationContext context;
+    private TaskMapper taskMapper;
+    private EmployeeMapper employeeMapper;
+    private ProjectMapper projectMapper;
+    private EmployeeService employeeService;
+    private Task task;
+    private Employee employee;
+    private Project project;
+    private List<Employee> members;
+
+    @Setup
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext();
+        context.registerBean(SpecializationService.class, () -> mock(SpecializationService.class));
+        context.registerBean(RoleService.class, () -> mock(RoleService.class));
+        context.registerBean(PasswordEncoder.class, () -> mock(PasswordEncoder.class));
+        context.registerBean(EmployeeRepository.class, () -> mock(EmployeeRepository.class));
+        context.registerBean(UserRepository.class, () -> mock(UserRepository.class));
+        context.registerBean(ReportCacheService.class, () -> mock(ReportCacheService.class));
+        context.registerBean(RowCountService.class, () -> mock(RowCountService.class));
+        context.register(EmployeeService.class, EmployeeMapperImpl.class, ProjectMapperImpl.class,
+                TaskMapperImpl.class);
+        context.refresh();
+        taskMapper = context.getBean(TaskMapper.class);
+        employeeMapper = context.getBean(EmployeeMapper.class);
+        projectMapper = context.getBean(ProjectMapper.class);
+        employeeService = context.getBean(EmployeeService.class);
+
+        project = BenchmarkData.project(1, projectMembers);
+        members = new ArrayList<>(project.getEmployees());
+        employee = BenchmarkData.employee(1, Set.of(project, BenchmarkData.project(2, 0)));
+        task = BenchmarkData.task(1, project, employee);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public TaskViewDto taskToTaskViewDto() {
+        return taskMapper.taskToTaskViewDto(task);
+    }
+
+    @Benchmark
+    public EmployeeFullDto employeeToEmployeeFullDto() {
+        return employeeMapper.employeeToEmployeeFullDto(employee);
+    }
+
+    @Benchmark
+    public ProjectFullDto projectToProjectFullDto() {
+        return projectMapper.projectToProjectFullDto(project);
+    }
+
+    @Benchmark
+    public Map<String, List<EmployeeShortDto>> groupEmployeesBySpecializations() {
+        return employeeService.groupEmployeesBySpecializations(members);
+    }
+}
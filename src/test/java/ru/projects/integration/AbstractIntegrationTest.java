@@ -0,0 +1,60 @@
+package ru.projects.integration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.util.List;
+
+/**
+ * Base of the integration tests, the application on an embedded PostgreSQL with the data of {@link TestDataSeeder}.
+ *
+ * @author Artem Chernikov
+ * @version 1.0
+ * @since 17.10.2026
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK)
+@ActiveProfiles("integration")
+@Import(EmbeddedPostgresConfiguration.class)
+public abstract class AbstractIntegrationTest {
+
+    @Autowired
+    protected JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private StatementRecordingDataSource dataSource;
+
+    @DynamicPropertySource
+    static void embeddedPostgresProperties(DynamicPropertyRegistry registry) {
+        EmbeddedPostgresConfiguration.registerDataSourceProperties(registry);
+    }
+
+    @BeforeEach
+    void seedData() {
+        TestDataSeeder.seedOnce(jdbcTemplate);
+    }
+
+    /**
+     * Number of JDBC statements the action sent.
+     */
+    protected long countStatements(Runnable action) {
+        return recordStatements(action).size();
+    }
+
+    /**
+     * SQL of the JDBC statements the action sent.
+     */
+    protected List<String> recordStatements(Runnable action) {
+        return dataSource.record(action);
+    }
+
+    protected List<Long> findProjectIds(int limit) {
+        return jdbcTemplate.queryForList("SELECT project_id FROM projects ORDER BY project_id LIMIT ?", Long.class,
+                limit);
+    }
+}
@@ -0,0 +1,52 @@
+package ru.projects.integration;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.DynamicPropertyRegistry;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * PostgreSQL started from the test classpath once per test run and shared by every application context.
+ *
+ * @author Artem Chernikov
+ * @version 1.0
+ * @since 17.10.2026
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class EmbeddedPostgresConfiguration {
+
+    private static final String DATABASE = "postgres";
+
+    private static EmbeddedPostgres embeddedPostgres;
+
+    /**
+     * The backups connect through these properties as well.
+     */
+    public static void registerDataSourceProperties(DynamicPropertyRegistry registry) {
+        EmbeddedPostgres postgres = start();
+        registry.add("spring.datasource.url", () -> "jdbc:postgresql://localhost:" + postgres.getPort() + "/"
+                + DATABASE);
+        registry.add("spring.datasource.username", () -> DATABASE);
+        registry.add("spring.datasource.password", () -> DATABASE);
+    }
+
+    @Bean
+    public StatementRecordingDataSource dataSource(DataSourceProperties properties) {
+        return new StatementRecordingDataSource(properties.initializeDataSourceBuilder().build());
+    }
+
+    private static synchronized EmbeddedPostgres start() {
+        if (embeddedPostgres == null) {
+            try {
+                embeddedPostgres = EmbeddedPostgres.start();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return embeddedPostgres;
+    }
+}
@@ -0,0 +1,125 @@
+package ru.projects.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vaadin.flow.data.provider.Query;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import ru.projects.model.dto.grid.RowCountDto;
+import ru.projects.model.dto.task.TaskViewDto;
+import ru.projects.repository.TaskRepository;
+import ru.projects.service.RowCountService;
+import ru.projects.service.TaskService;
+import ru.projects.view.KeysetFetchCallback;
+
+import java.util.List;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Database cost of a task grid scroll, the row count and the windows fetched.
+ *
+ * @author Artem Chernikov
+ * @version 1.0
+ * @since 17.10.2026
+ */
+@Slf4j
+class GridScrollCostIT extends AbstractIntegrationTest {
+
+    private static final int WINDOW = 50;
+    private static final int WINDOWS_PER_SCROLL = 20;
+    private static final int JUMP_OFFSET = TestDataSeeder.TASKS / 2;
+    private static final int REPETITIONS = 20;
+    private static final String ESTIMATE_SQL = "SELECT 1 FROM tasks";
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void estimatedCountSavesTheCountQueryOfEveryRefresh() {
+        RowCountService exact = new RowCountService(jdbcTemplate, objectMapper, true);
+        RowCountService estimate = new RowCountService(jdbcTemplate, objectMapper, false);
+        LongSupplier counter = taskRepository::count;
+
+        double exactMillis = averageMillis(() -> exact.count(counter, ESTIMATE_SQL));
+        double estimateMillis = averageMillis(() -> estimate.count(counter, ESTIMATE_SQL));
+        double scrollMillis = averageMillis(this::scroll);
+        log.info("Task grid scroll of {} windows: {} ms; row count per refresh: exact {} ms, estimate {} ms,"
+                        + " saving {} ms per scroll", WINDOWS_PER_SCROLL, format(scrollMillis), format(exactMillis),
+                format(estimateMillis), format(exactMillis - estimateMillis));
+
+        assertThat(exact.count(counter, ESTIMATE_SQL).getCount()).isEqualTo(TestDataSeeder.TASKS);
+        assertThat(estimate.count(counter, ESTIMATE_SQL)).extracting(RowCountDto::isExact).isEqualTo(false);
+        assertThat(recordStatements(() -> exact.count(counter, ESTIMATE_SQL)))
+                .singleElement().asString().startsWithIgnoringCase("select count(");
+        assertThat(recordStatements(() -> estimate.count(counter, ESTIMATE_SQL)))
+                .singleElement().asString().startsWith("EXPLAIN");
+        assertThat(countStatements(this::scroll)).isEqualTo(WINDOWS_PER_SCROLL);
+    }
+
+    @Test
+    void jumpReadsOnlyTheRequestedWindowAndScrollsOnByKeyset() {
+        KeysetFetchCallback<TaskViewDto> callback = new KeysetFetchCallback<>(taskService::getAll);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        double jumpMillis = averageMillis(() -> fetch(new KeysetFetchCallback<>(taskService::getAll), JUMP_OFFSET));
+        statistics.clear();
+        List<TaskViewDto> jumped = fetch(callback, JUMP_OFFSET);
+        long jumpStatements = statistics.getPrepareStatementCount();
+        long jumpTaskLoads = statistics.getEntityStatistics("ru.projects.model.Task").getLoadCount();
+
+        statistics.clear();
+        List<TaskViewDto> next = fetch(callback, JUMP_OFFSET + WINDOW);
+        long nextStatements = statistics.getPrepareStatementCount();
+        log.info("Task grid jump to row {}: {} ms, {} statements, {} tasks loaded", JUMP_OFFSET, format(jumpMillis),
+                jumpStatements, jumpTaskLoads);
+
+        assertThat(jumpStatements).isEqualTo(1);
+        assertThat(jumpTaskLoads).isLessThanOrEqualTo(WINDOW + 1);
+        assertThat(nextStatements).isEqualTo(1);
+        List<Long> expected = jdbcTemplate.queryForList("SELECT task_id FROM tasks ORDER BY task_id OFFSET ? LIMIT ?",
+                Long.class, JUMP_OFFSET, 2 * WINDOW);
+        assertThat(jumped).extracting(TaskViewDto::getTaskId).isEqualTo(expected.subList(0, WINDOW));
+        assertThat(next).extracting(TaskViewDto::getTaskId).isEqualTo(expected.subList(WINDOW, 2 * WINDOW));
+    }
+
+    /**
+     * A grid opened and scrolled down window by window, the way the grid fetches while the user scrolls.
+     */
+    private void scroll() {
+        KeysetFetchCallback<TaskViewDto> callback = new KeysetFetchCallback<>(taskService::getAll);
+        for (int window = 0; window < WINDOWS_PER_SCROLL; window++) {
+            assertThat(fetch(callback, window * WINDOW)).hasSize(WINDOW);
+        }
+    }
+
+    private List<TaskViewDto> fetch(KeysetFetchCallback<TaskViewDto> callback, int offset) {
+        return callback.fetch(new Query<>(offset, WINDOW, List.of(), null, null)).toList();
+    }
+
+    private double averageMillis(Runnable action) {
+        action.run();
+        long start = System.nanoTime();
+        for (int i = 0; i < REPETITIONS; i++) {
+            action.run();
+        }
+        return (System.nanoTime() - start) / 1_000_000.0 / REPETITIONS;
+    }
+
+    private String format(double millis) {
+        return String.format("%.2f", millis);
+    }
+}
@@ -0,0 +1,74 @@
+package ru.projects.integration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import ru.projects.security.BoundedPasswordEncoder;
+
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
+
+/**
+ * A sign in that finds the password hashing queue full is sent back to the login form as a failed sign in.
+ *
+ * @author Artem Chernikov
+ * @version 1.0
+ * @since 17.10.2026
+ */
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+        "security.password-hashing.threads=1",
+        "security.password-hashing.queue-capacity=1"
+})
+class PasswordHashingOverloadIT extends AbstractIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BoundedPasswordEncoder passwordEncoder;
+
+    @Test
+    void fullHashingQueueRedirectsToLoginError() throws Exception {
+        CountDownLatch hashing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread running = new Thread(() -> passwordEncoder.runHashing(() -> {
+            hashing.countDown();
+            release.await();
+            return true;
+        }));
+        Thread queued = new Thread(() -> passwordEncoder.runHashing(() -> true));
+        try {
+            running.start();
+            hashing.await();
+            queued.start();
+            awaitWaiting(queued);
+
+            mockMvc.perform(post("/login")
+                            .param("username", "employee1")
+                            .param("password", "secret")
+                            .with(csrf()))
+                    .andExpect(redirectedUrl("/login?error"));
+        } finally {
+            release.countDown();
+            running.join();
+            queued.join();
+        }
+    }
+
+    /**
+     * The queued hash has been accepted once its caller waits for the result.
+     */
+    private void awaitWaiting(Thread thread) throws InterruptedException {
+        while (thread.getState() != Thread.State.TIMED_WAITING) {
+            assertThat(thread.isAlive()).isTrue();
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package ru.projects.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.projects.service.BackupService;
+import ru.projects.service.ChangeLogService;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Row changes exported to a changes file and replayed up to a point in time.
+ *
+ * @author Artem Chernikov
+ * @version 1.0
+ * @since 17.10.2026
+ */
+class PointInTimeRestoreIT extends AbstractIntegrationTest {
+
+    private static final String UNPRIVILEGED_ROLE = "replay_check";
+
+    @Autowired
+    private ChangeLogService changeLogService;
+
+    @Autowired
+    private BackupService backupService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${backup.dir}")
+    private Path backupDir;
+
+    @Value("${spring.datasource.url}")
+    private String datasourceUrl;
+
+    @Test
+    void replaysTheExportedChangesUpToThePointInTime() throws Exception {
+        changeLogService.exportChanges();
+        List<Long> projectIds = findProjectIds(2);
+        Long taskId = findTaskId(projectIds.get(0));
+        String firstName = projectName(projectIds.get(0));
+        String secondName = projectName(projectIds.get(1));
+        String description = taskDescription(taskId);
+        try {
+            LocalDateTime from = databaseTime();
+            renameProject(projectIds.get(0), "Renamed before the point in time");
+            jdbcTemplate.update("UPDATE tasks SET description = ? WHERE task_id = ?", "Replayed", taskId);
+            LocalDateTime pointInTime = databaseTime();
+            renameProject(projectIds.get(1), "Renamed after the point in time");
+            changeLogService.exportChanges();
+
+            renameProject(projectIds.get(0), firstName);
+            renameProject(projectIds.get(1), secondName);
+            jdbcTemplate.update("UPDATE tasks SET description = ? WHERE task_id = ?", description, taskId);
+            changeLogService.clearChangeLog();
+
+            assertThat(changeLogService.replayChanges(from, pointInTime)).isEqualTo(2);
+            assertThat(projectName(projectIds.get(0))).isEqualTo("Renamed before the point in time");
+            assertThat(taskDescription(taskId)).isEqualTo("Replayed");
+            assertThat(projectName(projectIds.get(1))).isEqualTo(secondName);
+            assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM change_log", Long.class)).isZero();
+        } finally {
+            renameProject(projectIds.get(0), firstName);
+            jdbcTemplate.update("UPDATE tasks SET description = ? WHERE task_id = ?", description, taskId);
+            changeLogService.clearChangeLog();
+        }
+    }
+
+    /**
+     * Runs where the PostgreSQL client tools are installed, the embedded database does not ship them.
+     */
+    @Test
+    void restoresTheBackupAndReplaysTheChangesMadeAfterIt() throws Exception {
+        assumeTrue(onPath("pg_dump") && onPath("pg_restore"), "pg_dump and pg_restore are not installed");
+        changeLogService.exportChanges();
+        List<Long> projectIds = findProjectIds(2);
+        String firstName = projectName(projectIds.get(0));
+        String secondName = projectName(projectIds.get(1));
+        try {
+            backupService.createBackup();
+            renameProject(projectIds.get(0), "Renamed before the point in time");
+            LocalDateTime pointInTime = databaseTime();
+            renameProject(projectIds.get(1), "Renamed after the point in time");
+
+            backupService.restoreBackup(pointInTime);
+
+            assertThat(projectName(projectIds.get(0))).isEqualTo("Renamed before the point in time");
+            assertThat(projectName(projectIds.get(1))).isEqualTo(secondName);
+            assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM tasks", Long.class))
+                    .isEqualTo(TestDataSeeder.TASKS);
+            try (Stream<Path> checkpoints = Files.list(backupDir)) {
+                assertThat(checkpoints.filter(file -> file.toString().endsWith(".checkpoint"))).isEmpty();
+            }
+        } finally {
+            renameProject(projectIds.get(0), firstName);
+            renameProject(projectIds.get(1), secondName);
+            changeLogService.clearChangeLog();
+        }
+    }
+
+    @Test
+    void replayPrivilegeIsCheckedBeforeARestore() {
+        assertThatNoException().isThrownBy(changeLogService::checkReplayPrivilege);
+
+        jdbcTemplate.execute("DROP ROLE IF EXISTS " + UNPRIVILEGED_ROLE);
+        jdbcTemplate.execute("CREATE ROLE " + UNPRIVILEGED_ROLE + " LOGIN PASSWORD '" + UNPRIVILEGED_ROLE + "'");
+        try {
+            DriverManagerDataSource dataSource = new DriverManagerDataSource(datasourceUrl, UNPRIVILEGED_ROLE,
+                    UNPRIVILEGED_ROLE);
+            ChangeLogService unprivileged = new ChangeLogService(new JdbcTemplate(dataSource),
+                    new TransactionTemplate(new DataSourceTransactionManager(dataSource)), objectMapper, backupDir);
+
+            assertThatThrownBy(unprivileged::checkReplayPrivilege)
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("session_replication_role");
+        } finally {
+            jdbcTemplate.execute("DROP ROLE " + UNPRIVILEGED_ROLE);
+        }
+    }
+
+    private LocalDateTime databaseTime() {
+        return jdbcTemplate.queryForObject("SELECT clock_timestamp()::timestamp", LocalDateTime.class);
+    }
+
+    private Long findTaskId(Long projectId) {
+        return jdbcTemplate.queryForObject("SELECT min(task_id) FROM tasks WHERE project_id = ?", Long.class,
+                projectId);
+    }
+
+    private String projectName(Long projectId) {
+        return jdbcTemplate.queryForObject("SELECT name FROM projects WHERE project_id = ?", String.class, projectId);
+    }
+
+    private String taskDescription(Long taskId) {
+        return jdbcTemplate.queryForObject("SELECT description FROM tasks WHERE task_id = ?", String.class, taskId);
+    }
+
+    private void renameProject(Long projectId, String name) {
+        jdbcTemplate.update("UPDATE projects SET name = ? WHERE project_id = ?", name, projectId);
+    }
+
+    private boolean onPath(String command) {
+        return Stream.of(System.getenv("PATH").split(File.pathSeparator))
+                .anyMatch(dir -> Files.isExecutable(Path.of(dir, command)));
+    }
+}
@@ -0,0 +1,149 @@
+package ru.projects.integration;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.projects.mapper.TaskMapper;
+import ru.projects.model.Task;
+import ru.projects.model.dto.task.TaskReportRowDto;
+import ru.projects.repository.TaskRepository;
+
+import javax.sql.DataSource;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+import static ru.projects.util.Constants.REPORT_FETCH_SIZE;
+
+/**
+ * Statements and allocations of the task report read model per {@value #ROWS} rows, EAGER entities against the
+ * projection.
+ *
+ * @author Artem Chernikov
+ * @version 1.0
+ * @since 17.10.2026
+ */
+@Slf4j
+class ReportReadModelIT extends AbstractIntegrationTest {
+
+    private static final int ROWS = 10_000;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskMapper taskMapper;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private long consumedChars;
+
+    @Test
+    void projectionSendsOneStatementAndAllocatesLessThanEagerEntities() {
+        EntityManagerFactory eagerEntityManagerFactory = createEagerEntityManagerFactory();
+        try {
+            readEntityRows(eagerEntityManagerFactory);
+            readProjectionRows();
+
+            Measurement entities = measure(() -> readEntityRows(eagerEntityManagerFactory));
+            Measurement projection = measure(this::readProjectionRows);
+            log.info("Task report read model per {} rows: EAGER entities {} statements, {} bytes, {} ms;"
+                            + " projection {} statements, {} bytes, {} ms", ROWS, entities.statements(),
+                    entities.allocatedBytes(), entities.millis(), projection.statements(),
+                    projection.allocatedBytes(), projection.millis());
+
+            assertThat(projection.statements()).isEqualTo(1);
+            assertThat(projection.allocatedBytes()).isLessThan(entities.allocatedBytes());
+        } finally {
+            eagerEntityManagerFactory.close();
+        }
+    }
+
+    /**
+     * The export read path before the projections.
+     */
+    private void readEntityRows(EntityManagerFactory entityManagerFactory) {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            entityManager.getTransaction().begin();
+            try (Stream<Task> tasks = entityManager
+                    .createQuery("SELECT t FROM Task t ORDER BY t.project.name", Task.class)
+                    .setHint(HINT_FETCH_SIZE, REPORT_FETCH_SIZE)
+                    .setHint(HINT_READ_ONLY, true)
+                    .setMaxResults(ROWS)
+                    .getResultStream()) {
+                tasks.peek(entityManager::detach)
+                        .map(taskMapper::taskToTaskFullDto)
+                        .forEach(task -> consume(task.getProject().getName(), task.getEmployee().getName(),
+                                task.getName(), task.getDescription(), task.getTaskType(), task.getPriority(),
+                                task.getStatus()));
+            }
+        } finally {
+            entityManager.getTransaction().rollback();
+            entityManager.close();
+        }
+    }
+
+    private void readProjectionRows() {
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<TaskReportRowDto> rows = taskRepository.streamReportRowsOrderByProjectName()) {
+                rows.limit(ROWS).forEach(row -> consume(row.getProject(), row.getEmployee(), row.getName(),
+                        row.getDescription(), row.getTaskType(), row.getPriority(), row.getStatus()));
+            }
+        });
+    }
+
+    /**
+     * The entity model with the associations of {@code eager-associations-orm.xml} EAGER and no second-level cache.
+     */
+    private EntityManagerFactory createEagerEntityManagerFactory() {
+        LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+        factory.setDataSource(dataSource);
+        factory.setPackagesToScan(Task.class.getPackageName());
+        factory.setMappingResources("eager-associations-orm.xml");
+        factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factory.setJpaPropertyMap(Map.of(
+                "hibernate.physical_naming_strategy", CamelCaseToUnderscoresNamingStrategy.class.getName(),
+                "hibernate.implicit_naming_strategy", SpringImplicitNamingStrategy.class.getName(),
+                "hibernate.cache.use_second_level_cache", false,
+                "hibernate.hbm2ddl.auto", "none"));
+        factory.afterPropertiesSet();
+        return factory.getObject();
+    }
+
+    private Measurement measure(Runnable read) {
+        com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long allocatedBefore = threadMXBean.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        long statements = countStatements(read);
+        return new Measurement(statements, threadMXBean.getCurrentThreadAllocatedBytes() - allocatedBefore,
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Reads every value of a row as an export cell would, so neither read model can skip building it.
+     */
+    private void consume(String... values) {
+        for (String value : values) {
+            consumedChars += value == null ? 0 : value.length();
+        }
+    }
+
+    private record Measurement(long statements, long allocatedBytes, long millis) {
+    }
+}
@@ -0,0 +1,103 @@
+package ru.projects.integration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import ru.projects.model.Employee;
+import ru.projects.model.dto.task.TaskViewDto;
+import ru.projects.service.BugsExportService;
+import ru.projects.service.EmployeeService;
+import ru.projects.service.ProjectService;
+import ru.projects.service.TaskService;
+import ru.projects.service.TasksExportService;
+
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static ru.projects.util.Constants.BACKEND_DEVELOPER_SPECIALIZATION_NAME;
+
+/**
+ * Statements sent by the grid windows and the report exports, independent of the number of rows.
+ *
+ * @author Artem Chernikov
+ * @version 1.0
+ * @since 17.10.2026
+ */
+class StatementCountIT extends AbstractIntegrationTest {
+
+    private static final Limit GRID_WINDOW = Limit.of(50);
+    private static final int REPORT_PROJECTS = 20;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private TasksExportService tasksExportService;
+
+    @Autowired
+    private BugsExportService bugsExportService;
+
+    @Test
+    void taskWindowIsOneStatement() {
+        Window<TaskViewDto> first = countedWindow(1, () -> taskService.getAll(ScrollPosition.keyset(),
+                Sort.by("project"), GRID_WINDOW));
+        countedWindow(1, () -> taskService.getAll(first.positionAt(first.size() - 1), Sort.by("project"),
+                GRID_WINDOW));
+    }
+
+    @Test
+    void projectWindowIsWindowAndMembersStatements() {
+        countedWindow(2, () -> projectService.getAll(ScrollPosition.keyset(), Sort.by("name"), GRID_WINDOW));
+    }
+
+    @Test
+    void filteredEmployeeWindowIsWindowAndProjectsStatements() {
+        Specification<Employee> filter = (root, query, criteriaBuilder) -> criteriaBuilder.and(
+                criteriaBuilder.greaterThanOrEqualTo(root.get("dateOfBirth"), LocalDate.of(1975, 1, 1)),
+                criteriaBuilder.notEqual(root.join("specialization").get("specializationName"),
+                        BACKEND_DEVELOPER_SPECIALIZATION_NAME));
+        countedWindow(2, () -> employeeService.getAllByFilter(ScrollPosition.keyset(), Sort.by("lastName"),
+                GRID_WINDOW, filter));
+    }
+
+    @Test
+    void everyExportIsOneStatement() {
+        List<Long> projectIds = findProjectIds(REPORT_PROJECTS);
+        List<Consumer<OutputStream>> exports = List.of(
+                tasksExportService::writeTasksReport,
+                outputStream -> tasksExportService.writeTasksReportByProjectIds(projectIds, outputStream),
+                outputStream -> tasksExportService.writeActiveTasksReportByProjectIds(projectIds, outputStream),
+                outputStream -> tasksExportService.writeFinishedTasksReportByProjectIds(projectIds, outputStream),
+                outputStream -> bugsExportService.writeBugReportByProjectIds(projectIds, outputStream));
+        for (Consumer<OutputStream> export : exports) {
+            assertThat(countStatements(() -> export.accept(OutputStream.nullOutputStream()))).isEqualTo(1);
+        }
+    }
+
+    private <T> Window<T> countedWindow(long expectedStatements, WindowCall<T> call) {
+        call.fetch();
+        AtomicReference<Window<T>> window = new AtomicReference<>();
+        assertThat(countStatements(() -> window.set(call.fetch()))).isEqualTo(expectedStatements);
+        assertThat(window.get()).hasSize(GRID_WINDOW.max());
+        return window.get();
+    }
+
+    @FunctionalInterface
+    private interface WindowCall<T> {
+        Window<T> fetch();
+    }
+}
@@ -0,0 +1,90 @@
+package ru.projects.integration;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Records the SQL the calling thread sends, from Hibernate as well as from a {@code JdbcTemplate}.
+ *
+ * @author Artem Chernikov
+ * @version 1.0
+ * @since 17.10.2026
+ */
+public class StatementRecordingDataSource extends DelegatingDataSource {
+
+    private final List<String> statements = new ArrayList<>();
+    private volatile Thread recordingThread;
+
+    public StatementRecordingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    /**
+     * SQL of the statements prepared or executed while the action ran, in the order they were sent.
+     */
+    public synchronized List<String> record(Runnable action) {
+        statements.clear();
+        recordingThread = Thread.currentThread();
+        try {
+            action.run();
+        } finally {
+            recordingThread = null;
+        }
+        return List.copyOf(statements);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return recording(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return recording(super.getConnection(username, password));
+    }
+
+    private Connection recording(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if (method.getName().startsWith("prepare")) {
+                        record((String) args[0]);
+                    }
+                    Object result = invoke(connection, method, args);
+                    return result instanceof Statement statement && method.getName().equals("createStatement")
+                            ? recording(statement) : result;
+                });
+    }
+
+    private Statement recording(Statement statement) {
+        return (Statement) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Statement.class},
+                (proxy, method, args) -> {
+                    if (method.getName().startsWith("execute") && args != null && args[0] instanceof String sql) {
+                        record(sql);
+                    }
+                    return invoke(statement, method, args);
+                });
+    }
+
+    private void record(String sql) {
+        if (recordingThread == Thread.currentThread()) {
+            statements.add(sql);
+        }
+    }
+
+    private Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
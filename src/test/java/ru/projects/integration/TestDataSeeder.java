@@ -0,0 +1,68 @@
+package ru.projects.integration;
+
+import lombok.experimental.UtilityClass;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Seeds the test database once with production-like volumes generated by {@code generate_series}.
+ *
+ * @author Artem Chernikov
+ * @version 1.0
+ * @since 17.10.2026
+ */
+@UtilityClass
+public class TestDataSeeder {
+
+    public static final int PROJECTS = 200;
+    public static final int EMPLOYEES = 2_000;
+    public static final int PROJECTS_PER_EMPLOYEE = 3;
+    public static final int TASKS = 50_000;
+    public static final int BUGS = 10_000;
+
+    private static final String DEVELOPER_ROLE = "ROLE_DEV";
+    private static final String DESCRIPTION = "Check the behaviour described in the requirements, update the related"
+            + " documentation and cover the change with tests before handing it over to QA.";
+
+    public synchronized void seedOnce(JdbcTemplate jdbcTemplate) {
+        Integer projects = jdbcTemplate.queryForObject("SELECT count(*) FROM projects", Integer.class);
+        if (projects != null && projects >= PROJECTS) {
+            return;
+        }
+        jdbcTemplate.update("INSERT INTO projects (name, start_date, status)"
+                + " SELECT 'Project ' || g, DATE '2024-01-01' + g % 365,"
+                + " (ARRAY ['NEW', 'IN_PROGRESS', 'FINISHED'])[1 + g % 3]"
+                + " FROM generate_series(1, ?) g", PROJECTS);
+        jdbcTemplate.update("INSERT INTO users (role_id, username, password)"
+                + " SELECT (SELECT role_id FROM roles WHERE role_name = ?), 'employee' || g, '{noop}secret'"
+                + " FROM generate_series(1, ?) g", DEVELOPER_ROLE, EMPLOYEES);
+        jdbcTemplate.update("INSERT INTO employees (user_id, specialization_id, first_name, last_name,"
+                + " patronymic_name, date_of_birth, phone, email)"
+                + " SELECT u.user_id, 1 + u.user_id % (SELECT count(*) FROM specializations),"
+                + " 'Firstname' || u.user_id, 'Lastname' || u.user_id, 'Patronymic' || u.user_id,"
+                + " DATE '1970-01-01' + (u.user_id % 12000)::int, '+7900' || lpad(u.user_id::text, 7, '0'),"
+                + " u.username || '@projects.ru'"
+                + " FROM users u WHERE u.username LIKE 'employee%'");
+        jdbcTemplate.update("INSERT INTO projects_employees (project_id, employee_id)"
+                + " SELECT p.project_id, e.employee_id FROM employees e"
+                + " CROSS JOIN generate_series(0, ? - 1) k"
+                + " JOIN projects p ON p.project_id = (SELECT min(project_id) FROM projects)"
+                + " + (e.employee_id * 7 + k * 31) % ?"
+                + " ON CONFLICT DO NOTHING", PROJECTS_PER_EMPLOYEE, PROJECTS);
+        jdbcTemplate.update("INSERT INTO tasks (project_id, employee_id, name, description, task_type, priority,"
+                + " status)"
+                + " SELECT pe.project_id, pe.employee_id, 'Task ' || g, ?,"
+                + " (ARRAY ['DEVELOPMENT', 'TESTING', 'DEV_OPS', 'DATA_SCIENCE', 'DATA_ANALYSIS'])[1 + g % 5],"
+                + " (ARRAY ['HIGH', 'MEDIUM', 'LOW'])[1 + g % 3],"
+                + " (ARRAY ['NEW', 'IN_PROGRESS', 'FINISHED'])[1 + g % 3]"
+                + " FROM generate_series(1, ?) g"
+                + " JOIN (SELECT project_id, employee_id, row_number() OVER (ORDER BY id) - 1 AS n"
+                + " FROM projects_employees) pe ON pe.n = g % (SELECT count(*) FROM projects_employees)",
+                DESCRIPTION, TASKS);
+        jdbcTemplate.update("INSERT INTO bugs (project_id, name, description, priority, status)"
+                + " SELECT (SELECT min(project_id) FROM projects) + g % ?, 'Bug ' || g, ?,"
+                + " (ARRAY ['HIGH', 'MEDIUM', 'LOW'])[1 + g % 3],"
+                + " (ARRAY ['NEW', 'IN_PROGRESS', 'FINISHED'])[1 + g % 3]"
+                + " FROM generate_series(1, ?) g", PROJECTS, DESCRIPTION, BUGS);
+        jdbcTemplate.execute("ANALYZE");
+    }
+}
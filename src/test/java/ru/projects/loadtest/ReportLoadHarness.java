@@ -0,0 +1,190 @@
+package ru.projects.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Load test of the {@code /api/report/*} downloads against a running application, for example started with
+ * {@code VIRTUAL_THREADS=true REPORT_CACHE=false} to measure uncached reports on virtual threads:
+ * <pre>
+ * mvn -Pload-test verify -DskipTests -Dloadtest.password=... -Dloadtest.label=virtual
+ * </pre>
+ *
+ * @author Artem Chernikov
+ * @version 1.0
+ * @since 17.10.2026
+ */
+public class ReportLoadHarness {
+
+    private static final Pattern CSRF_TOKEN = Pattern.compile("<meta name=\"_csrf\" content=\"([^\"]+)\"");
+    private static final Pattern CSRF_PARAMETER =
+            Pattern.compile("<meta name=\"_csrf_parameter\" content=\"([^\"]+)\"");
+    private static final Duration REQUEST_TIMEOUT = Duration.ofMinutes(10);
+
+    private final HttpClient httpClient;
+    private final URI baseUri;
+
+    public ReportLoadHarness(URI baseUri) {
+        this.baseUri = baseUri;
+        this.httpClient = HttpClient.newBuilder()
+                .cookieHandler(new CookieManager())
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        ReportLoadHarness harness = new ReportLoadHarness(URI.create(System.getProperty("loadtest.url",
+                "http://localhost:8080")));
+        String password = System.getProperty("loadtest.password");
+        if (password == null) {
+            throw new IllegalArgumentException("Set the password of the load test user in loadtest.password");
+        }
+        harness.login(System.getProperty("loadtest.username", "admin"), password);
+
+        String projectIds = System.getProperty("loadtest.project-ids", "1,2,3");
+        int concurrency = Integer.getInteger("loadtest.concurrency", 50);
+        int requests = Integer.getInteger("loadtest.requests", 500);
+        String label = System.getProperty("loadtest.label", "default");
+        List<String> endpoints = List.of(
+                "/api/report/all-tasks",
+                "/api/report/all-tasks-by-projects?projectIds=" + projectIds,
+                "/api/report/active-tasks-by-projects?projectIds=" + projectIds,
+                "/api/report/finished-tasks-by-projects?projectIds=" + projectIds,
+                "/api/report/bugs-by-projects?projectIds=" + projectIds);
+
+        System.out.printf("%-10s %-60s %8s %8s %10s %10s %10s%n", "mode", "endpoint", "ok", "failed", "req/s",
+                "p50 ms", "p99 ms");
+        for (String endpoint : endpoints) {
+            harness.run(endpoint, concurrency, concurrency);
+            Result result = harness.run(endpoint, concurrency, requests);
+            System.out.printf("%-10s %-60s %8d %8d %10.1f %10d %10d%n", label, endpoint, result.completed(),
+                    result.failed(), result.throughput(), result.percentileMillis(50), result.percentileMillis(99));
+        }
+    }
+
+    /**
+     * Signs in through the form login of the login view, the session cookie is kept by the cookie manager.
+     */
+    public void login(String username, String password) throws IOException, InterruptedException {
+        String loginPage = httpClient.send(HttpRequest.newBuilder(baseUri.resolve("/login")).GET().build(),
+                HttpResponse.BodyHandlers.ofString()).body();
+        Map<String, String> form = new LinkedHashMap<>();
+        form.put("username", username);
+        form.put("password", password);
+        Matcher token = CSRF_TOKEN.matcher(loginPage);
+        if (token.find()) {
+            Matcher parameter = CSRF_PARAMETER.matcher(loginPage);
+            form.put(parameter.find() ? parameter.group(1) : "_csrf", token.group(1));
+        }
+        String body = form.entrySet().stream()
+                .map(entry -> URLEncoder.encode(entry.getKey(), StandardCharsets.UTF_8) + "="
+                        + URLEncoder.encode(entry.getValue(), StandardCharsets.UTF_8))
+                .collect(Collectors.joining("&"));
+        HttpResponse<Void> response = httpClient.send(HttpRequest.newBuilder(baseUri.resolve("/login"))
+                        .header("Content-Type", "application/x-www-form-urlencoded")
+                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                        .build(),
+                HttpResponse.BodyHandlers.discarding());
+        String location = response.headers().firstValue("Location").orElse("");
+        if (response.statusCode() != 302 || location.contains("error")) {
+            throw new IllegalStateException("Sign in failed with status " + response.statusCode() + " to "
+                    + location);
+        }
+    }
+
+    public Result run(String endpoint, int concurrency, int requests) throws InterruptedException {
+        URI uri = baseUri.resolve(endpoint);
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>(requests));
+        AtomicInteger failed = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        long start = System.nanoTime();
+        try {
+            List<Future<?>> futures = new ArrayList<>(requests);
+            for (int i = 0; i < requests; i++) {
+                futures.add(executor.submit(() -> {
+                    long requestStart = System.nanoTime();
+                    if (download(uri)) {
+                        latencies.add(System.nanoTime() - requestStart);
+                    } else {
+                        failed.incrementAndGet();
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    failed.incrementAndGet();
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        long elapsed = System.nanoTime() - start;
+        List<Long> sorted = latencies.stream().sorted().toList();
+        return new Result(sorted, failed.get(), elapsed);
+    }
+
+    /**
+     * Reads the whole workbook, a download only counts once its last byte arrived.
+     */
+    private boolean download(URI uri) {
+        try {
+            HttpResponse<InputStream> response = httpClient.send(HttpRequest.newBuilder(uri)
+                    .timeout(REQUEST_TIMEOUT)
+                    .GET()
+                    .build(), HttpResponse.BodyHandlers.ofInputStream());
+            try (InputStream body = response.body()) {
+                body.transferTo(OutputStream.nullOutputStream());
+            }
+            return response.statusCode() == 200;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    public record Result(List<Long> sortedLatenciesNanos, int failed, long elapsedNanos) {
+
+        public int completed() {
+            return sortedLatenciesNanos.size();
+        }
+
+        public double throughput() {
+            return completed() / (elapsedNanos / 1_000_000_000.0);
+        }
+
+        public long percentileMillis(int percentile) {
+            if (sortedLatenciesNanos.isEmpty()) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile / 100.0 * sortedLatenciesNanos.size()) - 1;
+            return Duration.ofNanos(sortedLatenciesNanos.get(Math.max(0, index))).toMillis();
+        }
+    }
+}